@@ -17,6 +17,7 @@ import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.IngestionMode;
+import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.VenicePartitioner;
@@ -30,6 +31,7 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -197,6 +199,66 @@ public class VersionBackend {
         compressor.get());
   }
 
+  /**
+   * Looks up keys which all belong to the same user partition with native multi-key lookups, i.e. a single lookup per
+   * sub-partition when the partitions are amplified.
+   *
+   * @return a list of the same size as {@param keys}, with null entries for the keys which do not exist.
+   */
+  public <V> List<V> batchRead(
+      int userPartition,
+      List<byte[]> keys,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      BinaryDecoder binaryDecoder) {
+    AbstractStorageEngine storageEngine = getStorageEngineOrThrow();
+    PartitionerConfig partitionerConfig = version.getPartitionerConfig();
+    int amplificationFactor = partitionerConfig == null ? 1 : partitionerConfig.getAmplificationFactor();
+    if (amplificationFactor <= 1) {
+      return batchRead(storageEngine, userPartition, keys, chunkingAdaptor, binaryDecoder);
+    }
+
+    Map<Integer, List<Integer>> keyIndexesBySubPartition = new HashMap<>();
+    for (int keyIndex = 0; keyIndex < keys.size(); keyIndex++) {
+      int subPartition =
+          userPartition * amplificationFactor + partitioner.getPartitionId(keys.get(keyIndex), amplificationFactor);
+      keyIndexesBySubPartition.computeIfAbsent(subPartition, p -> new ArrayList<>()).add(keyIndex);
+    }
+    List<V> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+    for (Map.Entry<Integer, List<Integer>> entry: keyIndexesBySubPartition.entrySet()) {
+      List<Integer> keyIndexes = entry.getValue();
+      List<byte[]> subPartitionKeys = new ArrayList<>(keyIndexes.size());
+      for (int keyIndex: keyIndexes) {
+        subPartitionKeys.add(keys.get(keyIndex));
+      }
+      List<V> subPartitionValues =
+          batchRead(storageEngine, entry.getKey(), subPartitionKeys, chunkingAdaptor, binaryDecoder);
+      for (int i = 0; i < keyIndexes.size(); i++) {
+        values.set(keyIndexes.get(i), subPartitionValues.get(i));
+      }
+    }
+    return values;
+  }
+
+  private <V> List<V> batchRead(
+      AbstractStorageEngine storageEngine,
+      int subPartition,
+      List<byte[]> keys,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      BinaryDecoder binaryDecoder) {
+    return chunkingAdaptor.batchGet(
+        storageEngine,
+        subPartition,
+        keys,
+        version.isChunkingEnabled(),
+        binaryDecoder,
+        null,
+        version.getCompressionStrategy(),
+        true,
+        backend.getSchemaRepository(),
+        version.getStoreName(),
+        compressor.get());
+  }
+
   public GenericRecord compute(
       int userPartition,
       byte[] keyBytes,
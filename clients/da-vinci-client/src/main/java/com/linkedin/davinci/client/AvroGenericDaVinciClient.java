@@ -26,6 +26,7 @@ import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ProjectingGenericRecordChunkingAdapter;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
 import com.linkedin.venice.client.exceptions.ServiceDiscoveryException;
@@ -52,21 +53,25 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ComputeUtils;
+import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -117,6 +122,9 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   private static ReferenceCounted<DaVinciBackend> daVinciBackend;
   private ObjectCacheBackend cacheBackend;
   private static final Map<CharSequence, Schema> computeResultSchemaCache = new VeniceConcurrentHashMap<>();
+  // value schema and read field names -> chunking adapter deserializing only the read fields
+  private static final Map<Pair<Schema, Set<String>>, GenericRecordChunkingAdapter> computeChunkingAdapterCache =
+      new VeniceConcurrentHashMap<>();
 
   public AvroGenericDaVinciClient(
       DaVinciConfig daVinciConfig,
@@ -273,19 +281,36 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
-  CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys) {
+  /**
+   * The keys of a batch get which belong to the same partition, along with their serialized form.
+   */
+  private static class PartitionKeys<K> {
+    final int partition;
+    final List<K> keys = new ArrayList<>();
+    final List<byte[]> keyBytesList = new ArrayList<>();
+
+    PartitionKeys(int partition) {
+      this.partition = partition;
+    }
+  }
+
+  CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys, Map<K, V> result) {
     // expose underlying getAll functionality.
-    Map<K, V> result = new HashMap<>();
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       if (versionBackend == null) {
         if (isVeniceQueryAllowed()) {
-          return veniceClient.batchGet(new HashSet<>((Collection<K>) keys));
+          return veniceClient.batchGet(new HashSet<>((Collection<K>) keys)).thenApply(veniceResult -> {
+            result.putAll(veniceResult);
+            return result;
+          });
         }
         storeBackend.getStats().recordBadRequest();
         throw new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName());
       }
       Set<K> missingKeys = new HashSet<>();
+      // The keys are grouped by partition, so that each partition is looked up with a single multi-key lookup
+      Map<Integer, PartitionKeys<K>> keysByPartition = new HashMap<>();
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       for (K key: keys) {
         byte[] keyBytes =
@@ -293,17 +318,9 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         int partition = versionBackend.getPartition(keyBytes);
 
         if (isPartitionReadyToServe(versionBackend, partition)) {
-          V value = versionBackend.read(
-              partition,
-              keyBytes,
-              getAvroChunkingAdapter(),
-              reusableObjects.binaryDecoder,
-              reusableObjects.rawValue,
-              null); // TODO: Consider supporting object re-use for batch get as well.
-          // The result should only contain entries for the keys that have a value associated with them
-          if (value != null) {
-            result.put(key, value);
-          }
+          PartitionKeys<K> partitionKeys = keysByPartition.computeIfAbsent(partition, PartitionKeys::new);
+          partitionKeys.keys.add(key);
+          partitionKeys.keyBytesList.add(keyBytes);
 
         } else if (isVeniceQueryAllowed()) {
           missingKeys.add(key);
@@ -314,32 +331,113 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         }
       }
 
+      CompletableFuture<Map<K, V>> localResultFuture = batchReadFromLocalStorage(versionRef, keysByPartition, result);
       if (missingKeys.isEmpty()) {
-        return CompletableFuture.completedFuture(result);
+        return localResultFuture;
       }
 
-      return veniceClient.batchGet(missingKeys).thenApply(veniceResult -> {
-        result.putAll(veniceResult);
-        return result;
+      return localResultFuture.thenCombine(veniceClient.batchGet(missingKeys), (localResult, veniceResult) -> {
+        localResult.putAll(veniceResult);
+        return localResult;
       });
     }
   }
 
+  /**
+   * The partitions are looked up on the calling thread, unless a read executor is configured, in which case all the
+   * partitions but the first one are looked up on the read executor while the calling thread looks up the first one.
+   * The partitions which fail to be submitted to the read executor are looked up on the calling thread as well.
+   */
+  private CompletableFuture<Map<K, V>> batchReadFromLocalStorage(
+      ReferenceCounted<VersionBackend> versionRef,
+      Map<Integer, PartitionKeys<K>> keysByPartition,
+      Map<K, V> result) {
+    VersionBackend versionBackend = versionRef.get();
+    Executor readExecutor = daVinciConfig.getReadExecutor();
+    if (readExecutor == null || keysByPartition.size() <= 1) {
+      for (PartitionKeys<K> partitionKeys: keysByPartition.values()) {
+        addToResult(result, partitionKeys.keys, batchRead(versionBackend, partitionKeys));
+      }
+      return CompletableFuture.completedFuture(result);
+    }
+
+    List<PartitionKeys<K>> partitionKeysList = new ArrayList<>(keysByPartition.values());
+    CompletableFuture<List<V>>[] valueFutures = new CompletableFuture[partitionKeysList.size()];
+    // The version must not be deleted before the lookups running on the read executor are done
+    versionRef.retain();
+    for (int i = 1; i < partitionKeysList.size(); i++) {
+      PartitionKeys<K> partitionKeys = partitionKeysList.get(i);
+      try {
+        valueFutures[i] = CompletableFuture.supplyAsync(() -> batchRead(versionBackend, partitionKeys), readExecutor);
+      } catch (RuntimeException e) {
+        // e.g. RejectedExecutionException, the partition is looked up on the calling thread below so that the version
+        // reference is always released once all the lookups are done
+        valueFutures[i] = null;
+      }
+    }
+    for (int i = 0; i < partitionKeysList.size(); i++) {
+      if (valueFutures[i] == null) {
+        valueFutures[i] = new CompletableFuture<>();
+        try {
+          valueFutures[i].complete(batchRead(versionBackend, partitionKeysList.get(i)));
+        } catch (Exception e) {
+          valueFutures[i].completeExceptionally(e);
+        }
+      }
+    }
+
+    return CompletableFuture.allOf(valueFutures)
+        .whenComplete((ignored, throwable) -> versionRef.release())
+        .thenApply(ignored -> {
+          for (int i = 0; i < partitionKeysList.size(); i++) {
+            addToResult(result, partitionKeysList.get(i).keys, valueFutures[i].join());
+          }
+          return result;
+        });
+  }
+
+  private List<V> batchRead(VersionBackend versionBackend, PartitionKeys<K> partitionKeys) {
+    return versionBackend.batchRead(
+        partitionKeys.partition,
+        partitionKeys.keyBytesList,
+        getAvroChunkingAdapter(),
+        threadLocalReusableObjects.get().binaryDecoder);
+  }
+
+  private void addToResult(Map<K, V> result, List<K> keys, List<V> values) {
+    for (int i = 0; i < keys.size(); i++) {
+      V value = values.get(i);
+      // The result should only contain entries for the keys that have a value associated with them
+      if (value != null) {
+        result.put(keys.get(i), value);
+      }
+    }
+  }
+
   @Override
   public CompletableFuture<Map<K, V>> batchGet(Set<K> keys) {
+    return batchGet(keys, new HashMap<>(keys.size()));
+  }
+
+  @Override
+  public CompletableFuture<Map<K, V>> batchGet(Set<K> keys, Map<K, V> reusableResultMap) {
     throwIfNotReady();
+    reusableResultMap.clear();
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       if (daVinciConfig.isCacheEnabled()) {
         return cacheBackend.getAll(keys, versionBackend.getVersion(), (ks) -> {
           try {
-            return batchGetFromLocalStorage(ks).get();
+            return batchGetFromLocalStorage(ks, new HashMap<>()).get();
           } catch (InterruptedException | ExecutionException e) {
             throw new VeniceClientException("Error performing batch get while loading cache!!", e);
           }
-        }, (k, executor) -> this.readFromLocalStorage(k, null));
+        }, (k, executor) -> this.readFromLocalStorage(k, null)).thenApply(cacheResult -> {
+          reusableResultMap.putAll(cacheResult);
+          return reusableResultMap;
+        });
       } else {
-        return this.batchGetFromLocalStorage(keys);
+        return this.batchGetFromLocalStorage(keys, reusableResultMap);
       }
     }
   }
@@ -421,14 +519,18 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
       Set<K> missingKeys = new HashSet<>();
 
-      ReusableObjects reusableObjects = threadLocalReusableObjects.get();
-      Schema valueSchema = computeRequestWrapper.getValueSchema();
-      GenericRecord reuseValueRecord =
-          reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
-
       Map<String, Object> globalContext = new HashMap<>();
       Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
 
+      GenericRecordChunkingAdapter chunkingAdapter =
+          getComputeChunkingAdapter(computeRequestWrapper, computeResultSchema);
+      Schema projectionSchema = chunkingAdapter instanceof ProjectingGenericRecordChunkingAdapter
+          ? ((ProjectingGenericRecordChunkingAdapter) chunkingAdapter).getProjectionSchema()
+          : computeRequestWrapper.getValueSchema();
+      ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+      GenericRecord reuseValueRecord = reusableObjects.reuseValueRecordMap
+          .computeIfAbsent(projectionSchema, k -> new GenericData.Record(projectionSchema));
+
       for (K key: keys) {
         byte[] keyBytes =
             keySerializer.serialize(key, reusableObjects.binaryEncoder, reusableObjects.byteArrayOutputStream);
@@ -438,7 +540,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
           GenericRecord computeResultValue = versionBackend.compute(
               partition,
               keyBytes,
-              getGenericRecordChunkingAdapter(),
+              chunkingAdapter,
               reusableObjects.binaryDecoder,
               reusableObjects.rawValue,
               reuseValueRecord,
@@ -472,6 +574,24 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  /**
+   * Values are deserialized with only the fields read by the compute request, so that the unread fields are skipped by
+   * the deserializer instead of being decoded into the reused value record.
+   */
+  private GenericRecordChunkingAdapter getComputeChunkingAdapter(
+      ComputeRequestWrapper computeRequestWrapper,
+      Schema computeResultSchema) {
+    Schema valueSchema = computeRequestWrapper.getValueSchema();
+    Set<String> readFieldNames =
+        ComputeUtils.getReadFieldNames(computeRequestWrapper.getOperations(), computeResultSchema);
+    return computeChunkingAdapterCache.computeIfAbsent(new Pair<>(valueSchema, readFieldNames), k -> {
+      Schema projectionSchema = ComputeUtils.getProjectionSchema(valueSchema, readFieldNames);
+      return projectionSchema == valueSchema
+          ? getGenericRecordChunkingAdapter()
+          : new ProjectingGenericRecordChunkingAdapter(projectionSchema);
+    });
+  }
+
   @Override
   public void computeWithKeyPrefixFilter(
       byte[] prefixBytes,
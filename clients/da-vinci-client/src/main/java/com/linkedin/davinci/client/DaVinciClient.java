@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -49,6 +50,15 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    */
   void unsubscribe(Set<Integer> partitions);
 
+  /**
+   * Similar to {@link #batchGet(Set)} except that the values are put into the given {@param reusableResultMap},
+   * which is cleared first, to minimize GC. The returned future completes with {@param reusableResultMap}.
+   *
+   * The values are fully deserialized. To read only some fields of wide values, use {@link #compute()} with a
+   * projection instead, which only decodes the fields read by the compute request.
+   */
+  CompletableFuture<Map<K, V>> batchGet(Set<K> keys, Map<K, V> reusableResultMap);
+
   /**
    * Get partition count of a store.
    *
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import java.util.concurrent.Executor;
 
 
 public class DaVinciConfig {
@@ -33,6 +34,12 @@ public class DaVinciConfig {
    */
   private ObjectCacheConfig cacheConfig;
 
+  /**
+   * Executor to look up the partitions of a batch get in parallel. By default, the batch gets are served on the
+   * calling thread.
+   */
+  private Executor readExecutor;
+
   public DaVinciConfig() {
   }
 
@@ -41,13 +48,15 @@ public class DaVinciConfig {
         .setIsolated(isIsolated())
         .setStorageClass(getStorageClass())
         .setNonLocalAccessPolicy(getNonLocalAccessPolicy())
-        .setCacheConfig(getCacheConfig());
+        .setCacheConfig(getCacheConfig())
+        .setReadExecutor(getReadExecutor());
   }
 
   @Override
   public String toString() {
     return "DaVinciConfig{" + "managed=" + managed + ", isolated=" + isolated + ", storageClass=" + storageClass
-        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig + "}";
+        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig + ", readExecutor="
+        + readExecutor + "}";
   }
 
   public boolean isManaged() {
@@ -98,4 +107,13 @@ public class DaVinciConfig {
     this.cacheConfig = cacheConfig;
     return this;
   }
+
+  public Executor getReadExecutor() {
+    return readExecutor;
+  }
+
+  public DaVinciConfig setReadExecutor(Executor readExecutor) {
+    this.readExecutor = readExecutor;
+    return this;
+  }
 }
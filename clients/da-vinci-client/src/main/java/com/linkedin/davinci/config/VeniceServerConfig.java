@@ -20,12 +20,18 @@ import static com.linkedin.venice.ConfigKeys.MAX_FUTURE_VERSION_LEADER_FOLLOWER_
 import static com.linkedin.venice.ConfigKeys.MAX_LEADER_FOLLOWER_STATE_TRANSITION_THREAD_NUMBER;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_INGESTION_BATCH_PREFETCH_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AUTO_COMPACTION_FOR_SAMZA_REPROCESSING_JOB_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_GET_MULTI_KEY_LOOKUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_CACHE_WARMING_BEFORE_READY_TO_SERVE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_CACHE_WARMING_STORE_LIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_CACHE_WARMING_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_CHUNKED_RESPONSE_CHUNK_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.SERVER_CHUNKED_RESPONSE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_CHUNKED_RESPONSE_WRITE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FLOAT_VECTOR_ENGINE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_CONSUMER_POOL_SIZE_PER_KAFKA_CLUSTER;
@@ -55,6 +61,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_WRITE_BATCH_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_WRITE_BATCH_MAX_RECORDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_WRITE_BATCH_MAX_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_BACKOFF_MS;
@@ -78,6 +87,9 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_REQUEST_SCHEDULING_FAIR_RATIO;
+import static com.linkedin.venice.ConfigKeys.SERVER_REQUEST_SCHEDULING_LARGE_BATCH_GET_KEY_COUNT_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.SERVER_REQUEST_SCHEDULING_MAX_QUEUE_LENGTH_PER_STORE;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_EPOLL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REST_SERVICE_STORAGE_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.SERVER_ROCKSDB_STORAGE_CONFIG_CHECK_ENABLED;
@@ -89,13 +101,18 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_NON_EXISTING
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_KAFKA_PRODUCER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_AWARE_REQUEST_SCHEDULING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_RESTORE_PARALLELISM;
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_LOAD_AWARE_DRAINER_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_RING_BUFFER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED;
@@ -201,6 +218,23 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  /**
+   * Whether to use {@link com.linkedin.davinci.kafka.consumer.MemoryBoundRingBuffer} instead of
+   * {@link com.linkedin.davinci.kafka.consumer.MemoryBoundBlockingQueue} as the drainer queue.
+   */
+  private final boolean storeWriterBufferRingBufferEnabled;
+
+  /**
+   * Max number of records taken by each drainer per wake-up when either {@link #storeWriterBufferRingBufferEnabled} or
+   * {@link #ingestionWriteBatchEnabled} is on, and 1 otherwise.
+   */
+  private final int storeWriterBufferDrainBatchSize;
+
+  /**
+   * Whether to pin each topic-partition to the least loaded drainer instead of assigning drainers by hashing.
+   */
+  private final boolean storeWriterBufferLoadAwareDrainerAssignmentEnabled;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -293,6 +327,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchGetMultiKeyLookupEnabled;
+
+  private final boolean computeFloatVectorEngineEnabled;
+
+  private final int storeRestoreParallelism;
+
+  private final boolean ingestionWriteBatchEnabled;
+  private final int ingestionWriteBatchMaxRecords;
+  private final long ingestionWriteBatchMaxSizeInBytes;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -302,6 +346,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
   private final BlockingQueueType blockingQueueType;
+  private final boolean storeAwareRequestSchedulingEnabled;
+  private final String requestSchedulingFairRatio;
+  private final int requestSchedulingMaxQueueLengthPerStore;
+  private final int requestSchedulingLargeBatchGetKeyCountThreshold;
+  private final boolean chunkedResponseEnabled;
+  private final int chunkedResponseChunkSizeInBytes;
+  private final long chunkedResponseWriteTimeoutMs;
   private final boolean restServiceEpollEnabled;
   private final String kafkaAdminClass;
   private final String kafkaWriteOnlyClass;
@@ -368,6 +419,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final boolean serverIngestionCheckpointDuringGracefulShutdownEnabled;
 
+  private final boolean activeActiveIngestionBatchPrefetchEnabled;
+
   private final int remoteIngestionRepairSleepInterval;
 
   private final boolean optimizeDatabaseForBackupVersionEnabled;
@@ -413,6 +466,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    storeWriterBufferRingBufferEnabled = serverProperties.getBoolean(STORE_WRITER_BUFFER_RING_BUFFER_ENABLED, false);
+    storeWriterBufferDrainBatchSize = storeWriterBufferRingBufferEnabled
+        || serverProperties.getBoolean(SERVER_INGESTION_WRITE_BATCH_ENABLED, false)
+            ? serverProperties.getInt(STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE, 100)
+            : 1;
+    storeWriterBufferLoadAwareDrainerAssignmentEnabled =
+        serverProperties.getBoolean(STORE_WRITER_BUFFER_LOAD_AWARE_DRAINER_ASSIGNMENT_ENABLED, false);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -459,6 +519,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    batchGetMultiKeyLookupEnabled = serverProperties.getBoolean(SERVER_BATCH_GET_MULTI_KEY_LOOKUP_ENABLED, false);
+    computeFloatVectorEngineEnabled = serverProperties.getBoolean(SERVER_COMPUTE_FLOAT_VECTOR_ENGINE_ENABLED, false);
+    storeRestoreParallelism = serverProperties
+        .getInt(SERVER_STORE_RESTORE_PARALLELISM, rocksDBServerConfig.getDatabaseOpenOperationThrottle());
+    ingestionWriteBatchEnabled = serverProperties.getBoolean(SERVER_INGESTION_WRITE_BATCH_ENABLED, false);
+    ingestionWriteBatchMaxRecords = serverProperties.getInt(SERVER_INGESTION_WRITE_BATCH_MAX_RECORDS, 100);
+    ingestionWriteBatchMaxSizeInBytes =
+        serverProperties.getSizeInBytes(SERVER_INGESTION_WRITE_BATCH_MAX_SIZE_IN_BYTES, 1024 * 1024);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -488,6 +556,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     } catch (IllegalArgumentException e) {
       throw new VeniceException("Valid blocking queue options: " + Arrays.toString(BlockingQueueType.values()));
     }
+    storeAwareRequestSchedulingEnabled =
+        serverProperties.getBoolean(SERVER_STORE_AWARE_REQUEST_SCHEDULING_ENABLED, false);
+    requestSchedulingFairRatio = serverProperties.getString(SERVER_REQUEST_SCHEDULING_FAIR_RATIO, "5:15:80");
+    requestSchedulingMaxQueueLengthPerStore =
+        serverProperties.getInt(SERVER_REQUEST_SCHEDULING_MAX_QUEUE_LENGTH_PER_STORE, 0);
+    requestSchedulingLargeBatchGetKeyCountThreshold =
+        serverProperties.getInt(SERVER_REQUEST_SCHEDULING_LARGE_BATCH_GET_KEY_COUNT_THRESHOLD, 10);
+    chunkedResponseEnabled = serverProperties.getBoolean(SERVER_CHUNKED_RESPONSE_ENABLED, false);
+    chunkedResponseChunkSizeInBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_CHUNKED_RESPONSE_CHUNK_SIZE_IN_BYTES, 64 * 1024);
+    chunkedResponseWriteTimeoutMs =
+        serverProperties.getLong(SERVER_CHUNKED_RESPONSE_WRITE_TIMEOUT_MS, TimeUnit.SECONDS.toMillis(10));
 
     restServiceEpollEnabled = serverProperties.getBoolean(SERVER_REST_SERVICE_EPOLL_ENABLED, false);
     kafkaAdminClass = serverProperties.getString(KAFKA_ADMIN_CLASS, KafkaAdminClient.class.getName());
@@ -598,6 +678,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
      */
     serverIngestionCheckpointDuringGracefulShutdownEnabled =
         serverProperties.getBoolean(SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED, true);
+    activeActiveIngestionBatchPrefetchEnabled =
+        serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_INGESTION_BATCH_PREFETCH_ENABLED, false);
     optimizeDatabaseForBackupVersionEnabled =
         serverProperties.getBoolean(SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED, false);
     optimizeDatabaseForBackupVersionNoReadThresholdMS = serverProperties
@@ -657,6 +739,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public boolean isStoreWriterBufferRingBufferEnabled() {
+    return this.storeWriterBufferRingBufferEnabled;
+  }
+
+  public int getStoreWriterBufferDrainBatchSize() {
+    return this.storeWriterBufferDrainBatchSize;
+  }
+
+  public boolean isStoreWriterBufferLoadAwareDrainerAssignmentEnabled() {
+    return this.storeWriterBufferLoadAwareDrainerAssignmentEnabled;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -755,6 +849,34 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     }
   }
 
+  public boolean isStoreAwareRequestSchedulingEnabled() {
+    return storeAwareRequestSchedulingEnabled;
+  }
+
+  public String getRequestSchedulingFairRatio() {
+    return requestSchedulingFairRatio;
+  }
+
+  public int getRequestSchedulingMaxQueueLengthPerStore() {
+    return requestSchedulingMaxQueueLengthPerStore;
+  }
+
+  public int getRequestSchedulingLargeBatchGetKeyCountThreshold() {
+    return requestSchedulingLargeBatchGetKeyCountThreshold;
+  }
+
+  public boolean isChunkedResponseEnabled() {
+    return chunkedResponseEnabled;
+  }
+
+  public int getChunkedResponseChunkSizeInBytes() {
+    return chunkedResponseChunkSizeInBytes;
+  }
+
+  public long getChunkedResponseWriteTimeoutMs() {
+    return chunkedResponseWriteTimeoutMs;
+  }
+
   public boolean isComputeFastAvroEnabled() {
     return computeFastAvroEnabled;
   }
@@ -783,6 +905,30 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isBatchGetMultiKeyLookupEnabled() {
+    return batchGetMultiKeyLookupEnabled;
+  }
+
+  public boolean isComputeFloatVectorEngineEnabled() {
+    return computeFloatVectorEngineEnabled;
+  }
+
+  public int getStoreRestoreParallelism() {
+    return storeRestoreParallelism;
+  }
+
+  public boolean isIngestionWriteBatchEnabled() {
+    return ingestionWriteBatchEnabled;
+  }
+
+  public int getIngestionWriteBatchMaxRecords() {
+    return ingestionWriteBatchMaxRecords;
+  }
+
+  public long getIngestionWriteBatchMaxSizeInBytes() {
+    return ingestionWriteBatchMaxSizeInBytes;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -999,6 +1145,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return serverIngestionCheckpointDuringGracefulShutdownEnabled;
   }
 
+  public boolean isActiveActiveIngestionBatchPrefetchEnabled() {
+    return activeActiveIngestionBatchPrefetchEnabled;
+  }
+
   public int getRemoteIngestionRepairSleepInterval() {
     return remoteIngestionRepairSleepInterval;
   }
@@ -14,8 +14,11 @@ import com.linkedin.davinci.replication.merge.RmdSerDe;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceMessageException;
@@ -30,11 +33,13 @@ import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.DeleteMetadata;
@@ -53,9 +58,11 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BooleanSupplier;
+import java.util.function.ToIntFunction;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -160,6 +167,157 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     }
   }
 
+  /**
+   * When {@link com.linkedin.davinci.config.VeniceServerConfig#isActiveActiveIngestionBatchPrefetchEnabled()} is on,
+   * the existing values and RMDs of all the keys of a polled real-time batch are looked up from the DB with batched
+   * lookups before the records are processed one by one, so that DCR doesn't pay for a DB lookup per record.
+   */
+  @Override
+  protected void produceToStoreBufferServiceOrKafka(
+      Iterable<ConsumerRecord<KafkaKey, KafkaMessageEnvelope>> records,
+      boolean whetherToApplyThrottling,
+      TopicPartition topicPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
+    if (!serverConfig.isActiveActiveIngestionBatchPrefetchEnabled()
+        || !Version.isRealTimeTopic(topicPartition.topic())) {
+      super.produceToStoreBufferServiceOrKafka(
+          records,
+          whetherToApplyThrottling,
+          topicPartition,
+          kafkaUrl,
+          kafkaClusterId);
+      return;
+    }
+    int subPartition =
+        PartitionUtils.getSubPartition(topicPartition.topic(), topicPartition.partition(), amplificationFactor);
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
+    List<byte[]> prefetchedKeys = new ArrayList<>();
+    List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords = new ArrayList<>();
+    try {
+      if (partitionConsumptionState != null && partitionConsumptionState.isEndOfPushReceived()
+          && !(isDataRecovery && partitionConsumptionState.getTopicSwitch() != null)
+          && shouldProduceToVersionTopic(partitionConsumptionState)) {
+        prefetchValueAndRmd(
+            records,
+            topicPartition,
+            subPartition,
+            partitionConsumptionState,
+            prefetchedKeys,
+            prefetchedRecords);
+      }
+      super.produceToStoreBufferServiceOrKafka(
+          records,
+          whetherToApplyThrottling,
+          topicPartition,
+          kafkaUrl,
+          kafkaClusterId);
+    } finally {
+      for (int i = 0; i < prefetchedKeys.size(); i++) {
+        partitionConsumptionState.unregisterPrefetchedRecord(prefetchedKeys.get(i), prefetchedRecords.get(i));
+      }
+    }
+  }
+
+  private void prefetchValueAndRmd(
+      Iterable<ConsumerRecord<KafkaKey, KafkaMessageEnvelope>> records,
+      TopicPartition topicPartition,
+      int subPartition,
+      PartitionConsumptionState partitionConsumptionState,
+      List<byte[]> prefetchedKeys,
+      List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords) {
+    for (ConsumerRecord<KafkaKey, KafkaMessageEnvelope> record: records) {
+      if (record.key().isControlMessage()) {
+        continue;
+      }
+      byte[] key = record.key().getKey();
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord =
+          partitionConsumptionState.registerPrefetchedRecord(key);
+      if (prefetchedRecord != null) {
+        prefetchedKeys.add(key);
+        prefetchedRecords.add(prefetchedRecord);
+      }
+    }
+    if (prefetchedKeys.isEmpty()) {
+      return;
+    }
+
+    final long lookupStartTimeInNS = System.nanoTime();
+    try {
+      lookUpPrefetchedRecords(
+          storageEngine,
+          subPartition,
+          prefetchedKeys,
+          prefetchedRecords,
+          key -> getSubPartitionId(key, topicPartition.topic(), topicPartition.partition()),
+          isChunked,
+          compressionStrategy,
+          serverConfig.isComputeFastAvroEnabled(),
+          schemaRepository,
+          storeName,
+          compressor.get());
+    } catch (Exception e) {
+      // The records which were not prefetched will be looked up one by one, which surfaces any persistent failure.
+      LOGGER.warn("{} : Failed to prefetch values and RMDs for topic partition: {}", consumerTaskId, topicPartition, e);
+    }
+    hostLevelIngestionStats.recordIngestionBatchPrefetchLatency(LatencyUtils.getLatencyInMS(lookupStartTimeInNS));
+  }
+
+  /**
+   * Looks up the values of the given keys with one multi-key lookup per sub-partition, and their RMDs with a single
+   * multi-key lookup, and fills in the corresponding prefetched records. A record is only filled in once its lookup
+   * succeeds, so the records left out by a failed lookup fall back to the per-record lookups.
+   *
+   * @param subPartition the sub-partition holding the RMDs of the keys.
+   * @param keyToSubPartition maps each key to the sub-partition holding its value.
+   */
+  static void lookUpPrefetchedRecords(
+      AbstractStorageEngine storageEngine,
+      int subPartition,
+      List<byte[]> keys,
+      List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords,
+      ToIntFunction<byte[]> keyToSubPartition,
+      boolean isChunked,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepository,
+      String storeName,
+      VeniceCompressor compressor) {
+    // Values are stored in the sub-partition of each key, so group the value lookups accordingly.
+    Map<Integer, List<Integer>> keyIndexesBySubPartition = new HashMap<>();
+    for (int i = 0; i < keys.size(); i++) {
+      keyIndexesBySubPartition.computeIfAbsent(keyToSubPartition.applyAsInt(keys.get(i)), k -> new ArrayList<>())
+          .add(i);
+    }
+    for (Map.Entry<Integer, List<Integer>> entry: keyIndexesBySubPartition.entrySet()) {
+      List<Integer> keyIndexes = entry.getValue();
+      List<byte[]> subPartitionKeys = new ArrayList<>(keyIndexes.size());
+      for (int keyIndex: keyIndexes) {
+        subPartitionKeys.add(keys.get(keyIndex));
+      }
+      List<ByteBuffer> values = RawBytesChunkingAdapter.INSTANCE.batchGet(
+          storageEngine,
+          entry.getKey(),
+          subPartitionKeys,
+          isChunked,
+          null,
+          null,
+          compressionStrategy,
+          fastAvroEnabled,
+          schemaRepository,
+          storeName,
+          compressor);
+      for (int j = 0; j < keyIndexes.size(); j++) {
+        prefetchedRecords.get(keyIndexes.get(j)).setValue(values.get(j));
+      }
+    }
+
+    List<byte[]> rmdBytesList = storageEngine.multiGetReplicationMetadata(subPartition, keys);
+    for (int i = 0; i < keys.size(); i++) {
+      prefetchedRecords.get(i).setReplicationMetadataWithValueSchemaBytes(rmdBytesList.get(i));
+    }
+  }
+
   @Override
   protected void putInStorageEngine(int partition, byte[] keyBytes, Put put) {
     try {
@@ -227,7 +385,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
 
   /**
    * Get the existing value schema ID and RMD associated with the given key. If information for this key is found from
-   * the transient map then use that, otherwise get it from storage engine.
+   * the transient map or the prefetched map then use that, otherwise get it from storage engine.
    *
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key Bytes of key.
@@ -248,10 +406,17 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
               cachedRecord.getReplicationMetadataRecord()));
     }
 
-    final long lookupStartTimeInNS = System.nanoTime();
-    byte[] replicationMetadataWithValueSchemaBytes = storageEngine.getReplicationMetadata(subPartition, key);
-    hostLevelIngestionStats
-        .recordIngestionReplicationMetadataLookUpLatency(LatencyUtils.getLatencyInMS(lookupStartTimeInNS));
+    byte[] replicationMetadataWithValueSchemaBytes;
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord = partitionConsumptionState.getPrefetchedRecord(key);
+    if (prefetchedRecord != null && prefetchedRecord.isReplicationMetadataReady()) {
+      hostLevelIngestionStats.recordIngestionPrefetchHitCount();
+      replicationMetadataWithValueSchemaBytes = prefetchedRecord.getReplicationMetadataWithValueSchemaBytes();
+    } else {
+      final long lookupStartTimeInNS = System.nanoTime();
+      replicationMetadataWithValueSchemaBytes = storageEngine.getReplicationMetadata(subPartition, key);
+      hostLevelIngestionStats
+          .recordIngestionReplicationMetadataLookUpLatency(LatencyUtils.getLatencyInMS(lookupStartTimeInNS));
+    }
     if (replicationMetadataWithValueSchemaBytes == null) {
       return Optional.empty(); // No RMD for this key
     }
@@ -443,7 +608,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   }
 
   /**
-   * Get the value bytes for a key from {@link PartitionConsumptionState.TransientRecord} or from disk. The assumption
+   * Get the value bytes for a key from {@link PartitionConsumptionState.TransientRecord}, from
+   * {@link PartitionConsumptionState.PrefetchedRecord} or from disk. The assumption
    * is that the {@link PartitionConsumptionState.TransientRecord} only contains the full value.
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key The key bytes of the incoming record.
@@ -457,10 +623,18 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       String topic,
       int partition) {
     ByteBuffer originalValue = null;
-    // Find the existing value. If a value for this key is found from the transient map then use that value, otherwise
-    // get it from DB.
+    // Find the existing value. If a value for this key is found from the transient map or the prefetched map then use
+    // that value, otherwise get it from DB.
     PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(key);
-    if (transientRecord == null) {
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord =
+        (transientRecord == null) ? partitionConsumptionState.getPrefetchedRecord(key) : null;
+    if (prefetchedRecord != null && prefetchedRecord.isValueReady()) {
+      hostLevelIngestionStats.recordIngestionPrefetchHitCount();
+      // Duplicate the buffer since the same prefetched value may be read by several records with the same key.
+      if (prefetchedRecord.getValue() != null) {
+        originalValue = prefetchedRecord.getValue().duplicate();
+      }
+    } else if (transientRecord == null) {
       long lookupStartTimeInNS = System.nanoTime();
       originalValue = RawBytesChunkingAdapter.INSTANCE.get(
           storageEngine,
@@ -381,7 +381,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       this.storeBufferService = new StoreBufferService(
           serverConfig.getStoreWriterNumber(),
           serverConfig.getStoreWriterBufferMemoryCapacity(),
-          serverConfig.getStoreWriterBufferNotifyDelta());
+          serverConfig.getStoreWriterBufferNotifyDelta(),
+          serverConfig.isStoreWriterBufferRingBufferEnabled(),
+          serverConfig.getStoreWriterBufferDrainBatchSize(),
+          serverConfig.isStoreWriterBufferLoadAwareDrainerAssignmentEnabled());
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
     /**
@@ -6,7 +6,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
@@ -43,7 +42,7 @@ import org.apache.logging.log4j.Logger;
  *
  * @param <T>
  */
-public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQueue<T> {
+public class MemoryBoundBlockingQueue<T extends Measurable> implements MemoryBoundQueue<T> {
   private static final Logger LOGGER = LogManager.getLogger(MemoryBoundBlockingQueue.class);
   /**
    * Considering the node implementation: {@link java.util.LinkedList.Node}, the overhead
@@ -77,10 +76,12 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     this.remainingMemoryCapacityInByte = new AtomicLong(this.memoryCapacityInByte);
   }
 
+  @Override
   public long getMemoryUsage() {
     return memoryCapacityInByte - remainingMemoryCapacityInByte();
   }
 
+  @Override
   public long remainingMemoryCapacityInByte() {
     return remainingMemoryCapacityInByte.get();
   }
@@ -119,17 +120,7 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
       while ((record = this.queue.poll()) == null) {
         notEmpty.await();
       }
-      int recordSize = getRecordSize(record);
-      currentFreedMemoryInBytes += recordSize;
-      /**
-       * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
-       * pre-defined {@link #notifyDeltaInByte}.
-       */
-      if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
-        remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
-        currentFreedMemoryInBytes = 0;
-        hasEnoughMemory.signalAll();
-      }
+      freeMemory(getRecordSize(record));
     } finally {
       memoryLock.unlock();
     }
@@ -137,6 +128,22 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     return record;
   }
 
+  /**
+   * This function should be invoked while holding {@link #memoryLock}.
+   */
+  private void freeMemory(long freedMemoryInBytes) {
+    currentFreedMemoryInBytes += freedMemoryInBytes;
+    /**
+     * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
+     * pre-defined {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+      remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
+      currentFreedMemoryInBytes = 0;
+      hasEnoughMemory.signalAll();
+    }
+  }
+
   @Override
   public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
     throw new VeniceException("Operation is not supported yet!");
@@ -244,11 +251,30 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
 
   @Override
   public int drainTo(Collection<? super T> c) {
-    throw new VeniceException("Operation is not supported yet!");
+    return drainTo(c, Integer.MAX_VALUE);
   }
 
+  /**
+   * Takes up to {@param maxElements} records without blocking, with a single acquisition of {@link #memoryLock}.
+   */
   @Override
   public int drainTo(Collection<? super T> c, int maxElements) {
-    throw new VeniceException("Operation is not supported yet!");
+    int drainedCount = 0;
+    this.memoryLock.lock();
+    try {
+      long freedMemoryInBytes = 0;
+      T record;
+      while (drainedCount < maxElements && (record = this.queue.poll()) != null) {
+        c.add(record);
+        freedMemoryInBytes += getRecordSize(record);
+        drainedCount++;
+      }
+      if (drainedCount > 0) {
+        freeMemory(freedMemoryInBytes);
+      }
+    } finally {
+      memoryLock.unlock();
+    }
+    return drainedCount;
   }
 }
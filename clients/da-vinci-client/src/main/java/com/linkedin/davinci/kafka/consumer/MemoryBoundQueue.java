@@ -0,0 +1,18 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.common.Measurable;
+import java.util.concurrent.BlockingQueue;
+
+
+/**
+ * A {@link BlockingQueue} which is bounded by the memory usage of each {@link Measurable} object buffered inside.
+ *
+ * @see MemoryBoundBlockingQueue
+ * @see MemoryBoundRingBuffer
+ * @param <T>
+ */
+public interface MemoryBoundQueue<T extends Measurable> extends BlockingQueue<T> {
+  long getMemoryUsage();
+
+  long remainingMemoryCapacityInByte();
+}
@@ -0,0 +1,423 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.common.Measurable;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class is a bounded multi-producer/single-consumer ring buffer, which is bounded both by the number of slots and
+ * by the memory usage of each {@link Measurable} object buffered inside.
+ *
+ * Compared to {@link MemoryBoundBlockingQueue}, the producers and the consumer don't share any lock on the fast path:
+ * 1. Producers reserve memory with a CAS on {@link #remainingMemoryCapacityInByte}, claim a slot with a CAS on
+ *    {@link #tail}, and publish the record by bumping the sequence number of the slot;
+ * 2. The consumer reads the published slots in order, and releases them by bumping their sequence numbers again;
+ * 3. {@link #waitLock} is only used to park and wake up threads when the buffer is full or empty, and only taken by
+ *    the other side when there is some thread waiting.
+ * The slots are pre-allocated, so there is no per-record node allocation either, and {@link #drainTo(Collection, int)}
+ * lets the consumer take many records per wake-up.
+ *
+ * The memory accounting follows the same {@link #notifyDeltaInByte} semantics as {@link MemoryBoundBlockingQueue},
+ * please check the javadoc over there for the reasoning.
+ *
+ * Only a single thread can consume from this buffer, i.e. call {@link #take()}, {@link #poll()} or
+ * {@link #drainTo(Collection, int)}.
+ *
+ * @param <T>
+ */
+public class MemoryBoundRingBuffer<T extends Measurable> implements MemoryBoundQueue<T> {
+  private static final Logger LOGGER = LogManager.getLogger(MemoryBoundRingBuffer.class);
+  /**
+   * Each slot is made of a reference in {@link #slots} and a sequence number in {@link #slotSequences}.
+   */
+  public static final int RING_BUFFER_SLOT_OVERHEAD_IN_BYTE = 16;
+
+  private final Object[] slots;
+  /**
+   * The sequence number of each slot tells its state for a given position:
+   * 1. sequence == position: the slot is free for the producer claiming this position;
+   * 2. sequence == position + 1: the record at this position has been published and can be consumed;
+   * 3. sequence == position + slot count: the slot has been consumed and is free for the next lap.
+   */
+  private final AtomicLongArray slotSequences;
+  private final int mask;
+  // The next position to be claimed by producers
+  private final AtomicLong tail = new AtomicLong(0);
+  // The next position to be consumed, which is only updated by the consumer
+  private volatile long head = 0;
+
+  private final long memoryCapacityInByte;
+  private final long notifyDeltaInByte;
+  private final AtomicLong remainingMemoryCapacityInByte;
+  // Accumulated free memory since last notification, which is only updated by the consumer
+  private long currentFreedMemoryInBytes = 0;
+
+  private final Lock waitLock = new ReentrantLock();
+  private final Condition hasEnoughMemory = waitLock.newCondition();
+  private final Condition hasFreeSlot = waitLock.newCondition();
+  private final Condition notEmpty = waitLock.newCondition();
+  private final AtomicInteger producersWaitingForMemory = new AtomicInteger(0);
+  private final AtomicInteger producersWaitingForSlot = new AtomicInteger(0);
+  private volatile boolean consumerWaiting = false;
+
+  public MemoryBoundRingBuffer(long memoryCapacityInByte, long notifyDeltaInByte, int slotCount) {
+    if (notifyDeltaInByte > memoryCapacityInByte) {
+      throw new IllegalArgumentException(
+          "Param notifyDeltaInByte: " + notifyDeltaInByte + " should not be bigger than param memoryCapacityInByte: "
+              + memoryCapacityInByte);
+    }
+    if (slotCount < 1 || slotCount > (1 << 30)) {
+      throw new IllegalArgumentException("Param slotCount: " + slotCount + " should be between 1 and 2^30");
+    }
+    // Round up to a power of two, so that the slot index can be computed with a mask.
+    int actualSlotCount = slotCount == 1 ? 1 : Integer.highestOneBit(slotCount - 1) << 1;
+    this.slots = new Object[actualSlotCount];
+    this.slotSequences = new AtomicLongArray(actualSlotCount);
+    for (int i = 0; i < actualSlotCount; i++) {
+      slotSequences.set(i, i);
+    }
+    this.mask = actualSlotCount - 1;
+    this.memoryCapacityInByte = memoryCapacityInByte;
+    this.notifyDeltaInByte = notifyDeltaInByte;
+    this.remainingMemoryCapacityInByte = new AtomicLong(this.memoryCapacityInByte);
+  }
+
+  @Override
+  public long getMemoryUsage() {
+    return memoryCapacityInByte - remainingMemoryCapacityInByte();
+  }
+
+  @Override
+  public long remainingMemoryCapacityInByte() {
+    return remainingMemoryCapacityInByte.get();
+  }
+
+  public int getSlotCount() {
+    return slots.length;
+  }
+
+  private int getRecordSize(T record) {
+    return record.getSize() + RING_BUFFER_SLOT_OVERHEAD_IN_BYTE;
+  }
+
+  @Override
+  public void put(T record) throws InterruptedException {
+    int recordSize = getRecordSize(record);
+    if (recordSize > notifyDeltaInByte) {
+      LOGGER.warn(
+          "Record size of record: " + record + " is " + recordSize + ", which exceeds notifyDeltaInByte: "
+              + notifyDeltaInByte + ", and it could potentially be blocked when the buffer is full.");
+    }
+    if (!tryReserveMemory(recordSize)) {
+      awaitMemory(recordSize);
+    }
+    long position = tryClaimSlot();
+    if (position < 0) {
+      try {
+        position = awaitSlot();
+      } catch (InterruptedException e) {
+        // Give back the reserved memory since the record won't be buffered.
+        remainingMemoryCapacityInByte.addAndGet(recordSize);
+        signalIfWaiting(producersWaitingForMemory, hasEnoughMemory);
+        throw e;
+      }
+    }
+    int index = (int) (position & mask);
+    slots[index] = record;
+    slotSequences.set(index, position + 1);
+    if (consumerWaiting) {
+      waitLock.lock();
+      try {
+        notEmpty.signal();
+      } finally {
+        waitLock.unlock();
+      }
+    }
+  }
+
+  private boolean tryReserveMemory(int recordSize) {
+    while (true) {
+      long remaining = remainingMemoryCapacityInByte.get();
+      if (remaining < recordSize) {
+        return false;
+      }
+      if (remainingMemoryCapacityInByte.compareAndSet(remaining, remaining - recordSize)) {
+        return true;
+      }
+    }
+  }
+
+  private void awaitMemory(int recordSize) throws InterruptedException {
+    waitLock.lock();
+    producersWaitingForMemory.incrementAndGet();
+    try {
+      while (!tryReserveMemory(recordSize)) {
+        hasEnoughMemory.await();
+      }
+    } finally {
+      producersWaitingForMemory.decrementAndGet();
+      waitLock.unlock();
+    }
+  }
+
+  /**
+   * @return the claimed position, or -1 if all the slots are in use.
+   */
+  private long tryClaimSlot() {
+    while (true) {
+      long position = tail.get();
+      long sequenceDiff = slotSequences.get((int) (position & mask)) - position;
+      if (sequenceDiff == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          return position;
+        }
+      } else if (sequenceDiff < 0) {
+        // The slot from the previous lap hasn't been consumed yet.
+        return -1;
+      }
+      // Otherwise, another producer claimed this position first, so retry with the latest tail.
+    }
+  }
+
+  private long awaitSlot() throws InterruptedException {
+    waitLock.lock();
+    producersWaitingForSlot.incrementAndGet();
+    try {
+      long position;
+      while ((position = tryClaimSlot()) < 0) {
+        hasFreeSlot.await();
+      }
+      return position;
+    } finally {
+      producersWaitingForSlot.decrementAndGet();
+      waitLock.unlock();
+    }
+  }
+
+  private void signalIfWaiting(AtomicInteger waitingCount, Condition condition) {
+    if (waitingCount.get() > 0) {
+      waitLock.lock();
+      try {
+        condition.signalAll();
+      } finally {
+        waitLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Consume the record at {@link #head} if it has been published, without any memory accounting.
+   */
+  private T pollPublishedRecord() {
+    long position = head;
+    int index = (int) (position & mask);
+    if (slotSequences.get(index) != position + 1) {
+      return null;
+    }
+    T record = (T) slots[index];
+    slots[index] = null;
+    head = position + 1;
+    slotSequences.set(index, position + slots.length);
+    return record;
+  }
+
+  private void releaseConsumedRecords(long freedMemoryInBytes) {
+    currentFreedMemoryInBytes += freedMemoryInBytes;
+    /**
+     * It won't notify the blocked {@link #put(Measurable)} thread until the freed memory exceeds
+     * pre-defined {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+      remainingMemoryCapacityInByte.addAndGet(currentFreedMemoryInBytes);
+      currentFreedMemoryInBytes = 0;
+      signalIfWaiting(producersWaitingForMemory, hasEnoughMemory);
+    }
+    signalIfWaiting(producersWaitingForSlot, hasFreeSlot);
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    T record = pollPublishedRecord();
+    if (record == null) {
+      waitLock.lock();
+      consumerWaiting = true;
+      try {
+        while ((record = pollPublishedRecord()) == null) {
+          notEmpty.await();
+        }
+      } finally {
+        consumerWaiting = false;
+        waitLock.unlock();
+      }
+    }
+    releaseConsumedRecords(getRecordSize(record));
+    return record;
+  }
+
+  @Override
+  public T poll() {
+    T record = pollPublishedRecord();
+    if (record != null) {
+      releaseConsumedRecords(getRecordSize(record));
+    }
+    return record;
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Move all the published records, up to {@param maxElements}, to the given collection without blocking.
+   * The freed memory and slots are released once for the whole batch.
+   */
+  @Override
+  public int drainTo(Collection<? super T> c, int maxElements) {
+    int drainedCount = 0;
+    long freedMemoryInBytes = 0;
+    T record;
+    while (drainedCount < maxElements && (record = pollPublishedRecord()) != null) {
+      c.add(record);
+      freedMemoryInBytes += getRecordSize(record);
+      ++drainedCount;
+    }
+    if (drainedCount > 0) {
+      releaseConsumedRecords(freedMemoryInBytes);
+    }
+    return drainedCount;
+  }
+
+  /**
+   * The returned size includes the records whose slots have been claimed, but which are not published yet.
+   */
+  @Override
+  public int size() {
+    return (int) (tail.get() - head);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * This function is not atomic: the records consumed or published during the scan may or may not be considered.
+   */
+  @Override
+  public boolean contains(Object o) {
+    long currentTail = tail.get();
+    for (long position = head; position < currentTail; position++) {
+      int index = (int) (position & mask);
+      if (slotSequences.get(index) != position + 1) {
+        continue;
+      }
+      Object record = slots[index];
+      if (record != null && o.equals(record)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    for (Object o: c) {
+      if (!contains(o)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean add(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean offer(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T remove() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T element() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T peek() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int remainingCapacity() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public void clear() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public Object[] toArray() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public <T1> T1[] toArray(T1[] a) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+}
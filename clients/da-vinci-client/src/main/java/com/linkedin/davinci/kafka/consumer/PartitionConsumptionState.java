@@ -95,6 +95,15 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * This hash map keeps the existing value and RMD of the keys of a polled batch, which the leader of an
+   * Active/Active store looks up from the DB in bulk before processing the batch one record at a time.
+   * Entries are registered by {@link #registerPrefetchedRecord(byte[])} before the DB lookup and are invalidated by
+   * {@link #setTransientRecord(int, long, byte[], byte[], int, int, int, GenericRecord)}, so that a prefetched
+   * record is never newer than what the DB held, and never older than what {@link #transientRecordMap} holds.
+   */
+  private final ConcurrentMap<ByteArrayKey, PrefetchedRecord> prefetchedRecordMap = new VeniceConcurrentHashMap<>();
+
   /**
    * In-memory hash set which keeps track of all previous status this sub-partition has reported. It is the in-memory
    * cache of the previousStatuses field in {@link com.linkedin.venice.kafka.protocol.state.PartitionState} inside
@@ -441,7 +450,9 @@ public class PartitionConsumptionState {
     if (replicationMetadataRecord != null) {
       transientRecord.setReplicationMetadataRecord(replicationMetadataRecord);
     }
-    transientRecordMap.put(ByteArrayKey.wrap(key), transientRecord);
+    ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    transientRecordMap.put(byteArrayKey, transientRecord);
+    prefetchedRecordMap.remove(byteArrayKey);
   }
 
   public TransientRecord getTransientRecord(byte[] key) {
@@ -467,6 +478,48 @@ public class PartitionConsumptionState {
     return removed;
   }
 
+  /**
+   * Registers an empty {@link PrefetchedRecord} for the given key, which needs to be filled in by the caller once the
+   * DB lookup completes.
+   *
+   * @return the registered record, or null if the key is already being prefetched or has a newer transient record.
+   */
+  public PrefetchedRecord registerPrefetchedRecord(byte[] key) {
+    ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    PrefetchedRecord prefetchedRecord = new PrefetchedRecord();
+    if (prefetchedRecordMap.putIfAbsent(byteArrayKey, prefetchedRecord) != null) {
+      return null;
+    }
+    /**
+     * The transient record check must happen after the registration, otherwise a transient record set and drained
+     * in between could make the DB lookup miss it without invalidating the prefetched record.
+     */
+    if (transientRecordMap.containsKey(byteArrayKey)) {
+      prefetchedRecordMap.remove(byteArrayKey, prefetchedRecord);
+      return null;
+    }
+    return prefetchedRecord;
+  }
+
+  /**
+   * @return the prefetched record of the given key, or null if it is absent, invalidated or not filled in yet.
+   */
+  public PrefetchedRecord getPrefetchedRecord(byte[] key) {
+    PrefetchedRecord prefetchedRecord = prefetchedRecordMap.get(ByteArrayKey.wrap(key));
+    if (prefetchedRecord == null || !prefetchedRecord.isReady()) {
+      return null;
+    }
+    return prefetchedRecord;
+  }
+
+  public void unregisterPrefetchedRecord(byte[] key, PrefetchedRecord prefetchedRecord) {
+    prefetchedRecordMap.remove(ByteArrayKey.wrap(key), prefetchedRecord);
+  }
+
+  public int getPrefetchedRecordMapSize() {
+    return prefetchedRecordMap.size();
+  }
+
   public int getSourceTopicPartition(String topic) {
     if (Version.isRealTimeTopic(topic)) {
       return getUserPartition();
@@ -551,6 +604,56 @@ public class PartitionConsumptionState {
     }
   }
 
+  /**
+   * This class holds the existing value and RMD of a key as they were looked up from the DB. Each of them only becomes
+   * visible once it is filled in, so that a partially looked up record falls back to a regular DB lookup.
+   */
+  public static class PrefetchedRecord {
+    private volatile boolean valueReady = false;
+    private volatile boolean rmdReady = false;
+    private ByteBuffer value;
+    private byte[] replicationMetadataWithValueSchemaBytes;
+
+    PrefetchedRecord() {
+    }
+
+    boolean isReady() {
+      return valueReady || rmdReady;
+    }
+
+    public void setValue(ByteBuffer value) {
+      this.value = value;
+      this.valueReady = true;
+    }
+
+    public boolean isValueReady() {
+      return valueReady;
+    }
+
+    /**
+     * @return the value, or null if the key does not exist in the DB.
+     */
+    public ByteBuffer getValue() {
+      return value;
+    }
+
+    public void setReplicationMetadataWithValueSchemaBytes(byte[] replicationMetadataWithValueSchemaBytes) {
+      this.replicationMetadataWithValueSchemaBytes = replicationMetadataWithValueSchemaBytes;
+      this.rmdReady = true;
+    }
+
+    public boolean isReplicationMetadataReady() {
+      return rmdReady;
+    }
+
+    /**
+     * @return the value schema id prepended RMD bytes, or null if the key has no RMD in the DB.
+     */
+    public byte[] getReplicationMetadataWithValueSchemaBytes() {
+      return replicationMetadataWithValueSchemaBytes;
+    }
+  }
+
   public void updateLeaderConsumedUpstreamRTOffset(String kafkaUrl, long offset) {
     consumedUpstreamRTOffsetMap.put(kafkaUrl, offset);
   }
@@ -30,11 +30,17 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
     this.sortedServiceDelegate = new StoreBufferService(
         sortedPoolSize,
         serverConfig.getStoreWriterBufferMemoryCapacity(),
-        serverConfig.getStoreWriterBufferNotifyDelta());
+        serverConfig.getStoreWriterBufferNotifyDelta(),
+        serverConfig.isStoreWriterBufferRingBufferEnabled(),
+        serverConfig.getStoreWriterBufferDrainBatchSize(),
+        serverConfig.isStoreWriterBufferLoadAwareDrainerAssignmentEnabled());
     this.unsortedServiceDelegate = new StoreBufferService(
         unsortedPoolSize,
         serverConfig.getStoreWriterBufferMemoryCapacity(),
-        serverConfig.getStoreWriterBufferNotifyDelta());
+        serverConfig.getStoreWriterBufferNotifyDelta(),
+        serverConfig.isStoreWriterBufferRingBufferEnabled(),
+        serverConfig.getStoreWriterBufferDrainBatchSize(),
+        serverConfig.isStoreWriterBufferLoadAwareDrainerAssignmentEnabled());
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
@@ -10,9 +10,13 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,6 +25,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
@@ -34,8 +39,10 @@ import org.apache.logging.log4j.Logger;
  * High-level idea:
  * 1. {@link StoreBufferService} will be maintaining a fixed number (configurable) of {@link StoreBufferDrainer} pool;
  * 2. For each {@link StoreBufferDrainer}, there is a corresponding {@link BlockingQueue}, which will buffer {@link QueueNode};
+ * the queue is either a {@link MemoryBoundBlockingQueue} or a {@link MemoryBoundRingBuffer}, depending on the config;
  * 3. All the records belonging to the same topic+partition will be allocated to the same drainer thread, otherwise DIV will fail;
- * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(ConsumerRecord, int)};
+ * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(ConsumerRecord, int)},
+ * or {@link #acquireDrainerAssignment(String, int)} when load-aware drainer assignment is enabled;
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
@@ -57,6 +64,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestamp;
+    /**
+     * Only set when load-aware drainer assignment is enabled, and it will be used to track the pending records of
+     * the topic-partition.
+     */
+    private DrainerAssignment drainerAssignment;
 
     public QueueNode(
         ConsumerRecord<KafkaKey, KafkaMessageEnvelope> consumerRecord,
@@ -93,6 +105,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestamp;
     }
 
+    public DrainerAssignment getDrainerAssignment() {
+      return this.drainerAssignment;
+    }
+
+    public void setDrainerAssignment(DrainerAssignment drainerAssignment) {
+      this.drainerAssignment = drainerAssignment;
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -166,134 +186,413 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The drainer a topic-partition is pinned to when load-aware drainer assignment is enabled, along with the number of
+   * records of this topic-partition which are either buffered or being processed.
+   *
+   * An assignment can only be replaced when there is no pending record, which is guarded by the following protocol
+   * to guarantee that two drainers will never process records of the same topic-partition at the same time:
+   * 1. The producer increments {@link #pendingRecordCount} first, and then checks {@link #retired}; if the assignment
+   * has been retired, it backs off and looks up the assignment again;
+   * 2. The retiring thread sets {@link #retired} first, and then checks {@link #pendingRecordCount}; if there is any
+   * pending record, it gives up retiring.
+   */
+  static class DrainerAssignment {
+    private final int drainerIndex;
+    private final AtomicInteger pendingRecordCount = new AtomicInteger(0);
+    private volatile boolean retired = false;
+    private volatile long lastLoadCheckTimeInMS;
+
+    DrainerAssignment(int drainerIndex) {
+      this.drainerIndex = drainerIndex;
+      this.lastLoadCheckTimeInMS = System.currentTimeMillis();
+    }
+
+    int getDrainerIndex() {
+      return drainerIndex;
+    }
+
+    int getPendingRecordCount() {
+      return pendingRecordCount.get();
+    }
+
+    /**
+     * @return true if the pending record is registered against this assignment, false if this assignment has been
+     *         retired and the caller needs to look up the latest assignment.
+     */
+    boolean tryRegisterPendingRecord() {
+      pendingRecordCount.incrementAndGet();
+      if (retired) {
+        pendingRecordCount.decrementAndGet();
+        return false;
+      }
+      return true;
+    }
+
+    void unregisterPendingRecord() {
+      pendingRecordCount.decrementAndGet();
+    }
+
+    /**
+     * @return true if there is no pending record and the assignment is retired, which means no more records will be
+     *         routed by this assignment.
+     */
+    synchronized boolean tryRetire() {
+      if (retired) {
+        return true;
+      }
+      if (pendingRecordCount.get() != 0) {
+        return false;
+      }
+      retired = true;
+      if (pendingRecordCount.get() != 0) {
+        retired = false;
+        return false;
+      }
+      return true;
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord(ConsumerRecord, LeaderProducedRecordContext, String, long)} to process
    * each {@link ConsumerRecord} buffered in {@link BlockingQueue}.
+   *
+   * When {@link #drainBatchSize} is bigger than 1, the drainer takes up to {@link #drainBatchSize} records from the
+   * queue per wake-up, and keeps track of the records of the current batch which are not persisted yet, so that
+   * {@link #drainBufferedRecordsFromTopicPartition(String, int)} can still find them.
+   *
+   * The records are only reported as persisted at the end of each drain cycle, once the writes batched by the ingestion
+   * tasks have been committed by {@link StoreIngestionTask#commitPendingWrites()}. The ingestion tasks only batch
+   * writes in the drain cycles with more than one record, see {@link #isMultiRecordDrainCycle()}.
    */
   private static class StoreBufferDrainer implements Runnable {
     private static final Logger LOGGER = LogManager.getLogger(StoreBufferDrainer.class);
     private final BlockingQueue<QueueNode> blockingQueue;
     private final AtomicBoolean isRunning = new AtomicBoolean(true);
     private final int drainerIndex;
+    private final int drainBatchSize;
     private final ConcurrentMap<TopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
+    private volatile List<QueueNode> inFlightRecords = Collections.emptyList();
+    /**
+     * Accumulated time spent on processing records, which is only updated by the drainer thread.
+     */
+    private volatile long busyTimeInNS = 0;
 
     public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex) {
+      this(blockingQueue, drainerIndex, 1);
+    }
+
+    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, int drainBatchSize) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
+      this.drainBatchSize = drainBatchSize;
     }
 
     public void stop() {
       isRunning.set(false);
     }
 
+    /**
+     * @return whether the batch being processed still contains a record equal to {@param node}, which is not
+     *         persisted yet.
+     */
+    boolean hasInFlightRecord(QueueNode node) {
+      List<QueueNode> records = inFlightRecords;
+      for (int i = 0; i < records.size(); i++) {
+        if (node.equals(records.get(i))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
     @Override
     public void run() {
       LOGGER.info("Starting StoreBufferDrainer Thread for drainer: {}....", drainerIndex);
-      QueueNode node = null;
-      ConsumerRecord<KafkaKey, KafkaMessageEnvelope> consumerRecord = null;
-      LeaderProducedRecordContext leaderProducedRecordContext = null;
-      StoreIngestionTask ingestionTask = null;
-      CompletableFuture<Void> recordPersistedFuture = null;
-      long beforeProcessingRecordTimestamp = -1L;
       while (isRunning.get()) {
-        try {
-          node = blockingQueue.take();
-
-          consumerRecord = node.getConsumerRecord();
-          leaderProducedRecordContext = node.getLeaderProducedRecordContext();
-          ingestionTask = node.getIngestionTask();
-          recordPersistedFuture = node.getQueuedRecordPersistedFuture();
-          beforeProcessingRecordTimestamp = node.getBeforeProcessingRecordTimestamp();
-
-          long startTime = System.currentTimeMillis();
+        if (drainBatchSize > 1) {
+          List<QueueNode> batch = new ArrayList<>(drainBatchSize);
+          try {
+            batch.add(blockingQueue.take());
+          } catch (InterruptedException e) {
+            LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+            break;
+          }
+          blockingQueue.drainTo(batch, drainBatchSize - 1);
+          inFlightRecords = batch;
+          MULTI_RECORD_DRAIN_CYCLE.set(batch.size() > 1);
+          boolean shouldContinue = true;
+          int processedCount = 0;
+          try {
+            while (processedCount < batch.size() && shouldContinue) {
+              shouldContinue = processNode(batch.get(processedCount++));
+            }
+            // The record which stops the drainer is left as is
+            completeRecords(batch.subList(0, shouldContinue ? processedCount : processedCount - 1));
+          } finally {
+            MULTI_RECORD_DRAIN_CYCLE.set(false);
+          }
+          inFlightRecords = Collections.emptyList();
+          if (!shouldContinue) {
+            break;
+          }
+        } else {
+          QueueNode node;
+          try {
+            node = blockingQueue.take();
+          } catch (InterruptedException e) {
+            LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+            break;
+          }
+          if (!processNode(node)) {
+            break;
+          }
+          completeRecords(Collections.singletonList(node));
+        }
+      }
+      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+    }
 
-          ingestionTask.processConsumerRecord(
-              consumerRecord,
-              leaderProducedRecordContext,
-              node.getKafkaUrl(),
-              beforeProcessingRecordTimestamp);
+    /**
+     * @return false if the drainer should exit.
+     */
+    private boolean processNode(QueueNode node) {
+      long startTimeInNS = System.nanoTime();
+      try {
+        return processRecord(node);
+      } finally {
+        busyTimeInNS += System.nanoTime() - startTimeInNS;
+      }
+    }
 
-          // complete the leaderProducedRecordContext future as processing for this leaderProducedRecordContext is done
-          // here.
-          if (leaderProducedRecordContext != null) {
-            leaderProducedRecordContext.completePersistedToDBFuture(null);
+    /**
+     * Commits the writes batched by the ingestion tasks of the given processed records, and then reports the records
+     * as persisted. The records which failed to be processed have already been completed exceptionally, and the ones
+     * whose ingestion task fails to commit are completed exceptionally here.
+     */
+    private void completeRecords(List<QueueNode> nodes) {
+      long startTimeInNS = System.nanoTime();
+      Map<StoreIngestionTask, Exception> commitExceptions = null;
+      Set<StoreIngestionTask> committedIngestionTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (QueueNode node: nodes) {
+        StoreIngestionTask ingestionTask = node.getIngestionTask();
+        if (!committedIngestionTasks.add(ingestionTask)) {
+          continue;
+        }
+        try {
+          ingestionTask.commitPendingWrites();
+        } catch (Exception e) {
+          LOGGER.error(
+              "Drainer {} failed to commit the batched writes of ingestion task: {}",
+              drainerIndex,
+              ingestionTask.getVersionTopic(),
+              e);
+          if (commitExceptions == null) {
+            commitExceptions = new IdentityHashMap<>();
           }
-
-          /**
-           * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done.
-           */
-          if (recordPersistedFuture != null) {
+          commitExceptions.put(ingestionTask, e);
+          try {
+            ingestionTask.offerDrainerException(e, node.getConsumerRecord().partition());
+          } catch (VeniceException offerToQueueException) {
+            ingestionTask.setLastStoreIngestionException(offerToQueueException);
+          }
+        }
+      }
+      for (QueueNode node: nodes) {
+        Exception commitException = commitExceptions == null ? null : commitExceptions.get(node.getIngestionTask());
+        // complete the leaderProducedRecordContext future as processing for this leaderProducedRecordContext is done
+        // here.
+        LeaderProducedRecordContext leaderProducedRecordContext = node.getLeaderProducedRecordContext();
+        if (leaderProducedRecordContext != null) {
+          leaderProducedRecordContext.completePersistedToDBFuture(commitException);
+        }
+        /**
+         * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done.
+         */
+        CompletableFuture<Void> recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+        if (recordPersistedFuture != null) {
+          if (commitException == null) {
             recordPersistedFuture.complete(null);
+          } else {
+            recordPersistedFuture.completeExceptionally(commitException);
           }
+        }
+        DrainerAssignment drainerAssignment = node.getDrainerAssignment();
+        if (drainerAssignment != null) {
+          drainerAssignment.unregisterPendingRecord();
+        }
+      }
+      busyTimeInNS += System.nanoTime() - startTimeInNS;
+    }
 
-          TopicPartition topicPartition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
-          topicToTimeSpent
-              .compute(topicPartition, (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
-        } catch (Throwable e) {
-          if (e instanceof InterruptedException) {
-            LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
-            break;
-          }
-          StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
-          if (consumerRecord == null) {
-            logBuilder.append(" received throwable: ");
+    private boolean processRecord(QueueNode node) {
+      ConsumerRecord<KafkaKey, KafkaMessageEnvelope> consumerRecord = null;
+      LeaderProducedRecordContext leaderProducedRecordContext = null;
+      StoreIngestionTask ingestionTask = null;
+      CompletableFuture<Void> recordPersistedFuture = null;
+      long beforeProcessingRecordTimestamp = -1L;
+      try {
+        consumerRecord = node.getConsumerRecord();
+        leaderProducedRecordContext = node.getLeaderProducedRecordContext();
+        ingestionTask = node.getIngestionTask();
+        recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+        beforeProcessingRecordTimestamp = node.getBeforeProcessingRecordTimestamp();
+
+        long startTime = System.currentTimeMillis();
+
+        ingestionTask.processConsumerRecord(
+            consumerRecord,
+            leaderProducedRecordContext,
+            node.getKafkaUrl(),
+            beforeProcessingRecordTimestamp);
+
+        TopicPartition topicPartition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+        topicToTimeSpent
+            .compute(topicPartition, (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
+      } catch (Throwable e) {
+        if (e instanceof InterruptedException) {
+          LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+          return false;
+        }
+        StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
+        if (consumerRecord == null) {
+          logBuilder.append(" received throwable: ");
+        } else {
+          String consumerRecordString = consumerRecord.toString();
+          if (consumerRecordString.length() > 1024) {
+            // Careful not to flood the logs with too much content...
+            consumerRecordString = consumerRecordString.substring(0, 1024);
+            logBuilder.append(" received throwable while processing consumer record (truncated at 1024 characters): ");
           } else {
-            String consumerRecordString = consumerRecord.toString();
-            if (consumerRecordString.length() > 1024) {
-              // Careful not to flood the logs with too much content...
-              consumerRecordString = consumerRecordString.substring(0, 1024);
-              logBuilder
-                  .append(" received throwable while processing consumer record (truncated at 1024 characters): ");
-            } else {
-              logBuilder.append(" received throwable while processing consumer record: ");
-            }
-            logBuilder.append(consumerRecordString);
+            logBuilder.append(" received throwable while processing consumer record: ");
           }
-          LOGGER.error(logBuilder.toString(), e);
-
-          /**
-           * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
-           */
-          if (e instanceof Exception) {
-            Exception processConsumerRecordException = (Exception) e;
-            if (ingestionTask != null) {
-              try {
-                ingestionTask.offerDrainerException(processConsumerRecordException, consumerRecord.partition());
-              } catch (VeniceException offerToQueueException) {
-                ingestionTask.setLastStoreIngestionException(offerToQueueException);
-              }
-              if (e instanceof VeniceChecksumException) {
-                ingestionTask.recordChecksumVerificationFailure();
-              }
-            }
-            if (leaderProducedRecordContext != null) {
-              leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
+          logBuilder.append(consumerRecordString);
+        }
+        LOGGER.error(logBuilder.toString(), e);
+
+        /**
+         * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
+         */
+        if (e instanceof Exception) {
+          Exception processConsumerRecordException = (Exception) e;
+          if (ingestionTask != null) {
+            try {
+              ingestionTask.offerDrainerException(processConsumerRecordException, consumerRecord.partition());
+            } catch (VeniceException offerToQueueException) {
+              ingestionTask.setLastStoreIngestionException(offerToQueueException);
             }
-            if (recordPersistedFuture != null) {
-              recordPersistedFuture.completeExceptionally(processConsumerRecordException);
+            if (e instanceof VeniceChecksumException) {
+              ingestionTask.recordChecksumVerificationFailure();
             }
-          } else {
-            break;
           }
+          if (leaderProducedRecordContext != null) {
+            leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
+          }
+          if (recordPersistedFuture != null) {
+            recordPersistedFuture.completeExceptionally(processConsumerRecordException);
+          }
+        } else {
+          return false;
         }
       }
-      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+      return true;
     }
   }
 
   private static final Logger LOGGER = LogManager.getLogger(StoreBufferService.class);
+  /**
+   * Whether the drain cycle running on the current drainer thread contains more than one record.
+   */
+  private static final ThreadLocal<Boolean> MULTI_RECORD_DRAIN_CYCLE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+  /**
+   * The slot count of {@link MemoryBoundRingBuffer} is derived from the smallest possible {@link QueueNode}, so that
+   * the memory capacity is the effective bound, but it is capped to limit the pre-allocated memory.
+   */
+  private static final int MAX_RING_BUFFER_SLOT_COUNT = 1 << 20;
+  /**
+   * The busy ratio of each drainer is sampled at most once per interval, which is the window it is computed over.
+   */
+  private static final long DRAINER_LOAD_SAMPLE_INTERVAL_IN_NS = TimeUnit.SECONDS.toNanos(1);
+  /**
+   * A topic-partition pinned to a drainer will only be considered for rebalancing once per interval.
+   */
+  private static final long DRAINER_REBALANCE_CHECK_INTERVAL_IN_MS = TimeUnit.SECONDS.toMillis(30);
+  /**
+   * A topic-partition will only be moved when the load of its drainer exceeds the load of the least loaded drainer by
+   * this threshold, to avoid moving partitions back and forth between drainers with similar load.
+   */
+  private static final double DRAINER_REBALANCE_LOAD_THRESHOLD = 0.5;
+  /**
+   * Assignments made since the last load sample are not reflected by the sampled busy ratio yet, so each of them is
+   * accounted as this fraction of load, which spreads a burst of new subscriptions (e.g. during bootstrap) across
+   * drainers.
+   */
+  private static final double NEW_ASSIGNMENT_LOAD_ESTIMATE = 0.05;
   private final int drainerNum;
-  private final ArrayList<MemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
+  private final ArrayList<MemoryBoundQueue<QueueNode>> blockingQueueArr;
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
+  private final int drainBatchSize;
+  private final boolean loadAwareDrainerAssignmentEnabled;
+  private final Map<TopicPartition, DrainerAssignment> drainerAssignments = new VeniceConcurrentHashMap<>();
+  // The following fields are guarded by the lock of this instance.
+  private final int[] assignedPartitionCounts;
+  private final int[] recentAssignmentCounts;
+  private final double[] drainerBusyRatios;
+  private final long[] lastSampledBusyTimeInNS;
+  private long lastLoadSampleTimeInNS;
+
+  /**
+   * The ingestion tasks only batch their writes when this returns true, since the batched writes are committed at the
+   * end of each drain cycle anyway: a write batch holding a single record would only add a copy of the record.
+   *
+   * @return whether the current thread is a drainer processing a drain cycle of more than one record.
+   */
+  static boolean isMultiRecordDrainCycle() {
+    return MULTI_RECORD_DRAIN_CYCLE.get();
+  }
 
   public StoreBufferService(int drainerNum, long bufferCapacityPerDrainer, long bufferNotifyDelta) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, false, 1, false);
+  }
+
+  /**
+   * @param ringBufferEnabled whether to use {@link MemoryBoundRingBuffer} instead of {@link MemoryBoundBlockingQueue}
+   * @param drainBatchSize max number of records taken by each drainer per wake-up
+   * @param loadAwareDrainerAssignmentEnabled whether to pin each topic-partition to the least loaded drainer instead of
+   *                                          assigning drainers by hashing, see {@link #acquireDrainerAssignment}
+   */
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean ringBufferEnabled,
+      int drainBatchSize,
+      boolean loadAwareDrainerAssignmentEnabled) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
+    this.drainBatchSize = Math.max(1, drainBatchSize);
+    this.loadAwareDrainerAssignmentEnabled = loadAwareDrainerAssignmentEnabled;
+    this.assignedPartitionCounts = new int[drainerNum];
+    this.recentAssignmentCounts = new int[drainerNum];
+    this.drainerBusyRatios = new double[drainerNum];
+    this.lastSampledBusyTimeInNS = new long[drainerNum];
+    this.lastLoadSampleTimeInNS = System.nanoTime();
+    int ringBufferSlotCount = (int) Math.max(
+        1,
+        Math.min(
+            bufferCapacityPerDrainer
+                / (QueueNode.QUEUE_NODE_OVERHEAD_IN_BYTE + MemoryBoundRingBuffer.RING_BUFFER_SLOT_OVERHEAD_IN_BYTE),
+            MAX_RING_BUFFER_SLOT_COUNT));
     for (int cur = 0; cur < drainerNum; ++cur) {
-      this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      if (ringBufferEnabled) {
+        this.blockingQueueArr
+            .add(new MemoryBoundRingBuffer<>(bufferCapacityPerDrainer, bufferNotifyDelta, ringBufferSlotCount));
+      } else {
+        this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      }
     }
   }
 
@@ -310,6 +609,110 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return Math.abs((topicHash + subPartition) % this.drainerNum);
   }
 
+  /**
+   * Returns the assignment of the given topic-partition, with a pending record registered against it, when load-aware
+   * drainer assignment is enabled.
+   *
+   * A topic-partition is pinned to the least loaded drainer when its first record arrives, and all the following
+   * records will go to the same drainer, so that the ordering required by DIV is kept. The assignment is only
+   * re-evaluated at safe points, when all the records of the topic-partition have been processed, so that two drainers
+   * will never process records of the same topic-partition concurrently.
+   */
+  DrainerAssignment acquireDrainerAssignment(String topic, int subPartition) {
+    TopicPartition topicPartition = new TopicPartition(topic, subPartition);
+    while (true) {
+      DrainerAssignment assignment = drainerAssignments.computeIfAbsent(topicPartition, k -> assignNewDrainer());
+      if (assignment.getPendingRecordCount() == 0 && shouldRebalance(assignment) && assignment.tryRetire()) {
+        releaseDrainerAssignment(topicPartition, assignment);
+        LOGGER.info(
+            "Topic: {} partition: {} will be re-assigned as drainer: {} is overloaded",
+            topic,
+            subPartition,
+            assignment.getDrainerIndex());
+        continue;
+      }
+      if (assignment.tryRegisterPendingRecord()) {
+        return assignment;
+      }
+    }
+  }
+
+  private void releaseDrainerAssignment(TopicPartition topicPartition, DrainerAssignment assignment) {
+    if (drainerAssignments.remove(topicPartition, assignment)) {
+      synchronized (this) {
+        assignedPartitionCounts[assignment.getDrainerIndex()]--;
+      }
+    }
+  }
+
+  private synchronized DrainerAssignment assignNewDrainer() {
+    int drainerIndex = getLeastLoadedDrainerIndex();
+    assignedPartitionCounts[drainerIndex]++;
+    recentAssignmentCounts[drainerIndex]++;
+    return new DrainerAssignment(drainerIndex);
+  }
+
+  private boolean shouldRebalance(DrainerAssignment assignment) {
+    long currentTimeInMS = System.currentTimeMillis();
+    if (currentTimeInMS - assignment.lastLoadCheckTimeInMS < DRAINER_REBALANCE_CHECK_INTERVAL_IN_MS) {
+      return false;
+    }
+    assignment.lastLoadCheckTimeInMS = currentTimeInMS;
+    synchronized (this) {
+      int leastLoadedDrainerIndex = getLeastLoadedDrainerIndex();
+      return getDrainerLoad(assignment.getDrainerIndex())
+          - getDrainerLoad(leastLoadedDrainerIndex) > DRAINER_REBALANCE_LOAD_THRESHOLD;
+    }
+  }
+
+  /**
+   * Ties are broken by the number of topic-partitions pinned to each drainer, which is the only signal when the
+   * drainers are idle.
+   */
+  private synchronized int getLeastLoadedDrainerIndex() {
+    maybeSampleDrainerLoad();
+    int leastLoadedDrainerIndex = 0;
+    double minLoad = Double.MAX_VALUE;
+    for (int i = 0; i < drainerNum; i++) {
+      double load = getDrainerLoad(i);
+      if (load < minLoad || (load == minLoad
+          && assignedPartitionCounts[i] < assignedPartitionCounts[leastLoadedDrainerIndex])) {
+        minLoad = load;
+        leastLoadedDrainerIndex = i;
+      }
+    }
+    return leastLoadedDrainerIndex;
+  }
+
+  /**
+   * The load of a drainer combines the bytes queued for it and the fraction of time it spent on processing records
+   * recently, both of which are normalized to [0, 1].
+   */
+  private synchronized double getDrainerLoad(int drainerIndex) {
+    return (double) blockingQueueArr.get(drainerIndex).getMemoryUsage() / bufferCapacityPerDrainer
+        + drainerBusyRatios[drainerIndex] + recentAssignmentCounts[drainerIndex] * NEW_ASSIGNMENT_LOAD_ESTIMATE;
+  }
+
+  private synchronized void maybeSampleDrainerLoad() {
+    long currentTimeInNS = System.nanoTime();
+    long elapsedTimeInNS = currentTimeInNS - lastLoadSampleTimeInNS;
+    if (elapsedTimeInNS < DRAINER_LOAD_SAMPLE_INTERVAL_IN_NS || drainerList.size() < drainerNum) {
+      return;
+    }
+    for (int i = 0; i < drainerNum; i++) {
+      long busyTimeInNS = drainerList.get(i).busyTimeInNS;
+      drainerBusyRatios[i] = Math.min(1.0, (double) (busyTimeInNS - lastSampledBusyTimeInNS[i]) / elapsedTimeInNS);
+      lastSampledBusyTimeInNS[i] = busyTimeInNS;
+      recentAssignmentCounts[i] = 0;
+    }
+    lastLoadSampleTimeInNS = currentTimeInNS;
+  }
+
+  /** Used for testing */
+  Map<TopicPartition, DrainerAssignment> getDrainerAssignments() {
+    return drainerAssignments;
+  }
+
   @Override
   public void putConsumerRecord(
       ConsumerRecord<KafkaKey, KafkaMessageEnvelope> consumerRecord,
@@ -318,37 +721,54 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int subPartition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    int drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, subPartition);
-    MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(drainerIndex);
-    if (leaderProducedRecordContext == null) {
-      /**
-       * The last queued record persisted future will only be setup when {@param leaderProducedRecordContext} is 'null',
-       * since {@link LeaderProducedRecordContext#persistedToDBFuture} is a superset of this, which is tracking the
-       * end-to-end completeness when producing to local Kafka is needed.
-       */
-      CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      queue.put(
-          new FollowerQueueNode(
-              consumerRecord,
-              ingestionTask,
-              kafkaUrl,
-              beforeProcessingRecordTimestamp,
-              recordFuture));
-
-      // Setup the last queued record's future
-      PartitionConsumptionState partitionConsumptionState =
-          ingestionTask.getPartitionConsumptionState(consumerRecord.partition());
-      if (partitionConsumptionState != null) {
-        partitionConsumptionState.setLastQueuedRecordPersistedFuture(recordFuture);
-      }
+    DrainerAssignment drainerAssignment = null;
+    int drainerIndex;
+    if (loadAwareDrainerAssignmentEnabled) {
+      drainerAssignment = acquireDrainerAssignment(consumerRecord.topic(), subPartition);
+      drainerIndex = drainerAssignment.getDrainerIndex();
     } else {
-      queue.put(
-          new LeaderQueueNode(
-              consumerRecord,
-              ingestionTask,
-              kafkaUrl,
-              beforeProcessingRecordTimestamp,
-              leaderProducedRecordContext));
+      drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, subPartition);
+    }
+    MemoryBoundQueue<QueueNode> queue = blockingQueueArr.get(drainerIndex);
+    try {
+      if (leaderProducedRecordContext == null) {
+        /**
+         * The last queued record persisted future will only be setup when {@param leaderProducedRecordContext} is
+         * 'null', since {@link LeaderProducedRecordContext#persistedToDBFuture} is a superset of this, which is
+         * tracking the end-to-end completeness when producing to local Kafka is needed.
+         */
+        CompletableFuture<Void> recordFuture = new CompletableFuture<>();
+        QueueNode node = new FollowerQueueNode(
+            consumerRecord,
+            ingestionTask,
+            kafkaUrl,
+            beforeProcessingRecordTimestamp,
+            recordFuture);
+        node.setDrainerAssignment(drainerAssignment);
+        queue.put(node);
+
+        // Setup the last queued record's future
+        PartitionConsumptionState partitionConsumptionState =
+            ingestionTask.getPartitionConsumptionState(consumerRecord.partition());
+        if (partitionConsumptionState != null) {
+          partitionConsumptionState.setLastQueuedRecordPersistedFuture(recordFuture);
+        }
+      } else {
+        QueueNode node = new LeaderQueueNode(
+            consumerRecord,
+            ingestionTask,
+            kafkaUrl,
+            beforeProcessingRecordTimestamp,
+            leaderProducedRecordContext);
+        node.setDrainerAssignment(drainerAssignment);
+        queue.put(node);
+      }
+    } catch (InterruptedException e) {
+      // The record never made it into the queue
+      if (drainerAssignment != null) {
+        drainerAssignment.unregisterPendingRecord();
+      }
+      throw e;
     }
   }
 
@@ -371,10 +791,15 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       int retryNum,
       int sleepIntervalInMS) throws InterruptedException {
+    if (loadAwareDrainerAssignmentEnabled) {
+      drainBufferedRecordsByAssignment(topic, partition, retryNum, sleepIntervalInMS);
+      return;
+    }
     ConsumerRecord<KafkaKey, KafkaMessageEnvelope> fakeRecord = new ConsumerRecord<>(topic, partition, -1, null, null);
     int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, partition);
     BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
-    if (!drainerList.get(workerIndex).isRunning.get()) {
+    StoreBufferDrainer drainer = drainerList.get(workerIndex);
+    if (!drainer.isRunning.get()) {
       throw new VeniceException(
           "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic " + topic);
     }
@@ -383,7 +808,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     int cur = 0;
     while (cur++ < retryNum) {
-      if (!blockingQueue.contains(fakeNode)) {
+      if (!blockingQueue.contains(fakeNode) && !drainer.hasInFlightRecord(fakeNode)) {
         LOGGER.info(
             "The blocking queue of store writer thread: {} doesn't contain any record for topic: {} partition: {}",
             workerIndex,
@@ -399,13 +824,49 @@ public class StoreBufferService extends AbstractStoreBufferService {
     throw new VeniceException(errorMessage);
   }
 
+  /**
+   * Waits until all the pending records of the topic-partition are processed, and then unpins it, so that it will be
+   * assigned to the least loaded drainer when it is subscribed again.
+   */
+  private void drainBufferedRecordsByAssignment(String topic, int partition, int retryNum, int sleepIntervalInMS)
+      throws InterruptedException {
+    TopicPartition topicPartition = new TopicPartition(topic, partition);
+    int cur = 0;
+    while (cur++ < retryNum) {
+      DrainerAssignment assignment = drainerAssignments.get(topicPartition);
+      if (assignment == null) {
+        LOGGER.info("There is no buffered record for topic: {} partition: {}", topic, partition);
+        return;
+      }
+      int workerIndex = assignment.getDrainerIndex();
+      if (!drainerList.get(workerIndex).isRunning.get()) {
+        throw new VeniceException(
+            "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic " + topic);
+      }
+      if (assignment.tryRetire()) {
+        releaseDrainerAssignment(topicPartition, assignment);
+        LOGGER.info(
+            "The blocking queue of store writer thread: {} doesn't contain any record for topic: {} partition: {}",
+            workerIndex,
+            topic,
+            partition);
+        return;
+      }
+      Thread.sleep(sleepIntervalInMS);
+    }
+    String errorMessage = "There are still some records left in the blocking queue of store writer thread for topic: "
+        + topic + " partition: " + partition + " after retry for " + retryNum + " times";
+    LOGGER.error(errorMessage);
+    throw new VeniceException(errorMessage);
+  }
+
   @Override
   public boolean startInner() {
     this.executorService = Executors.newFixedThreadPool(drainerNum, new DaemonThreadFactory("Store-writer"));
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur);
+      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, drainBatchSize);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
@@ -436,7 +897,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalMemoryUsage() {
     long totalUsage = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       totalUsage += queue.getMemoryUsage();
     }
     return totalUsage;
@@ -445,7 +906,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalRemainingMemory() {
     long totalRemaining = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       totalRemaining += queue.remainingMemoryCapacityInByte();
     }
     return totalRemaining;
@@ -456,7 +917,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     long maxUsage = 0;
     boolean slowDrainerExists = false;
 
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       maxUsage = Math.max(maxUsage, queue.getMemoryUsage());
       if (queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer) {
         slowDrainerExists = true;
@@ -467,7 +928,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreBufferDrainer drainer = drainerList.get(index);
       // print drainer info when there is a slow drainer.
       if (slowDrainerExists) {
-        MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(index);
+        MemoryBoundQueue<QueueNode> queue = blockingQueueArr.get(index);
         int count = queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer ? 5 : 1;
         List<Map.Entry<TopicPartition, Long>> slowestEntries = drainer.topicToTimeSpent.entrySet()
             .stream()
@@ -503,7 +964,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getMinMemoryUsagePerDrainer() {
     long minUsage = Long.MAX_VALUE;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (MemoryBoundQueue<QueueNode> queue: blockingQueueArr) {
       minUsage = Math.min(minUsage, queue.getMemoryUsage());
     }
     return minUsage;
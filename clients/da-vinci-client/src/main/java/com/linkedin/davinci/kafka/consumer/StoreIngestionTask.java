@@ -22,6 +22,7 @@ import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.PartitionWriteBatch;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -103,6 +104,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -351,6 +353,19 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   private final boolean offsetLagDeltaRelaxEnabled;
   private final boolean ingestionCheckpointDuringGracefulShutdownEnabled;
 
+  /**
+   * Whether the writes of the partitions which have reported completion are accumulated into write batches, which are
+   * persisted by {@link #commitPendingWrites()} at the end of each drain cycle of {@link StoreBufferService} with more
+   * than one record.
+   */
+  private final boolean writeBatchEnabled;
+  private final int writeBatchMaxRecords;
+  private final long writeBatchMaxSizeInBytes;
+  /**
+   * The pending write batch of each partition, which is confined to the drainer thread processing the partition.
+   */
+  private final ThreadLocal<Map<Integer, PartitionWriteBatch>> pendingWriteBatches = new ThreadLocal<>();
+
   protected boolean isDataRecovery;
   protected final MetaStoreWriter metaStoreWriter;
   protected final Function<String, String> kafkaClusterUrlResolver;
@@ -484,6 +499,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.offsetLagDeltaRelaxEnabled = serverConfig.getOffsetLagDeltaRelaxFactorForFastOnlineTransitionInRestart() > 0;
     this.ingestionCheckpointDuringGracefulShutdownEnabled =
         serverConfig.isServerIngestionCheckpointDuringGracefulShutdownEnabled();
+    this.writeBatchEnabled = serverConfig.isIngestionWriteBatchEnabled();
+    this.writeBatchMaxRecords = serverConfig.getIngestionWriteBatchMaxRecords();
+    this.writeBatchMaxSizeInBytes = serverConfig.getIngestionWriteBatchMaxSizeInBytes();
     this.metaStoreWriter = builder.getMetaStoreWriter();
 
     this.storageUtilizationManager = new StorageUtilizationManager(
@@ -2149,6 +2167,10 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     if (!shouldPersistRecord(record, partitionConsumptionState)) {
       return;
     }
+    if (record.key().isControlMessage()) {
+      // Control messages are applied on top of all the preceding writes
+      commitPendingWrites();
+    }
 
     int recordSize = 0;
     try {
@@ -2303,6 +2325,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
   private void syncOffset(String topic, PartitionConsumptionState pcs) {
     int partition = pcs.getPartition();
+    // The checkpointed offset must not be ahead of the persisted records
+    commitPendingWrite(partition);
     AbstractStorageEngine storageEngineReloadedFromRepo = storageEngineRepository.getLocalStorageEngine(topic);
     if (storageEngineReloadedFromRepo == null) {
       LOGGER.warn(
@@ -2921,7 +2945,13 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
    */
   protected void putInStorageEngine(int partition, byte[] keyBytes, Put put) {
     try {
-      storageEngine.put(partition, keyBytes, put.putValue);
+      PartitionWriteBatch writeBatch = getWriteBatch(partition);
+      if (writeBatch == null) {
+        storageEngine.put(partition, keyBytes, put.putValue);
+      } else {
+        writeBatch.put(keyBytes, put.putValue);
+        maybeCommitWriteBatch(partition, writeBatch);
+      }
     } catch (PersistenceFailureException e) {
       throwOrLogStorageFailureDependingIfStillSubscribed(partition, e);
     }
@@ -2929,9 +2959,96 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
   protected void removeFromStorageEngine(int partition, byte[] keyBytes, Delete delete) {
     try {
-      storageEngine.delete(partition, keyBytes);
+      PartitionWriteBatch writeBatch = getWriteBatch(partition);
+      if (writeBatch == null) {
+        storageEngine.delete(partition, keyBytes);
+      } else {
+        writeBatch.delete(keyBytes);
+        maybeCommitWriteBatch(partition, writeBatch);
+      }
+    } catch (PersistenceFailureException e) {
+      throwOrLogStorageFailureDependingIfStillSubscribed(partition, e);
+    }
+  }
+
+  /**
+   * Writes are only batched once the partition has reported completion, so that the records are always persisted
+   * before the partition is reported as caught up, and only within the drain cycles holding more than one record,
+   * since the batches are committed at the end of each drain cycle. The ingestion tasks relying on the transient record
+   * buffer don't batch writes either, since the buffered records are purged as soon as they are handed over to the
+   * storage engine.
+   *
+   * @return the pending write batch of the partition, or null if the writes should go to the storage engine directly.
+   */
+  private PartitionWriteBatch getWriteBatch(int partition) {
+    if (!writeBatchEnabled || !StoreBufferService.isMultiRecordDrainCycle() || isTransientRecordBufferUsed()) {
+      return null;
+    }
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(partition);
+    if (partitionConsumptionState == null || !partitionConsumptionState.isCompletionReported()) {
+      return null;
+    }
+    Map<Integer, PartitionWriteBatch> writeBatches = pendingWriteBatches.get();
+    if (writeBatches == null) {
+      writeBatches = new HashMap<>();
+      pendingWriteBatches.set(writeBatches);
+    }
+    return writeBatches.computeIfAbsent(partition, p -> new PartitionWriteBatch());
+  }
+
+  private void maybeCommitWriteBatch(int partition, PartitionWriteBatch writeBatch) {
+    if (writeBatch.getRecordCount() >= writeBatchMaxRecords
+        || writeBatch.getSizeInBytes() >= writeBatchMaxSizeInBytes) {
+      commitWriteBatch(partition, writeBatch);
+    }
+  }
+
+  private void commitWriteBatch(int partition, PartitionWriteBatch writeBatch) {
+    if (writeBatch.isEmpty()) {
+      return;
+    }
+    try {
+      storageEngine.write(partition, writeBatch);
     } catch (PersistenceFailureException e) {
       throwOrLogStorageFailureDependingIfStillSubscribed(partition, e);
+    } finally {
+      writeBatch.clear();
+    }
+  }
+
+  private void commitPendingWrite(int partition) {
+    Map<Integer, PartitionWriteBatch> writeBatches = pendingWriteBatches.get();
+    if (writeBatches != null) {
+      PartitionWriteBatch writeBatch = writeBatches.get(partition);
+      if (writeBatch != null) {
+        commitWriteBatch(partition, writeBatch);
+      }
+    }
+  }
+
+  /**
+   * Persists all the writes batched by the calling drainer thread for this ingestion task. It is invoked by
+   * {@link StoreBufferService} at the end of each drain cycle, before the processed records are reported as persisted.
+   */
+  public void commitPendingWrites() {
+    Map<Integer, PartitionWriteBatch> writeBatches = pendingWriteBatches.get();
+    if (writeBatches == null || writeBatches.isEmpty()) {
+      return;
+    }
+    VeniceException commitException = null;
+    for (Map.Entry<Integer, PartitionWriteBatch> entry: writeBatches.entrySet()) {
+      try {
+        commitWriteBatch(entry.getKey(), entry.getValue());
+      } catch (VeniceException e) {
+        // Keep committing the other partitions, the failed batch has been discarded anyway
+        if (commitException == null) {
+          commitException = e;
+        }
+      }
+    }
+    writeBatches.clear();
+    if (commitException != null) {
+      throw commitException;
     }
   }
 
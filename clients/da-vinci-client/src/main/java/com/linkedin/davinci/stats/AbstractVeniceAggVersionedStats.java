@@ -57,6 +57,10 @@ public abstract class AbstractVeniceAggVersionedStats<STATS, STATS_REPORTER exte
     });
   }
 
+  public MetricsRepository getMetricsRepository() {
+    return metricsRepository;
+  }
+
   protected void recordVersionedAndTotalStat(String storeName, int version, Consumer<STATS> function) {
     VeniceVersionedStats<STATS, STATS_REPORTER> stats = getVersionedStats(storeName);
     Utils.computeIfNotNull(stats.getTotalStats(), function);
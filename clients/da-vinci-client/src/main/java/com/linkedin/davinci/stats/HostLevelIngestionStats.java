@@ -144,6 +144,17 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final Sensor leaderIngestionReplicationMetadataLookUpLatencySensor;
 
+  /**
+   * Measure the avg/max latency for the batched value bytes and replication metadata lookup of a polled batch
+   */
+  private final Sensor leaderIngestionBatchPrefetchLatencySensor;
+
+  /**
+   * Measure the number of times value bytes or replication metadata were found in
+   * {@link PartitionConsumptionState#prefetchedRecordMap}
+   */
+  private final Sensor leaderIngestionPrefetchHitCount;
+
   /**
    * Measure the count of ignored updates due to conflict resolution
    */
@@ -468,6 +479,18 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         totalStats,
         () -> totalStats.leaderIngestionReplicationMetadataLookUpLatencySensor,
         newAvgAndMax());
+
+    this.leaderIngestionBatchPrefetchLatencySensor = registerPerStoreAndTotal(
+        "leader_ingestion_batch_prefetch_latency",
+        totalStats,
+        () -> totalStats.leaderIngestionBatchPrefetchLatencySensor,
+        newAvgAndMax());
+
+    this.leaderIngestionPrefetchHitCount = registerPerStoreAndTotal(
+        "leader_ingestion_prefetch_hit_count",
+        totalStats,
+        () -> totalStats.leaderIngestionPrefetchHitCount,
+        new Rate());
   }
 
   /** Record a host-level byte consumption rate across all store versions */
@@ -547,6 +570,14 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     leaderIngestionReplicationMetadataLookUpLatencySensor.record(latency);
   }
 
+  public void recordIngestionBatchPrefetchLatency(double latency) {
+    leaderIngestionBatchPrefetchLatencySensor.record(latency);
+  }
+
+  public void recordIngestionPrefetchHitCount() {
+    leaderIngestionPrefetchHitCount.record();
+  }
+
   public void recordWriteComputeUpdateLatency(double latency) {
     leaderWriteComputeUpdateLatencySensor.record(latency);
   }
@@ -0,0 +1,55 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+
+
+/**
+ * Time spent in each stage of restoring the storage engines persisted on disk during startup.
+ */
+public class StorageEngineRestoreStats extends AbstractVeniceStats {
+  private static final String METRICS_PREFIX = "storage_engine_restore";
+
+  private final Sensor listPersistedStoresLatencySensor;
+  private final Sensor currentVersionsRestoreLatencySensor;
+  private final Sensor otherVersionsRestoreLatencySensor;
+  private final Sensor totalRestoreLatencySensor;
+  private final Sensor restoredStorageEngineCountSensor;
+  private final Sensor restoreFailureCountSensor;
+
+  public StorageEngineRestoreStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, METRICS_PREFIX);
+    listPersistedStoresLatencySensor = registerSensor("list_persisted_stores_latency", new Gauge());
+    currentVersionsRestoreLatencySensor = registerSensor("current_versions_restore_latency", new Gauge());
+    otherVersionsRestoreLatencySensor = registerSensor("other_versions_restore_latency", new Gauge());
+    totalRestoreLatencySensor = registerSensor("total_restore_latency", new Gauge());
+    restoredStorageEngineCountSensor = registerSensor("restored_storage_engine_count", new Gauge());
+    restoreFailureCountSensor = registerSensor("restore_failure_count", new Gauge());
+  }
+
+  public void recordListPersistedStoresLatency(double latencyInMs) {
+    listPersistedStoresLatencySensor.record(latencyInMs);
+  }
+
+  public void recordCurrentVersionsRestoreLatency(double latencyInMs) {
+    currentVersionsRestoreLatencySensor.record(latencyInMs);
+  }
+
+  public void recordOtherVersionsRestoreLatency(double latencyInMs) {
+    otherVersionsRestoreLatencySensor.record(latencyInMs);
+  }
+
+  public void recordTotalRestoreLatency(double latencyInMs) {
+    totalRestoreLatencySensor.record(latencyInMs);
+  }
+
+  public void recordRestoredStorageEngineCount(int count) {
+    restoredStorageEngineCountSensor.record(count);
+  }
+
+  public void recordRestoreFailureCount(int count) {
+    restoreFailureCountSensor.record(count);
+  }
+}
@@ -9,6 +9,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
+import com.linkedin.davinci.stats.StorageEngineRestoreStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
@@ -21,14 +22,18 @@ import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Utils;
+import io.tehuti.metrics.MetricsRepository;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +42,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -150,18 +160,25 @@ public class StorageService extends AbstractVeniceService {
     persistenceTypeToStorageEngineFactoryMap.put(BLACK_HOLE, new BlackHoleStorageEngineFactory());
   }
 
+  /**
+   * Opens the storage engines persisted on disk with a pool of {@link VeniceServerConfig#getStoreRestoreParallelism()}
+   * threads. The current versions are restored first, so that they are ready to serve as early as possible, and then
+   * the backup and future versions.
+   */
   private void restoreAllStores(
       VeniceConfigLoader configLoader,
       boolean restoreDataPartitions,
       boolean restoreMetadataPartitions) {
     LOGGER.info("Start restoring all the stores persisted previously");
+    long restoreStartTimeInNS = System.nanoTime();
+    List<VeniceStoreVersionConfig> currentVersionConfigs = new ArrayList<>();
+    List<VeniceStoreVersionConfig> otherVersionConfigs = new ArrayList<>();
     for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap.entrySet()) {
       PersistenceType pType = entry.getKey();
       StorageEngineFactory factory = entry.getValue();
-      LOGGER.info("Start restoring all the stores with type: {}", pType);
+      LOGGER.info("Start listing all the stores with type: {}", pType);
       Set<String> storeNames = factory.getPersistedStoreNames();
       for (String storeName: storeNames) {
-        LOGGER.info("Start restoring store: {} with type: {}", storeName, pType);
         /**
          * Setup store-level persistence type based on current database setup.
          */
@@ -169,29 +186,172 @@ public class StorageService extends AbstractVeniceService {
         // Load the metadata & data restore settings from config loader.
         storeConfig.setRestoreDataPartitions(restoreDataPartitions);
         storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
-        AbstractStorageEngine storageEngine;
-
-        try {
-          storageEngine = openStore(storeConfig, () -> null);
-        } catch (Exception e) {
-          if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
-            LOGGER.error("Could not load the following store : " + storeName, e);
-            aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
-            continue;
-          }
-          throw new VeniceException("Error caught during opening store " + storeName, e);
+        if (isCurrentVersion(storeName)) {
+          currentVersionConfigs.add(storeConfig);
+        } else {
+          otherVersionConfigs.add(storeConfig);
         }
+      }
+    }
+    double listPersistedStoresLatencyInMs = LatencyUtils.getLatencyInMS(restoreStartTimeInNS);
+    int storeCount = currentVersionConfigs.size() + otherVersionConfigs.size();
+    int parallelism = Math.max(1, Math.min(serverConfig.getStoreRestoreParallelism(), storeCount));
+    LOGGER.info(
+        "Found {} current versions and {} other versions to restore in {} ms, restoring them with {} threads",
+        currentVersionConfigs.size(),
+        otherVersionConfigs.size(),
+        listPersistedStoresLatencyInMs,
+        parallelism);
+
+    ExecutorService executor =
+        parallelism > 1 ? Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("StoreRestore")) : null;
+    AtomicInteger failureCount = new AtomicInteger();
+    double currentVersionsRestoreLatencyInMs;
+    double otherVersionsRestoreLatencyInMs;
+    try {
+      long stageStartTimeInNS = System.nanoTime();
+      restoreStores(currentVersionConfigs, executor, failureCount);
+      currentVersionsRestoreLatencyInMs = LatencyUtils.getLatencyInMS(stageStartTimeInNS);
+      LOGGER.info(
+          "Done restoring {} current versions in {} ms",
+          currentVersionConfigs.size(),
+          currentVersionsRestoreLatencyInMs);
+
+      stageStartTimeInNS = System.nanoTime();
+      restoreStores(otherVersionConfigs, executor, failureCount);
+      otherVersionsRestoreLatencyInMs = LatencyUtils.getLatencyInMS(stageStartTimeInNS);
+      LOGGER.info(
+          "Done restoring {} other versions in {} ms",
+          otherVersionConfigs.size(),
+          otherVersionsRestoreLatencyInMs);
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+
+    double totalRestoreLatencyInMs = LatencyUtils.getLatencyInMS(restoreStartTimeInNS);
+    MetricsRepository metricsRepository = aggVersionedStorageEngineStats.getMetricsRepository();
+    if (metricsRepository != null) {
+      StorageEngineRestoreStats restoreStats = new StorageEngineRestoreStats(metricsRepository);
+      restoreStats.recordListPersistedStoresLatency(listPersistedStoresLatencyInMs);
+      restoreStats.recordCurrentVersionsRestoreLatency(currentVersionsRestoreLatencyInMs);
+      restoreStats.recordOtherVersionsRestoreLatency(otherVersionsRestoreLatencyInMs);
+      restoreStats.recordTotalRestoreLatency(totalRestoreLatencyInMs);
+      restoreStats.recordRestoredStorageEngineCount(storeCount - failureCount.get());
+      restoreStats.recordRestoreFailureCount(failureCount.get());
+    }
+    LOGGER.info(
+        "Done restoring all the stores persisted previously in {} ms, failed to restore {} of them",
+        totalRestoreLatencyInMs,
+        failureCount.get());
+  }
+
+  /**
+   * Restores the given stores, either in the calling thread if no executor is passed, or with the executor, and waits
+   * until all of them are done.
+   */
+  private void restoreStores(
+      List<VeniceStoreVersionConfig> storeConfigs,
+      ExecutorService executor,
+      AtomicInteger failureCount) {
+    if (executor == null) {
+      storeConfigs.forEach(storeConfig -> restoreStore(storeConfig, failureCount));
+      return;
+    }
+    CompletableFuture[] futures = new CompletableFuture[storeConfigs.size()];
+    for (int i = 0; i < storeConfigs.size(); i++) {
+      VeniceStoreVersionConfig storeConfig = storeConfigs.get(i);
+      futures[i] = CompletableFuture.runAsync(() -> restoreStore(storeConfig, failureCount), executor);
+    }
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof VeniceException) {
+        throw (VeniceException) e.getCause();
+      }
+      throw new VeniceException("Error caught during restoring stores", e.getCause());
+    }
+  }
 
-        Set<Integer> partitionIds = storageEngine.getPartitionIds();
-        LOGGER.info(
-            "Loaded the following partitions: {}, for store: {}",
-            Arrays.toString(partitionIds.toArray()),
-            storeName);
-        LOGGER.info("Done restoring store: {} with type: {}", storeName, pType);
+  private void restoreStore(VeniceStoreVersionConfig storeConfig, AtomicInteger failureCount) {
+    String storeName = storeConfig.getStoreVersionName();
+    LOGGER.info("Start restoring store: {} with type: {}", storeName, storeConfig.getStorePersistenceType());
+    AbstractStorageEngine storageEngine;
+    try {
+      storageEngine = openStoreForRestore(storeConfig);
+    } catch (Exception e) {
+      if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
+        LOGGER.error("Could not load the following store : " + storeName, e);
+        aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
+        failureCount.incrementAndGet();
+        return;
       }
-      LOGGER.info("Done restoring all the stores with type: {}", pType);
+      throw new VeniceException("Error caught during opening store " + storeName, e);
     }
-    LOGGER.info("Done restoring all the stores persisted previously");
+
+    Set<Integer> partitionIds = storageEngine.getPartitionIds();
+    LOGGER.info(
+        "Loaded the following partitions: {}, for store: {}",
+        Arrays.toString(partitionIds.toArray()),
+        storeName);
+    LOGGER.info("Done restoring store: {} with type: {}", storeName, storeConfig.getStorePersistenceType());
+  }
+
+  /**
+   * @return whether the given store version is the current version of its store, according to the store repository.
+   */
+  private boolean isCurrentVersion(String topicName) {
+    if (storeRepository == null || !Version.isVersionTopic(topicName)) {
+      return false;
+    }
+    try {
+      Store store = storeRepository.getStore(Version.parseStoreFromVersionTopic(topicName));
+      return store != null && store.getCurrentVersion() == Version.parseVersionFromKafkaTopicName(topicName);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to check whether {} is a current version", topicName, e);
+      return false;
+    }
+  }
+
+  /**
+   * Same as {@link #openStore}, except that the storage engine is built without holding the lock of this service, so
+   * that the stores can be restored concurrently.
+   */
+  private AbstractStorageEngine openStoreForRestore(VeniceStoreVersionConfig storeConfig) {
+    String topicName = storeConfig.getStoreVersionName();
+    AbstractStorageEngine engine = storageEngineRepository.getLocalStorageEngine(topicName);
+    if (engine != null) {
+      return engine;
+    }
+
+    long startTimeInBuildingNewEngine = System.nanoTime();
+    StorageEngineFactory factory = getInternalStorageEngineFactory(storeConfig);
+    engine =
+        factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
+    synchronized (this) {
+      AbstractStorageEngine existingEngine = storageEngineRepository.getLocalStorageEngine(topicName);
+      if (existingEngine != null) {
+        return existingEngine;
+      }
+      registerStorageEngine(topicName, engine, null);
+    }
+
+    LOGGER.info(
+        "time spent on restoring storage Engine for store {}: {} ms",
+        topicName,
+        LatencyUtils.getLatencyInMS(startTimeInBuildingNewEngine));
+    return engine;
+  }
+
+  private void registerStorageEngine(
+      String topicName,
+      AbstractStorageEngine engine,
+      StoreVersionState initialStoreVersionState) {
+    engine.updateStoreVersionStateCache(initialStoreVersionState);
+    storageEngineRepository.addLocalStorageEngine(engine);
+    // Setup storage engine stats
+    aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
   }
 
   public synchronized AbstractStorageEngine openStoreForNewPartition(
@@ -272,10 +432,7 @@ public class StorageService extends AbstractVeniceService {
     StorageEngineFactory factory = getInternalStorageEngineFactory(storeConfig);
     engine =
         factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
-    engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
-    storageEngineRepository.addLocalStorageEngine(engine);
-    // Setup storage engine stats
-    aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
+    registerStorageEngine(topicName, engine, initialStoreVersionStateSupplier.get());
 
     LOGGER.info(
         "time spent on creating new storage Engine for store {}: {} ms",
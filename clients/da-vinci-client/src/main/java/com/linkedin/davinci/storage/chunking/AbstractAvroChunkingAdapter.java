@@ -17,6 +17,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -198,6 +200,45 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         skipCache);
   }
 
+  /**
+   * Looks up a batch of keys belonging to the same partition with native multi-key lookups.
+   *
+   * @return a list of the same size as {@param keys}, with null entries for the keys which do not exist.
+   */
+  public List<T> batchGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor) {
+    List<byte[]> storageKeys = keys;
+    if (isChunked) {
+      storageKeys = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        storageKeys.add(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+      }
+    }
+    return ChunkingUtils.multiGetFromStorage(
+        this,
+        store,
+        schemaRepo.getSupersetOrLatestValueSchema(storeName).getId(),
+        partition,
+        storageKeys,
+        response,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor);
+  }
+
   public T get(
       String storeName,
       AbstractStorageEngine store,
@@ -345,6 +386,22 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
 
   private final DecoderWrapper<byte[], T> decompressingByteArrayDecoder =
       (reusedDecoder, bytes, inputBytesLength, reusedValue, deserializer, readResponse, compressor) -> {
+        if (compressor.getCompressionStrategy() == CompressionStrategy.ZSTD_WITH_DICT) {
+          // One-shot decompression with the thread-local context is much cheaper than going through a ZSTD stream.
+          try {
+            return deserializer.deserialize(
+                reusedValue,
+                compressor.decompress(
+                    bytes,
+                    ValueRecord.SCHEMA_HEADER_LENGTH,
+                    inputBytesLength - ValueRecord.SCHEMA_HEADER_LENGTH),
+                reusedDecoder);
+          } catch (IOException e) {
+            throw new VeniceException(
+                "Failed to decompress, compressionStrategy: " + compressor.getCompressionStrategy().name(),
+                e);
+          }
+        }
         try (InputStream inputStream = new ByteArrayInputStream(
             bytes,
             ValueRecord.SCHEMA_HEADER_LENGTH,
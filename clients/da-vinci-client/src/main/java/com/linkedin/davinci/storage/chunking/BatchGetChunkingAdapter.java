@@ -5,7 +5,10 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -68,4 +71,25 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Looks up a batch of keys belonging to the same partition with native multi-key lookups.
+   *
+   * @return a list of the same size as {@param keys}, with null entries for the keys which do not exist.
+   */
+  public static List<MultiGetResponseRecordV1> batchGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponse response) {
+    List<byte[]> keyBytesList = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      keyBytesList.add(
+          isChunked
+              ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key)
+              : ByteUtils.extractByteArray(key));
+    }
+    return ChunkingUtils.multiGetFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, keyBytesList, response);
+  }
 }
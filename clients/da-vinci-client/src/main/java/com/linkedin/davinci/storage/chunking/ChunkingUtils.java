@@ -19,6 +19,8 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -362,6 +364,144 @@ public class ChunkingUtils {
         compressor);
   }
 
+  /**
+   * Batched counterpart of {@link #getFromStorage(ChunkingAdapter, AbstractStorageEngine, int, ByteBuffer, ReadResponse)}
+   * for keys which all belong to the same partition.
+   *
+   * The top-level keys are all fetched with a single {@link AbstractStorageEngine#multiGet} call. Then, the chunks of
+   * all the large values discovered in that first round are fetched together in a second batched lookup, instead of
+   * one lookup per chunk.
+   *
+   * @param keys top-level keys, already properly formatted (i.e. with the chunking suffix when needed)
+   * @return a list of the same size as {@param keys}, with null entries for the keys which do not exist.
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      ReadResponse response) {
+    return multiGetFromStorage(adapter, store, -1, partition, keys, response, null, null, false, null, null, null);
+  }
+
+  /**
+   * @see #multiGetFromStorage(ChunkingAdapter, AbstractStorageEngine, int, List, ReadResponse)
+   */
+  static <VALUE, CHUNKS_CONTAINER> List<VALUE> multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int readerSchemaId,
+      int partition,
+      List<byte[]> keys,
+      ReadResponse response,
+      BinaryDecoder reusedDecoder,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor) {
+    long databaseLookupStartTimeInNS = (response != null) ? System.nanoTime() : 0;
+    List<byte[]> values = store.multiGet(partition, keys, false);
+
+    List<VALUE> results = new ArrayList<>(values.size());
+    List<Integer> manifestPositions = null;
+    List<ChunkedValueManifest> manifests = null;
+    List<byte[]> chunkKeys = null;
+    for (int i = 0; i < values.size(); i++) {
+      byte[] value = values.get(i);
+      if (value == null) {
+        results.add(null);
+        continue;
+      }
+      int writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId > 0) {
+        // User-defined schema, thus not a chunked value.
+        results.add(
+            adapter.constructValue(
+                writerSchemaId,
+                readerSchemaId,
+                value,
+                value.length,
+                null,
+                reusedDecoder,
+                response,
+                compressionStrategy,
+                fastAvroEnabled,
+                schemaRepo,
+                storeName,
+                compressor));
+        continue;
+      } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+      }
+      if (manifests == null) {
+        manifestPositions = new ArrayList<>();
+        manifests = new ArrayList<>();
+        chunkKeys = new ArrayList<>();
+      }
+      ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+      for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+        chunkKeys.add(chunkKey.array());
+      }
+      manifestPositions.add(i);
+      manifests.add(chunkedValueManifest);
+      // Placeholder, filled in once the chunks are fetched
+      results.add(null);
+    }
+
+    if (manifests != null) {
+      List<byte[]> valueChunks = store.multiGet(partition, chunkKeys, false);
+      int chunkCursor = 0;
+      for (int m = 0; m < manifests.size(); m++) {
+        ChunkedValueManifest chunkedValueManifest = manifests.get(m);
+        CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
+        int actualSize = 0;
+        for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
+          byte[] valueChunk = valueChunks.get(chunkCursor++);
+          if (valueChunk == null) {
+            throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
+          } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK
+              .getCurrentProtocolVersion()) {
+            throw new VeniceException(
+                "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
+                    + ValueRecord.parseSchemaId(valueChunk) + " from "
+                    + getExceptionMessageDetails(store, partition, chunkIndex));
+          }
+          actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+          adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
+        }
+        // Sanity check based on size...
+        if (actualSize != chunkedValueManifest.size) {
+          throw new VeniceException(
+              "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
+                  + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
+                  + getExceptionMessageDetails(store, partition, null));
+        }
+        results.set(
+            manifestPositions.get(m),
+            adapter.constructValue(
+                chunkedValueManifest.schemaId,
+                assembledValueContainer,
+                null,
+                reusedDecoder,
+                response,
+                compressionStrategy,
+                fastAvroEnabled,
+                schemaRepo,
+                storeName,
+                compressor));
+        if (response != null) {
+          response.incrementMultiChunkLargeValueCount();
+        }
+      }
+    }
+
+    if (response != null) {
+      response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+    }
+    return results;
+  }
+
   private static String getExceptionMessageDetails(AbstractStorageEngine store, int partition, Integer chunkIndex) {
     String message = "store: " + store.getStoreName() + ", partition: " + partition;
     if (chunkIndex != null) {
@@ -0,0 +1,45 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.venice.compute.FloatVectorFieldsDeserializer;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+
+
+/**
+ * Chunking adapter which only decodes the given float vector fields of the values into primitive float arrays, for
+ * the columnar read compute execution in {@link com.linkedin.venice.compute.FloatVectorComputeEngine}.
+ */
+public class FloatVectorFieldsChunkingAdapter extends AbstractAvroChunkingAdapter<float[][]> {
+  private final Schema readerSchema;
+  private final List<String> fieldNames;
+  private final Map<Integer, RecordDeserializer<float[][]>> writerSchemaIdToDeserializerMap =
+      new VeniceConcurrentHashMap<>();
+
+  public FloatVectorFieldsChunkingAdapter(Schema readerSchema, List<String> fieldNames) {
+    this.readerSchema = readerSchema;
+    this.fieldNames = fieldNames;
+  }
+
+  /**
+   * Reader schema id will be ignored as the reader schema is fixed at construction time, which should be the value
+   * schema the compute request has been validated against.
+   */
+  @Override
+  protected RecordDeserializer<float[][]> getDeserializer(
+      String storeName,
+      int writerSchemaId,
+      int readerSchemaId,
+      ReadOnlySchemaRepository schemaRepo,
+      boolean fastAvroEnabled) {
+    return writerSchemaIdToDeserializerMap.computeIfAbsent(
+        writerSchemaId,
+        id -> new FloatVectorFieldsDeserializer(
+            schemaRepo.getValueSchema(storeName, id).getSchema(),
+            readerSchema,
+            fieldNames));
+  }
+}
@@ -0,0 +1,43 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Read compute chunking adapter which deserializes the values with the given projection schema as the reader schema,
+ * so that the deserializer skips the fields not read by the compute request instead of decoding them.
+ */
+public class ProjectingGenericRecordChunkingAdapter extends GenericRecordChunkingAdapter {
+  private final Schema projectionSchema;
+
+  public ProjectingGenericRecordChunkingAdapter(Schema projectionSchema) {
+    super();
+    this.projectionSchema = projectionSchema;
+  }
+
+  public Schema getProjectionSchema() {
+    return projectionSchema;
+  }
+
+  @Override
+  protected RecordDeserializer<GenericRecord> getDeserializer(
+      String storeName,
+      int writerSchemaId,
+      int readerSchemaId,
+      ReadOnlySchemaRepository schemaRepo,
+      boolean fastAvroEnabled) {
+    Schema writerSchema = schemaRepo.getValueSchema(storeName, writerSchemaId).getSchema();
+
+    // TODO: Remove support for slow-avro
+    if (fastAvroEnabled) {
+      return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema, projectionSchema);
+    } else {
+      return SerializerDeserializerFactory.getAvroGenericDeserializer(writerSchema, projectionSchema);
+    }
+  }
+}
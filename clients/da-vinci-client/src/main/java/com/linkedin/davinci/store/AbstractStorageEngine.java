@@ -418,6 +418,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return partition.get(keyBuffer, skipCache);
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys, boolean skipCache) throws VeniceException {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    return partition.multiGet(keys, skipCache);
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
     partition.getByKeyPrefix(partialKey, bytesStreamingCallback);
@@ -428,6 +433,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     partition.delete(key);
   }
 
+  public void write(int partitionId, PartitionWriteBatch batch) throws VeniceException {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    partition.write(batch);
+  }
+
   public void deleteWithReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata)
       throws VeniceException {
     AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -439,6 +449,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     return partition.getReplicationMetadata(key);
   }
 
+  public List<byte[]> multiGetReplicationMetadata(int partitionId, List<byte[]> keys) {
+    AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+    return partition.multiGetReplicationMetadata(keys);
+  }
+
   /**
    * Put the offset associated with the partitionId into the metadata partition.
    */
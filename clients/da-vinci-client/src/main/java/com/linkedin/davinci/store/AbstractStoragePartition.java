@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -66,6 +68,22 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key, boolean skipCache);
 
+  /**
+   * Get the values of a batch of keys from the partition database.
+   * @param keys keys to be retrieved
+   * @param skipCache
+   * @return a list of the same size as {@param keys}, where the value at each position is null if the corresponding
+   *         key does not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys, boolean skipCache) {
+    // Naive default impl is not optimized... only storage engines that support batch lookup implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key, skipCache));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -79,6 +97,21 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void delete(byte[] key);
 
+  /**
+   * Applies all the writes of the given batch in order. Storage engines which support atomic batch writes override
+   * it to persist the whole batch at once.
+   */
+  public void write(PartitionWriteBatch batch) {
+    for (int i = 0; i < batch.getRecordCount(); i++) {
+      byte[] value = batch.getValue(i);
+      if (value == null) {
+        delete(batch.getKey(i));
+      } else {
+        put(batch.getKey(i), value);
+      }
+    }
+  }
+
   /**
    * Sync current database.
    *
@@ -168,6 +201,16 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getReplicationMetadata");
   }
 
+  /**
+   * This API retrieves the replication metadata of a batch of keys from replicationMetadataColumnFamily.
+   * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
+   * other storage partition implementation will VeniceUnsupportedOperationException.
+   * @return a list of the same size as {@param keys}, with null entries for the keys without replication metadata.
+   */
+  public List<byte[]> multiGetReplicationMetadata(List<byte[]> keys) {
+    throw new VeniceUnsupportedOperationException("multiGetReplicationMetadata");
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
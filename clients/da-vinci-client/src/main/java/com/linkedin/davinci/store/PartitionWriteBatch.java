@@ -0,0 +1,66 @@
+package com.linkedin.davinci.store;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A batch of puts and deletes against a single storage partition, which is applied in order by
+ * {@link AbstractStoragePartition#write(PartitionWriteBatch)}.
+ *
+ * The values are copied when they are added, so the callers are free to reuse their buffers right away.
+ * This class is not thread-safe.
+ */
+public class PartitionWriteBatch {
+  private final List<byte[]> keys = new ArrayList<>();
+  /**
+   * A null value stands for a deletion.
+   */
+  private final List<byte[]> values = new ArrayList<>();
+  private long sizeInBytes = 0;
+
+  public void put(byte[] key, ByteBuffer value) {
+    byte[] valueBytes = new byte[value.remaining()];
+    ByteUtils.extractByteArray(value, valueBytes, 0, valueBytes.length);
+    keys.add(key);
+    values.add(valueBytes);
+    sizeInBytes += key.length + valueBytes.length;
+  }
+
+  public void delete(byte[] key) {
+    keys.add(key);
+    values.add(null);
+    sizeInBytes += key.length;
+  }
+
+  public int getRecordCount() {
+    return keys.size();
+  }
+
+  public long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  public boolean isEmpty() {
+    return keys.isEmpty();
+  }
+
+  public byte[] getKey(int index) {
+    return keys.get(index);
+  }
+
+  /**
+   * @return the value of the write at the given index, or null if it is a deletion.
+   */
+  public byte[] getValue(int index) {
+    return values.get(index);
+  }
+
+  public void clear() {
+    keys.clear();
+    values.clear();
+    sizeInBytes = 0;
+  }
+}
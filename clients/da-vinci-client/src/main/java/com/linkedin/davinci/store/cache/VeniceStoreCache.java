@@ -120,4 +120,40 @@ public interface VeniceStoreCache {
    * @return the miss count
    */
   long missCount();
+
+  /**
+   * Returns the approximate number of bytes served from the cache, only tracked by caches bounded by a byte budget.
+   */
+  default long hitBytes() {
+    return 0;
+  }
+
+  /**
+   * Returns the approximate number of bytes loaded into the cache on misses, only tracked by caches bounded by a byte
+   * budget.
+   */
+  default long missBytes() {
+    return 0;
+  }
+
+  /**
+   * Returns the approximate number of entries evicted because of the size bound of the cache.
+   */
+  default long evictionCount() {
+    return 0;
+  }
+
+  /**
+   * Returns the approximate number of bytes evicted, only tracked by caches bounded by a byte budget.
+   */
+  default long evictedBytes() {
+    return 0;
+  }
+
+  /**
+   * Returns the approximate number of bytes held by the cache, only tracked by caches bounded by a byte budget.
+   */
+  default long sizeInBytes() {
+    return 0;
+  }
 }
@@ -7,6 +7,7 @@ import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import java.util.Set;
 import org.apache.avro.Schema;
 
@@ -20,12 +21,33 @@ public class VeniceStoreCacheStorageEngine extends AbstractStorageEngine<VeniceS
       ObjectCacheConfig config,
       Schema keySchema,
       AsyncCacheLoader asyncCacheLoader) {
+    this(storeName, config, new VeniceStoreCacheStoragePartition(0, config, keySchema, asyncCacheLoader));
+  }
+
+  public VeniceStoreCacheStorageEngine(
+      String storeName,
+      ObjectCacheConfig config,
+      Schema keySchema,
+      VeniceStoreCache veniceCache) {
+    this(
+        storeName,
+        config,
+        new VeniceStoreCacheStoragePartition(
+            0,
+            FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema),
+            veniceCache));
+  }
+
+  private VeniceStoreCacheStorageEngine(
+      String storeName,
+      ObjectCacheConfig config,
+      VeniceStoreCacheStoragePartition omniPartition) {
     super(
         storeName,
         AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
         AvroProtocolDefinition.PARTITION_STATE.getSerializer());
     cacheConfig = config;
-    omniPartition = new VeniceStoreCacheStoragePartition(0, cacheConfig, keySchema, asyncCacheLoader);
+    this.omniPartition = omniPartition;
     // Add the 0 partitionId automatically in order to satisfy the supers metadata (and we automatically created the
     // omniPartition for this engine)
     this.addStoragePartition(0);
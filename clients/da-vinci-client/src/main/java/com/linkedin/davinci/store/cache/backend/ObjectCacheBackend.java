@@ -3,6 +3,7 @@ package com.linkedin.davinci.store.cache.backend;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.cache.VeniceStoreCacheStorageEngine;
+import com.linkedin.davinci.store.cache.caffeine.SharedWeightedCaffeineCache;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
@@ -18,6 +19,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -34,6 +36,10 @@ public class ObjectCacheBackend {
   private final ObjectCacheConfig storeCacheConfig;
   private final StoreCacheStats storeCacheStats;
   private final ReadOnlySchemaRepository schemaRepository;
+  /**
+   * The cache shared by all the store versions when the cache is bounded by a byte budget.
+   */
+  private final Optional<SharedWeightedCaffeineCache> sharedCache;
 
   /**
    * @param clientConfig configurations that enabled the VeniceStoreCacheBackend to interact with a venice cluster (to set up ingestion) as well as
@@ -46,6 +52,7 @@ public class ObjectCacheBackend {
       ReadOnlySchemaRepository schemaRepository) {
     this.storeCacheConfig = cacheConfig;
     this.schemaRepository = schemaRepository;
+    this.sharedCache = cacheConfig.getMaxCacheSizeInBytes().map(size -> new SharedWeightedCaffeineCache(cacheConfig));
     MetricsRepository metricsRepository = Optional.ofNullable(clientConfig.getMetricsRepository())
         .orElse(TehutiUtils.getMetricsRepository(String.format("venice-store-cache-%s", clientConfig.getStoreName())));
     storeCacheStats = new StoreCacheStats(metricsRepository, clientConfig.getStoreName());
@@ -104,11 +111,18 @@ public class ObjectCacheBackend {
   }
 
   private VeniceStoreCacheStorageEngine buildCacheEngine(Version version, AsyncCacheLoader cacheLoader) {
-    VeniceStoreCacheStorageEngine cacheStorageEngine = new VeniceStoreCacheStorageEngine(
-        version.kafkaTopicName(),
-        storeCacheConfig,
-        schemaRepository.getKeySchema(version.getStoreName()).getSchema(),
-        cacheLoader);
+    Schema keySchema = schemaRepository.getKeySchema(version.getStoreName()).getSchema();
+    VeniceStoreCacheStorageEngine cacheStorageEngine;
+    if (sharedCache.isPresent()) {
+      cacheStorageEngine = new VeniceStoreCacheStorageEngine(
+          version.kafkaTopicName(),
+          storeCacheConfig,
+          keySchema,
+          sharedCache.get().createStoreCache(version.kafkaTopicName(), version.getStoreName(), cacheLoader));
+    } else {
+      cacheStorageEngine =
+          new VeniceStoreCacheStorageEngine(version.kafkaTopicName(), storeCacheConfig, keySchema, cacheLoader);
+    }
     // register the stats for this engine as it's now serving traffic
     storeCacheStats.registerServingCache(cacheStorageEngine.getCache());
     return cacheStorageEngine;
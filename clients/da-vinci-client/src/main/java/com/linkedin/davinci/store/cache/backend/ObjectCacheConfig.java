@@ -1,11 +1,19 @@
 package com.linkedin.davinci.store.cache.backend;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 
 public class ObjectCacheConfig {
   private Optional<Long> maxCacheSize = Optional.empty();
   private Optional<Long> ttlInMilliseconds = Optional.empty();
+  private Optional<Long> maxCacheSizeInBytes = Optional.empty();
+  private Optional<Long> maxEntrySizeInBytes = Optional.empty();
+  private ObjectCacheWeigher weigher = ObjectCacheWeigher.ESTIMATED_FOOTPRINT;
+  private final Map<String, Double> storeWeights = new HashMap<>();
+  private final Map<String, Long> storeMaxEntrySizeInBytes = new HashMap<>();
 
   public ObjectCacheConfig setMaxPerPartitionCacheSize(Long maxPerPartitionCacheSize) {
     this.maxCacheSize = Optional.of(maxPerPartitionCacheSize);
@@ -17,6 +25,54 @@ public class ObjectCacheConfig {
     return this;
   }
 
+  /**
+   * Switches the cache to the byte budgeted mode: a single cache is shared by all the stores of the process, and the
+   * entries are evicted once their total weight, as computed by the {@link #setWeigher(ObjectCacheWeigher) weigher},
+   * goes beyond this budget. The per partition entry count limit is ignored in this mode.
+   */
+  public ObjectCacheConfig setMaxCacheSizeInBytes(Long maxCacheSizeInBytes) {
+    this.maxCacheSizeInBytes = Optional.of(maxCacheSizeInBytes);
+    return this;
+  }
+
+  /**
+   * Weigher used to compute the size of the entries in the byte budgeted mode, by default the estimated heap
+   * footprint of the key and the value.
+   */
+  public ObjectCacheConfig setWeigher(ObjectCacheWeigher weigher) {
+    this.weigher = Objects.requireNonNull(weigher);
+    return this;
+  }
+
+  /**
+   * Default admission limit of the byte budgeted mode: values bigger than this are returned but not cached.
+   */
+  public ObjectCacheConfig setMaxEntrySizeInBytes(Long maxEntrySizeInBytes) {
+    this.maxEntrySizeInBytes = Optional.of(maxEntrySizeInBytes);
+    return this;
+  }
+
+  /**
+   * Admission limit of the given store in the byte budgeted mode, which overrides {@link #setMaxEntrySizeInBytes}.
+   */
+  public ObjectCacheConfig setStoreMaxEntrySizeInBytes(String storeName, long maxEntrySizeInBytes) {
+    this.storeMaxEntrySizeInBytes.put(storeName, maxEntrySizeInBytes);
+    return this;
+  }
+
+  /**
+   * Relative weight of the store when competing for the byte budget, 1.0 by default. The entries of a store are
+   * charged their size divided by the weight of the store, so a store with a weight of 2 can keep about twice as many
+   * bytes as a store with a weight of 1 under the same access pattern.
+   */
+  public ObjectCacheConfig setStoreWeight(String storeName, double weight) {
+    if (weight <= 0) {
+      throw new IllegalArgumentException("Store weight should be positive, but got: " + weight);
+    }
+    this.storeWeights.put(storeName, weight);
+    return this;
+  }
+
   public Optional<Long> getMaxCacheSize() {
     return maxCacheSize;
   }
@@ -25,6 +81,23 @@ public class ObjectCacheConfig {
     return ttlInMilliseconds;
   }
 
+  public Optional<Long> getMaxCacheSizeInBytes() {
+    return maxCacheSizeInBytes;
+  }
+
+  public ObjectCacheWeigher getWeigher() {
+    return weigher;
+  }
+
+  public Optional<Long> getMaxEntrySizeInBytes(String storeName) {
+    Long storeLimit = storeMaxEntrySizeInBytes.get(storeName);
+    return storeLimit != null ? Optional.of(storeLimit) : maxEntrySizeInBytes;
+  }
+
+  public double getStoreWeight(String storeName) {
+    return storeWeights.getOrDefault(storeName, 1.0);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null) {
@@ -44,11 +117,20 @@ public class ObjectCacheConfig {
     if (!this.getMaxCacheSize().orElse(-1L).equals(c.getMaxCacheSize().orElse(-1L))) {
       return false;
     }
-    return true;
+    if (!this.getMaxCacheSizeInBytes().orElse(-1L).equals(c.getMaxCacheSizeInBytes().orElse(-1L))) {
+      return false;
+    }
+    if (!this.maxEntrySizeInBytes.orElse(-1L).equals(c.maxEntrySizeInBytes.orElse(-1L))) {
+      return false;
+    }
+    return this.weigher == c.weigher && this.storeWeights.equals(c.storeWeights)
+        && this.storeMaxEntrySizeInBytes.equals(c.storeMaxEntrySizeInBytes);
   }
 
   @Override
   public String toString() {
-    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds + "}";
+    return "ObjectCacheConfig{" + "maxCacheSize=" + maxCacheSize + ", ttlInMilliseconds=" + ttlInMilliseconds
+        + ", maxCacheSizeInBytes=" + maxCacheSizeInBytes + ", maxEntrySizeInBytes=" + maxEntrySizeInBytes
+        + ", storeWeights=" + storeWeights + ", storeMaxEntrySizeInBytes=" + storeMaxEntrySizeInBytes + "}";
   }
 }
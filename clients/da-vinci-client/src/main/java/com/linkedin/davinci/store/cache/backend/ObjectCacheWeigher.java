@@ -0,0 +1,37 @@
+package com.linkedin.davinci.store.cache.backend;
+
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import org.apache.avro.generic.IndexedRecord;
+
+
+/**
+ * Computes the size in bytes charged against the byte budget of the object cache for a cached entry, see
+ * {@link ObjectCacheConfig#setMaxCacheSizeInBytes(Long)}.
+ */
+@FunctionalInterface
+public interface ObjectCacheWeigher {
+  /**
+   * Estimated heap footprint of the deserialized key and value, see {@link ObjectFootprintEstimator}.
+   */
+  ObjectCacheWeigher ESTIMATED_FOOTPRINT =
+      (key, value) -> ObjectFootprintEstimator.estimate(key) + ObjectFootprintEstimator.estimate(value);
+
+  /**
+   * Avro serialized size of the key and value, which is more accurate with respect to the stored data but requires
+   * serializing every cached record. Objects which are not Avro records are weighed by their estimated footprint.
+   */
+  ObjectCacheWeigher SERIALIZED_SIZE = (key, value) -> serializedSize(key) + serializedSize(value);
+
+  /**
+   * @return the size of the entry in bytes.
+   */
+  long weigh(Object key, Object value);
+
+  static long serializedSize(Object object) {
+    if (object instanceof IndexedRecord) {
+      IndexedRecord record = (IndexedRecord) object;
+      return SerializerDeserializerFactory.getAvroGenericSerializer(record.getSchema()).serialize(record).length;
+    }
+    return ObjectFootprintEstimator.estimate(object);
+  }
+}
@@ -0,0 +1,94 @@
+package com.linkedin.davinci.store.cache.backend;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.util.Utf8;
+
+
+/**
+ * Rough estimation of the heap footprint of the deserialized Avro objects held by the object cache, assuming a 64-bit
+ * JVM with compressed oops. It only needs to be in the right ballpark to keep the memory used by the cache
+ * predictable, so it doesn't account for alignment or for objects shared between entries.
+ */
+public final class ObjectFootprintEstimator {
+  private static final int OBJECT_HEADER_SIZE = 16;
+  private static final int ARRAY_HEADER_SIZE = 16;
+  private static final int REFERENCE_SIZE = 4;
+  private static final int BOXED_PRIMITIVE_SIZE = 24;
+  private static final int COLLECTION_OVERHEAD = 40;
+  private static final int MAP_ENTRY_OVERHEAD = 32;
+  /**
+   * Nested structures deeper than this are charged as a single reference.
+   */
+  private static final int MAX_DEPTH = 32;
+
+  private ObjectFootprintEstimator() {
+  }
+
+  public static long estimate(Object object) {
+    return estimate(object, 0);
+  }
+
+  private static long estimate(Object object, int depth) {
+    if (object == null || depth > MAX_DEPTH) {
+      return 0;
+    }
+    if (object instanceof Utf8) {
+      return OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE + ARRAY_HEADER_SIZE + ((Utf8) object).getByteLength();
+    }
+    if (object instanceof String) {
+      return OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE + ARRAY_HEADER_SIZE + 2L * ((String) object).length();
+    }
+    if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+      return BOXED_PRIMITIVE_SIZE;
+    }
+    if (object instanceof ByteBuffer) {
+      ByteBuffer buffer = (ByteBuffer) object;
+      return OBJECT_HEADER_SIZE + 32 + (buffer.hasArray() ? ARRAY_HEADER_SIZE + buffer.capacity() : 0);
+    }
+    if (object instanceof byte[]) {
+      return ARRAY_HEADER_SIZE + ((byte[]) object).length;
+    }
+    if (object instanceof GenericFixed) {
+      return OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE + ARRAY_HEADER_SIZE + ((GenericFixed) object).bytes().length;
+    }
+    if (object instanceof GenericEnumSymbol) {
+      // Enum symbols are small and mostly interned
+      return OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE;
+    }
+    if (object instanceof IndexedRecord) {
+      IndexedRecord record = (IndexedRecord) object;
+      int fieldCount = record.getSchema().getFields().size();
+      long size = OBJECT_HEADER_SIZE + REFERENCE_SIZE + ARRAY_HEADER_SIZE + (long) fieldCount * REFERENCE_SIZE;
+      for (int i = 0; i < fieldCount; i++) {
+        size += estimate(record.get(i), depth + 1);
+      }
+      return size;
+    }
+    if (object instanceof PrimitiveFloatList) {
+      return COLLECTION_OVERHEAD + ARRAY_HEADER_SIZE + 4L * ((PrimitiveFloatList) object).size();
+    }
+    if (object instanceof Collection) {
+      Collection<?> collection = (Collection<?>) object;
+      long size = COLLECTION_OVERHEAD + ARRAY_HEADER_SIZE + (long) collection.size() * REFERENCE_SIZE;
+      for (Object element: collection) {
+        size += estimate(element, depth + 1);
+      }
+      return size;
+    }
+    if (object instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) object;
+      long size = COLLECTION_OVERHEAD + ARRAY_HEADER_SIZE + (long) map.size() * (REFERENCE_SIZE + MAP_ENTRY_OVERHEAD);
+      for (Map.Entry<?, ?> entry: map.entrySet()) {
+        size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+      }
+      return size;
+    }
+    return OBJECT_HEADER_SIZE;
+  }
+}
@@ -11,6 +11,11 @@ public class StoreCacheStats extends AbstractVeniceStats {
   private final Sensor cacheHitRate;
   private final Sensor cacheMissCount;
   private final Sensor cacheHitCount;
+  private final Sensor cacheHitBytes;
+  private final Sensor cacheMissBytes;
+  private final Sensor cacheEvictionCount;
+  private final Sensor cacheEvictedBytes;
+  private final Sensor cacheSizeInBytes;
   private VeniceStoreCache servingCache;
 
   public StoreCacheStats(MetricsRepository metricsRepository, String name) {
@@ -18,6 +23,11 @@ public class StoreCacheStats extends AbstractVeniceStats {
     cacheHitCount = registerSensor("cache_hit", new Gauge(this::getHitCount));
     cacheMissCount = registerSensor("cache_miss", new Gauge(this::getMissCount));
     cacheHitRate = registerSensor("cache_hit_rate", new Gauge(this::getHitRate));
+    cacheHitBytes = registerSensor("cache_hit_bytes", new Gauge(this::getHitBytes));
+    cacheMissBytes = registerSensor("cache_miss_bytes", new Gauge(this::getMissBytes));
+    cacheEvictionCount = registerSensor("cache_eviction", new Gauge(this::getEvictionCount));
+    cacheEvictedBytes = registerSensor("cache_evicted_bytes", new Gauge(this::getEvictedBytes));
+    cacheSizeInBytes = registerSensor("cache_size_in_bytes", new Gauge(this::getSizeInBytes));
   }
 
   public synchronized void registerServingCache(VeniceStoreCache cache) {
@@ -35,4 +45,24 @@ public class StoreCacheStats extends AbstractVeniceStats {
   public synchronized double getHitRate() {
     return servingCache == null ? 0 : servingCache.hitRate();
   }
+
+  public synchronized long getHitBytes() {
+    return servingCache == null ? 0 : servingCache.hitBytes();
+  }
+
+  public synchronized long getMissBytes() {
+    return servingCache == null ? 0 : servingCache.missBytes();
+  }
+
+  public synchronized long getEvictionCount() {
+    return servingCache == null ? 0 : servingCache.evictionCount();
+  }
+
+  public synchronized long getEvictedBytes() {
+    return servingCache == null ? 0 : servingCache.evictedBytes();
+  }
+
+  public synchronized long getSizeInBytes() {
+    return servingCache == null ? 0 : servingCache.sizeInBytes();
+  }
 }
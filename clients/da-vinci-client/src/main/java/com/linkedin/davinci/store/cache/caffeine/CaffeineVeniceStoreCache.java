@@ -88,4 +88,9 @@ public class CaffeineVeniceStoreCache implements VeniceStoreCache {
   public long missCount() {
     return caffeineCache.synchronous().stats().missCount();
   }
+
+  @Override
+  public long evictionCount() {
+    return caffeineCache.synchronous().stats().evictionCount();
+  }
 }
@@ -0,0 +1,135 @@
+package com.linkedin.davinci.store.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A single Caffeine cache bounded by a byte budget, shared by all the store versions of a Da Vinci process, so that
+ * the memory used by the object cache is predictable regardless of the size of the values and of the store mix.
+ *
+ * Each store version gets its own {@link WeightedCaffeineVeniceStoreCache} view, whose keys are namespaced by the
+ * version topic, and which keeps its own hit, miss and eviction stats.
+ */
+public class SharedWeightedCaffeineCache {
+  private final AsyncCache<NamespacedKey, WeightedValue> caffeineCache;
+  private final ObjectCacheConfig cacheConfig;
+  private final Map<String, WeightedCaffeineVeniceStoreCache> namespaceToStoreCacheMap =
+      new VeniceConcurrentHashMap<>();
+
+  public SharedWeightedCaffeineCache(ObjectCacheConfig cacheConfig) {
+    this.cacheConfig = cacheConfig;
+    long maxCacheSizeInBytes = cacheConfig.getMaxCacheSizeInBytes()
+        .orElseThrow(() -> new VeniceException("The byte budget of the object cache is not configured"));
+    Caffeine<NamespacedKey, WeightedValue> builder = Caffeine.newBuilder()
+        .maximumWeight(maxCacheSizeInBytes)
+        .weigher((NamespacedKey key, WeightedValue value) -> value.weight)
+        .removalListener(this::onRemoval);
+    cacheConfig.getTtlInMilliseconds().ifPresent(aLong -> builder.expireAfterWrite(aLong, TimeUnit.MILLISECONDS));
+    this.caffeineCache = builder.buildAsync();
+  }
+
+  /**
+   * @param namespace the version topic of the store version, which the keys are namespaced with.
+   */
+  public WeightedCaffeineVeniceStoreCache createStoreCache(
+      String namespace,
+      String storeName,
+      AsyncCacheLoader loadingFunction) {
+    WeightedCaffeineVeniceStoreCache storeCache = new WeightedCaffeineVeniceStoreCache(
+        this,
+        namespace,
+        loadingFunction,
+        cacheConfig.getWeigher(),
+        cacheConfig.getStoreWeight(storeName),
+        cacheConfig.getMaxEntrySizeInBytes(storeName));
+    namespaceToStoreCacheMap.put(namespace, storeCache);
+    return storeCache;
+  }
+
+  void removeStoreCache(String namespace, WeightedCaffeineVeniceStoreCache storeCache) {
+    namespaceToStoreCacheMap.remove(namespace, storeCache);
+  }
+
+  AsyncCache<NamespacedKey, WeightedValue> getCaffeineCache() {
+    return caffeineCache;
+  }
+
+  private void onRemoval(NamespacedKey key, WeightedValue value, RemovalCause cause) {
+    if (key == null || value == null) {
+      return;
+    }
+    WeightedCaffeineVeniceStoreCache storeCache = namespaceToStoreCacheMap.get(key.namespace);
+    if (storeCache != null) {
+      storeCache.onRemoval(value, cause.wasEvicted());
+    }
+  }
+
+  /**
+   * @return the total weight of the cached entries, which is bounded by the byte budget.
+   */
+  public long weightedSize() {
+    return caffeineCache.synchronous()
+        .policy()
+        .eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0))
+        .orElse(0L);
+  }
+
+  static final class NamespacedKey {
+    final String namespace;
+    final Object key;
+    private final int hashCode;
+
+    NamespacedKey(String namespace, Object key) {
+      this.namespace = namespace;
+      this.key = key;
+      this.hashCode = 31 * namespace.hashCode() + Objects.hashCode(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof NamespacedKey)) {
+        return false;
+      }
+      NamespacedKey that = (NamespacedKey) o;
+      return namespace.equals(that.namespace) && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  static final class WeightedValue {
+    final Object value;
+    /**
+     * Size of the entry in bytes, as computed by the weigher.
+     */
+    final long sizeInBytes;
+    /**
+     * Weight charged against the byte budget, which is the size scaled by the store weight.
+     */
+    final int weight;
+    final boolean admitted;
+
+    WeightedValue(Object value, long sizeInBytes, int weight, boolean admitted) {
+      this.value = value;
+      this.sizeInBytes = sizeInBytes;
+      this.weight = weight;
+      this.admitted = admitted;
+    }
+  }
+}
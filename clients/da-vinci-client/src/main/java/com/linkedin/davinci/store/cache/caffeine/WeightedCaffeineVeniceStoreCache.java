@@ -0,0 +1,302 @@
+package com.linkedin.davinci.store.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.linkedin.davinci.store.cache.VeniceStoreCache;
+import com.linkedin.davinci.store.cache.backend.ObjectCacheWeigher;
+import com.linkedin.davinci.store.cache.caffeine.SharedWeightedCaffeineCache.NamespacedKey;
+import com.linkedin.davinci.store.cache.caffeine.SharedWeightedCaffeineCache.WeightedValue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * The view of a single store version on a {@link SharedWeightedCaffeineCache}.
+ *
+ * Values are weighed once when they get cached, and the ones bigger than the admission limit of the store are handed
+ * back to the caller without being kept in the cache.
+ */
+public class WeightedCaffeineVeniceStoreCache implements VeniceStoreCache {
+  /**
+   * Rough per entry overhead of the cache itself: the Caffeine node, the future, the namespaced key and the weighted
+   * value wrapper.
+   */
+  static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+
+  private final SharedWeightedCaffeineCache sharedCache;
+  private final AsyncCache<NamespacedKey, WeightedValue> caffeineCache;
+  private final String namespace;
+  private final AsyncCacheLoader loadingFunction;
+  private final ObjectCacheWeigher weigher;
+  private final double storeWeight;
+  private final Optional<Long> maxEntrySizeInBytes;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder hitBytes = new LongAdder();
+  private final LongAdder missBytes = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder evictedBytes = new LongAdder();
+  private final LongAdder sizeInBytes = new LongAdder();
+
+  WeightedCaffeineVeniceStoreCache(
+      SharedWeightedCaffeineCache sharedCache,
+      String namespace,
+      AsyncCacheLoader loadingFunction,
+      ObjectCacheWeigher weigher,
+      double storeWeight,
+      Optional<Long> maxEntrySizeInBytes) {
+    this.sharedCache = sharedCache;
+    this.caffeineCache = sharedCache.getCaffeineCache();
+    this.namespace = namespace;
+    this.loadingFunction = loadingFunction;
+    this.weigher = weigher;
+    this.storeWeight = storeWeight;
+    this.maxEntrySizeInBytes = maxEntrySizeInBytes;
+  }
+
+  private NamespacedKey toNamespacedKey(Object key) {
+    return new NamespacedKey(namespace, key);
+  }
+
+  private WeightedValue weigh(Object key, Object value) {
+    if (value == null) {
+      return null;
+    }
+    long size = weigher.weigh(key, value) + ENTRY_OVERHEAD_IN_BYTES;
+    int weight = (int) Math.min(Integer.MAX_VALUE, Math.max(1, Math.round(size / storeWeight)));
+    boolean admitted = !maxEntrySizeInBytes.isPresent() || size <= maxEntrySizeInBytes.get();
+    return new WeightedValue(value, size, weight, admitted);
+  }
+
+  /**
+   * Accounts for a value which has just been loaded into the cache, and takes it out right away if it's not admitted.
+   */
+  private void onLoaded(NamespacedKey key, WeightedValue value) {
+    missBytes.add(value.sizeInBytes);
+    sizeInBytes.add(value.sizeInBytes);
+    if (!value.admitted) {
+      caffeineCache.synchronous().asMap().remove(key, value);
+    }
+  }
+
+  void onRemoval(WeightedValue value, boolean evicted) {
+    sizeInBytes.add(-value.sizeInBytes);
+    if (evicted) {
+      evictionCount.increment();
+      evictedBytes.add(value.sizeInBytes);
+    }
+  }
+
+  private <V> CompletableFuture<V> recordAccess(
+      NamespacedKey key,
+      CompletableFuture<WeightedValue> future,
+      boolean loaded) {
+    if (loaded) {
+      missCount.increment();
+    } else {
+      hitCount.increment();
+    }
+    return future.thenApply(value -> {
+      if (value == null) {
+        return null;
+      }
+      if (loaded) {
+        onLoaded(key, value);
+      } else {
+        hitBytes.add(value.sizeInBytes);
+      }
+      return (V) value.value;
+    });
+  }
+
+  @Override
+  public <K, V> V getIfPresent(K key) {
+    WeightedValue value = caffeineCache.synchronous().getIfPresent(toNamespacedKey(key));
+    if (value == null) {
+      missCount.increment();
+      return null;
+    }
+    hitCount.increment();
+    hitBytes.add(value.sizeInBytes);
+    return (V) value.value;
+  }
+
+  @Override
+  public <K, V> Map<K, V> getAllPresent(Iterable<K> keys) {
+    List<NamespacedKey> namespacedKeys = new ArrayList<>();
+    for (K key: keys) {
+      namespacedKeys.add(toNamespacedKey(key));
+    }
+    Map<NamespacedKey, WeightedValue> values = caffeineCache.synchronous().getAllPresent(namespacedKeys);
+    Map<K, V> result = new HashMap<>(values.size());
+    for (Map.Entry<NamespacedKey, WeightedValue> entry: values.entrySet()) {
+      hitBytes.add(entry.getValue().sizeInBytes);
+      result.put((K) entry.getKey().key, (V) entry.getValue().value);
+    }
+    hitCount.add(result.size());
+    missCount.add(namespacedKeys.size() - result.size());
+    return result;
+  }
+
+  @Override
+  public <K, V> CompletableFuture<V> get(K key) {
+    NamespacedKey namespacedKey = toNamespacedKey(key);
+    boolean[] loaded = new boolean[1];
+    CompletableFuture<WeightedValue> future = caffeineCache.get(namespacedKey, (k, executor) -> {
+      loaded[0] = true;
+      CompletableFuture<V> loadingFuture;
+      try {
+        loadingFuture = loadingFunction.asyncLoad(key, executor);
+      } catch (Exception e) {
+        loadingFuture = new CompletableFuture<>();
+        loadingFuture.completeExceptionally(e);
+      }
+      return loadingFuture.thenApply(value -> weigh(key, value));
+    });
+    return recordAccess(namespacedKey, future, loaded[0]);
+  }
+
+  @Override
+  public <K, V> CompletableFuture<V> get(K key, Function<K, V> mappingFunction) {
+    NamespacedKey namespacedKey = toNamespacedKey(key);
+    boolean[] loaded = new boolean[1];
+    CompletableFuture<WeightedValue> future = caffeineCache.get(namespacedKey, (k, executor) -> {
+      loaded[0] = true;
+      return CompletableFuture.supplyAsync(() -> weigh(key, mappingFunction.apply(key)), executor);
+    });
+    return recordAccess(namespacedKey, future, loaded[0]);
+  }
+
+  @Override
+  public <K, V> CompletableFuture<Map<K, V>> getAll(
+      Iterable<K> keys,
+      Function<Iterable<K>, Map<K, V>> mappingFunction) {
+    List<NamespacedKey> namespacedKeys = new ArrayList<>();
+    for (K key: keys) {
+      namespacedKeys.add(toNamespacedKey(key));
+    }
+    Set<NamespacedKey> loadedKeys = ConcurrentHashMap.newKeySet();
+    CompletableFuture<Map<NamespacedKey, WeightedValue>> future = caffeineCache.getAll(namespacedKeys, missingKeys -> {
+      List<K> keysToLoad = new ArrayList<>();
+      for (NamespacedKey namespacedKey: missingKeys) {
+        loadedKeys.add(namespacedKey);
+        keysToLoad.add((K) namespacedKey.key);
+      }
+      Map<K, V> loadedValues = mappingFunction.apply(keysToLoad);
+      Map<NamespacedKey, WeightedValue> result = new HashMap<>(loadedValues.size());
+      for (Map.Entry<K, V> entry: loadedValues.entrySet()) {
+        WeightedValue value = weigh(entry.getKey(), entry.getValue());
+        if (value != null) {
+          result.put(toNamespacedKey(entry.getKey()), value);
+        }
+      }
+      return result;
+    });
+    return future.thenApply(values -> {
+      Map<K, V> result = new HashMap<>(values.size());
+      for (Map.Entry<NamespacedKey, WeightedValue> entry: values.entrySet()) {
+        NamespacedKey namespacedKey = entry.getKey();
+        WeightedValue value = entry.getValue();
+        if (loadedKeys.contains(namespacedKey)) {
+          onLoaded(namespacedKey, value);
+        } else {
+          hitBytes.add(value.sizeInBytes);
+        }
+        result.put((K) namespacedKey.key, (V) value.value);
+      }
+      missCount.add(loadedKeys.size());
+      hitCount.add(namespacedKeys.size() - loadedKeys.size());
+      return result;
+    });
+  }
+
+  @Override
+  public <K, V> void insert(K key, V value) {
+    WeightedValue weightedValue = weigh(key, value);
+    if (weightedValue == null || !weightedValue.admitted) {
+      // Don't keep serving a stale value
+      invalidate(key);
+      return;
+    }
+    sizeInBytes.add(weightedValue.sizeInBytes);
+    caffeineCache.put(toNamespacedKey(key), CompletableFuture.completedFuture(weightedValue));
+  }
+
+  @Override
+  public <K> void invalidate(K key) {
+    caffeineCache.synchronous().invalidate(toNamespacedKey(key));
+  }
+
+  /**
+   * Walks through the whole shared cache, which is fine for the infrequent clean up of a store version.
+   */
+  @Override
+  public void clear() {
+    caffeineCache.synchronous().asMap().keySet().removeIf(key -> key.namespace.equals(namespace));
+  }
+
+  @Override
+  public void close() {
+    caffeineCache.synchronous().cleanUp();
+    sharedCache.removeStoreCache(namespace, this);
+  }
+
+  /**
+   * Walks through the whole shared cache, so it should not be called in the hot path.
+   */
+  @Override
+  public long size() {
+    return caffeineCache.synchronous().asMap().keySet().stream().filter(key -> key.namespace.equals(namespace)).count();
+  }
+
+  @Override
+  public double hitRate() {
+    long hits = hitCount();
+    long requests = hits + missCount();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  @Override
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  @Override
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  @Override
+  public long hitBytes() {
+    return hitBytes.sum();
+  }
+
+  @Override
+  public long missBytes() {
+    return missBytes.sum();
+  }
+
+  @Override
+  public long evictionCount() {
+    return evictionCount.sum();
+  }
+
+  @Override
+  public long evictedBytes() {
+    return evictedBytes.sum();
+  }
+
+  @Override
+  public long sizeInBytes() {
+    return sizeInBytes.sum();
+  }
+}
@@ -7,6 +7,8 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -62,26 +64,38 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  /**
+   * Like the regular writes, the writes with replication metadata only take the read lock of {@link #readCloseRWLock}
+   * unless the partition is in deferred-write mode.
+   */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    if (deferredWrite) {
+      putWithReplicationMetadataToSSTFiles(key, value, metadata);
+      return;
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsWritable();
+      try (WriteBatch writeBatch = new WriteBatch()) {
+        writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+        writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
+        rocksDB.write(writeOptions, writeBatch);
+      }
+    } catch (RocksDBException e) {
       throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+          "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
+  }
 
+  private synchronized void putWithReplicationMetadataToSSTFiles(byte[] key, byte[] value, byte[] metadata) {
+    makeSureRocksDBIsWritable();
     try {
-      if (deferredWrite) {
-        super.put(key, value);
-        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
-      } else {
-        try (WriteBatch writeBatch = new WriteBatch()) {
-          writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
-          writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
-          rocksDB.write(writeOptions, writeBatch);
-        }
-      }
+      super.put(key, value);
+      rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
     } catch (RocksDBException e) {
       throw new VeniceException(
           "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
@@ -106,7 +120,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * TODO: Rewrite this implementation after we adopt the thread-local direct bytebuffer approach.
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
     byte[] valueBytes = ByteUtils.extractByteArray(value);
     putWithReplicationMetadata(key, valueBytes, metadata);
   }
@@ -125,34 +139,57 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  @Override
+  public List<byte[]> multiGetReplicationMetadata(List<byte[]> keys) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return rocksDB.multiGetAsList(
+          READ_OPTIONS_DEFAULT,
+          Collections.nCopies(keys.size(), columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX)),
+          keys);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to multi-get replication metadata from store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
   @Override
-  public synchronized void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+    if (deferredWrite) {
+      deleteWithReplicationMetadataInSSTFiles(key, replicationMetadata);
+      return;
     }
+    readCloseRWLock.readLock().lock();
     try {
-      if (deferredWrite) {
-        // Just update the RMD for deletion during repush
-        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
-      } else {
-        try (WriteBatch writeBatch = new WriteBatch()) {
-          writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
-          writeBatch
-              .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
-          rocksDB.write(writeOptions, writeBatch);
-        }
+      makeSureRocksDBIsWritable();
+      try (WriteBatch writeBatch = new WriteBatch()) {
+        writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
+        rocksDB.write(writeOptions, writeBatch);
       }
     } catch (RocksDBException e) {
-      String msg = deferredWrite
-          ? "Failed to put metadata while deleing key for store: " + storeName + ", partition id: " + partitionId
-          : "Failed to delete entry to store: " + storeName + ", partition id: " + partitionId;
-      throw new VeniceException(msg, e);
+      throw new VeniceException("Failed to delete entry to store: " + storeName + ", partition id: " + partitionId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  private synchronized void deleteWithReplicationMetadataInSSTFiles(byte[] key, byte[] replicationMetadata) {
+    makeSureRocksDBIsWritable();
+    try {
+      // Just update the RMD for deletion during repush
+      rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to put metadata while deleing key for store: " + storeName + ", partition id: " + partitionId,
+          e);
     }
   }
 
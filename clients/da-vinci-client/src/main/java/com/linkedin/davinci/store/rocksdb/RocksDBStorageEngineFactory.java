@@ -16,6 +16,8 @@ import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import java.io.File;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -24,6 +26,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.Cache;
@@ -62,6 +65,9 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final Cache sharedCache;
   private Cache sharedRMDCache;
   private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
+  // Guards the opening of the storage engine of each store version
+  private final ResourceAutoClosableLockManager<String> storeVersionLockManager =
+      new ResourceAutoClosableLockManager<>(ReentrantLock::new);
   private final Optional<Statistics> aggStatistics;
 
   /**
@@ -199,33 +205,49 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   }
 
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
     return getStorageEngine(storeConfig, false);
   }
 
+  /**
+   * The storage engine is built while holding the lock of its store version instead of the lock of this factory, since
+   * opening all its partitions can take a while, so that the storage engines of different store versions can be opened
+   * concurrently during restore, while a given store version is only opened once. The concurrent RocksDB open
+   * operations are bounded by {@link #rocksDBThrottler}.
+   */
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(
+  public AbstractStorageEngine getStorageEngine(
       VeniceStoreVersionConfig storeConfig,
       boolean replicationMetadataEnabled) throws StorageInitializationException {
     verifyPersistenceType(storeConfig);
     final String storeName = storeConfig.getStoreVersionName();
-    try {
-      storageEngineMap.putIfAbsent(
-          storeName,
-          new RocksDBStorageEngine(
-              storeConfig,
-              this,
-              rocksDBPath,
-              rocksDBMemoryStats,
-              rocksDBThrottler,
-              rocksDBServerConfig,
-              storeVersionStateSerializer,
-              partitionStateSerializer,
-              replicationMetadataEnabled));
-      return storageEngineMap.get(storeName);
-    } catch (Exception e) {
-      throw new StorageInitializationException(e);
+    try (AutoCloseableLock ignore = storeVersionLockManager.getLockForResource(storeName)) {
+      synchronized (this) {
+        RocksDBStorageEngine storageEngine = storageEngineMap.get(storeName);
+        if (storageEngine != null) {
+          return storageEngine;
+        }
+      }
+      RocksDBStorageEngine storageEngine;
+      try {
+        storageEngine = new RocksDBStorageEngine(
+            storeConfig,
+            this,
+            rocksDBPath,
+            rocksDBMemoryStats,
+            rocksDBThrottler,
+            rocksDBServerConfig,
+            storeVersionStateSerializer,
+            partitionStateSerializer,
+            replicationMetadataEnabled);
+      } catch (Exception e) {
+        throw new StorageInitializationException(e);
+      }
+      synchronized (this) {
+        storageEngineMap.put(storeName, storageEngine);
+      }
+      return storageEngine;
     }
   }
 
@@ -5,6 +5,7 @@ import static com.linkedin.davinci.store.AbstractStorageEngine.METADATA_PARTITIO
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.PartitionWriteBatch;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
@@ -42,6 +43,7 @@ import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -82,9 +84,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   private boolean isClosed = false;
   /**
-   * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
-   * to guard RocksDB closing behavior.
-   * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * Guards the RocksDB handle against the lifecycle operations closing or reopening it, which take the write lock.
+   * Reads and regular writes only take the read lock, so that they can run concurrently and rely on the thread-safety
+   * of RocksDB. The writes of deferred-write mode and the other lifecycle operations, such as SST file ingestion and
+   * {@link #sync}, are still synchronized on the partition, since {@link SstFileWriter} is not thread-safe.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
@@ -381,32 +384,53 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     rocksDBSstFileWritter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
   }
 
+  /**
+   * Should be invoked while holding either the read lock of {@link #readCloseRWLock} or the monitor of the partition.
+   */
+  protected void makeSureRocksDBIsWritable() {
+    makeSureRocksDBIsStillOpen();
+    if (readOnly) {
+      throw new VeniceException(
+          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
+              + partitionId);
+    }
+  }
+
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    if (deferredWrite) {
+      putToSSTFile(key, valueBuffer);
+      return;
+    }
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsWritable();
+      rocksDB.put(
+          writeOptions,
+          key,
+          0,
+          key.length,
+          valueBuffer.array(),
+          valueBuffer.position(),
+          valueBuffer.remaining());
+    } catch (RocksDBException e) {
       throw new VeniceException(
-          "Cannot make writes while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
+          "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
+  }
+
+  private synchronized void putToSSTFile(byte[] key, ByteBuffer valueBuffer) {
+    makeSureRocksDBIsWritable();
     try {
-      if (deferredWrite) {
-        rocksDBSstFileWritter.put(key, valueBuffer);
-      } else {
-        rocksDB.put(
-            writeOptions,
-            key,
-            0,
-            key.length,
-            valueBuffer.array(),
-            valueBuffer.position(),
-            valueBuffer.remaining());
-      }
+      rocksDBSstFileWritter.put(key, valueBuffer);
     } catch (RocksDBException e) {
       throw new VeniceException(
           "Failed to put key/value pair to store: " + storeName + ", partition id: " + partitionId,
@@ -480,6 +504,26 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Looks up all the keys with a single native {@link RocksDB#multiGetAsList} call, which crosses JNI once for the
+   * whole batch and lets RocksDB sort the keys and coalesce the block lookups of keys sharing the same data block.
+   */
+  @Override
+  public List<byte[]> multiGet(List<byte[]> keys, boolean skipCache) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return rocksDB.multiGetAsList(getReadOptions(skipCache), keys);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to get values of " + keys.size() + " keys from store: " + storeName + ", partition id: "
+              + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
@@ -542,14 +586,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void delete(byte[] key) {
-    makeSureRocksDBIsStillOpen();
-    if (readOnly) {
-      throw new VeniceException(
-          "Cannot make deletion while partition is opened in read-only mode" + ", partition=" + storeName + "_"
-              + partitionId);
-    }
+  public void delete(byte[] key) {
+    readCloseRWLock.readLock().lock();
     try {
+      makeSureRocksDBIsWritable();
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
       } else {
@@ -559,6 +599,40 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       throw new VeniceException(
           "Failed to delete entry from store: " + storeName + ", partition id: " + partitionId,
           e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Persists the whole batch with a single {@link RocksDB#write}, which only goes through the write path of RocksDB
+   * once. Batches are applied one record at a time in 'deferredWrite' mode, since they end up in SST files anyway.
+   */
+  @Override
+  public void write(PartitionWriteBatch batch) {
+    if (deferredWrite) {
+      super.write(batch);
+      return;
+    }
+    readCloseRWLock.readLock().lock();
+    try (WriteBatch writeBatch = new WriteBatch()) {
+      makeSureRocksDBIsWritable();
+      for (int i = 0; i < batch.getRecordCount(); i++) {
+        byte[] value = batch.getValue(i);
+        if (value == null) {
+          writeBatch.delete(batch.getKey(i));
+        } else {
+          writeBatch.put(batch.getKey(i), value);
+        }
+      }
+      rocksDB.write(writeOptions, writeBatch);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to write a batch of " + batch.getRecordCount() + " records to store: " + storeName
+              + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
     }
   }
 
@@ -841,11 +915,16 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
           /**
            * Guard the critical section for closing/re-opening database.
            */
-          rocksDB.close();
-          // Reopen the database with auto compaction on
-          this.options.setDisableAutoCompactions(false);
-          rocksDB =
-              rocksDBThrottler.open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+          readCloseRWLock.writeLock().lock();
+          try {
+            rocksDB.close();
+            // Reopen the database with auto compaction on
+            this.options.setDisableAutoCompactions(false);
+            rocksDB = rocksDBThrottler
+                .open(options, fullPathForPartitionDB, columnFamilyDescriptors, columnFamilyHandleList);
+          } finally {
+            readCloseRWLock.writeLock().unlock();
+          }
         }
         dbCompactFuture.complete(null);
         LOGGER.info(
@@ -0,0 +1,201 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ActiveActiveStoreIngestionTaskTest {
+  private static final String STORE_NAME = "test_store";
+  private static final int SUB_PARTITION = 0;
+  private static final int KEY_COUNT = 6;
+  // The values of the odd keys are stored in another sub-partition, as with an amplification factor
+  private static final ToIntFunction<byte[]> KEY_TO_SUB_PARTITION = key -> SUB_PARTITION + key[key.length - 1] % 2;
+
+  @Test
+  public void testBatchLookupOfPrefetchedRecords() {
+    AbstractStorageEngine storageEngine = getStorageEngine();
+    List<byte[]> rmds = new ArrayList<>(KEY_COUNT);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      // The last key does not exist
+      rmds.add(i == KEY_COUNT - 1 ? null : getRmd(i));
+    }
+    doReturn(rmds).when(storageEngine).multiGetReplicationMetadata(eq(SUB_PARTITION), anyList());
+
+    PartitionConsumptionState pcs = new PartitionConsumptionState(SUB_PARTITION, 1, mock(OffsetRecord.class), true);
+    List<byte[]> keys = new ArrayList<>(KEY_COUNT);
+    List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords = new ArrayList<>(KEY_COUNT);
+    registerPrefetchedRecords(pcs, keys, prefetchedRecords);
+
+    lookUpPrefetchedRecords(storageEngine, keys, prefetchedRecords);
+
+    // A single lookup of the values per sub-partition, and a single lookup of the RMDs, for the whole batch
+    verify(storageEngine, times(1)).multiGet(eq(SUB_PARTITION), anyList(), anyBoolean());
+    verify(storageEngine, times(1)).multiGet(eq(SUB_PARTITION + 1), anyList(), anyBoolean());
+    verify(storageEngine, times(1)).multiGetReplicationMetadata(SUB_PARTITION, keys);
+    verify(storageEngine, never()).get(anyInt(), any(byte[].class), anyBoolean());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class), anyBoolean());
+    verify(storageEngine, never()).getReplicationMetadata(anyInt(), any());
+
+    for (int i = 0; i < KEY_COUNT; i++) {
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord = pcs.getPrefetchedRecord(keys.get(i));
+      Assert.assertNotNull(prefetchedRecord);
+      Assert.assertTrue(prefetchedRecord.isValueReady());
+      Assert.assertTrue(prefetchedRecord.isReplicationMetadataReady());
+      if (i == KEY_COUNT - 1) {
+        // A missing key is prefetched as such, so that it is not looked up again
+        Assert.assertNull(prefetchedRecord.getValue());
+        Assert.assertNull(prefetchedRecord.getReplicationMetadataWithValueSchemaBytes());
+      } else {
+        Assert.assertEquals(ByteUtils.extractByteArray(prefetchedRecord.getValue()), getValue(i));
+        Assert.assertEquals(prefetchedRecord.getReplicationMetadataWithValueSchemaBytes(), getRmd(i));
+      }
+    }
+  }
+
+  @Test
+  public void testFailedValueLookupFallsBackToPerRecordLookup() {
+    AbstractStorageEngine storageEngine = getStorageEngine();
+    doThrow(new VeniceException("Failed value lookup")).when(storageEngine)
+        .multiGet(eq(SUB_PARTITION + 1), anyList(), anyBoolean());
+
+    PartitionConsumptionState pcs = new PartitionConsumptionState(SUB_PARTITION, 1, mock(OffsetRecord.class), true);
+    List<byte[]> keys = new ArrayList<>(KEY_COUNT);
+    List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords = new ArrayList<>(KEY_COUNT);
+    registerPrefetchedRecords(pcs, keys, prefetchedRecords);
+
+    Assert.assertThrows(VeniceException.class, () -> lookUpPrefetchedRecords(storageEngine, keys, prefetchedRecords));
+
+    // The RMDs are not looked up after a failure, so every key falls back to the per-record RMD lookup
+    verify(storageEngine, never()).multiGetReplicationMetadata(anyInt(), anyList());
+    for (int i = 0; i < KEY_COUNT; i++) {
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord = pcs.getPrefetchedRecord(keys.get(i));
+      if (KEY_TO_SUB_PARTITION.applyAsInt(keys.get(i)) == SUB_PARTITION) {
+        // The values of this sub-partition may have been prefetched before the failure
+        if (prefetchedRecord != null) {
+          Assert.assertTrue(prefetchedRecord.isValueReady());
+          Assert.assertFalse(prefetchedRecord.isReplicationMetadataReady());
+        }
+      } else {
+        // Missed by the prefetch, so the value is looked up on its own
+        Assert.assertNull(prefetchedRecord);
+      }
+    }
+  }
+
+  @Test
+  public void testFailedRmdLookupFallsBackToPerRecordLookup() {
+    AbstractStorageEngine storageEngine = getStorageEngine();
+    doThrow(new VeniceException("Failed RMD lookup")).when(storageEngine)
+        .multiGetReplicationMetadata(eq(SUB_PARTITION), anyList());
+
+    PartitionConsumptionState pcs = new PartitionConsumptionState(SUB_PARTITION, 1, mock(OffsetRecord.class), true);
+    List<byte[]> keys = new ArrayList<>(KEY_COUNT);
+    List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords = new ArrayList<>(KEY_COUNT);
+    registerPrefetchedRecords(pcs, keys, prefetchedRecords);
+
+    Assert.assertThrows(VeniceException.class, () -> lookUpPrefetchedRecords(storageEngine, keys, prefetchedRecords));
+
+    // The values are served from the prefetched records, while the RMDs fall back to the per-record lookup
+    for (int i = 0; i < KEY_COUNT; i++) {
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord = pcs.getPrefetchedRecord(keys.get(i));
+      Assert.assertNotNull(prefetchedRecord);
+      Assert.assertTrue(prefetchedRecord.isValueReady());
+      Assert.assertFalse(prefetchedRecord.isReplicationMetadataReady());
+    }
+  }
+
+  private static void lookUpPrefetchedRecords(
+      AbstractStorageEngine storageEngine,
+      List<byte[]> keys,
+      List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords) {
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    doReturn(new SchemaEntry(1, "\"string\"")).when(schemaRepository).getSupersetOrLatestValueSchema(STORE_NAME);
+    ActiveActiveStoreIngestionTask.lookUpPrefetchedRecords(
+        storageEngine,
+        SUB_PARTITION,
+        keys,
+        prefetchedRecords,
+        KEY_TO_SUB_PARTITION,
+        false,
+        CompressionStrategy.NO_OP,
+        true,
+        schemaRepository,
+        STORE_NAME,
+        new NoopCompressor());
+  }
+
+  private static void registerPrefetchedRecords(
+      PartitionConsumptionState pcs,
+      List<byte[]> keys,
+      List<PartitionConsumptionState.PrefetchedRecord> prefetchedRecords) {
+    for (int i = 0; i < KEY_COUNT; i++) {
+      byte[] key = getKey(i);
+      keys.add(key);
+      prefetchedRecords.add(pcs.registerPrefetchedRecord(key));
+    }
+  }
+
+  /**
+   * @return a storage engine mock serving the values of all the keys but the last one with multi-key lookups.
+   */
+  private static AbstractStorageEngine getStorageEngine() {
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    for (int i = 0; i < KEY_COUNT - 1; i++) {
+      byte[] value = getValue(i);
+      byte[] valueWithHeader = new byte[value.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+      ByteUtils.writeInt(valueWithHeader, 1, 0);
+      System.arraycopy(value, 0, valueWithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, value.length);
+      storedValues.put(ByteBuffer.wrap(getKey(i)), valueWithHeader);
+    }
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        values.add(storedValues.get(ByteBuffer.wrap(key)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), anyList(), anyBoolean());
+    return storageEngine;
+  }
+
+  private static byte[] getKey(int i) {
+    return new byte[] { 107, (byte) i };
+  }
+
+  private static byte[] getValue(int i) {
+    return new byte[] { 118, (byte) i };
+  }
+
+  private static byte[] getRmd(int i) {
+    return new byte[] { 0, 0, 0, 1, (byte) i };
+  }
+}
@@ -2,6 +2,8 @@ package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.venice.common.Measurable;
 import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.Assert;
@@ -75,6 +77,25 @@ public class MemoryBoundBlockingQueueTest {
     }
   }
 
+  @Test
+  public void testDrainTo() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(memoryCap, 1000);
+    int objectCnt = 20;
+    for (int i = 0; i < objectCnt; ++i) {
+      queue.put(new MeasurableObject());
+    }
+    List<MeasurableObject> drainedObjects = new ArrayList<>();
+    Assert.assertEquals(queue.drainTo(drainedObjects, 15), 15);
+    Assert.assertEquals(drainedObjects.size(), 15);
+    Assert.assertEquals(queue.size(), objectCnt - 15);
+    Assert.assertEquals(queue.drainTo(drainedObjects, 15), objectCnt - 15);
+    Assert.assertEquals(queue.size(), 0);
+    Assert.assertEquals(queue.drainTo(drainedObjects, 15), 0);
+    // The memory of the drained objects is given back once it exceeds the notify delta
+    Assert.assertEquals(queue.getMemoryUsage(), 0);
+  }
+
   @Test
   public void testThrottling() throws InterruptedException {
     int memoryCap = 5000;
@@ -0,0 +1,229 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.common.Measurable;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MemoryBoundRingBufferTest {
+  private static class MeasurableObject implements Measurable {
+    public static final int SIZE = 10;
+    private final int producerId;
+    private final int sequence;
+
+    MeasurableObject() {
+      this(0, 0);
+    }
+
+    MeasurableObject(int producerId, int sequence) {
+      this.producerId = producerId;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int getSize() {
+      return SIZE;
+    }
+  }
+
+  private static final int OBJECT_SIZE_IN_BUFFER =
+      MemoryBoundRingBuffer.RING_BUFFER_SLOT_OVERHEAD_IN_BYTE + MeasurableObject.SIZE;
+
+  @Test
+  public void testPut() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(memoryCap, 1000, 1024);
+    int objectCntAtMost = memoryCap / OBJECT_SIZE_IN_BUFFER;
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          buffer.put(new MeasurableObject());
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), objectCntAtMost);
+      });
+      Assert.assertEquals(buffer.getMemoryUsage(), objectCntAtMost * OBJECT_SIZE_IN_BUFFER);
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testPutBoundedBySlots() throws InterruptedException {
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(5000, 1000, 10);
+    // Slot count is rounded up to a power of two
+    Assert.assertEquals(buffer.getSlotCount(), 16);
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          buffer.put(new MeasurableObject());
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), 16);
+      });
+      // Freeing one slot lets exactly one more record in
+      Assert.assertNotNull(buffer.take());
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> Assert.assertEquals(buffer.size(), 16));
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testTake() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(memoryCap, 1000, 1024);
+    int objectCntAtMost = memoryCap / OBJECT_SIZE_IN_BUFFER;
+    for (int i = 0; i < objectCntAtMost; ++i) {
+      buffer.put(new MeasurableObject());
+    }
+    AtomicInteger objectTakenNum = new AtomicInteger(0);
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          buffer.take();
+          objectTakenNum.addAndGet(1);
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(objectTakenNum.get(), objectCntAtMost);
+        Assert.assertEquals(buffer.size(), 0);
+      });
+      // The blocked consumer should be woken up by new records
+      buffer.put(new MeasurableObject());
+      TestUtils.waitForNonDeterministicAssertion(
+          5,
+          TimeUnit.SECONDS,
+          () -> Assert.assertEquals(objectTakenNum.get(), objectCntAtMost + 1));
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testThrottling() throws InterruptedException {
+    int memoryCap = 5000;
+    int notifyDelta = 1000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(memoryCap, notifyDelta, 1024);
+    int objectCntAtMost = memoryCap / OBJECT_SIZE_IN_BUFFER;
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          buffer.put(new MeasurableObject());
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), objectCntAtMost);
+      });
+
+      int previousBufferSize = buffer.size();
+      // Here we need to take out some objects to allow more put
+      double objectCntTakenAtLeast = Math.ceil((double) notifyDelta / OBJECT_SIZE_IN_BUFFER);
+      for (int i = 1; i < objectCntTakenAtLeast; ++i) {
+        buffer.take();
+        Assert.assertEquals(buffer.size(), previousBufferSize - 1);
+        --previousBufferSize;
+      }
+      // This will trigger a notification, which will allow more puts
+      buffer.take();
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(buffer.size(), objectCntAtMost);
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
+
+  @Test
+  public void testDrainTo() throws InterruptedException {
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(5000, 26, 1024);
+    for (int i = 0; i < 10; ++i) {
+      buffer.put(new MeasurableObject(0, i));
+    }
+    List<MeasurableObject> drained = new ArrayList<>();
+    Assert.assertEquals(buffer.drainTo(drained, 4), 4);
+    Assert.assertEquals(buffer.drainTo(drained), 6);
+    Assert.assertEquals(buffer.drainTo(drained), 0);
+    Assert.assertTrue(buffer.isEmpty());
+    Assert.assertEquals(buffer.getMemoryUsage(), 0);
+    for (int i = 0; i < 10; ++i) {
+      Assert.assertEquals(drained.get(i).sequence, i);
+    }
+  }
+
+  @Test(timeOut = 60 * 1000)
+  public void testMultipleProducersKeepPerProducerOrder() throws InterruptedException {
+    int producerCount = 4;
+    int recordCountPerProducer = 10000;
+    MemoryBoundRingBuffer<MeasurableObject> buffer = new MemoryBoundRingBuffer<>(2000, 100, 32);
+    List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < producerCount; ++p) {
+      int producerId = p;
+      Thread t = new Thread(() -> {
+        for (int i = 0; i < recordCountPerProducer; ++i) {
+          try {
+            buffer.put(new MeasurableObject(producerId, i));
+          } catch (InterruptedException e) {
+            break;
+          }
+        }
+      });
+      producers.add(t);
+      t.start();
+    }
+
+    int[] nextSequence = new int[producerCount];
+    List<MeasurableObject> batch = new ArrayList<>();
+    int consumed = 0;
+    try {
+      while (consumed < producerCount * recordCountPerProducer) {
+        batch.add(buffer.take());
+        buffer.drainTo(batch, 50);
+        for (MeasurableObject record: batch) {
+          Assert.assertEquals(record.sequence, nextSequence[record.producerId]++);
+        }
+        consumed += batch.size();
+        batch.clear();
+      }
+    } finally {
+      for (Thread t: producers) {
+        TestUtils.shutdownThread(t);
+      }
+    }
+    Assert.assertTrue(buffer.isEmpty());
+  }
+}
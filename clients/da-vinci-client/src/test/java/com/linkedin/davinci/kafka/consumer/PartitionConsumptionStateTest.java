@@ -4,6 +4,7 @@ import static org.mockito.Mockito.mock;
 
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import java.nio.ByteBuffer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -61,4 +62,45 @@ public class PartitionConsumptionStateTest {
     Assert.assertEquals(pcs.getTransientRecordMapSize(), 1);
 
   }
+
+  /**
+   * Test that prefetched records are only visible once filled in, and are invalidated by newer transient records.
+   */
+  @Test
+  public void testPrefetchedRecordMap() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+
+    byte[] key1 = new byte[] { 65, 66, 67, 68 };
+    byte[] key2 = new byte[] { 65, 66, 67, 69 };
+    byte[] value1 = new byte[] { 97, 98, 99 };
+    byte[] rmd1 = new byte[] { 0, 0, 0, 1, 100 };
+
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord = pcs.registerPrefetchedRecord(key1);
+    Assert.assertNotNull(prefetchedRecord);
+    // A key can only be registered once
+    Assert.assertNull(pcs.registerPrefetchedRecord(key1));
+    // Not visible until filled in
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+    prefetchedRecord.setValue(ByteBuffer.wrap(value1));
+    Assert.assertSame(pcs.getPrefetchedRecord(key1), prefetchedRecord);
+    Assert.assertTrue(prefetchedRecord.isValueReady());
+    Assert.assertFalse(prefetchedRecord.isReplicationMetadataReady());
+    prefetchedRecord.setReplicationMetadataWithValueSchemaBytes(rmd1);
+    Assert.assertEquals(pcs.getPrefetchedRecord(key1).getReplicationMetadataWithValueSchemaBytes(), rmd1);
+
+    // A newer transient record invalidates the prefetched record
+    pcs.setTransientRecord(-1, 1, key1, 5, null);
+    Assert.assertNull(pcs.getPrefetchedRecord(key1));
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 0);
+    // Keys with a transient record cannot be prefetched, since the DB may not contain their latest value yet
+    Assert.assertNull(pcs.registerPrefetchedRecord(key1));
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 0);
+
+    // Unregistering only removes the record which was registered by the caller
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord2 = pcs.registerPrefetchedRecord(key2);
+    pcs.unregisterPrefetchedRecord(key2, prefetchedRecord);
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 1);
+    pcs.unregisterPrefetchedRecord(key2, prefetchedRecord2);
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 0);
+  }
 }
@@ -1,9 +1,11 @@
 package com.linkedin.davinci.kafka.consumer;
 
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
@@ -12,7 +14,12 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.utils.Utils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -43,6 +50,110 @@ public class StoreBufferServiceTest {
         () -> bufferService.drainBufferedRecordsFromTopicPartition(topic, partition1));
   }
 
+  @Test
+  public void testRunWithMultiRecordDrainCycles() throws Exception {
+    // The default blocking queue drains several records per wake-up when the drain batch size is above 1
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, false, 10, false);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic");
+    int partition = 1;
+    String kafkaUrl = "blah";
+    int recordCount = 10;
+    List<ConsumerRecord<KafkaKey, KafkaMessageEnvelope>> records = new ArrayList<>();
+    List<Boolean> multiRecordDrainCycles = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0; i < recordCount; ++i) {
+      ConsumerRecord<KafkaKey, KafkaMessageEnvelope> cr = new ConsumerRecord<>(topic, partition, i, null, null);
+      records.add(cr);
+      doAnswer(invocation -> multiRecordDrainCycles.add(StoreBufferService.isMultiRecordDrainCycle())).when(mockTask)
+          .processConsumerRecord(cr, null, kafkaUrl, 0L);
+      bufferService.putConsumerRecord(cr, mockTask, null, partition, kafkaUrl, 0L);
+    }
+
+    bufferService.start();
+    for (ConsumerRecord<KafkaKey, KafkaMessageEnvelope> cr: records) {
+      verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr, null, kafkaUrl, 0L);
+    }
+    // All the records were buffered before the drainer started, so they are processed within a single drain cycle
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).commitPendingWrites();
+    verify(mockTask, times(1)).commitPendingWrites();
+    Assert.assertEquals(multiRecordDrainCycles, Collections.nCopies(recordCount, Boolean.TRUE));
+    Assert.assertFalse(StoreBufferService.isMultiRecordDrainCycle());
+    bufferService.stop();
+  }
+
+  @Test
+  public void testRunWithRingBuffer() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, true, 10, false);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic");
+    int partition1 = 1;
+    int partition2 = 2;
+    String kafkaUrl = "blah";
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> cr1 = new ConsumerRecord<>(topic, partition1, -1, null, null);
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> cr2 = new ConsumerRecord<>(topic, partition2, -1, null, null);
+    Exception e = new VeniceException("test_exception");
+    doThrow(e).when(mockTask).processConsumerRecord(cr1, null, kafkaUrl, 0L);
+
+    bufferService.putConsumerRecord(cr1, mockTask, null, partition1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr2, mockTask, null, partition2, kafkaUrl, 0L);
+
+    bufferService.start();
+    // Both records are drained in the same batch, and the failure of the first one doesn't block the second one
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, kafkaUrl, 0L);
+    verify(mockTask).offerDrainerException(e, partition1);
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(topic, partition1, 3, 50);
+
+    bufferService.stop();
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> bufferService.drainBufferedRecordsFromTopicPartition(topic, partition1));
+  }
+
+  @Test
+  public void testLoadAwareDrainerAssignment() throws Exception {
+    int drainerNum = 4;
+    int partitionCount = 8;
+    StoreBufferService bufferService = new StoreBufferService(drainerNum, 100000, 1000, false, 1, true);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic");
+    String kafkaUrl = "blah";
+    for (int partition = 0; partition < partitionCount; ++partition) {
+      ConsumerRecord<KafkaKey, KafkaMessageEnvelope> cr = new ConsumerRecord<>(topic, partition, -1, null, null);
+      bufferService.putConsumerRecord(cr, mockTask, null, partition, kafkaUrl, 0L);
+    }
+
+    // Partitions are spread evenly since all the drainers are equally loaded
+    Map<TopicPartition, StoreBufferService.DrainerAssignment> assignments = bufferService.getDrainerAssignments();
+    Assert.assertEquals(assignments.size(), partitionCount);
+    int[] drainerPartitionCount = new int[drainerNum];
+    for (StoreBufferService.DrainerAssignment assignment: assignments.values()) {
+      drainerPartitionCount[assignment.getDrainerIndex()]++;
+      Assert.assertEquals(assignment.getPendingRecordCount(), 1);
+    }
+    for (int count: drainerPartitionCount) {
+      Assert.assertEquals(count, partitionCount / drainerNum);
+    }
+
+    // Following records of the same partition stick to the pinned drainer
+    TopicPartition topicPartition = new TopicPartition(topic, 0);
+    StoreBufferService.DrainerAssignment assignment = assignments.get(topicPartition);
+    ConsumerRecord<KafkaKey, KafkaMessageEnvelope> cr = new ConsumerRecord<>(topic, 0, 0, null, null);
+    bufferService.putConsumerRecord(cr, mockTask, null, 0, kafkaUrl, 0L);
+    Assert.assertSame(assignments.get(topicPartition), assignment);
+    Assert.assertEquals(assignment.getPendingRecordCount(), 2);
+
+    bufferService.start();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr, null, kafkaUrl, 0L);
+    // Draining the partition unpins it
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(topic, 0, 20, 50);
+    Assert.assertEquals(assignment.getPendingRecordCount(), 0);
+    Assert.assertFalse(assignments.containsKey(topicPartition));
+    // Draining a partition without any buffered record returns immediately
+    bufferService.internalDrainBufferedRecordsFromTopicPartition(topic, partitionCount, 1, 50);
+    bufferService.stop();
+  }
+
   @Test
   public void testRunWhenThrowException() throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000);
@@ -0,0 +1,95 @@
+package com.linkedin.davinci.storage;
+
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_RESTORE_PARALLELISM;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class StorageServiceTest {
+  private static final int VERSION_COUNT = 4;
+  private static final int PARTITION_COUNT = 3;
+
+  @DataProvider(name = "Restore-Parallelism")
+  public static Object[][] restoreParallelism() {
+    return new Object[][] { { 1 }, { 4 } };
+  }
+
+  private static StorageService createStorageService(
+      VeniceProperties serverProps,
+      ReadOnlyStoreRepository storeRepository) {
+    return new StorageService(
+        AbstractStorageEngineTest.getVeniceConfigLoader(serverProps),
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+  }
+
+  @Test(dataProvider = "Restore-Parallelism")
+  public void testRestoreAllStores(int restoreParallelism) {
+    String storeName = Utils.getUniqueString("restore_store");
+    Store store = mock(Store.class);
+    when(store.getCurrentVersion()).thenReturn(2);
+    when(store.getVersion(anyInt())).thenReturn(Optional.empty());
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    when(storeRepository.getStore(storeName)).thenReturn(store);
+    when(storeRepository.getStoreOrThrow(storeName)).thenReturn(store);
+
+    Properties properties = new Properties();
+    properties.put(SERVER_STORE_RESTORE_PARALLELISM, Integer.toString(restoreParallelism));
+    VeniceProperties serverProps = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+
+    List<String> topics = new ArrayList<>();
+    StorageService storageService = createStorageService(serverProps, storeRepository);
+    for (int version = 1; version <= VERSION_COUNT; version++) {
+      String topic = Version.composeKafkaTopic(storeName, version);
+      topics.add(topic);
+      VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(topic, serverProps, PersistenceType.ROCKS_DB);
+      for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+        AbstractStorageEngine storageEngine =
+            storageService.openStoreForNewPartition(storeConfig, partition, () -> null);
+        storageEngine.put(partition, ("key_" + partition).getBytes(), topic.getBytes());
+      }
+    }
+    storageService.stop();
+
+    // All the store versions are opened again, with their partitions and data
+    StorageService restoredStorageService = createStorageService(serverProps, storeRepository);
+    try {
+      Assert.assertEquals(
+          restoredStorageService.getStorageEngineRepository().getAllLocalStorageEngines().size(),
+          VERSION_COUNT);
+      for (String topic: topics) {
+        AbstractStorageEngine storageEngine = restoredStorageService.getStorageEngine(topic);
+        Assert.assertNotNull(storageEngine, "Storage engine of " + topic + " should be restored");
+        Assert.assertEquals(storageEngine.getPartitionIds().size(), PARTITION_COUNT);
+        for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+          Assert.assertEquals(storageEngine.get(partition, ("key_" + partition).getBytes(), false), topic.getBytes());
+        }
+      }
+    } finally {
+      restoredStorageService.stop();
+    }
+  }
+}
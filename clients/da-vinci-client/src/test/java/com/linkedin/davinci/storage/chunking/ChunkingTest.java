@@ -1,25 +1,42 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.ComputeUtils;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
@@ -27,6 +44,7 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.mockito.ArgumentCaptor;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -250,4 +268,183 @@ public class ChunkingTest {
       return null;
     });
   }
+
+  @Test
+  public void testBatchGetFetchesAllChunksInOneLookup() {
+    int partition = 3;
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        values.add(storedValues.get(ByteBuffer.wrap(key)));
+      }
+      return values;
+    }).when(storageEngine).multiGet(eq(partition), anyList(), anyBoolean());
+
+    List<ByteBuffer> keys = new ArrayList<>();
+    List<byte[]> expectedValues = new ArrayList<>();
+    List<byte[]> expectedChunkKeys = new ArrayList<>();
+
+    // A small value
+    byte[] smallValue = "small".getBytes();
+    byte[] smallValueWithHeader = new byte[smallValue.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(smallValueWithHeader, 1, 0);
+    System.arraycopy(smallValue, 0, smallValueWithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, smallValue.length);
+    keys.add(ByteBuffer.wrap("small_key".getBytes()));
+    expectedValues.add(smallValue);
+    storedValues.put(ByteBuffer.wrap(serializeNonChunkedKey(keys.get(0))), smallValueWithHeader);
+
+    // Two large values, split in two chunks each
+    for (int i = 0; i < 2; i++) {
+      ByteBuffer key = ByteBuffer.wrap(("large_key_" + i).getBytes());
+      byte[] largeValue = new byte[100];
+      ThreadLocalRandom.current().nextBytes(largeValue);
+      ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+      chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+      chunkedValueManifest.schemaId = 1;
+      chunkedValueManifest.size = largeValue.length;
+      for (int chunkIndex = 0; chunkIndex < 2; chunkIndex++) {
+        byte[] chunkKey = ("large_key_" + i + "_chunk_" + chunkIndex).getBytes();
+        byte[] chunkBytes = new byte[largeValue.length / 2 + ValueRecord.SCHEMA_HEADER_LENGTH];
+        ByteUtils.writeInt(chunkBytes, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+        System.arraycopy(
+            largeValue,
+            chunkIndex * largeValue.length / 2,
+            chunkBytes,
+            ValueRecord.SCHEMA_HEADER_LENGTH,
+            largeValue.length / 2);
+        chunkedValueManifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(chunkKey));
+        storedValues.put(ByteBuffer.wrap(chunkKey), chunkBytes);
+        expectedChunkKeys.add(chunkKey);
+      }
+      keys.add(key);
+      expectedValues.add(largeValue);
+      storedValues.put(ByteBuffer.wrap(serializeNonChunkedKey(key)), serializeManifest(chunkedValueManifest));
+    }
+
+    // A missing key
+    keys.add(ByteBuffer.wrap("missing_key".getBytes()));
+    expectedValues.add(null);
+
+    List<MultiGetResponseRecordV1> records =
+        BatchGetChunkingAdapter.batchGet(storageEngine, partition, keys, true, null);
+
+    Assert.assertEquals(records.size(), keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      if (expectedValues.get(i) == null) {
+        Assert.assertNull(records.get(i));
+        continue;
+      }
+      Assert.assertEquals(records.get(i).schemaId, 1);
+      Assert.assertEquals(ByteUtils.extractByteArray(records.get(i).value), expectedValues.get(i));
+    }
+
+    // One lookup for the top-level keys, and a single one for the chunks of both large values
+    ArgumentCaptor<List<byte[]>> keysCaptor = ArgumentCaptor.forClass(List.class);
+    verify(storageEngine, times(2)).multiGet(eq(partition), keysCaptor.capture(), anyBoolean());
+    verify(storageEngine, never()).get(anyInt(), any(byte[].class), anyBoolean());
+    List<byte[]> chunkKeys = keysCaptor.getAllValues().get(1);
+    Assert.assertEquals(chunkKeys.size(), expectedChunkKeys.size());
+    for (int i = 0; i < chunkKeys.size(); i++) {
+      Assert.assertEquals(chunkKeys.get(i), expectedChunkKeys.get(i));
+    }
+  }
+
+  @Test
+  public void testProjectingGenericRecordChunkingAdapterReadsOnlyComputedFields() {
+    int partition = 5;
+    String storeName = "test";
+    Schema valueSchema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"TestRecord\", \"fields\": ["
+            + "{\"name\": \"id\", \"type\": \"string\"},"
+            + "{\"name\": \"name\", \"type\": \"string\"},"
+            + "{\"name\": \"member_feature\", \"type\": {\"type\": \"array\", \"items\": \"float\"}},"
+            + "{\"name\": \"blob\", \"type\": \"bytes\"}]}");
+    Schema computeResultSchema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"TestRecord\", \"fields\": ["
+            + "{\"name\": \"name\", \"type\": \"string\"},"
+            + "{\"name\": \"member_score\", \"type\": [\"null\", \"float\"], \"default\": null},"
+            + "{\"name\": \"__veniceComputationError__\", \"type\": {\"type\": \"map\", \"values\": \"string\"}}]}");
+
+    // A dot product on "member_feature" which also projects "name"
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.field = "member_feature";
+    dotProduct.resultFieldName = "member_score";
+    dotProduct.dotProductParam = Arrays.asList(1.0f, 2.0f);
+    ComputeOperation operation = new ComputeOperation();
+    operation.operationType = ComputeOperationType.DOT_PRODUCT.getValue();
+    operation.operation = dotProduct;
+    Schema projectionSchema = ComputeUtils.getProjectionSchema(
+        valueSchema,
+        ComputeUtils.getReadFieldNames(Collections.singletonList(operation), computeResultSchema));
+    ProjectingGenericRecordChunkingAdapter chunkingAdapter =
+        new ProjectingGenericRecordChunkingAdapter(projectionSchema);
+
+    GenericRecord value = new GenericData.Record(valueSchema);
+    value.put("id", "id");
+    value.put("name", "name");
+    value.put("member_feature", Arrays.asList(1.0f, 2.0f));
+    value.put("blob", ByteBuffer.wrap(new byte[1000]));
+    byte[] serializedValue = SerializerDeserializerFactory.getAvroGenericSerializer(valueSchema).serialize(value);
+    byte[] serializedValueWithHeader = new byte[serializedValue.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(serializedValueWithHeader, 1, 0);
+    System.arraycopy(
+        serializedValue,
+        0,
+        serializedValueWithHeader,
+        ValueRecord.SCHEMA_HEADER_LENGTH,
+        serializedValue.length);
+
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueSchema);
+    HelixReadOnlySchemaRepository schemaRepository = mock(HelixReadOnlySchemaRepository.class);
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(storeName, 1);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(storeName);
+
+    ByteBuffer key = ByteBuffer.wrap("key".getBytes());
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(serializedValueWithHeader).when(storageEngine)
+        .get(eq(partition), eq(ByteBuffer.wrap(serializeNonChunkedKey(key))), anyBoolean());
+
+    for (boolean fastAvroEnabled: new boolean[] { true, false }) {
+      GenericRecord projectedValue = chunkingAdapter.get(
+          storageEngine,
+          partition,
+          key,
+          true,
+          null,
+          null,
+          null,
+          CompressionStrategy.NO_OP,
+          fastAvroEnabled,
+          schemaRepository,
+          storeName,
+          new NoopCompressor(),
+          false);
+
+      // Only the fields read by the compute request are decoded
+      Assert.assertEquals(projectedValue.getSchema().getFields().size(), 2);
+      Assert.assertNull(projectedValue.getSchema().getField("id"));
+      Assert.assertNull(projectedValue.getSchema().getField("blob"));
+      Assert.assertEquals(projectedValue.get("name").toString(), "name");
+      Assert.assertEquals(projectedValue.get("member_feature"), Arrays.asList(1.0f, 2.0f));
+    }
+  }
+
+  private static byte[] serializeNonChunkedKey(ByteBuffer key) {
+    return ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key.duplicate());
+  }
+
+  private static byte[] serializeManifest(ChunkedValueManifest chunkedValueManifest) {
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+    byte[] serializedCVMwithHeader = new byte[serializedCVM.length + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(
+        serializedCVMwithHeader,
+        AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(),
+        0);
+    System.arraycopy(serializedCVM, 0, serializedCVMwithHeader, ValueRecord.SCHEMA_HEADER_LENGTH, serializedCVM.length);
+    return serializedCVMwithHeader;
+  }
 }
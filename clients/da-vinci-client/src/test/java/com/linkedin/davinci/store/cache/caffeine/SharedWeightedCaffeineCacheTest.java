@@ -0,0 +1,119 @@
+package com.linkedin.davinci.store.cache.caffeine;
+
+import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class SharedWeightedCaffeineCacheTest {
+  private static final String STORE_NAME = "weightedStore";
+  private static final String OTHER_STORE_NAME = "otherWeightedStore";
+
+  private static String getValue(int length) {
+    char[] chars = new char[length];
+    Arrays.fill(chars, 'v');
+    return new String(chars);
+  }
+
+  @Test
+  public void testNamespacedStoreCaches() throws ExecutionException, InterruptedException {
+    ObjectCacheConfig config = new ObjectCacheConfig().setMaxCacheSizeInBytes(1024 * 1024L);
+    SharedWeightedCaffeineCache sharedCache = new SharedWeightedCaffeineCache(config);
+    WeightedCaffeineVeniceStoreCache cache = sharedCache.createStoreCache(
+        STORE_NAME + "_v1",
+        STORE_NAME,
+        (key, executor) -> CompletableFuture.completedFuture("loaded_" + key));
+    WeightedCaffeineVeniceStoreCache otherCache =
+        sharedCache.createStoreCache(OTHER_STORE_NAME + "_v1", OTHER_STORE_NAME, (key, executor) -> null);
+
+    cache.insert("key", "value");
+    otherCache.insert("key", "otherValue");
+    Assert.assertEquals(cache.getIfPresent("key"), "value");
+    Assert.assertEquals(otherCache.getIfPresent("key"), "otherValue");
+    Assert.assertEquals(cache.size(), 1);
+
+    // Misses are loaded with the loader of the store version
+    Assert.assertEquals(cache.get("missingKey").get(), "loaded_missingKey");
+    Assert.assertEquals(cache.getIfPresent("missingKey"), "loaded_missingKey");
+    Map<String, String> loadedValues = new HashMap<>();
+    loadedValues.put("batchKey", "batchValue");
+    Map<String, String> values =
+        cache.<String, String>getAll(Arrays.asList("key", "batchKey"), keys -> loadedValues).get();
+    Assert.assertEquals(values.get("key"), "value");
+    Assert.assertEquals(values.get("batchKey"), "batchValue");
+
+    Assert.assertEquals(cache.hitCount(), 3);
+    Assert.assertEquals(cache.missCount(), 2);
+    Assert.assertTrue(cache.hitBytes() > 0);
+    Assert.assertTrue(cache.missBytes() > 0);
+    Assert.assertTrue(cache.sizeInBytes() > 0);
+
+    // Clearing a store version doesn't affect the others
+    cache.clear();
+    Assert.assertNull(cache.getIfPresent("key"));
+    Assert.assertEquals(cache.size(), 0);
+    Assert.assertEquals(otherCache.getIfPresent("key"), "otherValue");
+    TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> Assert.assertEquals(cache.sizeInBytes(), 0));
+    Assert.assertEquals(cache.evictionCount(), 0);
+  }
+
+  @Test
+  public void testByteBudget() {
+    long budget = 64 * 1024L;
+    ObjectCacheConfig config = new ObjectCacheConfig().setMaxCacheSizeInBytes(budget);
+    SharedWeightedCaffeineCache sharedCache = new SharedWeightedCaffeineCache(config);
+    WeightedCaffeineVeniceStoreCache cache =
+        sharedCache.createStoreCache(STORE_NAME + "_v1", STORE_NAME, (key, executor) -> null);
+
+    // Each entry takes about 2KB of heap
+    String value = getValue(1000);
+    for (int i = 0; i < 1000; i++) {
+      cache.insert(i, value);
+    }
+    TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+      sharedCache.getCaffeineCache().synchronous().cleanUp();
+      Assert.assertTrue(sharedCache.weightedSize() <= budget);
+      Assert.assertTrue(cache.sizeInBytes() <= budget);
+      Assert.assertTrue(cache.evictionCount() > 0);
+      Assert.assertTrue(cache.evictedBytes() > 0);
+    });
+    Assert.assertTrue(cache.size() < 1000);
+  }
+
+  @Test
+  public void testStoreWeightsAndAdmission() throws ExecutionException, InterruptedException {
+    ObjectCacheConfig config = new ObjectCacheConfig().setMaxCacheSizeInBytes(1024 * 1024L)
+        .setMaxEntrySizeInBytes(1024L)
+        .setStoreMaxEntrySizeInBytes(OTHER_STORE_NAME, 4096L)
+        .setStoreWeight(OTHER_STORE_NAME, 2.0);
+    SharedWeightedCaffeineCache sharedCache = new SharedWeightedCaffeineCache(config);
+    String bigValue = getValue(1000);
+    WeightedCaffeineVeniceStoreCache cache = sharedCache.createStoreCache(
+        STORE_NAME + "_v1",
+        STORE_NAME,
+        (key, executor) -> CompletableFuture.completedFuture(bigValue));
+    WeightedCaffeineVeniceStoreCache otherCache =
+        sharedCache.createStoreCache(OTHER_STORE_NAME + "_v1", OTHER_STORE_NAME, (key, executor) -> null);
+
+    // Values bigger than the admission limit are served but not cached
+    Assert.assertEquals(cache.get("key").get(), bigValue);
+    Assert.assertNull(cache.getIfPresent("key"));
+    cache.insert("key", bigValue);
+    Assert.assertNull(cache.getIfPresent("key"));
+    Assert.assertEquals(cache.getAllPresent(Collections.singletonList("key")).size(), 0);
+
+    // The other store has a bigger admission limit, and its entries are charged half of their size
+    otherCache.insert("key", bigValue);
+    Assert.assertEquals(otherCache.getIfPresent("key"), bigValue);
+    sharedCache.getCaffeineCache().synchronous().cleanUp();
+    Assert.assertTrue(sharedCache.weightedSize() < otherCache.sizeInBytes());
+  }
+}
@@ -30,7 +30,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -209,6 +211,19 @@ public class ReplicationMetadataRocksDBStoragePartitionTest extends AbstractStor
       Assert.assertEquals(replicationMetadataWithValueSchema, ByteBuffer.wrap(entry.getValue().getSecond().getBytes()));
     }
 
+    // Batched lookup should return the same replication metadata, and null for missing keys
+    List<byte[]> keys = new ArrayList<>();
+    for (String key: inputRecords.keySet()) {
+      keys.add(key.getBytes());
+    }
+    keys.add("missing_key".getBytes());
+    List<byte[]> metadataList = storagePartition.multiGetReplicationMetadata(keys);
+    Assert.assertEquals(metadataList.size(), keys.size());
+    for (int i = 0; i < keys.size() - 1; i++) {
+      Assert.assertEquals(metadataList.get(i), storagePartition.getReplicationMetadata(keys.get(i)));
+    }
+    Assert.assertNull(metadataList.get(keys.size() - 1));
+
     for (Map.Entry<String, Pair<String, String>> entry: inputRecords.entrySet()) {
       byte[] updatedMetadataBytes = "updated_metadata".getBytes();
       byte[] key = entry.getKey().getBytes();
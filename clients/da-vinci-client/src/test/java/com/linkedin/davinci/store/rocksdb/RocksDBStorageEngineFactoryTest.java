@@ -5,9 +5,16 @@ import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -29,6 +36,38 @@ public class RocksDBStorageEngineFactoryTest {
         "Database generated by" + " 'RocksDBStorageEngineFactory' must be 'RocksDBStorageEngine' instance");
   }
 
+  @Test(timeOut = 60000)
+  public void testConcurrentStorageEngineCreation() throws Exception {
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+
+    final String testStore = Utils.getUniqueString("test_store");
+    VeniceStoreVersionConfig testStoreConfig =
+        new VeniceStoreVersionConfig(testStore, veniceServerProperties, PersistenceType.ROCKS_DB);
+    int threadCount = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      CountDownLatch startLatch = new CountDownLatch(1);
+      List<Future<AbstractStorageEngine>> futures = new ArrayList<>(threadCount);
+      for (int i = 0; i < threadCount; i++) {
+        futures.add(executor.submit(() -> {
+          startLatch.await();
+          return factory.getStorageEngine(testStoreConfig);
+        }));
+      }
+      startLatch.countDown();
+      // The same store version must only be opened once
+      AbstractStorageEngine storageEngine = futures.get(0).get();
+      for (Future<AbstractStorageEngine> future: futures) {
+        Assert.assertSame(future.get(), storageEngine);
+      }
+    } finally {
+      TestUtils.shutdownExecutor(executor);
+      factory.close();
+    }
+  }
+
   @Test
   public void testGetPersistedStoreNames() {
     // Create two databases
@@ -12,6 +12,7 @@ import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.PartitionWriteBatch;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
@@ -21,11 +22,16 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -452,6 +458,174 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testMultiGet() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> inputRecords = generateInput(100, false, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+
+    // Mix existing and non-existing keys, in an unsorted order
+    List<byte[]> keys = new ArrayList<>();
+    for (int i = 120; i >= 0; i -= 3) {
+      keys.add((KEY_PREFIX + i).getBytes());
+    }
+    List<byte[]> values = storagePartition.multiGet(keys, false);
+    Assert.assertEquals(values.size(), keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      String expectedValue = inputRecords.get(new String(keys.get(i)));
+      if (expectedValue == null) {
+        Assert.assertNull(values.get(i));
+      } else {
+        Assert.assertEquals(new String(values.get(i)), expectedValue);
+      }
+    }
+
+    storagePartition.close();
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.multiGet(keys, false));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testConcurrentWrites() throws Exception {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    int writerCount = 4;
+    int recordCountPerWriter = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int writer = 0; writer < writerCount; writer++) {
+        int writerId = writer;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < recordCountPerWriter; i++) {
+            String key = KEY_PREFIX + writerId + "_" + i;
+            storagePartition.put(key.getBytes(), (VALUE_PREFIX + i).getBytes());
+            if (i % 2 == 1) {
+              storagePartition.delete(key.getBytes());
+            }
+          }
+        }));
+      }
+      // Reopening the database waits for the in-flight writes, and the later writes go to the reopened database
+      storagePartition.reopen();
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int writer = 0; writer < writerCount; writer++) {
+      for (int i = 0; i < recordCountPerWriter; i++) {
+        byte[] value = storagePartition.get((KEY_PREFIX + writer + "_" + i).getBytes(), false);
+        if (i % 2 == 1) {
+          Assert.assertNull(value);
+        } else {
+          Assert.assertEquals(new String(value), VALUE_PREFIX + i);
+        }
+      }
+    }
+
+    storagePartition.close();
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.put("key".getBytes(), "value".getBytes()));
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.delete("key".getBytes()));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testWriteBatch() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    storagePartition.put("deletedKey".getBytes(), "value".getBytes());
+    PartitionWriteBatch batch = new PartitionWriteBatch();
+    int recordCount = 100;
+    for (int i = 0; i < recordCount; i++) {
+      // The batch keeps its own copy of the values, so the buffer can be reused right away
+      ByteBuffer value = ByteBuffer.wrap(("header" + VALUE_PREFIX + i).getBytes());
+      value.position("header".length());
+      batch.put((KEY_PREFIX + i).getBytes(), value);
+      value.put(value.position(), (byte) 0);
+    }
+    batch.put("updatedKey".getBytes(), ByteBuffer.wrap("oldValue".getBytes()));
+    batch.put("updatedKey".getBytes(), ByteBuffer.wrap("newValue".getBytes()));
+    batch.delete("deletedKey".getBytes());
+    Assert.assertEquals(batch.getRecordCount(), recordCount + 3);
+    Assert.assertTrue(batch.getSizeInBytes() > 0);
+
+    // Nothing is persisted before the batch is written
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + 0).getBytes(), false));
+    storagePartition.write(batch);
+    for (int i = 0; i < recordCount; i++) {
+      Assert.assertEquals(new String(storagePartition.get((KEY_PREFIX + i).getBytes(), false)), VALUE_PREFIX + i);
+    }
+    // The writes are applied in order
+    Assert.assertEquals(new String(storagePartition.get("updatedKey".getBytes(), false)), "newValue");
+    Assert.assertNull(storagePartition.get("deletedKey".getBytes(), false));
+
+    batch.clear();
+    Assert.assertTrue(batch.isEmpty());
+    Assert.assertEquals(batch.getSizeInBytes(), 0);
+
+    storagePartition.close();
+    batch.put("key".getBytes(), ByteBuffer.wrap("value".getBytes()));
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.write(batch));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testPlainTableCompactionTriggerSetting() {
     String storeName = Utils.getUniqueString("test_store");
@@ -47,9 +47,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
   /**
    * The max allowed key count in batch-get request.
-   * Right now, the batch-get implementation will leverage single-get, which is inefficient, when there
-   * are many keys, since the requests to the same storage node won't be reused.
-   * But to temporarily unblock the first customer, we will only allow at most two keys in a batch-get request.
+   * The batch-get is built on top of the streaming batch-get, which sends one request per storage node, and the
+   * default limit is the same as the default limit of the router. The streaming batch-get isn't limited.
    */
   private final int maxAllowedKeyCntInBatchGetReq;
   private final DaVinciClient<StoreMetaKey, StoreMetaValue> daVinciClientForMetaStore;
@@ -274,7 +273,7 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private long routingUnavailableRequestCounterResetDelayMS = -1;
     private int routingPendingRequestCounterInstanceBlockThreshold = -1;
 
-    private int maxAllowedKeyCntInBatchGetReq = 2;
+    private int maxAllowedKeyCntInBatchGetReq = 500;
 
     private DaVinciClient<StoreMetaKey, StoreMetaValue> daVinciClientForMetaStore;
 
@@ -0,0 +1,12 @@
+package com.linkedin.venice.fastclient;
+
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Keep track of the progress of a read compute request. The compute request is scattered and gathered the same way
+ * as a batch get request, and the only difference is that the values are the compute results.
+ * @param <K> Key type
+ */
+public class ComputeRequestContext<K> extends BatchGetRequestContext<K, GenericRecord> {
+}
@@ -2,11 +2,12 @@ package com.linkedin.venice.fastclient;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
-import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 
 
 /**
@@ -31,17 +32,6 @@ public class DelegatingAvroStoreClient<K, V> extends InternalAvroStoreClient<K,
     return delegate.batchGet(keys);
   }
 
-  @Override
-  // Future implementation after stabilization of streaming batch get
-  /**
-   * This implementation is for future use. It will get wired in via
-   * InternalAvroStoreClient.batchGet(Set<K> keys)
-   */
-  protected CompletableFuture<Map<K, V>> batchGet(BatchGetRequestContext<K, V> requestContext, Set<K> keys)
-      throws VeniceClientException {
-    return delegate.batchGet(requestContext, keys);
-  }
-
   @Override
   protected void streamingBatchGet(
       BatchGetRequestContext<K, V> requestContext,
@@ -51,10 +41,14 @@ public class DelegatingAvroStoreClient<K, V> extends InternalAvroStoreClient<K,
   }
 
   @Override
-  protected CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
-      BatchGetRequestContext<K, V> requestContext,
-      Set<K> keys) {
-    return delegate.streamingBatchGet(requestContext, keys);
+  protected void compute(
+      ComputeRequestContext<K> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    delegate.compute(requestContext, computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
   }
 
   @Override
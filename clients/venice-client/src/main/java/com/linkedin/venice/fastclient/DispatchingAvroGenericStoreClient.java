@@ -5,14 +5,15 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.exceptions.VeniceClientHttpException;
 import com.linkedin.venice.client.store.AbstractAvroStoreClient;
+import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
-import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
-import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
-import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
@@ -25,7 +26,6 @@ import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.EncodingUtils;
 import com.linkedin.venice.utils.LatencyUtils;
-import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,14 +35,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.ByteBufferOptimizedBinaryDecoder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,6 +66,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   // Key serializer
   private RecordSerializer<K> keySerializer;
   private RecordSerializer<MultiGetRouterRequestKeyV1> multiGetSerializer;
+  private RecordSerializer<ComputeRouterRequestKeyV1> computeSerializer;
 
   public DispatchingAvroGenericStoreClient(StoreMetadata metadata, ClientConfig config) {
     this.metadata = metadata;
@@ -104,12 +105,20 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   }
 
   private String composeURIForBatchGetRequest(BatchGetRequestContext<K, V> requestContext) {
+    return composeURIForMultiKeyRequest(requestContext, AbstractAvroStoreClient.TYPE_STORAGE);
+  }
+
+  private String composeURIForComputeRequest(ComputeRequestContext<K> requestContext) {
+    return composeURIForMultiKeyRequest(requestContext, AbstractAvroStoreClient.TYPE_COMPUTE);
+  }
+
+  private String composeURIForMultiKeyRequest(BatchGetRequestContext<K, ?> requestContext, String requestType) {
     int currentVersion = getCurrentVersion();
     String resourceName = getResourceName(currentVersion);
 
     requestContext.currentVersion = currentVersion;
     StringBuilder sb = new StringBuilder();
-    sb.append(URI_SEPARATOR).append(AbstractAvroStoreClient.TYPE_STORAGE).append(URI_SEPARATOR).append(resourceName);
+    sb.append(URI_SEPARATOR).append(requestType).append(URI_SEPARATOR).append(resourceName);
     return sb.toString();
   }
 
@@ -247,72 +256,6 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     return valueFuture;
   }
 
-  /**
-   * This implementation is for future use. It will get wired in via
-   * InternalAvroStoreClient.batchGet(Set<K> keys)
-   * @param requestContext
-   * @param keys
-   * @return
-   * @throws VeniceClientException
-   */
-  @Override
-  protected CompletableFuture<Map<K, V>> batchGet(BatchGetRequestContext<K, V> requestContext, Set<K> keys)
-      throws VeniceClientException {
-    CompletableFuture<Map<K, V>> responseFuture = new CompletableFuture<>();
-    CompletableFuture<VeniceResponseMap<K, V>> streamingResponseFuture = streamingBatchGet(requestContext, keys);
-    streamingResponseFuture.whenComplete((response, throwable) -> {
-      if (throwable != null) {
-        responseFuture.completeExceptionally(throwable);
-      } else if (!response.isFullResponse()) {
-        if (requestContext.getPartialResponseException().isPresent()) {
-          responseFuture.completeExceptionally(
-              new VeniceClientException(
-                  "Response was not complete",
-                  requestContext.getPartialResponseException().get()));
-        } else {
-          responseFuture.completeExceptionally(new VeniceClientException("Response was not complete"));
-        }
-      } else {
-        responseFuture.complete(response);
-      }
-    });
-    return responseFuture;
-  }
-
-  @Override
-  protected CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
-      BatchGetRequestContext<K, V> requestContext,
-      Set<K> keys) throws VeniceClientException {
-    // keys that do not exist in the storage nodes
-    Queue<K> nonExistingKeys = new ConcurrentLinkedQueue<>();
-    VeniceConcurrentHashMap<K, V> valueMap = new VeniceConcurrentHashMap<>();
-    CompletableFuture<VeniceResponseMap<K, V>> streamingResponseFuture = new VeniceResponseCompletableFuture<>(
-        () -> new VeniceResponseMapImpl<K, V>(valueMap, nonExistingKeys, false),
-        keys.size(),
-        Optional.empty());
-    streamingBatchGet(requestContext, keys, new StreamingCallback<K, V>() {
-      @Override
-      public void onRecordReceived(K key, V value) {
-        if (value == null) {
-          nonExistingKeys.add(key);
-        } else {
-          valueMap.put(key, value);
-        }
-      }
-
-      @Override
-      public void onCompletion(Optional<Exception> exception) {
-        requestContext.complete();
-        if (exception.isPresent()) {
-          streamingResponseFuture.completeExceptionally(exception.get());
-        } else {
-          streamingResponseFuture.complete(new VeniceResponseMapImpl<>(valueMap, nonExistingKeys, true));
-        }
-      }
-    });
-    return streamingResponseFuture;
-  }
-
   /**
    *  This is the main implementation of the "streaming" version of batch get. As such this API doesn't provide a way
    *  to handle early exceptions. Further we tend to mix callback style and future style of asynchronous programming
@@ -328,18 +271,77 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       BatchGetRequestContext<K, V> requestContext,
       Set<K> keys,
       StreamingCallback<K, V> callback) {
+    String uriForBatchGetRequest = composeURIForBatchGetRequest(requestContext);
+    Map<String, String> headers = new HashMap<>();
+    headers.put(
+        HttpConstants.VENICE_API_VERSION,
+        Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion()));
 
     /* This implementation is intentionally designed to separate the request phase (scatter) and the response handling
      * phase . These internal methods help to keep this separation and leaves room for future fine grained control. */
-    streamingBatchGetInternal(requestContext, keys, (transportClientResponse, throwable) -> {
-      // This method binds the internal transport client response to the events delivered to the callback
-      transportRequestCompletionHandler(requestContext, transportClientResponse, throwable, callback);
-    });
+    streamingRequestInternal(
+        requestContext,
+        keys,
+        uriForBatchGetRequest,
+        headers,
+        this::serializeMultiGetRequest,
+        (transportClientResponse, throwable) -> {
+          // This method binds the internal transport client response to the events delivered to the callback
+          transportRequestCompletionHandler(requestContext, transportClientResponse, throwable, callback);
+        });
+    completeWhenAllRoutesComplete(requestContext, callback);
+  }
 
-    /* Wiring in a callback for when all events have been received. If any route failed with an exception,
-     * that exception will be passed to the aggregate future's next stages. */
+  /**
+   * The read compute request is scattered the same way as the batch get request: each replica receives the serialized
+   * compute request followed by the keys it is in charge of, which is the same format the router forwards to the
+   * storage nodes, and the results are streamed back to the callback as soon as the response of each replica arrives.
+   */
+  @Override
+  protected void compute(
+      ComputeRequestContext<K> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    String uriForComputeRequest = composeURIForComputeRequest(requestContext);
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpConstants.VENICE_API_VERSION, Integer.toString(computeRequestWrapper.getComputeRequestVersion()));
+    headers.put(
+        HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID,
+        Integer.toString(metadata.getValueSchemaId(computeRequestWrapper.getValueSchema())));
+    // The compute request is the same for all the replicas, so it is only serialized once
+    ByteBuffer serializedComputeRequest = ByteBuffer.wrap(computeRequestWrapper.serialize());
+    RecordDeserializer<GenericRecord> computeResultRecordDeserializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(resultSchema, resultSchema);
+
+    streamingRequestInternal(
+        requestContext,
+        keys,
+        uriForComputeRequest,
+        headers,
+        keyList -> serializeComputeRequest(keyList, serializedComputeRequest),
+        (transportClientResponse, throwable) -> computeTransportRequestCompletionHandler(
+            requestContext,
+            transportClientResponse,
+            throwable,
+            computeResultRecordDeserializer,
+            callback));
+    completeWhenAllRoutesComplete(requestContext, callback);
+  }
+
+  /**
+   * Wiring in a callback for when all events have been received. If any route failed with an exception,
+   * that exception will be passed to the aggregate future's next stages.
+   */
+  private void completeWhenAllRoutesComplete(
+      BatchGetRequestContext<K, ?> requestContext,
+      StreamingCallback<K, ?> callback) {
     CompletableFuture.allOf(requestContext.getAllRouteFutures().toArray(new CompletableFuture[0]))
         .whenComplete((response, throwable) -> {
+          // Roll up the stats of all the routes before the upper tiers record them
+          requestContext.complete();
           if (throwable == null) {
             callback.onCompletion(Optional.empty());
           } else {
@@ -355,19 +357,24 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
   }
 
   /**
-   * This internal method takes a batchGet request context , a set of keys and determines the strategy for scattering
+   * This internal method takes a multi-key request context , a set of keys and determines the strategy for scattering
    * the requests. The callback is invoked whenever a response is received from the internal transport.
    * @param requestContext
    * @param keys
+   * @param uri
+   * @param headers
+   * @param requestSerializer serializes the request for the keys sent to one route
    * @param transportClientResponseCompletionHandler
    */
-  private void streamingBatchGetInternal(
-      BatchGetRequestContext<K, V> requestContext,
+  private void streamingRequestInternal(
+      BatchGetRequestContext<K, ?> requestContext,
       Set<K> keys,
+      String uri,
+      Map<String, String> headers,
+      Function<List<BatchGetRequestContext.KeyInfo<K>>, byte[]> requestSerializer,
       BiConsumer<TransportClientResponseForRoute, Throwable> transportClientResponseCompletionHandler) {
     /* Prepare each of the routes needed to query the keys */
     requestContext.instanceHealthMonitor = metadata.getInstanceHealthMonitor();
-    String uriForBatchGetRequest = composeURIForBatchGetRequest(requestContext);
     int currentVersion = requestContext.currentVersion;
     Map<Integer, List<String>> partitionRouteMap = new HashMap<>();
     RecordSerializer.ReusableObjects reusableObjects = AvroSerializer.REUSE.get();
@@ -407,13 +414,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     }
     // Start the request and invoke handler for response
     for (String route: requestContext.getRoutes()) {
-      String url = route + uriForBatchGetRequest;
-      Map<String, String> headers = new HashMap<>();
-      headers.put(
-          HttpConstants.VENICE_API_VERSION,
-          Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion()));
+      String url = route + uri;
       long tsBeforeSerialization = System.nanoTime();
-      byte[] serializedKeys = serializeMultiGetRequest(requestContext.keysForRoutes(route));
+      byte[] serializedKeys = requestSerializer.apply(requestContext.keysForRoutes(route));
       requestContext.recordRequestSerializationTime(route, getLatencyInNS(tsBeforeSerialization));
       requestContext.recordRequestSentTimeStamp(route);
       transportClient.post(url, headers, serializedKeys).whenComplete((transportClientResponse, throwable) -> {
@@ -473,6 +476,62 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
       callback.onRecordReceived(k.getKey(), deserializedValue);
     }
     requestContext.recordDecompressionTime(transportClientResponse.getRouteId(), totalDecompressionTimeForResponse);
+    completeRouteRequest(requestContext, transportClientResponse, keyInfos, keysSeen, callback);
+  }
+
+  private void computeTransportRequestCompletionHandler(
+      ComputeRequestContext<K> requestContext,
+      TransportClientResponseForRoute transportClientResponse,
+      Throwable exception,
+      RecordDeserializer<GenericRecord> computeResultRecordDeserializer,
+      StreamingCallback<K, GenericRecord> callback) {
+    if (exception != null) {
+      LOGGER.error("Exception received from transport. ExMsg: {}", exception.getMessage());
+      requestContext.markCompleteExceptionally(transportClientResponse, exception);
+      return;
+    }
+    try {
+      RecordDeserializer<ComputeResponseRecordV1> deserializer =
+          getComputeResponseRecordDeserializer(transportClientResponse.getSchemaId());
+      long timestampBeforeRequestDeserialization = System.nanoTime();
+      Iterable<ComputeResponseRecordV1> records =
+          deserializer.deserializeObjects(new ByteBufferOptimizedBinaryDecoder(transportClientResponse.getBody()));
+      requestContext.recordRequestDeserializationTime(
+          transportClientResponse.getRouteId(),
+          getLatencyInNS(timestampBeforeRequestDeserialization));
+
+      List<BatchGetRequestContext.KeyInfo<K>> keyInfos =
+          requestContext.keysForRoutes(transportClientResponse.getRouteId());
+      Set<Integer> keysSeen = new HashSet<>();
+      // Compute results are never compressed
+      for (ComputeResponseRecordV1 r: records) {
+        long timeStampBeforeDeserialization = System.nanoTime();
+        // An empty value indicates a non-existing key
+        GenericRecord computeResult = r.value.hasRemaining()
+            ? ComputeGenericRecord.wrap(computeResultRecordDeserializer.deserialize(r.value))
+            : null;
+        requestContext.recordRecordDeserializationTime(
+            transportClientResponse.getRouteId(),
+            getLatencyInNS(timeStampBeforeDeserialization));
+        keysSeen.add(r.keyIndex);
+        callback.onRecordReceived(keyInfos.get(r.keyIndex).getKey(), computeResult);
+      }
+      completeRouteRequest(requestContext, transportClientResponse, keyInfos, keysSeen, callback);
+    } catch (Exception e) {
+      LOGGER.error("Failed to handle the compute response from route: {}", transportClientResponse.getRouteId(), e);
+      requestContext.markCompleteExceptionally(transportClientResponse, e);
+    }
+  }
+
+  /**
+   * The keys which are missing in the response of a route don't exist in the storage node.
+   */
+  private <T> void completeRouteRequest(
+      BatchGetRequestContext<K, ?> requestContext,
+      TransportClientResponseForRoute transportClientResponse,
+      List<BatchGetRequestContext.KeyInfo<K>> keyInfos,
+      Set<Integer> keysSeen,
+      StreamingCallback<K, T> callback) {
     for (int i = 0; i < keyInfos.size(); i++) {
       if (!keysSeen.contains(i)) {
         callback.onRecordReceived(keyInfos.get(i).getKey(), null);
@@ -489,6 +548,17 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
         .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class);
   }
 
+  /* Compute helper methods */
+  protected RecordDeserializer<ComputeResponseRecordV1> getComputeResponseRecordDeserializer(int schemaId) {
+    if (schemaId != ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion()) {
+      throw new VeniceClientException(
+          "schemaId: " + schemaId + " is not expected, should be "
+              + ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion());
+    }
+    return FastSerializerDeserializerFactory
+        .getFastAvroSpecificDeserializer(ComputeResponseRecordV1.SCHEMA$, ComputeResponseRecordV1.class);
+  }
+
   protected RecordDeserializer<V> getDataRecordDeserializer(int schemaId) throws VeniceClientException {
     Schema readerSchema = metadata.getLatestValueSchema();
     if (readerSchema == null) {
@@ -559,6 +629,25 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     return multiGetSerializer.serializeObjects(routerRequestKeys);
   }
 
+  private byte[] serializeComputeRequest(
+      List<BatchGetRequestContext.KeyInfo<K>> keyList,
+      ByteBuffer serializedComputeRequest) {
+    List<ComputeRouterRequestKeyV1> routerRequestKeys = new ArrayList<>(keyList.size());
+    AvroSerializer.ReusableObjects reusableObjects = AvroSerializer.REUSE.get();
+    BatchGetRequestContext.KeyInfo<K> keyInfo;
+    for (int i = 0; i < keyList.size(); i++) {
+      keyInfo = keyList.get(i);
+      ComputeRouterRequestKeyV1 routerRequestKey = new ComputeRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(keyInfo.getKey(), reusableObjects);
+      routerRequestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      routerRequestKey.keyIndex = i;
+      routerRequestKey.partitionId = keyInfo.getPartitionId();
+      routerRequestKeys.add(routerRequestKey);
+    }
+    // The compute request goes ahead of the keys
+    return computeSerializer.serializeObjects(routerRequestKeys, serializedComputeRequest);
+  }
+
   private long getLatencyInNS(long startTimeStamp) {
     return System.nanoTime() - startTimeStamp;
   }
@@ -570,6 +659,8 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     this.keySerializer = FastSerializerDeserializerFactory.getAvroGenericSerializer(getKeySchema());
     this.multiGetSerializer =
         FastSerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    this.computeSerializer =
+        FastSerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
   }
 
   @Override
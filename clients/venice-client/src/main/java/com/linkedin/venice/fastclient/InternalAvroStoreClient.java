@@ -1,19 +1,37 @@
 package com.linkedin.venice.fastclient;
 
 import com.linkedin.venice.client.exceptions.VeniceClientException;
-import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.AvroComputeRequestBuilderV3;
+import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
 import com.linkedin.venice.client.store.ComputeRequestBuilder;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.ByteArrayOutputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
 
 
 /**
  * All the internal implementations of different tiers should extend this class.
+ *
+ * All the multi-key APIs are built on top of the streaming ones: {@link #streamingBatchGet(BatchGetRequestContext, Set,
+ * StreamingCallback)} and {@link #compute(ComputeRequestContext, ComputeRequestWrapper, Set, Schema, StreamingCallback,
+ * long)}, which are the only multi-key functions passed through the tiers. This way, the non-streaming variants invoked
+ * on the outermost tier go through every tier, including metrics and retry.
  */
-public abstract class InternalAvroStoreClient<K, V> implements AvroGenericStoreClient<K, V> {
+public abstract class InternalAvroStoreClient<K, V> implements AvroGenericReadComputeStoreClient<K, V> {
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return get(new GetRequestContext(), key);
   }
@@ -23,32 +41,32 @@ public abstract class InternalAvroStoreClient<K, V> implements AvroGenericStoreC
    */
   protected abstract CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException;
 
-  /**
-   * Use StatsAvroGenericStoreClient to get a client instance.
-   * Once batchGet with streaming has stabilized the function of this class is to kickstart the internal
-   * scaffolding. When ready, uncomment the line indicated and then the new implementation will
-   * get wired in
-   * @param keys
-   * @return
-   * @throws VeniceClientException
-   */
   public CompletableFuture<Map<K, V>> batchGet(Set<K> keys) throws VeniceClientException {
-
-    // Uncomment below line when batchGet with streaming has stabillized
-    // return batchGet(new BatchGetRequestContext<K,V>(keys), keys);
-    throw new VeniceClientException("'batchGet' is not supported.");
+    return batchGet(new BatchGetRequestContext<>(), keys);
   }
 
-  /**
-   * This implementation is for future use. It will get wired in via
-   * InternalAvroStoreClient.batchGet(Set<K> keys)
-   * @param requestContext
-   * @param keys
-   * @return
-   * @throws VeniceClientException
-   */
-  protected abstract CompletableFuture<Map<K, V>> batchGet(BatchGetRequestContext<K, V> requestContext, Set<K> keys)
-      throws VeniceClientException;
+  protected CompletableFuture<Map<K, V>> batchGet(BatchGetRequestContext<K, V> requestContext, Set<K> keys)
+      throws VeniceClientException {
+    CompletableFuture<Map<K, V>> responseFuture = new CompletableFuture<>();
+    CompletableFuture<VeniceResponseMap<K, V>> streamingResponseFuture = streamingBatchGet(requestContext, keys);
+    streamingResponseFuture.whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        responseFuture.completeExceptionally(throwable);
+      } else if (!response.isFullResponse()) {
+        if (requestContext.getPartialResponseException().isPresent()) {
+          responseFuture.completeExceptionally(
+              new VeniceClientException(
+                  "Response was not complete",
+                  requestContext.getPartialResponseException().get()));
+        } else {
+          responseFuture.completeExceptionally(new VeniceClientException("Response was not complete"));
+        }
+      } else {
+        responseFuture.complete(response);
+      }
+    });
+    return responseFuture;
+  }
 
   public void streamingBatchGet(final Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
     streamingBatchGet(new BatchGetRequestContext<K, V>(), keys, callback);
@@ -63,11 +81,93 @@ public abstract class InternalAvroStoreClient<K, V> implements AvroGenericStoreC
       Set<K> keys,
       StreamingCallback<K, V> callback);
 
-  protected abstract CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
+  protected CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
       BatchGetRequestContext<K, V> requestContext,
-      Set<K> keys);
+      Set<K> keys) {
+    // keys that do not exist in the storage nodes
+    Queue<K> nonExistingKeys = new ConcurrentLinkedQueue<>();
+    VeniceConcurrentHashMap<K, V> valueMap = new VeniceConcurrentHashMap<>();
+    CompletableFuture<VeniceResponseMap<K, V>> streamingResponseFuture = new VeniceResponseCompletableFuture<>(
+        () -> new VeniceResponseMapImpl<K, V>(valueMap, nonExistingKeys, false),
+        keys.size(),
+        Optional.empty());
+    streamingBatchGet(requestContext, keys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        if (value == null) {
+          nonExistingKeys.add(key);
+        } else {
+          valueMap.put(key, value);
+        }
+      }
 
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (exception.isPresent()) {
+          streamingResponseFuture.completeExceptionally(exception.get());
+        } else {
+          streamingResponseFuture.complete(new VeniceResponseMapImpl<>(valueMap, nonExistingKeys, true));
+        }
+      }
+    });
+    return streamingResponseFuture;
+  }
+
+  @Override
   public ComputeRequestBuilder<K> compute() {
-    throw new VeniceClientException("'compute' is not supported.");
+    return compute(Optional.empty(), Optional.empty(), 0);
+  }
+
+  /**
+   * The compute request builder is built on top of this client, so that the compute requests issued by the builder go
+   * through all the tiers of the client.
+   */
+  @Override
+  public ComputeRequestBuilder<K> compute(
+      Optional<ClientStats> stats,
+      Optional<ClientStats> streamingStats,
+      long preRequestTimeInNS) {
+    return new AvroComputeRequestBuilderV3<>(getLatestValueSchema(), this, stats, streamingStats);
+  }
+
+  @Override
+  public void compute(
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    compute(new ComputeRequestContext<>(), computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+  }
+
+  /**
+   * The compute request is serialized once per replica, so the reused objects of the caller are not needed.
+   */
+  @Override
+  public void compute(
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS,
+      BinaryEncoder reusedEncoder,
+      ByteArrayOutputStream reusedOutputStream) throws VeniceClientException {
+    compute(computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+  }
+
+  protected abstract void compute(
+      ComputeRequestContext<K> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException;
+
+  @Override
+  public void computeWithKeyPrefixFilter(
+      byte[] prefixBytes,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    throw new VeniceClientException("'computeWithKeyPrefixFilter' is not supported.");
   }
 }
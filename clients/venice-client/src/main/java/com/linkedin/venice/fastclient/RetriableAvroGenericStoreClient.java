@@ -3,6 +3,7 @@ package com.linkedin.venice.fastclient;
 import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
@@ -12,6 +13,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -21,12 +25,11 @@ import org.apache.logging.log4j.Logger;
  * 1. The original request latency exceeds the retry threshold.
  * 2. The original request fails.
  *
- * Currently, it only supports single-get.
+ * It supports single-get, and the streaming batch-get and read compute, for which only the pending keys are retried.
  *
  * TODO:
  * 1. Limit the retry volume.
  * 2. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
- * 3. Batch-get retry support.
  */
 public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
   private final boolean longTailRetryEnabledForSingleGet;
@@ -152,13 +155,57 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   }
 
   @Override
-  public void streamingBatchGet(
+  protected void streamingBatchGet(
       BatchGetRequestContext<K, V> requestContext,
       Set<K> keys,
       StreamingCallback<K, V> callback) throws VeniceClientException {
     if (!longTailRetryEnabledForBatchGet) {
       super.streamingBatchGet(requestContext, keys, callback);
+      return;
     }
+    retryStreamingRequest(requestContext, keys, callback, BatchGetRequestContext::new, super::streamingBatchGet);
+  }
+
+  /**
+   * Read compute shares the long tail retry settings of batch-get, since the requests are scattered the same way.
+   */
+  @Override
+  protected void compute(
+      ComputeRequestContext<K> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
+    if (!longTailRetryEnabledForBatchGet) {
+      super.compute(requestContext, computeRequestWrapper, keys, resultSchema, callback, preRequestTimeInNS);
+      return;
+    }
+    retryStreamingRequest(
+        requestContext,
+        keys,
+        callback,
+        ComputeRequestContext::new,
+        (context, keysToSend, streamingCallback) -> super.compute(
+            context,
+            computeRequestWrapper,
+            keysToSend,
+            resultSchema,
+            streamingCallback,
+            preRequestTimeInNS));
+  }
+
+  /**
+   * Sends a multi-key request to the next tier, and once the retry threshold is exceeded, sends another request
+   * for the keys which haven't been received yet. Only the keys of the straggling routes are retried, and the retry
+   * request excludes the routes the original request was sent to for the partitions of these keys.
+   */
+  private <C extends BatchGetRequestContext<K, ?>, T> void retryStreamingRequest(
+      C requestContext,
+      Set<K> keys,
+      StreamingCallback<K, T> callback,
+      Supplier<C> retryContextSupplier,
+      StreamingRequestSender<C, K, T> requestSender) {
     /** Track the final completion of the request. It will be completed normally if
      1. the original requests calls onComplete with no exception
      2. the retry request calls onComplete with no exception
@@ -169,16 +216,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     AtomicReference<Exception> savedException = new AtomicReference<>();
     /** Track all keys with a future. We remove the key when we receive value from either the original or the retry
      callback. Removal is thread safe so we will do it only once. We can then complete the future for that key */
-    VeniceConcurrentHashMap<K, CompletableFuture<V>> pendingKeys = new VeniceConcurrentHashMap<>();
+    VeniceConcurrentHashMap<K, CompletableFuture<T>> pendingKeys = new VeniceConcurrentHashMap<>();
     for (K key: keys) {
-      CompletableFuture<V> originalCompletion = new CompletableFuture<V>();
+      CompletableFuture<T> originalCompletion = new CompletableFuture<>();
       originalCompletion.whenComplete((value, throwable) -> {
         callback.onRecordReceived(key, value);
       });
       pendingKeys.put(key, originalCompletion);
     }
 
-    super.streamingBatchGet(
+    requestSender.send(
         requestContext,
         keys,
         getStreamingCallback(
@@ -199,9 +246,9 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext.numberOfKeysSentInRetryRequest = pendingKeys.size();
         LOGGER.debug("Retrying {} incomplete keys ", pendingKeys.size());
         // Prepare the retry context and track excluded routes on a per partition basis
-        BatchGetRequestContext<K, V> retryContext = new BatchGetRequestContext<>();
+        C retryContext = retryContextSupplier.get();
         retryContext.setRoutesForPartitionMapping(requestContext.getRoutesForPartitionMapping());
-        super.streamingBatchGet(
+        requestSender.send(
             retryContext,
             Collections.unmodifiableSet(pendingKeys.keySet()),
             getStreamingCallback(
@@ -231,16 +278,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     });
   }
 
-  private StreamingCallback<K, V> getStreamingCallback(
+  private <T> StreamingCallback<K, T> getStreamingCallback(
       CompletableFuture<Void> finalRequestCompletion,
       AtomicReference<Exception> savedException,
-      VeniceConcurrentHashMap<K, CompletableFuture<V>> pendingKeys,
+      VeniceConcurrentHashMap<K, CompletableFuture<T>> pendingKeys,
       AtomicInteger successfulKeysCounter) {
-    return new StreamingCallback<K, V>() {
+    return new StreamingCallback<K, T>() {
       @Override
-      public void onRecordReceived(K key, V value) {
+      public void onRecordReceived(K key, T value) {
         // Remove the key and if successful , mark it as complete
-        CompletableFuture<V> removed = pendingKeys.remove(key);
+        CompletableFuture<T> removed = pendingKeys.remove(key);
         if (removed != null) {
           removed.complete(value);
           successfulKeysCounter.incrementAndGet();
@@ -274,4 +321,9 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       }
     };
   }
+
+  @FunctionalInterface
+  private interface StreamingRequestSender<C, K, T> {
+    void send(C requestContext, Set<K> keys, StreamingCallback<K, T> callback);
+  }
 }
@@ -4,7 +4,7 @@ import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.AppTimeOutTrackingCompletableFuture;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
-import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
 import com.linkedin.venice.fastclient.stats.ClientStats;
 import com.linkedin.venice.fastclient.stats.ClusterStats;
@@ -12,11 +12,12 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Time;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,6 +31,7 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
 
   private final ClientStats clientStatsForSingleGet;
   private final ClientStats clientStatsForBatchGet;
+  private final ClientStats clientStatsForCompute;
   private final ClusterStats clusterStats;
 
   private final int maxAllowedKeyCntInBatchGetReq;
@@ -38,6 +40,7 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
     super(delegate);
     this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
     this.clientStatsForBatchGet = clientConfig.getStats(RequestType.MULTI_GET);
+    this.clientStatsForCompute = clientConfig.getStats(RequestType.COMPUTE);
     this.clusterStats = clientConfig.getClusterStats();
     this.maxAllowedKeyCntInBatchGetReq = clientConfig.getMaxAllowedKeyCntInBatchGetReq();
   }
@@ -49,23 +52,6 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
     return recordMetrics(requestContext, 1, innerFuture, startTimeInNS, clientStatsForSingleGet);
   }
 
-  /**
-   * This method is intended to replace the implementation of batchGet once we have some stabilization in the streaming
-   * versions.
-   * Once ready , remove the batchGet(keys) method and then rename this method name to batchGet
-   * @param requestContext
-   * @param keys
-   * @return
-   * @throws VeniceClientException
-   */
-  protected CompletableFuture<Map<K, V>> batchGetWithStreaming(BatchGetRequestContext<K, V> requestContext, Set<K> keys)
-      throws VeniceClientException {
-    long startTimeInNS = System.nanoTime();
-
-    CompletableFuture<Map<K, V>> innerFuture = super.batchGet(requestContext, keys);
-    return recordMetrics(requestContext, keys.size(), innerFuture, startTimeInNS, clientStatsForBatchGet);
-  }
-
   @Override
   protected void streamingBatchGet(
       BatchGetRequestContext<K, V> requestContext,
@@ -81,12 +67,23 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
   }
 
   @Override
-  protected CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
-      BatchGetRequestContext<K, V> requestContext,
-      Set<K> keys) {
+  protected void compute(
+      ComputeRequestContext<K> requestContext,
+      ComputeRequestWrapper computeRequestWrapper,
+      Set<K> keys,
+      Schema resultSchema,
+      StreamingCallback<K, GenericRecord> callback,
+      long preRequestTimeInNS) throws VeniceClientException {
     long startTimeInNS = System.nanoTime();
-    CompletableFuture<VeniceResponseMap<K, V>> innerFuture = super.streamingBatchGet(requestContext, keys);
-    return recordMetrics(requestContext, keys.size(), innerFuture, startTimeInNS, clientStatsForBatchGet);
+    CompletableFuture<Void> statFuture = new CompletableFuture<>();
+    recordMetrics(requestContext, keys.size(), statFuture, startTimeInNS, clientStatsForCompute);
+    super.compute(
+        requestContext,
+        computeRequestWrapper,
+        keys,
+        resultSchema,
+        new StatTrackingStreamingCallBack<>(callback, statFuture, requestContext),
+        preRequestTimeInNS);
   }
 
   private <R> CompletableFuture<R> recordMetrics(
@@ -273,27 +270,7 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
           "Currently, the max allowed key count in a batch-get request: " + maxAllowedKeyCntInBatchGetReq
               + ", but received: " + keyCnt);
     }
-    CompletableFuture<Map<K, V>> resultFuture = new CompletableFuture<>();
-    /* Leverage single-get implementation here */
-    Map<K, CompletableFuture<V>> valueFutures = new HashMap<>();
-    keys.forEach(k -> valueFutures.put(k, (get(k))));
-    CompletableFuture.allOf(valueFutures.values().toArray(new CompletableFuture[keyCnt]))
-        .whenComplete(((aVoid, throwable) -> {
-          if (throwable != null) {
-            resultFuture.completeExceptionally(throwable);
-          }
-          Map<K, V> resultMap = new HashMap<>();
-          valueFutures.forEach((k, f) -> {
-            try {
-              resultMap.put(k, f.get());
-            } catch (Exception e) {
-              resultFuture.completeExceptionally(
-                  new VeniceClientException("Failed to complete future for key: " + k.toString(), e));
-            }
-          });
-          resultFuture.complete(resultMap);
-        }));
-
-    return resultFuture;
+    // Build on top of the streaming batch-get of this client instead of the delegate's to record the metrics
+    return batchGet(new BatchGetRequestContext<>(), keys);
   }
 }
@@ -29,9 +29,11 @@ import com.linkedin.venice.systemstore.schemas.StoreMetaKey;
 import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
 import com.linkedin.venice.systemstore.schemas.StorePartitionerConfig;
 import com.linkedin.venice.systemstore.schemas.StoreProperties;
+import com.linkedin.venice.systemstore.schemas.StoreReplicaStatus;
 import com.linkedin.venice.systemstore.schemas.StoreVersion;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -41,8 +43,10 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -65,6 +69,15 @@ import org.apache.logging.log4j.Logger;
  * TODO All data are cached locally and refreshed periodically for performance reasons before either object cache becomes
  * available for meta system store or a decorator class of the underlying rocksDB classes is made available for consuming
  * deserialized meta system store data directly.
+ *
+ * The refresh runs frequently so that version swaps and replica moves are noticed quickly. As long as the store
+ * properties don't change, it only reads the store properties, the value schemas and the replica statuses of the
+ * current version's partitions. A full refresh, which also reads the replica statuses of every partition of every
+ * version, only runs when the store properties changed or when the cluster of the store changed, which is checked
+ * once every {@link #CLUSTER_DISCOVERY_INTERVAL_IN_MS}. Each refresh compares the meta store values with the ones it
+ * applied last time and only applies the changed ones: the versions only when the store properties changed, and the
+ * ready to serve instances only of the partitions whose replica statuses changed. The schemas are only rebuilt when a
+ * new value schema shows up.
  */
 public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
   private static final Logger LOGGER = LogManager.getLogger(DaVinciClientBasedMetadata.class);
@@ -73,7 +86,8 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
   private static final String STORE_VALUE_SCHEMAS_KEY = "store_value_schemas";
   private static final String VERSION_PARTITION_SEPARATOR = "_";
   private static final long ZSTD_DICT_FETCH_TIMEOUT = 10;
-  private static final long DEFAULT_REFRESH_INTERVAL_IN_SECONDS = 60;
+  private static final long DEFAULT_REFRESH_INTERVAL_IN_SECONDS = 1;
+  private static final long CLUSTER_DISCOVERY_INTERVAL_IN_MS = 60 * Time.MS_PER_SECOND;
   private static final long INITIAL_UPDATE_CACHE_TIMEOUT_IN_SECONDS = 30;
   private static final long RETRY_WAIT_TIME_IN_MS = 1000;
 
@@ -86,6 +100,9 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
   private final AtomicReference<SchemaData> schemas = new AtomicReference<>();
   // A map of version partition string to a list of ready to serve instances.
   private final Map<String, List<String>> readyToServeInstancesMap = new VeniceConcurrentHashMap<>();
+  // A map of version partition string to the replica statuses the ready to serve instances were computed from.
+  private final Map<String, Map<CharSequence, StoreReplicaStatus>> replicaStatusesMap =
+      new VeniceConcurrentHashMap<>();
   // Map of version number to a pair which contains the corresponding partitioner and number of partitions. This is
   // cached since a version's partitioner and partition number are immutable.
   private final Map<Integer, Pair<VenicePartitioner, Integer>> versionPartitionerMap = new VeniceConcurrentHashMap<>();
@@ -95,6 +112,12 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
   private final Map<Integer, ByteBuffer> versionZstdDictionaryMap = new VeniceConcurrentHashMap<>();
   private final CompressorFactory compressorFactory;
   private String clusterName;
+  // The store properties applied by the last successful refresh, only used in updateCache.
+  private StoreProperties appliedStoreProperties;
+  // The version partitions which had no replica statuses in the meta store yet during the last full refresh, they are
+  // read again by the following refreshes. Only used in updateCache.
+  private final List<Pair<Integer, Integer>> pendingVersionPartitions = new ArrayList<>();
+  private long lastClusterDiscoveryTimeInMs;
   private final TransportClient transportClient;
   private ClusterStats clusterStats;
 
@@ -159,7 +182,7 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
     while (true) {
       try {
         // Ensure the cache can be updated at least once before starting the periodic refresh.
-        updateCache();
+        updateCache(true);
         break;
       } catch (MissingKeyInStoreMetadataException e) {
         if (System.currentTimeMillis() > timeoutTime) {
@@ -222,81 +245,83 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
    * Current version should only be updated after readyToServeInstanceMap to avoid race condition between updateCache() and
    * getReplicas. In theory, previous requests with an older version number could get null while we are evicting entries
    * from the readyToServeInstanceMap but that's very unlikely since we always keep at least two versions before evicting.
+   *
+   * @param forceFullRefresh whether to run a full refresh even if the store properties didn't change
+   * @return whether a full refresh was run
    */
-  private synchronized void updateCache() {
+  synchronized boolean updateCache(boolean forceFullRefresh) {
+    if (!forceFullRefresh && !isFullRefreshNeeded()) {
+      updateCurrentVersionReadyToServeReplicas();
+      updatePendingReadyToServeReplicas();
+      updateSchemas();
+      return false;
+    }
     // Re-discover the venice cluster in case it's moved via store migration.
-    clusterName = getStoreMetaValue(
-        MetaStoreDataType.STORE_CLUSTER_CONFIG
-            .getStoreMetaKey(Collections.singletonMap(KEY_STRING_STORE_NAME, storeName))).storeClusterConfig.cluster
-                .toString();
-    storeMetaKeyMap
-        .put(STORE_PROPERTIES_KEY, MetaStoreDataType.STORE_PROPERTIES.getStoreMetaKey(new HashMap<String, String>() {
-          {
-            put(KEY_STRING_STORE_NAME, storeName);
-            put(KEY_STRING_CLUSTER_NAME, clusterName);
-          }
-        }));
+    String newClusterName = discoverClusterName();
+    lastClusterDiscoveryTimeInMs = System.currentTimeMillis();
+    if (!newClusterName.equals(clusterName)) {
+      clusterName = newClusterName;
+      storeMetaKeyMap
+          .put(STORE_PROPERTIES_KEY, MetaStoreDataType.STORE_PROPERTIES.getStoreMetaKey(new HashMap<String, String>() {
+            {
+              put(KEY_STRING_STORE_NAME, storeName);
+              put(KEY_STRING_CLUSTER_NAME, clusterName);
+            }
+          }));
+      // The replica statuses of the new cluster have to be applied even if they are the same as the old ones.
+      appliedStoreProperties = null;
+      replicaStatusesMap.clear();
+    }
     StoreProperties storeProperties = getStoreMetaValue(storeMetaKeyMap.get(STORE_PROPERTIES_KEY)).storeProperties;
-    Int2IntMap newVersionPartitionCountMap = new Int2IntOpenHashMap(storeProperties.versions.size());
-    // Update partitioner pair map
+    boolean storePropertiesChanged = !storeProperties.equals(appliedStoreProperties);
+    Int2IntMap newVersionPartitionCountMap = versionPartitionCountMap;
     IntList zstdDictionaryFetchVersions = new IntArrayList();
-    for (StoreVersion v: storeProperties.versions) {
-      newVersionPartitionCountMap.put(v.number, v.partitionCount);
-      versionPartitionerMap.computeIfAbsent(v.number, k -> {
-        StorePartitionerConfig partitionerConfig = v.partitionerConfig;
-        Properties params = new Properties();
-        params.putAll(partitionerConfig.partitionerParams);
-        VenicePartitioner partitioner = PartitionUtils.getVenicePartitioner(
-            partitionerConfig.partitionerClass.toString(),
-            partitionerConfig.amplificationFactor,
-            new VeniceProperties(params));
-        return new Pair<>(partitioner, v.partitionCount);
-      });
-
-      if (CompressionStrategy.valueOf(v.compressionStrategy).equals(CompressionStrategy.ZSTD_WITH_DICT)
-          && !versionZstdDictionaryMap.containsKey(v.number)) {
-        zstdDictionaryFetchVersions.add(v.number); // versions with no dictionary available
+    if (storePropertiesChanged) {
+      newVersionPartitionCountMap = new Int2IntOpenHashMap(storeProperties.versions.size());
+      // Update partitioner pair map
+      for (StoreVersion v: storeProperties.versions) {
+        newVersionPartitionCountMap.put(v.number, v.partitionCount);
+        versionPartitionerMap.computeIfAbsent(v.number, k -> {
+          StorePartitionerConfig partitionerConfig = v.partitionerConfig;
+          Properties params = new Properties();
+          params.putAll(partitionerConfig.partitionerParams);
+          VenicePartitioner partitioner = PartitionUtils.getVenicePartitioner(
+              partitionerConfig.partitionerClass.toString(),
+              partitionerConfig.amplificationFactor,
+              new VeniceProperties(params));
+          return new Pair<>(partitioner, v.partitionCount);
+        });
+
+        if (CompressionStrategy.valueOf(v.compressionStrategy).equals(CompressionStrategy.ZSTD_WITH_DICT)
+            && !versionZstdDictionaryMap.containsKey(v.number)) {
+          zstdDictionaryFetchVersions.add(v.number); // versions with no dictionary available
+        }
       }
     }
     // Update readyToServeInstanceMap
+    pendingVersionPartitions.clear();
     for (Int2IntMap.Entry entry: newVersionPartitionCountMap.int2IntEntrySet()) {
       // Assumes partitionId is 0 based
       for (int i = 0; i < entry.getIntValue(); i++) {
-        final int partitionId = i;
-        String key = getVersionPartitionMapKey(entry.getIntKey(), partitionId);
         try {
-          readyToServeInstancesMap.compute(key, (k, v) -> getReadyToServeReplicas(entry.getIntKey(), partitionId));
+          updateReadyToServeReplicas(entry.getIntKey(), i);
         } catch (MissingKeyInStoreMetadataException e) {
           // Ignore MissingKeyInStoreMetadataException since a new version may not have replica assignment for all
           // partitions yet. We still want to fetch assignment for all known versions all the time since the refresh is
           // asynchronous to reads and non-blocking. Meaning current version can change in the middle of a refresh.
-          LOGGER.info(
+          // The partition is read again by the following refreshes until its replica statuses show up.
+          LOGGER.debug(
               "No replica info available in meta system store yet for version: {} partition: {}. This is normal if this is a new version",
               Version.composeKafkaTopic(storeName, entry.getIntKey()),
-              partitionId);
+              i);
+          pendingVersionPartitions.add(new Pair<>(entry.getIntKey(), i));
         }
       }
     }
-    // Update schemas TODO consider update in place with additional checks to skip existing schemas for better
-    // performance if it's thread safe.
-    Map.Entry<CharSequence, CharSequence> keySchemaEntry =
-        getStoreMetaValue(storeMetaKeyMap.get(STORE_KEY_SCHEMAS_KEY)).storeKeySchemas.keySchemaMap.entrySet()
-            .iterator()
-            .next();
-    SchemaData schemaData = new SchemaData(storeName);
-    schemaData.setKeySchema(
-        new SchemaEntry(Integer.parseInt(keySchemaEntry.getKey().toString()), keySchemaEntry.getValue().toString()));
-    Map<CharSequence, CharSequence> valueSchemaMap =
-        getStoreMetaValue(storeMetaKeyMap.get(STORE_VALUE_SCHEMAS_KEY)).storeValueSchemas.valueSchemaMap;
-    for (Map.Entry<CharSequence, CharSequence> entry: valueSchemaMap.entrySet()) {
-      Map<String, String> keyMap = new HashMap<>(2);
-      keyMap.put(KEY_STRING_STORE_NAME, storeName);
-      keyMap.put(KEY_STRING_SCHEMA_ID, entry.getKey().toString());
-      StoreMetaKey individualValueSchemaKey = MetaStoreDataType.STORE_VALUE_SCHEMA.getStoreMetaKey(keyMap);
-      String valueSchema = getStoreMetaValue(individualValueSchemaKey).storeValueSchema.valueSchema.toString();
-      schemaData.addValueSchema(new SchemaEntry(Integer.parseInt(entry.getKey().toString()), valueSchema));
+    updateSchemas();
+    if (!storePropertiesChanged) {
+      return true;
     }
-    schemas.set(schemaData);
 
     CompletableFuture<TransportClientResponse>[] dictionaryFetchFutures =
         new CompletableFuture[zstdDictionaryFetchVersions.size()];
@@ -310,7 +335,9 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
         versionPartitionerMap.remove(oldEntry.getIntKey());
         versionZstdDictionaryMap.remove(oldEntry.getIntKey());
         for (int i = 0; i < oldEntry.getIntValue(); i++) {
-          readyToServeInstancesMap.remove(getVersionPartitionMapKey(oldEntry.getIntKey(), i));
+          String key = getVersionPartitionMapKey(oldEntry.getIntKey(), i);
+          readyToServeInstancesMap.remove(key);
+          replicaStatusesMap.remove(key);
         }
       }
     }
@@ -326,6 +353,9 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
       currentVersion.set(storeProperties.currentVersion);
       clusterStats.updateCurrentVersion(currentVersion.get());
       latestSuperSetValueSchemaId.set(storeProperties.latestSuperSetValueSchemaId);
+      // Only mark the store properties as applied once the current version is swapped, so that a failed refresh is
+      // retried by the next one.
+      appliedStoreProperties = storeProperties;
     } catch (InterruptedException interruptedException) {
       Thread.currentThread().interrupt();
       throw new VeniceClientException("Dictionary fetch operation was interrupted");
@@ -336,6 +366,112 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
           e);
       clusterStats.recordVersionUpdateFailure();
     }
+    return true;
+  }
+
+  /**
+   * A full refresh is needed when the store properties changed since the last applied ones, or when the store has
+   * been found in another cluster by the discovery running every {@link #CLUSTER_DISCOVERY_INTERVAL_IN_MS}.
+   */
+  private boolean isFullRefreshNeeded() {
+    if (appliedStoreProperties == null) {
+      return true;
+    }
+    long currentTimeInMs = System.currentTimeMillis();
+    if (currentTimeInMs - lastClusterDiscoveryTimeInMs >= CLUSTER_DISCOVERY_INTERVAL_IN_MS) {
+      lastClusterDiscoveryTimeInMs = currentTimeInMs;
+      if (!discoverClusterName().equals(clusterName)) {
+        return true;
+      }
+    }
+    return !appliedStoreProperties.equals(getStoreMetaValue(storeMetaKeyMap.get(STORE_PROPERTIES_KEY)).storeProperties);
+  }
+
+  private String discoverClusterName() {
+    return getStoreMetaValue(
+        MetaStoreDataType.STORE_CLUSTER_CONFIG
+            .getStoreMetaKey(Collections.singletonMap(KEY_STRING_STORE_NAME, storeName))).storeClusterConfig.cluster
+                .toString();
+  }
+
+  /**
+   * Reads again the replica statuses of the current version's partitions, so that the replica moves are picked up by
+   * every refresh. The ready to serve instances are only recomputed for the partitions whose replica statuses changed.
+   */
+  private void updateCurrentVersionReadyToServeReplicas() {
+    int version = currentVersion.get();
+    int partitionCount = versionPartitionCountMap.getOrDefault(version, 0);
+    for (int i = 0; i < partitionCount; i++) {
+      try {
+        updateReadyToServeReplicas(version, i);
+      } catch (MissingKeyInStoreMetadataException e) {
+        // The partition is tracked in pendingVersionPartitions, which keeps reading it until it shows up.
+      }
+    }
+  }
+
+  /**
+   * Reads again the replica statuses of the version partitions which were missing from the meta store during the last
+   * full refresh.
+   */
+  private void updatePendingReadyToServeReplicas() {
+    Iterator<Pair<Integer, Integer>> iterator = pendingVersionPartitions.iterator();
+    while (iterator.hasNext()) {
+      Pair<Integer, Integer> versionPartition = iterator.next();
+      try {
+        updateReadyToServeReplicas(versionPartition.getFirst(), versionPartition.getSecond());
+        iterator.remove();
+      } catch (MissingKeyInStoreMetadataException e) {
+        // Still not available, it will be read again by the next refresh.
+      }
+    }
+  }
+
+  /**
+   * Only the value schemas which are not known yet are fetched, and the new {@link SchemaData} is swapped in at once.
+   */
+  private void updateSchemas() {
+    SchemaData currentSchemaData = schemas.get();
+    Map<CharSequence, CharSequence> valueSchemaMap =
+        getStoreMetaValue(storeMetaKeyMap.get(STORE_VALUE_SCHEMAS_KEY)).storeValueSchemas.valueSchemaMap;
+    if (currentSchemaData != null && currentSchemaData.getValueSchemas().size() == valueSchemaMap.size()) {
+      boolean hasNewValueSchema = false;
+      for (CharSequence schemaId: valueSchemaMap.keySet()) {
+        if (currentSchemaData.getValueSchema(Integer.parseInt(schemaId.toString())) == null) {
+          hasNewValueSchema = true;
+          break;
+        }
+      }
+      if (!hasNewValueSchema) {
+        return;
+      }
+    }
+    SchemaData schemaData = new SchemaData(storeName);
+    if (currentSchemaData == null) {
+      Map.Entry<CharSequence, CharSequence> keySchemaEntry =
+          getStoreMetaValue(storeMetaKeyMap.get(STORE_KEY_SCHEMAS_KEY)).storeKeySchemas.keySchemaMap.entrySet()
+              .iterator()
+              .next();
+      schemaData.setKeySchema(
+          new SchemaEntry(Integer.parseInt(keySchemaEntry.getKey().toString()), keySchemaEntry.getValue().toString()));
+    } else {
+      // The key schema of a store never changes
+      schemaData.setKeySchema(currentSchemaData.getKeySchema());
+    }
+    for (CharSequence schemaIdStr: valueSchemaMap.keySet()) {
+      int schemaId = Integer.parseInt(schemaIdStr.toString());
+      SchemaEntry valueSchemaEntry = currentSchemaData == null ? null : currentSchemaData.getValueSchema(schemaId);
+      if (valueSchemaEntry == null) {
+        Map<String, String> keyMap = new HashMap<>(2);
+        keyMap.put(KEY_STRING_STORE_NAME, storeName);
+        keyMap.put(KEY_STRING_SCHEMA_ID, schemaIdStr.toString());
+        StoreMetaKey individualValueSchemaKey = MetaStoreDataType.STORE_VALUE_SCHEMA.getStoreMetaKey(keyMap);
+        String valueSchema = getStoreMetaValue(individualValueSchemaKey).storeValueSchema.valueSchema.toString();
+        valueSchemaEntry = new SchemaEntry(schemaId, valueSchema);
+      }
+      schemaData.addValueSchema(valueSchemaEntry);
+    }
+    schemas.set(schemaData);
   }
 
   private String getVersionPartitionMapKey(int version, int partition) {
@@ -344,14 +480,17 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
 
   private void refresh() {
     try {
-      updateCache();
+      updateCache(false);
     } catch (Exception e) {
       // Catch all errors so periodic refresh doesn't break on transient errors.
       LOGGER.error("Encountered unexpected error during refresh", e);
     }
   }
 
-  private List<String> getReadyToServeReplicas(int version, int partitionId) {
+  /**
+   * The ready to serve instances are only recomputed and swapped in when the replica statuses of the partition changed.
+   */
+  private void updateReadyToServeReplicas(int version, int partitionId) {
     StoreMetaKey replicaStatusesKey =
         MetaStoreDataType.STORE_REPLICA_STATUSES.getStoreMetaKey(new HashMap<String, String>() {
           {
@@ -361,7 +500,13 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
             put(KEY_STRING_PARTITION_ID, Integer.toString(partitionId));
           }
         });
-    return PushStatusDecider.getReadyToServeInstances(getStoreMetaValue(replicaStatusesKey).storeReplicaStatuses);
+    Map<CharSequence, StoreReplicaStatus> replicaStatuses =
+        getStoreMetaValue(replicaStatusesKey).storeReplicaStatuses;
+    String key = getVersionPartitionMapKey(version, partitionId);
+    if (!replicaStatuses.equals(replicaStatusesMap.get(key))) {
+      readyToServeInstancesMap.put(key, PushStatusDecider.getReadyToServeInstances(replicaStatuses));
+      replicaStatusesMap.put(key, replicaStatuses);
+    }
   }
 
   @Override
@@ -376,6 +521,7 @@ public class DaVinciClientBasedMetadata extends AbstractStoreMetadata {
       currentThread().interrupt();
     }
     readyToServeInstancesMap.clear();
+    replicaStatusesMap.clear();
     versionPartitionerMap.clear();
     versionPartitionCountMap.clear();
     Utils.closeQuietlyWithErrorLogged(compressorFactory);
@@ -0,0 +1,215 @@
+package com.linkedin.venice.fastclient;
+
+import static com.linkedin.venice.VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.fastclient.factory.ClientFactory;
+import com.linkedin.venice.fastclient.meta.AbstractStoreMetadata;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.tehuti.metrics.MetricsRepository;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import org.apache.avro.specific.SpecificRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeAvroStoreClientUnitTest {
+  private static final String STORE_NAME = "test_store";
+  private static final String INT_FIELD = "int_field";
+  // Goes to partition 0 like the other keys with an even id
+  private static final String NON_EXISTING_KEY = "missing_0";
+  private static final int PARTITION_COUNT = 2;
+  private static final Schema KEY_SCHEMA = new Schema.Parser().parse("\"string\"");
+  private static final Schema VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"TestRecord\", \"fields\": [{\"name\": \"" + INT_FIELD
+          + "\", \"type\": \"int\"}, {\"name\": \"string_field\", \"type\": \"string\"}]}");
+
+  private final RecordSerializer<String> keySerializer =
+      FastSerializerDeserializerFactory.getAvroGenericSerializer(KEY_SCHEMA);
+  private final RecordDeserializer<Object> keyDeserializer =
+      FastSerializerDeserializerFactory.getAvroGenericDeserializer(KEY_SCHEMA, KEY_SCHEMA);
+  private final RecordDeserializer<ComputeRouterRequestKeyV1> computeRequestKeyDeserializer =
+      SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeRouterRequestKeyV1.class);
+  private final RecordSerializer<ComputeResponseRecordV1> computeResponseSerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.SCHEMA$);
+
+  private static String getRoute(int partitionId) {
+    return "https://host" + partitionId + ".linkedin.com";
+  }
+
+  private static int getKeyId(String key) {
+    return Integer.parseInt(key.substring(key.indexOf('_') + 1));
+  }
+
+  /**
+   * Every storage node answers the compute request with the key id as the projected field, and the keys are spread
+   * over the partitions by their key id.
+   */
+  private Client getStorageNodeSimulator(Map<String, AtomicInteger> requestCountPerRoute) {
+    Client r2Client = mock(Client.class);
+    doAnswer(invocation -> {
+      RestRequest request = invocation.getArgument(0);
+      Callback<RestResponse> callback = invocation.getArgument(1);
+      URI uri = request.getURI();
+      requestCountPerRoute.computeIfAbsent(uri.getScheme() + "://" + uri.getHost(), r -> new AtomicInteger())
+          .incrementAndGet();
+      Assert.assertEquals(uri.getPath(), "/compute/" + STORE_NAME + "_v1");
+      Assert.assertEquals(request.getHeader(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID), "1");
+
+      byte[] body = request.getEntity().copyBytes();
+      BinaryDecoder decoder =
+          OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(body, 0, body.length);
+      ComputeRequestWrapper computeRequest =
+          new ComputeRequestWrapper(Integer.parseInt(request.getHeader(HttpConstants.VENICE_API_VERSION)));
+      computeRequest.deserialize(decoder, false);
+      Schema resultSchema = new Schema.Parser().parse(computeRequest.getResultSchemaStr().toString());
+      RecordSerializer<GenericRecord> resultSerializer =
+          SerializerDeserializerFactory.getAvroGenericSerializer(resultSchema);
+
+      List<ComputeResponseRecordV1> records = new ArrayList<>();
+      for (ComputeRouterRequestKeyV1 routerRequestKey: computeRequestKeyDeserializer.deserializeObjects(decoder)) {
+        String key = keyDeserializer.deserialize(routerRequestKey.keyBytes).toString();
+        Assert.assertEquals(getRoute(routerRequestKey.partitionId), uri.getScheme() + "://" + uri.getHost());
+        if (key.equals(NON_EXISTING_KEY)) {
+          continue;
+        }
+        GenericRecord result = new GenericData.Record(resultSchema);
+        result.put(INT_FIELD, getKeyId(key));
+        result.put(VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME, Collections.emptyMap());
+        ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+        record.keyIndex = routerRequestKey.keyIndex;
+        record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
+        records.add(record);
+      }
+      callback.onSuccess(
+          new RestResponseBuilder().setStatus(200)
+              .setHeader(
+                  HttpConstants.VENICE_SCHEMA_ID,
+                  Integer.toString(ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion()))
+              .setEntity(computeResponseSerializer.serializeObjects(records))
+              .build());
+      return null;
+    }).when(r2Client).restRequest(any(RestRequest.class), any(Callback.class));
+    return r2Client;
+  }
+
+  private AvroGenericStoreClient<String, GenericRecord> getFastClient(Client r2Client) {
+    ClientConfig clientConfig = new ClientConfig.ClientConfigBuilder<String, GenericRecord, SpecificRecord>()
+        .setStoreName(STORE_NAME)
+        .setR2Client(r2Client)
+        .setMetricsRepository(new MetricsRepository())
+        .build();
+
+    AbstractStoreMetadata metadata = new AbstractStoreMetadata(clientConfig) {
+      @Override
+      public int getCurrentStoreVersion() {
+        return 1;
+      }
+
+      @Override
+      public int getPartitionId(int version, ByteBuffer key) {
+        return getKeyId(keyDeserializer.deserialize(key.array()).toString()) % PARTITION_COUNT;
+      }
+
+      @Override
+      public List<String> getReplicas(int version, int partitionId) {
+        return Collections.singletonList(getRoute(partitionId));
+      }
+
+      @Override
+      public VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, int version) {
+        return new CompressorFactory().getCompressor(compressionStrategy);
+      }
+
+      @Override
+      public void start() {
+      }
+
+      @Override
+      public Schema getKeySchema() {
+        return KEY_SCHEMA;
+      }
+
+      @Override
+      public Schema getValueSchema(int id) {
+        return VALUE_SCHEMA;
+      }
+
+      @Override
+      public int getValueSchemaId(Schema schema) {
+        return 1;
+      }
+
+      @Override
+      public Schema getLatestValueSchema() {
+        return VALUE_SCHEMA;
+      }
+
+      @Override
+      public Integer getLatestValueSchemaId() {
+        return 1;
+      }
+    };
+    return ClientFactory.getAndStartGenericStoreClient(metadata, clientConfig);
+  }
+
+  @Test
+  public void testComputeIsScatteredToPartitionReplicas() throws Exception {
+    Map<String, AtomicInteger> requestCountPerRoute = new ConcurrentHashMap<>();
+    AvroGenericStoreClient<String, GenericRecord> fastClient =
+        getFastClient(getStorageNodeSimulator(requestCountPerRoute));
+
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add("k_" + i);
+    }
+    keys.add(NON_EXISTING_KEY);
+    Map<String, GenericRecord> results =
+        fastClient.compute().project(INT_FIELD).execute(keys).get(10, TimeUnit.SECONDS);
+
+    Assert.assertEquals(results.size(), 100);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(results.get("k_" + i).get(INT_FIELD), i);
+    }
+    // One request per replica
+    Assert.assertEquals(requestCountPerRoute.size(), PARTITION_COUNT);
+    for (int i = 0; i < PARTITION_COUNT; i++) {
+      Assert.assertEquals(requestCountPerRoute.get(getRoute(i)).get(), 1);
+    }
+    fastClient.close();
+  }
+}
@@ -7,6 +7,7 @@ import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
 import com.linkedin.venice.utils.TestUtils;
 import java.util.Map;
@@ -123,6 +124,16 @@ public class RetriableAvroGenericStoreClientTest {
           Set keys) {
         return null;
       }
+
+      @Override
+      protected void compute(
+          ComputeRequestContext requestContext,
+          ComputeRequestWrapper computeRequestWrapper,
+          Set keys,
+          Schema resultSchema,
+          StreamingCallback callback,
+          long preRequestTimeInNS) {
+      }
     };
   }
 
@@ -152,6 +152,37 @@ public class DaVinciClientBasedMetadataTest {
     }
   }
 
+  @Test(timeOut = TIME_OUT)
+  public void testRefreshIsGatedOnStoreChanges() {
+    VeniceRouterWrapper routerWrapper = veniceCluster.getRandomVeniceRouter();
+    ReadOnlyStoreRepository storeRepository = routerWrapper.getMetaDataRepository();
+    OnlineInstanceFinder onlineInstanceFinder = routerWrapper.getRoutingDataRepository();
+    // The refreshes following a full refresh don't run a full one as long as the store doesn't change
+    assertTrue(daVinciClientBasedMetadata.updateCache(true));
+    int currentVersion = daVinciClientBasedMetadata.getCurrentStoreVersion();
+    List<String> replicas = daVinciClientBasedMetadata.getReplicas(currentVersion, 0);
+    assertFalse(daVinciClientBasedMetadata.updateCache(false));
+    assertFalse(daVinciClientBasedMetadata.updateCache(false));
+    assertEquals(daVinciClientBasedMetadata.getCurrentStoreVersion(), currentVersion);
+    assertEquals(daVinciClientBasedMetadata.getReplicas(currentVersion, 0), replicas);
+
+    // A new version changes the store properties, so it is picked up by the next refresh along with its replicas
+    veniceCluster.createVersion(storeName, KEY_COUNT);
+    TestUtils.waitForNonDeterministicAssertion(
+        30,
+        TimeUnit.SECONDS,
+        () -> assertEquals(
+            daVinciClientBasedMetadata.getCurrentStoreVersion(),
+            storeRepository.getStore(storeName).getCurrentVersion()));
+    Version newVersion =
+        storeRepository.getStore(storeName).getVersion(daVinciClientBasedMetadata.getCurrentStoreVersion()).get();
+    verifyMetadata(
+        onlineInstanceFinder,
+        newVersion.getNumber(),
+        newVersion.getPartitionCount(),
+        keySerializer.serialize(1));
+  }
+
   @Test(timeOut = TIME_OUT)
   public void testMetadataSchemaRetriever() {
     ReadOnlySchemaRepository schemaRepository = veniceCluster.getRandomVeniceRouter().getSchemaRepository();
@@ -0,0 +1,143 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_CLUSTER_NAME;
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_PARTITION_ID;
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_SCHEMA_ID;
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_STORE_NAME;
+import static com.linkedin.venice.system.store.MetaStoreWriter.KEY_STRING_VERSION_NUMBER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.meta.PartitionerConfigImpl;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.pushmonitor.ExecutionStatus;
+import com.linkedin.venice.system.store.MetaStoreDataType;
+import com.linkedin.venice.systemstore.schemas.StoreClusterConfig;
+import com.linkedin.venice.systemstore.schemas.StoreKeySchemas;
+import com.linkedin.venice.systemstore.schemas.StoreMetaKey;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import com.linkedin.venice.systemstore.schemas.StoreReplicaStatus;
+import com.linkedin.venice.systemstore.schemas.StoreValueSchema;
+import com.linkedin.venice.systemstore.schemas.StoreValueSchemas;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.Test;
+
+
+public class DaVinciClientBasedMetadataUnitTest {
+  private static final String CLUSTER_NAME = "test-cluster";
+  private static final String VALUE_SCHEMA = "\"string\"";
+
+  @Test
+  public void testReplicaMoveIsPickedUpWithoutStoreChange() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<StoreMetaKey, StoreMetaValue> metaStore = new HashMap<>();
+    DaVinciClient<StoreMetaKey, StoreMetaValue> daVinciClient = mock(DaVinciClient.class);
+    doAnswer(invocation -> CompletableFuture.completedFuture(metaStore.get(invocation.getArgument(0))))
+        .when(daVinciClient)
+        .get(any());
+
+    StoreMetaValue clusterConfigValue = new StoreMetaValue();
+    clusterConfigValue.storeClusterConfig = new StoreClusterConfig();
+    clusterConfigValue.storeClusterConfig.cluster = CLUSTER_NAME;
+    metaStore.put(
+        MetaStoreDataType.STORE_CLUSTER_CONFIG
+            .getStoreMetaKey(Collections.singletonMap(KEY_STRING_STORE_NAME, storeName)),
+        clusterConfigValue);
+
+    Store store = TestUtils.createTestStore(storeName, "owner", System.currentTimeMillis());
+    Version version = new VersionImpl(storeName, 1, "test_push", 2);
+    version.setPartitionerConfig(new PartitionerConfigImpl());
+    store.addVersion(version);
+    store.setCurrentVersion(1);
+    StoreMetaValue storePropertiesValue = new StoreMetaValue();
+    storePropertiesValue.storeProperties = store.dataModel();
+    Map<String, String> storePropertiesKeyMap = new HashMap<>();
+    storePropertiesKeyMap.put(KEY_STRING_STORE_NAME, storeName);
+    storePropertiesKeyMap.put(KEY_STRING_CLUSTER_NAME, CLUSTER_NAME);
+    metaStore.put(MetaStoreDataType.STORE_PROPERTIES.getStoreMetaKey(storePropertiesKeyMap), storePropertiesValue);
+
+    StoreMetaValue keySchemasValue = new StoreMetaValue();
+    keySchemasValue.storeKeySchemas = new StoreKeySchemas();
+    keySchemasValue.storeKeySchemas.keySchemaMap = Collections.singletonMap("1", "\"int\"");
+    metaStore.put(
+        MetaStoreDataType.STORE_KEY_SCHEMAS.getStoreMetaKey(Collections.singletonMap(KEY_STRING_STORE_NAME, storeName)),
+        keySchemasValue);
+    StoreMetaValue valueSchemasValue = new StoreMetaValue();
+    valueSchemasValue.storeValueSchemas = new StoreValueSchemas();
+    valueSchemasValue.storeValueSchemas.valueSchemaMap = Collections.singletonMap("1", VALUE_SCHEMA);
+    metaStore.put(
+        MetaStoreDataType.STORE_VALUE_SCHEMAS
+            .getStoreMetaKey(Collections.singletonMap(KEY_STRING_STORE_NAME, storeName)),
+        valueSchemasValue);
+    StoreMetaValue valueSchemaValue = new StoreMetaValue();
+    valueSchemaValue.storeValueSchema = new StoreValueSchema();
+    valueSchemaValue.storeValueSchema.valueSchema = VALUE_SCHEMA;
+    Map<String, String> valueSchemaKeyMap = new HashMap<>();
+    valueSchemaKeyMap.put(KEY_STRING_STORE_NAME, storeName);
+    valueSchemaKeyMap.put(KEY_STRING_SCHEMA_ID, "1");
+    metaStore.put(MetaStoreDataType.STORE_VALUE_SCHEMA.getStoreMetaKey(valueSchemaKeyMap), valueSchemaValue);
+
+    for (int partition = 0; partition < 2; partition++) {
+      metaStore.put(getReplicaStatusesKey(storeName, 1, partition), getReplicaStatusesValue("host1", "host2"));
+    }
+
+    ClientConfig clientConfig = new ClientConfig.ClientConfigBuilder<>().setStoreName(storeName)
+        .setR2Client(mock(Client.class))
+        .setMetricsRepository(new MetricsRepository())
+        .setSpeculativeQueryEnabled(true)
+        .setDaVinciClientForMetaStore(daVinciClient)
+        .build();
+    DaVinciClientBasedMetadata metadata = new DaVinciClientBasedMetadata(clientConfig);
+    try {
+      assertTrue(metadata.updateCache(true));
+      assertEquals(metadata.getCurrentStoreVersion(), 1);
+      assertEquals(new HashSet<>(metadata.getReplicas(1, 0)), new HashSet<>(Arrays.asList("host1", "host2")));
+
+      // Move a replica of the current version without changing the store properties
+      metaStore.put(getReplicaStatusesKey(storeName, 1, 0), getReplicaStatusesValue("host1", "host3"));
+      assertFalse(metadata.updateCache(false));
+      assertEquals(new HashSet<>(metadata.getReplicas(1, 0)), new HashSet<>(Arrays.asList("host1", "host3")));
+      assertEquals(new HashSet<>(metadata.getReplicas(1, 1)), new HashSet<>(Arrays.asList("host1", "host2")));
+    } finally {
+      Utils.closeQuietlyWithErrorLogged(metadata);
+    }
+  }
+
+  private static StoreMetaKey getReplicaStatusesKey(String storeName, int version, int partition) {
+    Map<String, String> keyMap = new HashMap<>();
+    keyMap.put(KEY_STRING_STORE_NAME, storeName);
+    keyMap.put(KEY_STRING_CLUSTER_NAME, CLUSTER_NAME);
+    keyMap.put(KEY_STRING_VERSION_NUMBER, Integer.toString(version));
+    keyMap.put(KEY_STRING_PARTITION_ID, Integer.toString(partition));
+    return MetaStoreDataType.STORE_REPLICA_STATUSES.getStoreMetaKey(keyMap);
+  }
+
+  private static StoreMetaValue getReplicaStatusesValue(String... instances) {
+    Map<CharSequence, StoreReplicaStatus> replicaStatuses = new HashMap<>();
+    for (String instance: instances) {
+      StoreReplicaStatus replicaStatus = new StoreReplicaStatus();
+      replicaStatus.status = ExecutionStatus.COMPLETED.getValue();
+      replicaStatuses.put(instance, replicaStatus);
+    }
+    StoreMetaValue value = new StoreMetaValue();
+    value.storeReplicaStatuses = replicaStatuses;
+    return value;
+  }
+}
@@ -67,6 +67,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.io.IOUtils;
@@ -88,6 +89,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private static final Map<String, String> COMPUTE_HEADER_MAP_V3 = new HashMap<>();
   protected static final Map<String, String> COMPUTE_HEADER_MAP_FOR_STREAMING_V2;
   protected static final Map<String, String> COMPUTE_HEADER_MAP_FOR_STREAMING_V3;
+  private static final ThreadLocal<BinaryDecoder> REUSED_DECODER = new ThreadLocal<>();
 
   static {
     /**
@@ -754,6 +756,20 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     return getSchemaReader().getLatestValueSchema();
   }
 
+  /**
+   * The decoder is reused by all the records deserialized by the same thread, since the deserialization of a record
+   * never spans multiple threads.
+   */
+  private static BinaryDecoder getReusedDecoder(ByteBuffer data) {
+    BinaryDecoder decoder = AvroCompatibilityHelper.newBinaryDecoder(
+        data.array(),
+        data.arrayOffset() + data.position(),
+        data.remaining(),
+        REUSED_DECODER.get());
+    REUSED_DECODER.set(decoder);
+    return decoder;
+  }
+
   private ByteBuffer decompressRecord(CompressionStrategy compressionStrategy, ByteBuffer data) {
     try {
       return compressorFactory.getCompressor(compressionStrategy).decompress(data);
@@ -777,7 +793,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
    *
    * The envelope deserialization will happen in TransportClient thread pool (R2 thread pool for example if using
    * {@link D2TransportClient}, and both the record deserialization and application's callback will be executed in
-   * Venice thread pool: {@link #deserializationExecutor},
+   * Venice thread pool: {@link #deserializationExecutor}. The records available after each chunk are deserialized by
+   * the configured {@link BatchDeserializer}, which can further spread them over the Venice thread pool.
    *
    * @param <ENVELOPE>
    * @param <K>
@@ -790,6 +807,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     private final DeserializerFunc<ENVELOPE, V> recordDeserializerFunc;
     private final Function<ENVELOPE, Integer> indexRetrievalFunc;
     private final Function<ENVELOPE, StreamingFooterRecordV1> streamingFooterRecordDeserializer;
+    private final BatchDeserializer<ENVELOPE, K, V> batchDeserializer;
 
     private boolean isStreamingResponse = false;
     private int responseSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
@@ -814,7 +832,8 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         Function<Integer, ReadEnvelopeChunkedDeserializer<ENVELOPE>> envelopeDeserializerFunc,
         DeserializerFunc<ENVELOPE, V> recordDeserializerFunc,
         Function<ENVELOPE, Integer> indexRetrievalFunc,
-        Function<ENVELOPE, StreamingFooterRecordV1> streamingFooterRecordDeserializer) {
+        Function<ENVELOPE, StreamingFooterRecordV1> streamingFooterRecordDeserializer,
+        BatchDeserializer<ENVELOPE, K, V> batchDeserializer) {
       this.keyList = keyList;
       this.callback = callback;
       this.preSubmitTimeInNS = System.nanoTime();
@@ -829,6 +848,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
       this.indexRetrievalFunc = indexRetrievalFunc;
       this.receivedKeySet = new BitSet(keyList.size());
       this.streamingFooterRecordDeserializer = streamingFooterRecordDeserializer;
+      this.batchDeserializer = batchDeserializer;
     }
 
     @Override
@@ -873,75 +893,84 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         // no full record is available
         return;
       }
-      CompletableFuture<Void> deserializationFuture = CompletableFuture.runAsync(() -> {
-        Map<K, V> resultMap = new HashMap<>();
-        for (ENVELOPE record: availableRecords) {
-          final int keyIdx = indexRetrievalFunc.apply(record);
-          validateKeyIdx(keyIdx);
-          if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
-            // Deserialize footer record
-            streamingFooterRecord = Optional.of(streamingFooterRecordDeserializer.apply(record));
-            break;
-          }
-          final int absKeyIdx = Math.abs(keyIdx);
-          // Track duplicate entries per request
-          if (absKeyIdx < keyList.size()) {
-            synchronized (receivedKeySet) {
-              if (receivedKeySet.get(absKeyIdx)) {
-                // Encounter duplicate entry because of retrying logic in Venice Router
-                ++duplicateEntryCnt;
-                continue;
-              }
-              receivedKeySet.set(absKeyIdx);
-            }
-          }
-          K key = keyList.get(absKeyIdx);
-
-          V value;
-          if (keyIdx < 0) {
-            // Key doesn't exist
-            value = null;
-          } else {
-            /**
-             * The above condition could NOT capture the non-existing key with index: 0,
-             * so {@link DeserializerFunc#deserialize(Object, CompressionStrategy)} needs to handle it by checking
-             * whether the value is an empty byte array or not, and essentially the deserialization function should
-             * return null in this situation.
-             */
-            long preRecordDeserializationInNS = System.nanoTime();
-            value = recordDeserializerFunc.deserialize(record, compressionStrategy);
-            deserializationTimeInNS.add(System.nanoTime() - preRecordDeserializationInNS);
-            /**
-             * If key index is not 0, it is unexpected to receive non-null value.
-             */
-            if (value == null && keyIdx != 0) {
-              throw new VeniceClientException("Expected to receive non-null value for key: " + keyList.get(keyIdx));
-            }
-          }
-          trackingStreamingCallback.ifPresent(t -> t.onRecordDeserialized());
-          resultMap.put(key, value);
-          if (value != null) {
-            successfulKeyCnt.incrementAndGet();
-          }
-        }
-        if (resultMap.isEmpty()) {
-          return;
+      CompletableFuture<Map<K, V>> valueFuture = new CompletableFuture<>();
+      CompletableFuture.runAsync(() -> {
+        try {
+          batchDeserializer
+              .deserialize(valueFuture, availableRecords, keyList, this::processRecord, () -> {}, clientStats, 0);
+        } catch (Exception e) {
+          valueFuture.completeExceptionally(e);
         }
-        /**
-         * Execute the user callback in the same thread.
-         *
-         * There is a bug in JDK8, which could cause {@link CompletableFuture#allOf(CompletableFuture[])} if there
-         * are multiple layers of async processing:
-         * https://bugs.openjdk.java.net/browse/JDK-8201576
-         * So if the user's callback is executed in another async handler, {@link CompletableFuture#allOf(CompletableFuture[])}
-         * will hang sometimes.
-         * Also with this way, the context switches are also reduced.
-          */
-        resultMap.forEach((k, v) -> callback.onRecordReceived(k, v));
       }, deserializationExecutor);
+      /**
+       * Execute the user callback in the thread completing the deserialization.
+       *
+       * There is a bug in JDK8, which could cause {@link CompletableFuture#allOf(CompletableFuture[])} if there
+       * are multiple layers of async processing:
+       * https://bugs.openjdk.java.net/browse/JDK-8201576
+       * So if the user's callback is executed in another async handler,
+       * {@link CompletableFuture#allOf(CompletableFuture[])} will hang sometimes.
+       * Also with this way, the context switches are also reduced.
+       */
+      CompletableFuture<Void> deserializationFuture =
+          valueFuture.thenAccept(resultMap -> resultMap.forEach((k, v) -> callback.onRecordReceived(k, v)));
       deserializationFutures.add(deserializationFuture);
     }
 
+    /**
+     * Deserializes a single record into the result map, and this function could be invoked by multiple threads
+     * concurrently with different result maps.
+     */
+    private void processRecord(Map<K, V> resultMap, ENVELOPE record) {
+      final int keyIdx = indexRetrievalFunc.apply(record);
+      validateKeyIdx(keyIdx);
+      if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
+        // Deserialize footer record, which is always the last record of the response
+        streamingFooterRecord = Optional.of(streamingFooterRecordDeserializer.apply(record));
+        return;
+      }
+      final int absKeyIdx = Math.abs(keyIdx);
+      // Track duplicate entries per request
+      if (absKeyIdx < keyList.size()) {
+        synchronized (receivedKeySet) {
+          if (receivedKeySet.get(absKeyIdx)) {
+            // Encounter duplicate entry because of retrying logic in Venice Router
+            ++duplicateEntryCnt;
+            return;
+          }
+          receivedKeySet.set(absKeyIdx);
+        }
+      }
+      K key = keyList.get(absKeyIdx);
+
+      V value;
+      if (keyIdx < 0) {
+        // Key doesn't exist
+        value = null;
+      } else {
+        /**
+         * The above condition could NOT capture the non-existing key with index: 0,
+         * so {@link DeserializerFunc#deserialize(Object, CompressionStrategy)} needs to handle it by checking
+         * whether the value is an empty byte array or not, and essentially the deserialization function should
+         * return null in this situation.
+         */
+        long preRecordDeserializationInNS = System.nanoTime();
+        value = recordDeserializerFunc.deserialize(record, compressionStrategy);
+        deserializationTimeInNS.add(System.nanoTime() - preRecordDeserializationInNS);
+        /**
+         * If key index is not 0, it is unexpected to receive non-null value.
+         */
+        if (value == null && keyIdx != 0) {
+          throw new VeniceClientException("Expected to receive non-null value for key: " + keyList.get(keyIdx));
+        }
+      }
+      trackingStreamingCallback.ifPresent(t -> t.onRecordDeserialized());
+      resultMap.put(key, value);
+      if (value != null) {
+        successfulKeyCnt.incrementAndGet();
+      }
+    }
+
     @Override
     public void onCompletion(Optional<VeniceClientException> exception) {
       // Only complete it when all the futures are done.
@@ -1037,8 +1066,11 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
           RecordDeserializer<V> recordDeserializer =
               deserializerCache.computeIfAbsent(envelope.schemaId, id -> getDataRecordDeserializer(id));
           ByteBuffer decompressedValue = decompressRecord(compressionStrategy, envelope.value);
-          return recordDeserializer.deserialize(decompressedValue);
-        }, envelope -> envelope.keyIndex, envelope -> streamingFooterRecordDeserializer.deserialize(envelope.value)),
+          return recordDeserializer.deserialize(getReusedDecoder(decompressedValue));
+        },
+            envelope -> envelope.keyIndex,
+            envelope -> streamingFooterRecordDeserializer.deserialize(envelope.value),
+            batchGetDeserializer),
         keyList.size());
   }
 
@@ -1106,10 +1138,12 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
                 // Safeguard to handle empty value, which indicates non-existing key.
                 return null;
               }
-              return ComputeGenericRecord.wrap(computeResultRecordDeserializer.deserialize(envelope.value));
+              return ComputeGenericRecord
+                  .wrap(computeResultRecordDeserializer.deserialize(getReusedDecoder(envelope.value)));
             },
             envelope -> envelope.keyIndex,
-            envelope -> streamingFooterRecordDeserializer.deserialize(envelope.value)),
+            envelope -> streamingFooterRecordDeserializer.deserialize(envelope.value),
+            computeDeserializer),
         keyList.size());
   }
 }
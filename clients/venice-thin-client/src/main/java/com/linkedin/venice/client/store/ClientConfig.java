@@ -94,6 +94,7 @@ public class ClientConfig<T extends SpecificRecord> {
         .setRetryCount(config.getRetryCount())
         .setRetryBackOffInMs(config.getRetryBackOffInMs())
         .setUseBlackHoleDeserializer(config.isUseBlackHoleDeserializer())
+        .setBatchDeserializerType(config.getBatchDeserializerType())
         .setReuseObjectsForSerialization(config.isReuseObjectsForSerialization())
         // Security settings
         .setHttps(config.isHttps())
@@ -281,6 +282,10 @@ public class ClientConfig<T extends SpecificRecord> {
     return batchDeserializerType.get(executor, this);
   }
 
+  public BatchDeserializerType getBatchDeserializerType() {
+    return batchDeserializerType;
+  }
+
   public ClientConfig<T> setBatchDeserializerType(BatchDeserializerType batchDeserializerType) {
     if (batchDeserializerType.equals(BatchDeserializerType.ONE_FUTURE_PER_RECORD)
         || batchDeserializerType.equals(BatchDeserializerType.ALWAYS_ON_MULTI_THREADED_PIPELINE)) {
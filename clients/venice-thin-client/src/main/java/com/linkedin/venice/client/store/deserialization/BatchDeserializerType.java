@@ -9,9 +9,12 @@ import java.util.function.BiFunction;
  * This enum controls the behavior of the user payload deserialization phase of the batch get response handling.
  */
 public enum BatchDeserializerType {
-  /** Only supported working mode */
+  /** Default working mode */
   BLOCKING((executor, clientConfig) -> new BlockingDeserializer(executor, clientConfig)),
 
+  /** Deserializes large batches of records in parallel on the deserialization executor */
+  PARALLEL((executor, clientConfig) -> new ParallelDeserializer(executor, clientConfig)),
+
   @Deprecated
   ONE_FUTURE_PER_RECORD((executor, clientConfig) -> new BlockingDeserializer(executor, clientConfig)),
 
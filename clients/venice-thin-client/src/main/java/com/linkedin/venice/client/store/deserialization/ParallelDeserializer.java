@@ -0,0 +1,98 @@
+package com.linkedin.venice.client.store.deserialization;
+
+import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.stats.Reporter;
+import com.linkedin.venice.client.store.ClientConfig;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+
+/**
+ * This {@link BatchDeserializer} splits the records into ranges, and deserializes the ranges in parallel on the
+ * deserialization executor. The calling thread deserializes the first range itself instead of waiting.
+ *
+ * Batches which are too small to be worth the hand-off to other threads are deserialized sequentially on the
+ * calling thread, the same way as {@link BlockingDeserializer}.
+ */
+public class ParallelDeserializer<E, K, V> extends BatchDeserializer<E, K, V> {
+  /**
+   * Below this number of records per range, the cost of the hand-off outweighs the gain of the parallelism.
+   */
+  static final int MIN_RECORD_COUNT_PER_RANGE = 64;
+
+  private final int maxRangeCount;
+
+  public ParallelDeserializer(Executor deserializationExecutor, ClientConfig clientConfig) {
+    super(deserializationExecutor, clientConfig);
+    // Same as the size of the default deserialization executor
+    this.maxRangeCount = Math.max(Runtime.getRuntime().availableProcessors() / 2, 2);
+  }
+
+  @Override
+  public void deserialize(
+      CompletableFuture<Map<K, V>> valueFuture,
+      Iterable<E> envelopes,
+      List<K> keyList,
+      BiConsumer<Map<K, V>, E> envelopeProcessor,
+      Reporter responseDeserializationComplete,
+      Optional<ClientStats> stats,
+      long preResponseEnvelopeDeserialization) {
+    List<E> envelopeList;
+    if (envelopes instanceof List) {
+      envelopeList = (List<E>) envelopes;
+    } else {
+      envelopeList = new ArrayList<>();
+      envelopes.forEach(envelopeList::add);
+    }
+    int rangeCount = Math.min(maxRangeCount, envelopeList.size() / MIN_RECORD_COUNT_PER_RANGE);
+    if (rangeCount <= 1) {
+      valueFuture.complete(deserializeRange(envelopeList, keyList.size(), envelopeProcessor));
+      responseDeserializationComplete.report();
+      return;
+    }
+
+    int rangeSize = (envelopeList.size() + rangeCount - 1) / rangeCount;
+    CompletableFuture<Map<K, V>>[] rangeFutures = new CompletableFuture[rangeCount];
+    for (int i = 1; i < rangeCount; i++) {
+      List<E> range = envelopeList.subList(i * rangeSize, Math.min((i + 1) * rangeSize, envelopeList.size()));
+      rangeFutures[i] = CompletableFuture
+          .supplyAsync(() -> deserializeRange(range, range.size(), envelopeProcessor), deserializationExecutor);
+    }
+    rangeFutures[0] = new CompletableFuture<>();
+    try {
+      rangeFutures[0].complete(deserializeRange(envelopeList.subList(0, rangeSize), rangeSize, envelopeProcessor));
+    } catch (Exception e) {
+      rangeFutures[0].completeExceptionally(e);
+    }
+
+    CompletableFuture.allOf(rangeFutures).whenComplete((ignored, throwable) -> {
+      if (throwable != null) {
+        valueFuture.completeExceptionally(throwable);
+        return;
+      }
+      Map<K, V> resultMap = new HashMap<>(keyList.size());
+      for (CompletableFuture<Map<K, V>> rangeFuture: rangeFutures) {
+        resultMap.putAll(rangeFuture.join());
+      }
+      valueFuture.complete(resultMap);
+      responseDeserializationComplete.report();
+    });
+  }
+
+  private Map<K, V> deserializeRange(
+      List<E> envelopes,
+      int expectedSize,
+      BiConsumer<Map<K, V>, E> envelopeProcessor) {
+    Map<K, V> resultMap = new HashMap<>(expectedSize);
+    for (E envelope: envelopes) {
+      envelopeProcessor.accept(resultMap, envelope);
+    }
+    return resultMap;
+  }
+}
@@ -0,0 +1,114 @@
+package com.linkedin.venice.client.store.deserialization;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class ParallelDeserializerTest {
+  private ExecutorService executor;
+
+  @BeforeClass
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4, new DaemonThreadFactory("ParallelDeserializerTest"));
+  }
+
+  @AfterClass
+  public void cleanUp() throws InterruptedException {
+    TestUtils.shutdownExecutor(executor);
+  }
+
+  private List<Integer> getKeyList(int keyCount) {
+    List<Integer> keyList = new ArrayList<>(keyCount);
+    for (int i = 0; i < keyCount; i++) {
+      keyList.add(i);
+    }
+    return keyList;
+  }
+
+  @Test(timeOut = 10000)
+  public void testDeserializeLargeBatch() throws Exception {
+    int keyCount = 1000;
+    List<Integer> keyList = getKeyList(keyCount);
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    AtomicInteger reportCount = new AtomicInteger();
+    CompletableFuture<Map<Integer, String>> valueFuture = new CompletableFuture<>();
+
+    new ParallelDeserializer<Integer, Integer, String>(executor, ClientConfig.defaultGenericClientConfig("test_store"))
+        .deserialize(valueFuture, keyList, keyList, (resultMap, envelope) -> {
+          threadNames.add(Thread.currentThread().getName());
+          resultMap.put(envelope, "value_" + envelope);
+        }, reportCount::incrementAndGet, Optional.empty(), 0);
+
+    Map<Integer, String> resultMap = valueFuture.get();
+    Assert.assertEquals(resultMap.size(), keyCount);
+    for (int i = 0; i < keyCount; i++) {
+      Assert.assertEquals(resultMap.get(i), "value_" + i);
+    }
+    // The calling thread takes part in the deserialization along with the executor
+    Assert.assertTrue(threadNames.contains(Thread.currentThread().getName()));
+    Assert.assertTrue(threadNames.size() > 1);
+    TestUtils.waitForNonDeterministicAssertion(1, TimeUnit.SECONDS, () -> Assert.assertEquals(reportCount.get(), 1));
+  }
+
+  @Test(timeOut = 10000)
+  public void testDeserializeSmallBatchOnCallingThread() throws Exception {
+    List<Integer> keyList = getKeyList(ParallelDeserializer.MIN_RECORD_COUNT_PER_RANGE);
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+    AtomicInteger reportCount = new AtomicInteger();
+    CompletableFuture<Map<Integer, String>> valueFuture = new CompletableFuture<>();
+
+    new ParallelDeserializer<Integer, Integer, String>(executor, ClientConfig.defaultGenericClientConfig("test_store"))
+        .deserialize(valueFuture, keyList, keyList, (resultMap, envelope) -> {
+          threadNames.add(Thread.currentThread().getName());
+          resultMap.put(envelope, "value_" + envelope);
+        }, reportCount::incrementAndGet, Optional.empty(), 0);
+
+    Assert.assertTrue(valueFuture.isDone());
+    Assert.assertEquals(valueFuture.get().size(), keyList.size());
+    Assert.assertEquals(threadNames.size(), 1);
+    Assert.assertTrue(threadNames.contains(Thread.currentThread().getName()));
+    Assert.assertEquals(reportCount.get(), 1);
+  }
+
+  @Test(timeOut = 10000)
+  public void testDeserializationFailure() throws Exception {
+    int keyCount = 1000;
+    List<Integer> keyList = getKeyList(keyCount);
+    AtomicInteger reportCount = new AtomicInteger();
+    CompletableFuture<Map<Integer, String>> valueFuture = new CompletableFuture<>();
+
+    new ParallelDeserializer<Integer, Integer, String>(executor, ClientConfig.defaultGenericClientConfig("test_store"))
+        .deserialize(valueFuture, keyList, keyList, (resultMap, envelope) -> {
+          if (envelope == keyCount - 1) {
+            throw new VeniceClientException("mock_exception");
+          }
+          resultMap.put(envelope, "value_" + envelope);
+        }, reportCount::incrementAndGet, Optional.empty(), 0);
+
+    try {
+      valueFuture.get();
+      Assert.fail("The deserialization failure should be propagated");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause().getMessage().contains("mock_exception"));
+    }
+    Assert.assertEquals(reportCount.get(), 0);
+  }
+}
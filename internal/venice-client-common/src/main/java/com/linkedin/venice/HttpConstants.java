@@ -35,6 +35,13 @@ public class HttpConstants {
 
   public static final String VENICE_ALLOW_REDIRECT = "X-VENICE-ALLOW-REDIRECT";
 
+  /**
+   * Feedback of the load of the storage node, which is piggybacked in the read responses for the replica selection
+   * in router: the length of the storage execution queue, and the time in ms the request waited in the queue.
+   */
+  public static final String VENICE_STORAGE_QUEUE_LENGTH = "X-VENICE-STORAGE-QUEUE-LENGTH";
+  public static final String VENICE_STORAGE_QUEUE_TIME = "X-VENICE-STORAGE-QUEUE-TIME";
+
   public static final int SC_MISDIRECTED_REQUEST = 421;
 
   private HttpConstants() {
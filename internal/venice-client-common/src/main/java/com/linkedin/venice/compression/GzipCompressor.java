@@ -32,7 +32,15 @@ public class GzipCompressor extends VeniceCompressor {
 
   @Override
   public ByteBuffer decompress(ByteBuffer data) throws IOException {
-    return data.hasRemaining() ? decompress(data.array(), data.position(), data.remaining()) : data;
+    if (!data.hasRemaining()) {
+      return data;
+    }
+    if (data.hasArray()) {
+      return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
+    }
+    byte[] bytes = new byte[data.remaining()];
+    data.duplicate().get(bytes);
+    return decompress(bytes, 0, bytes.length);
   }
 
   @Override
@@ -30,6 +30,11 @@ public class NoopCompressor extends VeniceCompressor {
     return ByteBuffer.wrap(data, offset, length);
   }
 
+  @Override
+  public int getDecompressedSize(byte[] data, int offset, int length) {
+    return length;
+  }
+
   @Override
   public InputStream decompress(InputStream inputStream) throws IOException {
     return inputStream;
@@ -21,6 +21,31 @@ public abstract class VeniceCompressor implements Closeable {
 
   public abstract ByteBuffer decompress(byte[] data, int offset, int length) throws IOException;
 
+  /**
+   * @return the size of the decompressed data if the compressed data records it, such as the content size in the
+   *         zstd frame header, or -1 if it is unknown without decompressing the data.
+   */
+  public int getDecompressedSize(byte[] data, int offset, int length) {
+    return -1;
+  }
+
+  /**
+   * Decompresses the data straight into the given output range, which is expected to be sized with
+   * {@link #getDecompressedSize(byte[], int, int)}.
+   *
+   * @return the number of decompressed bytes written into the output.
+   */
+  public int decompress(byte[] data, int offset, int length, byte[] output, int outputOffset, int outputLength)
+      throws IOException {
+    ByteBuffer decompressed = decompress(data, offset, length);
+    int size = decompressed.remaining();
+    if (size > outputLength) {
+      throw new IOException("The decompressed size: " + size + " exceeds the output size: " + outputLength);
+    }
+    decompressed.duplicate().get(output, outputOffset, size);
+    return size;
+  }
+
   public CompressionStrategy getCompressionStrategy() {
     return compressionStrategy;
   }
@@ -3,8 +3,11 @@ package com.linkedin.venice.compression;
 import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_KB;
 import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 
+import com.github.luben.zstd.Zstd;
 import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
 import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
 import com.github.luben.zstd.ZstdInputStream;
 import com.linkedin.venice.compression.protocol.FakeCompressingSchema;
 import com.linkedin.venice.serializer.AvroSerializer;
@@ -15,14 +18,28 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.io.IOUtils;
 
 
 public class ZstdWithDictCompressor extends VeniceCompressor {
+  private static final int MAX_POOLED_DECOMPRESS_CTX_COUNT = Runtime.getRuntime().availableProcessors();
+
   private ZstdCompressCtx compressor;
   private byte[] dictionary;
+  /**
+   * {@link ZstdDecompressCtx} is not thread-safe, so each decompression borrows a context with the dictionary
+   * pre-loaded from this pool and returns it afterwards, which avoids re-digesting the dictionary and allocating the
+   * streaming buffers for every record. At most {@link #MAX_POOLED_DECOMPRESS_CTX_COUNT} contexts are kept, and only
+   * the pooled ones get closed, so a context is never closed while a thread is using it.
+   */
+  private final Queue<ZstdDecompressCtx> decompressCtxPool = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledDecompressCtxCount = new AtomicInteger();
+  private volatile boolean closed = false;
 
   public ZstdWithDictCompressor(final byte[] dictionary, int level) {
     super(CompressionStrategy.ZSTD_WITH_DICT);
@@ -49,12 +66,108 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
 
   @Override
   public ByteBuffer decompress(ByteBuffer data) throws IOException {
-    return data.hasRemaining() ? decompress(data.array(), data.position(), data.remaining()) : data;
+    if (!data.hasRemaining()) {
+      return data;
+    }
+    if (data.hasArray()) {
+      return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
+    }
+    byte[] bytes = new byte[data.remaining()];
+    data.duplicate().get(bytes);
+    return decompress(bytes, 0, bytes.length);
   }
 
+  /**
+   * The decompressed size is read from the frame header, so the data is decompressed in one shot into an exactly sized
+   * buffer with a pooled {@link ZstdDecompressCtx}. Frames without the content size, e.g. the ones produced in
+   * streaming mode, and the decompressions after {@link #close()} fall back to {@link ZstdInputStream}.
+   */
   @Override
   public ByteBuffer decompress(byte[] data, int offset, int length) throws IOException {
-    // TODO: Investigate using ZstdDirectBufferDecompressingStream instead of copying data.
+    long decompressedSize = Zstd.decompressedSize(data, offset, length);
+    if (decompressedSize > 0 && decompressedSize <= Integer.MAX_VALUE) {
+      ZstdDecompressCtx ctx = borrowDecompressCtx();
+      if (ctx != null) {
+        byte[] output = new byte[(int) decompressedSize];
+        try {
+          int size = ctx.decompressByteArray(output, 0, output.length, data, offset, length);
+          return ByteBuffer.wrap(output, 0, size);
+        } catch (ZstdException e) {
+          // e.g. the data consists of multiple frames, let the streaming decompression handle it or report the error.
+        } finally {
+          returnDecompressCtx(ctx);
+        }
+      }
+    }
+    return decompressWithStream(data, offset, length);
+  }
+
+  @Override
+  public int getDecompressedSize(byte[] data, int offset, int length) {
+    long decompressedSize = Zstd.decompressedSize(data, offset, length);
+    return decompressedSize > 0 && decompressedSize <= Integer.MAX_VALUE ? (int) decompressedSize : -1;
+  }
+
+  @Override
+  public int decompress(byte[] data, int offset, int length, byte[] output, int outputOffset, int outputLength)
+      throws IOException {
+    ZstdDecompressCtx ctx = borrowDecompressCtx();
+    if (ctx == null) {
+      ByteBuffer decompressed = decompressWithStream(data, offset, length);
+      int size = decompressed.remaining();
+      if (size > outputLength) {
+        throw new IOException(
+            "Failed to decompress data of size: " + size + " into the output of size: " + outputLength);
+      }
+      decompressed.get(output, outputOffset, size);
+      return size;
+    }
+    try {
+      return ctx.decompressByteArray(output, outputOffset, outputLength, data, offset, length);
+    } catch (ZstdException e) {
+      throw new IOException("Failed to decompress data into the output of size: " + outputLength, e);
+    } finally {
+      returnDecompressCtx(ctx);
+    }
+  }
+
+  /**
+   * @return a context taken from the pool or a new one, or null if the compressor has been closed.
+   */
+  private ZstdDecompressCtx borrowDecompressCtx() {
+    if (closed) {
+      return null;
+    }
+    ZstdDecompressCtx ctx = decompressCtxPool.poll();
+    if (ctx != null) {
+      pooledDecompressCtxCount.decrementAndGet();
+      return ctx;
+    }
+    return new ZstdDecompressCtx().loadDict(dictionary);
+  }
+
+  private void returnDecompressCtx(ZstdDecompressCtx ctx) {
+    if (pooledDecompressCtxCount.incrementAndGet() > MAX_POOLED_DECOMPRESS_CTX_COUNT) {
+      pooledDecompressCtxCount.decrementAndGet();
+      ctx.close();
+      return;
+    }
+    decompressCtxPool.add(ctx);
+    if (closed) {
+      // The pool might have been drained by close() before the context got returned
+      closePooledDecompressCtxs();
+    }
+  }
+
+  private void closePooledDecompressCtxs() {
+    ZstdDecompressCtx ctx;
+    while ((ctx = decompressCtxPool.poll()) != null) {
+      pooledDecompressCtxCount.decrementAndGet();
+      ctx.close();
+    }
+  }
+
+  private ByteBuffer decompressWithStream(byte[] data, int offset, int length) throws IOException {
     try (InputStream zis = decompress(new ByteArrayInputStream(data, offset, length))) {
       return ByteBuffer.wrap(IOUtils.toByteArray(zis));
     }
@@ -67,7 +180,9 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
 
   @Override
   public void close() throws IOException {
+    closed = true;
     compressor.close();
+    closePooledDecompressCtxs();
   }
 
   /**
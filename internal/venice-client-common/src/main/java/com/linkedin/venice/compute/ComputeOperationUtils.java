@@ -99,6 +99,67 @@ public class ComputeOperationUtils {
     return CollectionUtils.asUnmodifiableList(floats);
   }
 
+  /**
+   * Primitive version of {@link #dotProduct(List, List)}, which keeps the same order of the floating point operations,
+   * so that the results are identical.
+   */
+  public static float dotProduct(float[] vector1, float[] vector2) {
+    if (vector1.length != vector2.length) {
+      throw new VeniceException(
+          "Two vectors are with different dimensions: " + vector1.length + ", and " + vector2.length);
+    }
+    int size = vector1.length;
+    float dotProductResult = 0.0f;
+    int i = 0;
+    int limit = (size >> 2) << 2;
+    for (; i < limit; i += 4) {
+      float s0 = vector1[i] * vector2[i];
+      float s1 = vector1[i + 1] * vector2[i + 1];
+      float s2 = vector1[i + 2] * vector2[i + 2];
+      float s3 = vector1[i + 3] * vector2[i + 3];
+
+      dotProductResult += (s0 + s1 + s2 + s3);
+    }
+    for (; i < size; i++) {
+      dotProductResult += vector1[i] * vector2[i];
+    }
+    return dotProductResult;
+  }
+
+  /**
+   * Primitive version of {@link #hadamardProduct(List, List)}.
+   */
+  public static List<Float> hadamardProduct(float[] vector1, float[] vector2) {
+    if (vector1.length != vector2.length) {
+      throw new VeniceException(
+          "Two vectors are with different dimensions: " + vector1.length + ", and " + vector2.length);
+    }
+    float[] floats = new float[vector1.length];
+    for (int i = 0; i < floats.length; i++) {
+      floats[i] = vector1[i] * vector2[i];
+    }
+    return CollectionUtils.asUnmodifiableList(floats);
+  }
+
+  public static float squaredL2Norm(float[] vector) {
+    return dotProduct(vector, vector);
+  }
+
+  public static float[] toFloatArray(List<Float> list) {
+    float[] floats = new float[list.size()];
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < floats.length; i++) {
+        floats[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < floats.length; i++) {
+        floats[i] = list.get(i);
+      }
+    }
+    return floats;
+  }
+
   public static float squaredL2Norm(List<Float> list) {
     if (list instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
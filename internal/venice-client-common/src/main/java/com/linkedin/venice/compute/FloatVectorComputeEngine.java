@@ -0,0 +1,213 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.VeniceConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * Columnar execution of the float vector read-compute operators ({@link ComputeOperationType#DOT_PRODUCT},
+ * {@link ComputeOperationType#COSINE_SIMILARITY} and {@link ComputeOperationType#HADAMARD_PRODUCT}) over a batch of
+ * values.
+ *
+ * Instead of deserializing each value into a {@link GenericRecord} and running every operator against it, the values
+ * are decoded into primitive float arrays by {@link FloatVectorFieldsDatumReader}, only for the fields referenced by
+ * the operations, and each operation is then applied to the whole batch before moving to the next one, so that its
+ * parameter vector stays hot in cache and the inner loops only deal with primitive arrays.
+ *
+ * The results, including the error messages, are identical to the ones of the regular {@link ReadComputeOperator}s.
+ * Requests which can't be served with the same semantics are rejected by {@link #isSupported}, and should go through
+ * the regular path.
+ */
+public class FloatVectorComputeEngine {
+  private final List<String> fieldNames;
+  private final ComputeOperationType[] operationTypes;
+  private final String[] operationFieldNames;
+  private final int[] operationFieldSlots;
+  private final float[][] params;
+  private final float[] paramSquaredL2Norms;
+  private final String[] resultFieldNames;
+  private final int[] resultFieldPositions;
+  private final int errorMapFieldPosition;
+
+  public FloatVectorComputeEngine(List<ComputeOperation> operations, Schema resultSchema) {
+    int operationCount = operations.size();
+    this.fieldNames = new ArrayList<>();
+    this.operationTypes = new ComputeOperationType[operationCount];
+    this.operationFieldNames = new String[operationCount];
+    this.operationFieldSlots = new int[operationCount];
+    this.params = new float[operationCount][];
+    this.paramSquaredL2Norms = new float[operationCount];
+    this.resultFieldNames = new String[operationCount];
+    this.resultFieldPositions = new int[operationCount];
+    for (int i = 0; i < operationCount; i++) {
+      ComputeOperation operation = operations.get(i);
+      ComputeOperationType operationType = ComputeOperationType.valueOf(operation);
+      ReadComputeOperator operator = operationType.getOperator();
+      operationTypes[i] = operationType;
+      operationFieldNames[i] = operator.getOperatorFieldName(operation);
+      int slot = fieldNames.indexOf(operationFieldNames[i]);
+      if (slot < 0) {
+        slot = fieldNames.size();
+        fieldNames.add(operationFieldNames[i]);
+      }
+      operationFieldSlots[i] = slot;
+      params[i] = ComputeOperationUtils.toFloatArray(getParam(operation, operationType));
+      if (operationType == ComputeOperationType.COSINE_SIMILARITY) {
+        paramSquaredL2Norms[i] = ComputeOperationUtils.squaredL2Norm(params[i]);
+      }
+      resultFieldNames[i] = operator.getResultFieldName(operation);
+      resultFieldPositions[i] = resultSchema.getField(resultFieldNames[i]).pos();
+    }
+    Schema.Field errorMapField = resultSchema.getField(VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME);
+    this.errorMapFieldPosition = errorMapField == null ? -1 : errorMapField.pos();
+  }
+
+  /**
+   * @return whether the given request only consists of operations which this engine can execute with exactly the same
+   *         results as the regular operators.
+   */
+  public static boolean isSupported(List<ComputeOperation> operations, Schema valueSchema, Schema resultSchema) {
+    if (operations.isEmpty()) {
+      return false;
+    }
+    Set<String> resultFieldNames = new HashSet<>();
+    for (ComputeOperation operation: operations) {
+      ComputeOperationType operationType = ComputeOperationType.valueOf(operation);
+      switch (operationType) {
+        case DOT_PRODUCT:
+        case COSINE_SIMILARITY:
+        case HADAMARD_PRODUCT:
+          break;
+        default:
+          return false;
+      }
+      ReadComputeOperator operator = operationType.getOperator();
+      Schema.Field field = valueSchema.getField(operator.getOperatorFieldName(operation));
+      if (field == null || !FloatVectorFieldsDatumReader.isFloatVectorSchema(field.schema(), false)) {
+        return false;
+      }
+      resultFieldNames.add(operator.getResultFieldName(operation));
+    }
+    /**
+     * Result fields which are not populated by the operations are projected from the value record by the regular path,
+     * which includes results set to null colliding with a value field, so only pure operation results are supported.
+     */
+    for (Schema.Field field: resultSchema.getFields()) {
+      String name = field.name();
+      if (name.equals(VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME)) {
+        continue;
+      }
+      if (!resultFieldNames.contains(name) || valueSchema.getField(name) != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static List<Float> getParam(ComputeOperation operation, ComputeOperationType operationType) {
+    switch (operationType) {
+      case DOT_PRODUCT:
+        return ((DotProduct) operation.operation).dotProductParam;
+      case COSINE_SIMILARITY:
+        return ((CosineSimilarity) operation.operation).cosSimilarityParam;
+      case HADAMARD_PRODUCT:
+        return ((HadamardProduct) operation.operation).hadamardProductParam;
+      default:
+        throw new IllegalArgumentException("Unsupported operation type: " + operationType);
+    }
+  }
+
+  /**
+   * @return the value fields to decode, in the order expected by {@link #compute}.
+   */
+  public List<String> getFieldNames() {
+    return Collections.unmodifiableList(fieldNames);
+  }
+
+  public int getOperationCount() {
+    return operationTypes.length;
+  }
+
+  public ComputeOperationType getOperationType(int operationIndex) {
+    return operationTypes[operationIndex];
+  }
+
+  /**
+   * Runs all the operations over the given batch of values.
+   *
+   * @param values decoded values as returned by {@link FloatVectorFieldsDatumReader}; null entries are skipped.
+   * @param results results indexed by value and then by operation, to be filled in.
+   * @param errorMaps error messages of each value, keyed by result field name, to be filled in.
+   */
+  public void compute(List<float[][]> values, Object[][] results, List<Map<String, String>> errorMaps) {
+    int valueCount = values.size();
+    for (int op = 0; op < operationTypes.length; op++) {
+      float[] param = params[op];
+      int slot = operationFieldSlots[op];
+      ComputeOperationType operationType = operationTypes[op];
+      for (int i = 0; i < valueCount; i++) {
+        float[][] value = values.get(i);
+        if (value == null) {
+          continue;
+        }
+        float[] vector = value[slot];
+        int vectorSize = vector == null ? 0 : vector.length;
+        if (vectorSize == 0 || param.length == 0) {
+          results[i][op] = null;
+        } else if (vectorSize != param.length) {
+          results[i][op] = operationType == ComputeOperationType.HADAMARD_PRODUCT ? null : 0.0f;
+          errorMaps.get(i).put(resultFieldNames[op], getSizeMismatchErrorMessage(op, vectorSize));
+        } else {
+          switch (operationType) {
+            case DOT_PRODUCT:
+              results[i][op] = ComputeOperationUtils.dotProduct(param, vector);
+              break;
+            case COSINE_SIMILARITY:
+              float dotProductResult = ComputeOperationUtils.dotProduct(param, vector);
+              float vectorSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(vector);
+              results[i][op] =
+                  (float) (dotProductResult / Math.sqrt(vectorSquaredL2Norm * paramSquaredL2Norms[op]));
+              break;
+            case HADAMARD_PRODUCT:
+              results[i][op] = ComputeOperationUtils.hadamardProduct(param, vector);
+              break;
+            default:
+              throw new IllegalStateException("Unsupported operation type: " + operationType);
+          }
+        }
+      }
+    }
+  }
+
+  private String getSizeMismatchErrorMessage(int operationIndex, int vectorSize) {
+    String operationName = operationTypes[operationIndex] == ComputeOperationType.HADAMARD_PRODUCT
+        ? "hadamard product"
+        : "dot product";
+    return "Failed to compute because size of " + operationName + " parameter is: " + params[operationIndex].length
+        + " while the size of value vector(" + operationFieldNames[operationIndex] + ") is: " + vectorSize;
+  }
+
+  /**
+   * Fills the result record of a value, which is expected to be cleared beforehand.
+   */
+  public void putResults(Object[] results, Map<String, String> errorMap, GenericRecord resultRecord) {
+    for (int op = 0; op < results.length; op++) {
+      resultRecord.put(resultFieldPositions[op], results[op]);
+    }
+    if (errorMapFieldPosition >= 0) {
+      resultRecord.put(errorMapFieldPosition, errorMap);
+    }
+  }
+}
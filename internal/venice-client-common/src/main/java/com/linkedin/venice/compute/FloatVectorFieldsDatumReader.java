@@ -0,0 +1,166 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
+
+
+/**
+ * A {@link DatumReader} which only decodes the given float vector fields of a record, straight from the Avro binary
+ * encoding into primitive float arrays, and skips all the other fields without materializing them.
+ *
+ * The result contains one float array per requested field, in the requested order, and the array is null if the
+ * field value is null. Fields which are missing in the writer schema take the default value of the reader schema, and
+ * those default arrays are shared across records, so the results are meant to be read-only.
+ */
+public class FloatVectorFieldsDatumReader implements DatumReader<float[][]> {
+  private final int fieldCount;
+  /**
+   * Writer schema of each field of the writer schema, in the encoding order.
+   */
+  private final Schema[] writerFieldSchemas;
+  /**
+   * Position of each writer field in the result, or -1 if the field needs to be skipped.
+   */
+  private final int[] writerFieldSlots;
+  /**
+   * Reader default values of the requested fields which don't exist in the writer schema, indexed by the result slot.
+   */
+  private final float[][] defaultValues;
+  private final boolean[] useDefaultValue;
+
+  public FloatVectorFieldsDatumReader(Schema writerSchema, Schema readerSchema, List<String> fieldNames) {
+    this.fieldCount = fieldNames.size();
+    List<Schema.Field> writerFields = writerSchema.getFields();
+    this.writerFieldSchemas = new Schema[writerFields.size()];
+    this.writerFieldSlots = new int[writerFields.size()];
+    Arrays.fill(writerFieldSlots, -1);
+    for (int i = 0; i < writerFields.size(); i++) {
+      writerFieldSchemas[i] = writerFields.get(i).schema();
+    }
+    this.defaultValues = new float[fieldCount][];
+    this.useDefaultValue = new boolean[fieldCount];
+    for (int slot = 0; slot < fieldCount; slot++) {
+      String fieldName = fieldNames.get(slot);
+      Schema.Field writerField = writerSchema.getField(fieldName);
+      if (writerField != null) {
+        if (!isFloatVectorSchema(writerField.schema(), true)) {
+          throw new VeniceException(
+              "Field " + fieldName + " with schema " + writerField.schema() + " cannot be read as a float vector");
+        }
+        writerFieldSlots[writerField.pos()] = slot;
+        continue;
+      }
+      Schema.Field readerField = readerSchema.getField(fieldName);
+      if (readerField == null || !AvroCompatibilityHelper.fieldHasDefault(readerField)) {
+        throw new VeniceException(
+            "Field " + fieldName + " doesn't exist in the writer schema and has no default value in the reader schema");
+      }
+      Object defaultValue = AvroCompatibilityHelper.getGenericDefaultValue(readerField);
+      if (defaultValue != null) {
+        defaultValues[slot] = ComputeOperationUtils.toFloatArray((List<Float>) defaultValue);
+      }
+      useDefaultValue[slot] = true;
+    }
+  }
+
+  /**
+   * @param allowPromotion whether int and long elements are allowed, which Avro promotes to float when resolving
+   *                       the writer schema against a float array reader schema.
+   * @return whether the given schema is either an array of floats, or a union of null and such arrays.
+   */
+  public static boolean isFloatVectorSchema(Schema schema, boolean allowPromotion) {
+    switch (schema.getType()) {
+      case ARRAY:
+        Schema.Type elementType = schema.getElementType().getType();
+        return elementType == Schema.Type.FLOAT
+            || (allowPromotion && (elementType == Schema.Type.INT || elementType == Schema.Type.LONG));
+      case UNION:
+        for (Schema branch: schema.getTypes()) {
+          if (branch.getType() != Schema.Type.NULL && !isFloatVectorSchema(branch, allowPromotion)) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public void setSchema(Schema schema) {
+    throw new UnsupportedOperationException("The writer schema is fixed at construction time");
+  }
+
+  @Override
+  public float[][] read(float[][] reuse, Decoder in) throws IOException {
+    float[][] result = new float[fieldCount][];
+    for (int i = 0; i < writerFieldSchemas.length; i++) {
+      int slot = writerFieldSlots[i];
+      if (slot < 0) {
+        GenericDatumReader.skip(writerFieldSchemas[i], in);
+      } else {
+        result[slot] = readFloatVector(writerFieldSchemas[i], in);
+      }
+    }
+    for (int slot = 0; slot < fieldCount; slot++) {
+      if (useDefaultValue[slot]) {
+        result[slot] = defaultValues[slot];
+      }
+    }
+    return result;
+  }
+
+  private static float[] readFloatVector(Schema schema, Decoder in) throws IOException {
+    switch (schema.getType()) {
+      case NULL:
+        in.readNull();
+        return null;
+      case UNION:
+        return readFloatVector(schema.getTypes().get(in.readIndex()), in);
+      case ARRAY:
+        return readArray(schema.getElementType().getType(), in);
+      default:
+        throw new VeniceException("Unexpected schema type for a float vector: " + schema.getType());
+    }
+  }
+
+  private static float[] readArray(Schema.Type elementType, Decoder in) throws IOException {
+    long blockSize = in.readArrayStart();
+    float[] values = new float[(int) blockSize];
+    int size = 0;
+    while (blockSize > 0) {
+      if (size + blockSize > values.length) {
+        values = Arrays.copyOf(values, Math.toIntExact(size + blockSize));
+      }
+      int end = size + (int) blockSize;
+      switch (elementType) {
+        case FLOAT:
+          for (; size < end; size++) {
+            values[size] = in.readFloat();
+          }
+          break;
+        case INT:
+          for (; size < end; size++) {
+            values[size] = in.readInt();
+          }
+          break;
+        case LONG:
+          for (; size < end; size++) {
+            values[size] = in.readLong();
+          }
+          break;
+        default:
+          throw new VeniceException("Unexpected element type for a float vector: " + elementType);
+      }
+      blockSize = in.arrayNext();
+    }
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+}
@@ -0,0 +1,16 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.serializer.AvroGenericDeserializer;
+import java.util.List;
+import org.apache.avro.Schema;
+
+
+/**
+ * Deserializer which only decodes the requested float vector fields of a value, see
+ * {@link FloatVectorFieldsDatumReader}.
+ */
+public class FloatVectorFieldsDeserializer extends AvroGenericDeserializer<float[][]> {
+  public FloatVectorFieldsDeserializer(Schema writerSchema, Schema readerSchema, List<String> fieldNames) {
+    super(new FloatVectorFieldsDatumReader(writerSchema, readerSchema, fieldNames));
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.venice.utils;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
@@ -8,6 +9,7 @@ import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -110,6 +112,46 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * @return the names of the value fields read by the compute request, which are the fields the compute operations are
+   *         applied on and the fields projected to the result.
+   */
+  public static Set<String> getReadFieldNames(List<ComputeOperation> operations, Schema resultSchema) {
+    Set<String> readFieldNames = new HashSet<>();
+    for (ComputeOperation operation: operations) {
+      readFieldNames.add(ComputeOperationType.valueOf(operation).getOperator().getOperatorFieldName(operation));
+    }
+    for (Schema.Field resultField: resultSchema.getFields()) {
+      readFieldNames.add(resultField.name());
+    }
+    return readFieldNames;
+  }
+
+  /**
+   * Deserializing a value with the returned schema as the reader schema skips all the fields which are not read,
+   * without decoding nor allocating them. The returned schema keeps the name of the value schema so that Avro schema
+   * resolution applies, and the value schema itself is returned if all of its fields are read.
+   *
+   * @param valueSchema the value schema of the compute request
+   * @param readFieldNames the names of the fields to keep, see {@link #getReadFieldNames(List, Schema)}
+   * @return the value schema with only the fields read by the compute request
+   */
+  public static Schema getProjectionSchema(Schema valueSchema, Set<String> readFieldNames) {
+    List<Schema.Field> projectedFields = new ArrayList<>(readFieldNames.size());
+    for (Schema.Field field: valueSchema.getFields()) {
+      if (readFieldNames.contains(field.name())) {
+        projectedFields.add(AvroCompatibilityHelper.newField(field).build());
+      }
+    }
+    if (projectedFields.size() == valueSchema.getFields().size()) {
+      return valueSchema;
+    }
+    Schema projectionSchema = Schema
+        .createRecord(valueSchema.getName(), valueSchema.getDoc(), valueSchema.getNamespace(), valueSchema.isError());
+    projectionSchema.setFields(projectedFields);
+    return projectionSchema;
+  }
+
   /**
    * According to Avro specification (https://avro.apache.org/docs/1.7.7/spec.html#Names):
    *
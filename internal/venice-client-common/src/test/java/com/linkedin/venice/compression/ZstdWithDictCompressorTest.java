@@ -0,0 +1,140 @@
+package com.linkedin.venice.compression;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ZstdWithDictCompressorTest {
+  private static final byte[] DICTIONARY = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
+
+  private static byte[] getValue(int i) {
+    StringBuilder sb = new StringBuilder();
+    for (int j = 0; j < 100; j++) {
+      sb.append(i).append("_name_").append(j);
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] toByteArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  @Test
+  public void testDecompress() throws IOException {
+    try (ZstdWithDictCompressor compressor = new ZstdWithDictCompressor(DICTIONARY, 3)) {
+      byte[] value = getValue(1);
+      byte[] compressed = compressor.compress(value);
+      Assert.assertEquals(toByteArray(compressor.decompress(compressed, 0, compressed.length)), value);
+
+      // Data with an offset in the backing array
+      byte[] padded = new byte[compressed.length + 20];
+      System.arraycopy(compressed, 0, padded, 10, compressed.length);
+      Assert.assertEquals(toByteArray(compressor.decompress(padded, 10, compressed.length)), value);
+      ByteBuffer slice = ByteBuffer.wrap(padded, 5, compressed.length + 5);
+      slice.position(10);
+      Assert.assertEquals(toByteArray(compressor.decompress(slice.slice())), value);
+
+      // Direct buffer
+      ByteBuffer direct = ByteBuffer.allocateDirect(compressed.length);
+      direct.put(compressed);
+      direct.flip();
+      Assert.assertEquals(toByteArray(compressor.decompress(direct)), value);
+      Assert.assertEquals(direct.remaining(), compressed.length);
+    }
+  }
+
+  @Test
+  public void testDecompressIntoOutput() throws IOException {
+    try (ZstdWithDictCompressor compressor = new ZstdWithDictCompressor(DICTIONARY, 3)) {
+      byte[] value = getValue(3);
+      byte[] compressed = compressor.compress(value);
+      int decompressedSize = compressor.getDecompressedSize(compressed, 0, compressed.length);
+      Assert.assertEquals(decompressedSize, value.length);
+
+      byte[] output = new byte[decompressedSize + 10];
+      int size = compressor.decompress(compressed, 0, compressed.length, output, 5, decompressedSize);
+      Assert.assertEquals(size, value.length);
+      Assert.assertEquals(Arrays.copyOfRange(output, 5, 5 + decompressedSize), value);
+
+      // The output is too small
+      Assert.assertThrows(
+          IOException.class,
+          () -> compressor.decompress(compressed, 0, compressed.length, output, 0, decompressedSize - 1));
+    }
+  }
+
+  @Test
+  public void testDecompressStreamingFrame() throws IOException {
+    try (ZstdWithDictCompressor compressor = new ZstdWithDictCompressor(DICTIONARY, 3)) {
+      byte[] value = getValue(2);
+      // Frames produced in streaming mode don't carry the content size
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      try (ZstdOutputStream zos = new ZstdOutputStream(outputStream).setDict(DICTIONARY)) {
+        zos.write(value);
+      }
+      byte[] compressed = outputStream.toByteArray();
+      Assert.assertEquals(toByteArray(compressor.decompress(compressed, 0, compressed.length)), value);
+      Assert.assertEquals(compressor.getDecompressedSize(compressed, 0, compressed.length), -1);
+    }
+  }
+
+  @Test
+  public void testDecompressAfterClose() throws IOException {
+    ZstdWithDictCompressor compressor = new ZstdWithDictCompressor(DICTIONARY, 3);
+    byte[] value = getValue(4);
+    byte[] compressed = compressor.compress(value);
+    // Pool a decompression context before closing the compressor
+    Assert.assertEquals(toByteArray(compressor.decompress(compressed, 0, compressed.length)), value);
+    compressor.close();
+
+    // The in-flight decompressions fall back to the streaming path
+    Assert.assertEquals(toByteArray(compressor.decompress(compressed, 0, compressed.length)), value);
+    byte[] output = new byte[value.length];
+    int size = compressor.decompress(compressed, 0, compressed.length, output, 0, output.length);
+    Assert.assertEquals(size, value.length);
+    Assert.assertEquals(output, value);
+    Assert.assertThrows(
+        IOException.class,
+        () -> compressor.decompress(compressed, 0, compressed.length, output, 0, value.length - 1));
+  }
+
+  @Test
+  public void testConcurrentDecompress() throws Exception {
+    int threadCount = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try (ZstdWithDictCompressor compressor = new ZstdWithDictCompressor(DICTIONARY, 3)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threadCount; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 1000; i++) {
+            byte[] value = getValue(i);
+            byte[] compressed;
+            synchronized (compressor) {
+              compressed = compressor.compress(value);
+            }
+            Assert.assertEquals(toByteArray(compressor.decompress(ByteBuffer.wrap(compressed))), value);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
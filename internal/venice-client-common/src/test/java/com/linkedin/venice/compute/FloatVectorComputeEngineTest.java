@@ -0,0 +1,217 @@
+package com.linkedin.venice.compute;
+
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COSINE_SIMILARITY;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.HADAMARD_PRODUCT;
+
+import com.linkedin.venice.VeniceConstants;
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
+import com.linkedin.venice.compute.protocol.request.Count;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class FloatVectorComputeEngineTest {
+  private static final Schema VALUE_SCHEMA = Schema.parse(
+      "{\"type\": \"record\", \"name\": \"Value\", \"fields\": ["
+          + "{\"name\": \"id\", \"type\": \"string\", \"default\": \"\"},"
+          + "{\"name\": \"tags\", \"type\": {\"type\": \"map\", \"values\": \"long\"}, \"default\": {}},"
+          + "{\"name\": \"embedding\", \"type\": {\"type\": \"array\", \"items\": \"float\"}, \"default\": []},"
+          + "{\"name\": \"nullableEmbedding\", \"type\": [\"null\", {\"type\": \"array\", \"items\": \"float\"}],"
+          + " \"default\": null}" + "]}");
+  private static final Schema OLD_VALUE_SCHEMA = Schema.parse(
+      "{\"type\": \"record\", \"name\": \"Value\", \"fields\": ["
+          + "{\"name\": \"id\", \"type\": \"string\", \"default\": \"\"},"
+          + "{\"name\": \"embedding\", \"type\": {\"type\": \"array\", \"items\": \"float\"}, \"default\": []}"
+          + "]}");
+  private static final Schema RESULT_SCHEMA = Schema.parse(
+      "{\"type\": \"record\", \"name\": \"Result\", \"fields\": ["
+          + "{\"name\": \"dot\", \"type\": [\"null\", \"float\"], \"default\": null},"
+          + "{\"name\": \"cosine\", \"type\": [\"null\", \"float\"], \"default\": null},"
+          + "{\"name\": \"nullableCosine\", \"type\": [\"null\", \"float\"], \"default\": null},"
+          + "{\"name\": \"hadamard\", \"type\": [\"null\", {\"type\": \"array\", \"items\": \"float\"}],"
+          + " \"default\": null}," + "{\"name\": \"" + VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME
+          + "\", \"type\": {\"type\": \"map\", \"values\": \"string\"}, \"default\": {}}" + "]}");
+
+  private static ComputeOperation createOperation(
+      ComputeOperationType type,
+      String field,
+      String resultFieldName,
+      List<Float> param) {
+    ComputeOperation operation = new ComputeOperation();
+    operation.operationType = type.getValue();
+    switch (type) {
+      case DOT_PRODUCT:
+        DotProduct dotProduct = new DotProduct();
+        dotProduct.field = field;
+        dotProduct.resultFieldName = resultFieldName;
+        dotProduct.dotProductParam = param;
+        operation.operation = dotProduct;
+        break;
+      case COSINE_SIMILARITY:
+        CosineSimilarity cosineSimilarity = new CosineSimilarity();
+        cosineSimilarity.field = field;
+        cosineSimilarity.resultFieldName = resultFieldName;
+        cosineSimilarity.cosSimilarityParam = param;
+        operation.operation = cosineSimilarity;
+        break;
+      case HADAMARD_PRODUCT:
+        HadamardProduct hadamardProduct = new HadamardProduct();
+        hadamardProduct.field = field;
+        hadamardProduct.resultFieldName = resultFieldName;
+        hadamardProduct.hadamardProductParam = param;
+        operation.operation = hadamardProduct;
+        break;
+      default:
+        Count count = new Count();
+        count.field = field;
+        count.resultFieldName = resultFieldName;
+        operation.operation = count;
+    }
+    return operation;
+  }
+
+  private static List<Float> randomVector(int size, int seed) {
+    List<Float> vector = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      vector.add((float) Math.sin(seed * 31 + i) * 10);
+    }
+    return vector;
+  }
+
+  private static List<ComputeOperation> getOperations(int dimension) {
+    return Arrays.asList(
+        createOperation(DOT_PRODUCT, "embedding", "dot", randomVector(dimension, 1)),
+        createOperation(COSINE_SIMILARITY, "embedding", "cosine", randomVector(dimension, 2)),
+        createOperation(COSINE_SIMILARITY, "nullableEmbedding", "nullableCosine", randomVector(dimension, 3)),
+        createOperation(HADAMARD_PRODUCT, "embedding", "hadamard", randomVector(dimension, 4)));
+  }
+
+  private static GenericRecord createValue(Schema schema, int seed, int dimension, boolean withNullableEmbedding) {
+    GenericRecord value = new GenericData.Record(schema);
+    value.put("id", "id_" + seed);
+    if (schema.getField("tags") != null) {
+      value.put("tags", Collections.singletonMap("tag", (long) seed));
+    }
+    value.put("embedding", randomVector(dimension, seed));
+    if (schema.getField("nullableEmbedding") != null) {
+      value.put("nullableEmbedding", withNullableEmbedding ? randomVector(dimension, seed + 100) : null);
+    }
+    return value;
+  }
+
+  /**
+   * Runs the regular operators the same way the storage node does.
+   */
+  private static GenericRecord computeWithOperators(List<ComputeOperation> operations, GenericRecord valueRecord) {
+    GenericRecord resultRecord = new GenericData.Record(RESULT_SCHEMA);
+    Map<String, String> computationErrorMap = new HashMap<>();
+    Map<String, Object> context = new HashMap<>();
+    for (ComputeOperation operation: operations) {
+      ReadComputeOperator operator = ComputeOperationType.valueOf(operation).getOperator();
+      operator.compute(4, operation, valueRecord, resultRecord, computationErrorMap, context);
+    }
+    resultRecord.put(VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME, computationErrorMap);
+    return resultRecord;
+  }
+
+  private static GenericRecord computeWithEngine(
+      List<ComputeOperation> operations,
+      Schema writerSchema,
+      GenericRecord valueRecord) {
+    FloatVectorComputeEngine engine = new FloatVectorComputeEngine(operations, RESULT_SCHEMA);
+    FloatVectorFieldsDeserializer deserializer =
+        new FloatVectorFieldsDeserializer(writerSchema, VALUE_SCHEMA, engine.getFieldNames());
+    RecordSerializer<GenericRecord> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(writerSchema);
+    float[][] value = deserializer.deserialize(serializer.serialize(valueRecord));
+
+    Object[][] results = new Object[1][engine.getOperationCount()];
+    List<Map<String, String>> computationErrorMaps = Collections.singletonList(new HashMap<>());
+    engine.compute(Collections.singletonList(value), results, computationErrorMaps);
+    GenericRecord resultRecord = new GenericData.Record(RESULT_SCHEMA);
+    engine.putResults(results[0], computationErrorMaps.get(0), resultRecord);
+    return resultRecord;
+  }
+
+  @Test
+  public void testSameResultsAsOperators() {
+    List<ComputeOperation> operations = getOperations(37);
+    Assert.assertTrue(FloatVectorComputeEngine.isSupported(operations, VALUE_SCHEMA, RESULT_SCHEMA));
+    for (int seed = 0; seed < 10; seed++) {
+      GenericRecord value = createValue(VALUE_SCHEMA, seed, 37, seed % 2 == 0);
+      Assert.assertEquals(
+          computeWithEngine(operations, VALUE_SCHEMA, value),
+          computeWithOperators(operations, value),
+          "Mismatch for seed: " + seed);
+    }
+  }
+
+  @Test
+  public void testSameResultsWithMismatchedAndEmptyVectors() {
+    List<ComputeOperation> operations = getOperations(8);
+    // Dimension mismatch
+    GenericRecord value = createValue(VALUE_SCHEMA, 1, 5, true);
+    GenericRecord result = computeWithEngine(operations, VALUE_SCHEMA, value);
+    Assert.assertEquals(result, computeWithOperators(operations, value));
+    Assert.assertEquals(((Map) result.get(VeniceConstants.VENICE_COMPUTATION_ERROR_MAP_FIELD_NAME)).size(), 4);
+
+    // Empty vectors
+    value = createValue(VALUE_SCHEMA, 1, 0, false);
+    result = computeWithEngine(operations, VALUE_SCHEMA, value);
+    Assert.assertEquals(result, computeWithOperators(operations, value));
+    Assert.assertNull(result.get("dot"));
+    Assert.assertNull(result.get("hadamard"));
+  }
+
+  @Test
+  public void testSameResultsWithOlderWriterSchema() {
+    List<ComputeOperation> operations = getOperations(16);
+    GenericRecord oldValue = createValue(OLD_VALUE_SCHEMA, 3, 16, false);
+    // The regular path resolves old values against the latest value schema, and the missing fields take the default
+    GenericRecord resolvedValue = createValue(VALUE_SCHEMA, 3, 16, false);
+    resolvedValue.put("tags", Collections.emptyMap());
+    Assert.assertEquals(
+        computeWithEngine(operations, OLD_VALUE_SCHEMA, oldValue),
+        computeWithOperators(operations, resolvedValue));
+  }
+
+  @Test
+  public void testIsSupported() {
+    List<ComputeOperation> operations = getOperations(4);
+    Assert.assertTrue(FloatVectorComputeEngine.isSupported(operations, VALUE_SCHEMA, RESULT_SCHEMA));
+
+    // Other operators are not supported
+    List<ComputeOperation> withCount = new ArrayList<>(operations);
+    withCount.add(createOperation(COUNT, "tags", "tagCount", null));
+    Assert.assertFalse(FloatVectorComputeEngine.isSupported(withCount, VALUE_SCHEMA, RESULT_SCHEMA));
+
+    // Fields which are not float vectors are not supported
+    List<ComputeOperation> onMap =
+        Collections.singletonList(createOperation(DOT_PRODUCT, "tags", "dot", randomVector(4, 1)));
+    Assert.assertFalse(FloatVectorComputeEngine.isSupported(onMap, VALUE_SCHEMA, RESULT_SCHEMA));
+
+    // Projected value fields are not supported
+    Schema resultSchemaWithProjection = Schema.parse(
+        "{\"type\": \"record\", \"name\": \"Result\", \"fields\": ["
+            + "{\"name\": \"id\", \"type\": \"string\", \"default\": \"\"},"
+            + "{\"name\": \"dot\", \"type\": [\"null\", \"float\"], \"default\": null}" + "]}");
+    List<ComputeOperation> dotOnly = operations.subList(0, 1);
+    Assert.assertFalse(FloatVectorComputeEngine.isSupported(dotOnly, VALUE_SCHEMA, resultSchemaWithProjection));
+  }
+}
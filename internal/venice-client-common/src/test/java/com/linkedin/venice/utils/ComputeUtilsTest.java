@@ -0,0 +1,86 @@
+package com.linkedin.venice.utils;
+
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.DotProduct;
+import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeUtilsTest {
+  private static final Schema VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"TestRecord\", \"namespace\": \"com.linkedin.test\", \"fields\": ["
+          + "{\"name\": \"id\", \"type\": \"string\"},"
+          + "{\"name\": \"name\", \"type\": \"string\"},"
+          + "{\"name\": \"member_feature\", \"type\": {\"type\": \"array\", \"items\": \"float\"}},"
+          + "{\"name\": \"blob\", \"type\": \"bytes\"}]}");
+  private static final Schema RESULT_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"TestRecord\", \"fields\": ["
+          + "{\"name\": \"name\", \"type\": \"string\"},"
+          + "{\"name\": \"member_score\", \"type\": [\"null\", \"float\"], \"default\": null},"
+          + "{\"name\": \"__veniceComputationError__\", \"type\": {\"type\": \"map\", \"values\": \"string\"}}]}");
+
+  private static ComputeOperation getDotProduct(String field, String resultFieldName) {
+    DotProduct dotProduct = new DotProduct();
+    dotProduct.field = field;
+    dotProduct.resultFieldName = resultFieldName;
+    dotProduct.dotProductParam = Arrays.asList(1.0f, 2.0f);
+    ComputeOperation operation = new ComputeOperation();
+    operation.operationType = ComputeOperationType.DOT_PRODUCT.getValue();
+    operation.operation = dotProduct;
+    return operation;
+  }
+
+  @Test
+  public void testGetReadFieldNames() {
+    Set<String> readFieldNames = ComputeUtils
+        .getReadFieldNames(Collections.singletonList(getDotProduct("member_feature", "member_score")), RESULT_SCHEMA);
+    Assert.assertTrue(readFieldNames.contains("member_feature"));
+    Assert.assertTrue(readFieldNames.contains("name"));
+    Assert.assertFalse(readFieldNames.contains("id"));
+    Assert.assertFalse(readFieldNames.contains("blob"));
+  }
+
+  @Test
+  public void testGetProjectionSchemaWithAllFieldsRead() {
+    Set<String> readFieldNames = new HashSet<>(Arrays.asList("id", "name", "member_feature", "blob"));
+    Assert.assertSame(ComputeUtils.getProjectionSchema(VALUE_SCHEMA, readFieldNames), VALUE_SCHEMA);
+  }
+
+  @Test
+  public void testGetProjectionSchema() {
+    Set<String> readFieldNames = ComputeUtils
+        .getReadFieldNames(Collections.singletonList(getDotProduct("member_feature", "member_score")), RESULT_SCHEMA);
+    Schema projectionSchema = ComputeUtils.getProjectionSchema(VALUE_SCHEMA, readFieldNames);
+    Assert.assertEquals(projectionSchema.getFullName(), VALUE_SCHEMA.getFullName());
+    Assert.assertEquals(projectionSchema.getFields().size(), 2);
+    Assert.assertNotNull(projectionSchema.getField("name"));
+    Assert.assertNotNull(projectionSchema.getField("member_feature"));
+
+    // The unread fields are skipped when the values are deserialized with the projection schema
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("id", "id_1");
+    value.put("name", "name_1");
+    value.put("member_feature", Arrays.asList(1.0f, 2.0f));
+    value.put("blob", ByteBuffer.wrap(new byte[1024]));
+    RecordSerializer<GenericRecord> serializer = SerializerDeserializerFactory.getAvroGenericSerializer(VALUE_SCHEMA);
+    RecordDeserializer<GenericRecord> deserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializer(VALUE_SCHEMA, projectionSchema);
+    GenericRecord projectedValue = deserializer.deserialize(serializer.serialize(value));
+    Assert.assertEquals(projectedValue.getSchema(), projectionSchema);
+    Assert.assertEquals(projectedValue.get("name").toString(), "name_1");
+    Assert.assertEquals((List<Float>) projectedValue.get("member_feature"), Arrays.asList(1.0f, 2.0f));
+  }
+}
@@ -356,6 +356,21 @@ public class ConfigKeys {
   public static final String UNSORTED_INPUT_DRAINER_SIZE = "unsorted.input.drainer.size";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+  /**
+   * Whether to use the lock-free ring buffer as the drainer queue instead of the default lock-based blocking queue.
+   */
+  public static final String STORE_WRITER_BUFFER_RING_BUFFER_ENABLED = "store.writer.buffer.ring.buffer.enabled";
+  /**
+   * Max number of records taken by each drainer per wake-up, which only takes effect along with either
+   * {@link #STORE_WRITER_BUFFER_RING_BUFFER_ENABLED} or {@link #SERVER_INGESTION_WRITE_BATCH_ENABLED}.
+   */
+  public static final String STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE = "store.writer.buffer.drain.batch.size";
+  /**
+   * Whether to pin each topic-partition to the least loaded drainer, based on the queued bytes and the recent busy time
+   * of each drainer, instead of assigning drainers by hashing the topic-partition.
+   */
+  public static final String STORE_WRITER_BUFFER_LOAD_AWARE_DRAINER_ASSIGNMENT_ENABLED =
+      "store.writer.buffer.load.aware.drainer.assignment.enabled";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -495,6 +510,46 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to look up the keys of a batch-get with native multi-key lookups, grouped by partition, instead of
+   * looking them up one at a time.
+   */
+  public static final String SERVER_BATCH_GET_MULTI_KEY_LOOKUP_ENABLED = "server.batch.get.multi.key.lookup.enabled";
+
+  /**
+   * Whether to execute read compute requests which only consist of dot-product, cosine-similarity and hadamard-product
+   * operations with the columnar float vector engine, which decodes the referenced fields straight into primitive
+   * arrays and processes the keys in batches.
+   */
+  public static final String SERVER_COMPUTE_FLOAT_VECTOR_ENGINE_ENABLED = "server.compute.float.vector.engine.enabled";
+
+  /**
+   * Number of threads used to open the storage engines persisted on disk when the server or the Da Vinci client starts.
+   * The current versions are opened first, so that they can serve as early as possible, followed by the other versions.
+   * The concurrent RocksDB open operations are still bounded by {@literal rocksdb.db.open.operation.throttle}, which is
+   * also the default of this config. 1 restores the storage engines one by one.
+   */
+  public static final String SERVER_STORE_RESTORE_PARALLELISM = "server.store.restore.parallelism";
+
+  /**
+   * Whether the drainers accumulate the consecutive writes of a partition into a batch, which is persisted with a
+   * single storage engine write at the end of each drain cycle, before any control message and before any offset
+   * checkpoint. It only applies to ingestion tasks which don't rely on the transient record buffer, i.e. neither
+   * write compute nor active/active replication.
+   */
+  public static final String SERVER_INGESTION_WRITE_BATCH_ENABLED = "server.ingestion.write.batch.enabled";
+
+  /**
+   * Max number of records of a partition write batch, which is persisted right away once it is reached.
+   */
+  public static final String SERVER_INGESTION_WRITE_BATCH_MAX_RECORDS = "server.ingestion.write.batch.max.records";
+
+  /**
+   * Max size in bytes of a partition write batch, which is persisted right away once it is reached.
+   */
+  public static final String SERVER_INGESTION_WRITE_BATCH_MAX_SIZE_IN_BYTES =
+      "server.ingestion.write.batch.max.size.in.bytes";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -520,6 +575,52 @@ public class ConfigKeys {
    */
   public static final String SERVER_BLOCKING_QUEUE_TYPE = "server.blocking.queue.type";
 
+  /**
+   * Whether to schedule the read requests in storage node with per-store fair queuing and request type based
+   * priorities, instead of a single FIFO queue shared by all the stores.
+   */
+  public static final String SERVER_STORE_AWARE_REQUEST_SCHEDULING_ENABLED =
+      "server.store.aware.request.scheduling.enabled";
+
+  /**
+   * The ratio of the dequeue attempts, which prefer the LOW, NORMAL and HIGH priority requests respectively,
+   * in the form of LOW:NORMAL:HIGH, e.g. 5:15:80.
+   * Single-get and small batch-get requests are HIGH priority, large batch-get requests are NORMAL priority and
+   * compute requests are LOW priority.
+   */
+  public static final String SERVER_REQUEST_SCHEDULING_FAIR_RATIO = "server.request.scheduling.fair.ratio";
+
+  /**
+   * The maximum number of queued requests per store, so that a single store can't take the whole queue.
+   * Non-positive value means no limit.
+   */
+  public static final String SERVER_REQUEST_SCHEDULING_MAX_QUEUE_LENGTH_PER_STORE =
+      "server.request.scheduling.max.queue.length.per.store";
+
+  /**
+   * The batch-get requests with more keys than this threshold are scheduled with a lower priority than single-get.
+   */
+  public static final String SERVER_REQUEST_SCHEDULING_LARGE_BATCH_GET_KEY_COUNT_THRESHOLD =
+      "server.request.scheduling.large.batch.get.key.count.threshold";
+
+  /**
+   * Whether to send the batch-get and compute responses in chunks as the records are looked up, instead of holding
+   * all the records in memory until the whole response is ready.
+   */
+  public static final String SERVER_CHUNKED_RESPONSE_ENABLED = "server.chunked.response.enabled";
+
+  /**
+   * The serialized size of the records buffered before they are sent as a chunk.
+   */
+  public static final String SERVER_CHUNKED_RESPONSE_CHUNK_SIZE_IN_BYTES =
+      "server.chunked.response.chunk.size.in.bytes";
+
+  /**
+   * How long the storage execution thread waits for the channel to become writable before aborting the chunked
+   * response, when the receiver doesn't keep up.
+   */
+  public static final String SERVER_CHUNKED_RESPONSE_WRITE_TIMEOUT_MS = "server.chunked.response.write.timeout.ms";
+
   /**
    * This config is used to control whether openssl is enabled for Kafka consumers in server.
    */
@@ -866,9 +967,33 @@ public class ConfigKeys {
    */
   public static final String ROUTER_PER_STORAGE_NODE_READ_QUOTA_BUFFER = "router.per.storage.node.read.quota.buffer";
 
+  /**
+   * Whether to enable the hot key cache in router, which serves the single-get and multi-get lookups of frequently
+   * accessed keys without going to the storage nodes.
+   */
+  public static final String ROUTER_CACHE_ENABLED = "router.cache.enabled";
+
+  /**
+   * The max off-heap memory used by the router cache; the oldest entries are evicted first once it is exceeded.
+   */
+  public static final String ROUTER_CACHE_SIZE_IN_BYTES = "router.cache.size.in.bytes";
+
+  /**
+   * The estimated number of recent accesses a key needs before its value gets admitted into the router cache.
+   */
+  public static final String ROUTER_CACHE_ADMISSION_FREQUENCY_THRESHOLD = "router.cache.admission.frequency.threshold";
+
+  /**
+   * A comma-separated list of the stores which can use the router cache. If empty, all the stores can use it.
+   */
+  public static final String ROUTER_CACHE_STORE_ALLOWLIST = "router.cache.store.allowlist";
+
   /**
    * The TTL for each entry in router cache (millisecond)
    * If 0, TTL is not enabled; other, cache TTL is enabled
+   *
+   * The entries of batch-only stores never get stale since the cache is keyed by version, so the TTL only applies to
+   * hybrid stores, which are not cached at all when it is not enabled.
    */
   public static final String ROUTER_CACHE_TTL_MILLIS = "router.cache.ttl.millis";
 
@@ -1333,6 +1458,28 @@ public class ConfigKeys {
   public static final String ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE =
       "router.pending.connection.resume.threshold.per.host";
 
+  /**
+   * Whether to limit the concurrent requests to each storage node with a limit adapted to the observed latency of the
+   * storage node. Requests exceeding the limit are re-routed to other replicas or rejected right away instead of being
+   * queued up, and the saturated storage nodes are deprioritized when choosing replicas.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = "router.adaptive.concurrency.limit.enabled";
+
+  /**
+   * The concurrency limit of each storage node before any latency has been observed.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_INITIAL_LIMIT = "router.adaptive.concurrency.initial.limit";
+
+  /**
+   * The lower bound of the adaptive concurrency limit of each storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_MIN_LIMIT = "router.adaptive.concurrency.min.limit";
+
+  /**
+   * The upper bound of the adaptive concurrency limit of each storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_MAX_LIMIT = "router.adaptive.concurrency.max.limit";
+
   /**
    * Enables HttpAsyncClient allocation per storage node.
    */
@@ -1775,6 +1922,13 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED =
       "server.ingestion.checkpoint.during.graceful.shutdown.enabled";
 
+  /**
+   * Whether the leader of an Active/Active store should look up the existing values and replication metadata of all
+   * the keys of a polled real-time batch with batched DB lookups, instead of one DB lookup per record.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_INGESTION_BATCH_PREFETCH_ENABLED =
+      "server.active.active.ingestion.batch.prefetch.enabled";
+
   /**
    * A config to control which status store to use for fetching incremental push job status from the controller. This config
    * should be removed once the migration of push status to push status system store is complete.
@@ -0,0 +1,136 @@
+package com.linkedin.venice.throttle;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A {@link TokenBucket} which is meant to be consumed by many threads at a very high rate, e.g. by all the Netty
+ * workers for a hot store.
+ *
+ * Consuming from {@link TokenBucket} always updates the same atomic counter, so all the consuming threads contend on
+ * the same cache line. Instead, each thread consumes from its own stripe, which holds a small share of tokens taken
+ * from the global bucket, and only goes to the global bucket once the share runs out. Since the shares are only ever
+ * taken from the global bucket, the bucket never allows more than its budget. To not reject requests while tokens are
+ * parked in the shares of the other stripes, the shares are reconciled against the global budget whenever it runs
+ * out: all the stripes give back their share, and the consumption is retried once.
+ */
+public class StripedTokenBucket extends TokenBucket {
+  /**
+   * The share of a stripe is at most this fraction of the refill amount divided by the stripe count, so that the
+   * tokens parked in the stripes stay small compared to the refill amount.
+   */
+  private static final int SHARE_DIVISOR = 16;
+
+  private final Stripe[] stripes;
+  private final int stripeMask;
+  private final long shareSize;
+
+  /**
+   * This constructor should only be used by tests.  Application should not specify it's own instance of Clock
+   */
+  public StripedTokenBucket(
+      long capacity,
+      long refillAmount,
+      long refillInterval,
+      TimeUnit refillUnit,
+      int stripeCount,
+      Clock clock) {
+    super(capacity, refillAmount, refillInterval, refillUnit, clock);
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket stripeCount " + stripeCount + " is not valid.  Must be greater than 0");
+    }
+    // Round up to a power of two to pick the stripe with a mask
+    int roundedStripeCount = Integer.highestOneBit(stripeCount);
+    if (roundedStripeCount < stripeCount) {
+      roundedStripeCount <<= 1;
+    }
+    this.stripes = new Stripe[roundedStripeCount];
+    for (int i = 0; i < roundedStripeCount; i++) {
+      stripes[i] = new Stripe();
+    }
+    this.stripeMask = roundedStripeCount - 1;
+    this.shareSize = Math.max(1, refillAmount / ((long) roundedStripeCount * SHARE_DIVISOR));
+  }
+
+  /**
+   * @param capacity The maximum number of tokens that the bucket can have at any one time.
+   * @param refillAmount The number of tokens added to the bucket each interval
+   * @param refillInterval The interval of time between refills of the bucket
+   * @param refillUnit The TimeUnit for the refillInterval
+   * @param stripeCount The number of stripes, which is rounded up to a power of two. It should be about the number of
+   *                    threads consuming the bucket.
+   */
+  public StripedTokenBucket(
+      long capacity,
+      long refillAmount,
+      long refillInterval,
+      TimeUnit refillUnit,
+      int stripeCount) {
+    this(capacity, refillAmount, refillInterval, refillUnit, stripeCount, Clock.systemUTC());
+  }
+
+  @Override
+  public boolean tryConsume(long tokensToConsume) {
+    Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+    if (stripe.tryConsume(tokensToConsume)) {
+      return true;
+    }
+    // Take a new share along with the tokens to consume, or only the tokens to consume if the budget is running out
+    if (super.tryConsume(tokensToConsume + shareSize)) {
+      stripe.addAndGet(shareSize);
+      return true;
+    }
+    if (super.tryConsume(tokensToConsume)) {
+      return true;
+    }
+    reconcile();
+    return super.tryConsume(tokensToConsume);
+  }
+
+  /**
+   * Gives the shares of all the stripes back to the global bucket.
+   */
+  private void reconcile() {
+    for (Stripe stripe: stripes) {
+      long tokens = stripe.getAndSet(0);
+      if (tokens > 0) {
+        addTokens(tokens);
+      }
+    }
+  }
+
+  /**
+   * This method does not refill the bucket, so it is only accurate as of the last time #tryConsume() was called
+   * @return number of tokens remaining in the bucket, including the shares held by the stripes
+   */
+  @Override
+  public long getStaleTokenCount() {
+    long tokens = super.getStaleTokenCount();
+    for (Stripe stripe: stripes) {
+      tokens += stripe.get();
+    }
+    return tokens;
+  }
+
+  /**
+   * The tokens held by the threads mapped to the stripe, padded so that the stripes don't share cache lines.
+   */
+  @SuppressWarnings("unused")
+  private static class Stripe extends AtomicLong {
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    boolean tryConsume(long tokensToConsume) {
+      long existing;
+      do {
+        existing = get();
+        if (existing < tokensToConsume) {
+          return false;
+        }
+      } while (!compareAndSet(existing, existing - tokensToConsume));
+      return true;
+    }
+  }
+}
@@ -117,6 +117,14 @@ public class TokenBucket {
     return tokensToConsume <= tokensThatWereAvailable;
   }
 
+  /**
+   * Puts back the tokens which have been consumed but not used, e.g. the tokens held by the stripes of
+   * {@link StripedTokenBucket}. Any tokens beyond the capacity are lost.
+   */
+  void addTokens(long tokensToAdd) {
+    tokens.getAndAccumulate(tokensToAdd, (existing, toAdd) -> Math.min(existing + toAdd, capacity));
+  }
+
   public boolean tryConsume() {
     return tryConsume(1);
   }
@@ -0,0 +1,73 @@
+package com.linkedin.venice.throttle;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestUtils;
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+
+public class StripedTokenBucketTest {
+  @Test
+  public void testConsume() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    long capacity = 1000;
+    long refillAmount = 640;
+
+    TokenBucket tokenBucket = new StripedTokenBucket(capacity, refillAmount, 1, TimeUnit.SECONDS, 4, mockClock);
+    assertEquals(tokenBucket.getStaleTokenCount(), capacity, "TokenBucket must start with full capacity");
+    assertTrue(tokenBucket.tryConsume(800), "TokenBucket must allow consuming available tokens");
+    // The share taken by the stripe is still counted as remaining
+    assertEquals(tokenBucket.getStaleTokenCount(), 200);
+    assertFalse(tokenBucket.tryConsume(400), "TokenBucket must not allow consuming more tokens than available");
+    assertTrue(tokenBucket.tryConsume(200), "TokenBucket must allow consuming all the available tokens");
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+    assertFalse(tokenBucket.tryConsume());
+
+    doReturn(start + 1500).when(mockClock).millis(); // 1 refill
+    assertTrue(tokenBucket.tryConsume(600), "After refill, bucket must support consumption");
+    assertEquals(tokenBucket.getStaleTokenCount(), 40, "After refill and consumption, bucket must have correct tokens");
+  }
+
+  @Test
+  public void testSharesAreReconciled() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    doReturn(System.currentTimeMillis()).when(mockClock).millis();
+    long capacity = 10000;
+    TokenBucket tokenBucket = new StripedTokenBucket(capacity, capacity, 1, TimeUnit.SECONDS, 8, mockClock);
+
+    int threadCount = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      AtomicLong consumed = new AtomicLong();
+      CountDownLatch latch = new CountDownLatch(threadCount);
+      for (int i = 0; i < threadCount; i++) {
+        executor.submit(() -> {
+          while (tokenBucket.tryConsume()) {
+            consumed.incrementAndGet();
+          }
+          latch.countDown();
+        });
+      }
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      // Without any refill, exactly the capacity is consumed, regardless of the shares held by the stripes
+      assertEquals(consumed.get(), capacity);
+      assertFalse(tokenBucket.tryConsume());
+      assertEquals(tokenBucket.getStaleTokenCount(), 0);
+    } finally {
+      TestUtils.shutdownExecutor(executor);
+    }
+  }
+}
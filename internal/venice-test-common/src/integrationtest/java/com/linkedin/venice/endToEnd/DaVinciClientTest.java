@@ -22,6 +22,7 @@ import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
@@ -60,6 +61,7 @@ import com.linkedin.venice.samza.VeniceSystemFactory;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.ForkedJavaProcess;
 import com.linkedin.venice.utils.Pair;
@@ -78,13 +80,17 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -207,6 +213,12 @@ public class DaVinciClientTest {
       // Test batch-get access
       assertEquals(client1.batchGet(keyValueMap.keySet()).get(), keyValueMap);
 
+      // Test batch-get access with a reusable result map, which is cleared first
+      Map<Integer, Object> reusableResultMap = new HashMap<>();
+      reusableResultMap.put(KEY_COUNT + 1, 1);
+      assertSame(client1.batchGet(keyValueMap.keySet(), reusableResultMap).get(), reusableResultMap);
+      assertEquals(reusableResultMap, keyValueMap);
+
       // Test automatic new version ingestion
       for (int i = 0; i < 2; ++i) {
         // Test per-version partitioning parameters
@@ -323,6 +335,43 @@ public class DaVinciClientTest {
     }
   }
 
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testBatchGetWithReadExecutor() throws Exception {
+    String storeName = createStoreWithMetaSystemStore(KEY_COUNT);
+    String baseDataPath = Utils.getTempDataDirectory().getAbsolutePath();
+    VeniceProperties backendConfig = new PropertyBuilder().put(CLIENT_USE_SYSTEM_STORE_REPOSITORY, true)
+        .put(CLIENT_SYSTEM_STORE_REPOSITORY_REFRESH_INTERVAL_SECONDS, 1)
+        .put(DATA_BASE_PATH, baseDataPath)
+        .put(PERSISTENCE_TYPE, ROCKS_DB)
+        .build();
+
+    ExecutorService readExecutor = Executors.newFixedThreadPool(2, new DaemonThreadFactory("DaVinciReadExecutor"));
+    try (CachingDaVinciClientFactory factory =
+        new CachingDaVinciClientFactory(d2Client, new MetricsRepository(), backendConfig)) {
+      DaVinciClient<Integer, Object> client =
+          factory.getAndStartGenericAvroClient(storeName, new DaVinciConfig().setReadExecutor(readExecutor));
+      client.subscribeAll().get();
+
+      Map<Integer, Integer> keyValueMap = new HashMap<>();
+      for (int k = 0; k < KEY_COUNT; ++k) {
+        keyValueMap.put(k, 1);
+      }
+      // The partitions of the batch get are looked up in parallel
+      assertEquals(client.batchGet(keyValueMap.keySet()).get(), keyValueMap);
+
+      // Non-existing keys should not be part of the result
+      Set<Integer> keys = new HashSet<>(keyValueMap.keySet());
+      keys.add(KEY_COUNT + 1);
+      assertEquals(client.batchGet(keys).get(), keyValueMap);
+
+      // The partitions rejected by the read executor are looked up on the calling thread
+      readExecutor.shutdown();
+      assertEquals(client.batchGet(keyValueMap.keySet()).get(), keyValueMap);
+    } finally {
+      TestUtils.shutdownExecutor(readExecutor);
+    }
+  }
+
   @Test(groups = { "flaky" }, timeOut = TEST_TIMEOUT * 2)
   public void testUnstableIngestionIsolation() throws Exception {
     final String storeName = Utils.getUniqueString("store");
@@ -0,0 +1,19 @@
+package com.linkedin.venice.router;
+
+import com.linkedin.venice.router.httpclient.StorageNodeClientType;
+
+
+public class TestReadForNettyClient extends TestRead {
+  @Override
+  protected StorageNodeClientType getStorageNodeClientType() {
+    return StorageNodeClientType.NETTY_4_CLIENT;
+  }
+
+  /**
+   * The storage nodes are reached over SSL, so HTTP/2 gets negotiated through ALPN whenever the JDK supports it.
+   */
+  @Override
+  protected boolean isRouterHttp2ClientEnabled() {
+    return true;
+  }
+}
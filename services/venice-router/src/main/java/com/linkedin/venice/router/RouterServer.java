@@ -49,9 +49,12 @@ import com.linkedin.venice.router.api.VeniceResponseAggregator;
 import com.linkedin.venice.router.api.VeniceRoleFinder;
 import com.linkedin.venice.router.api.VeniceVersionFinder;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReplicaScoreTracker;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
+import com.linkedin.venice.router.cache.RouterCache;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
 import com.linkedin.venice.router.httpclient.HttpClient5StorageNodeClient;
+import com.linkedin.venice.router.httpclient.NettyStorageNodeClient;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AdminOperationsStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -64,6 +67,7 @@ import com.linkedin.venice.router.stats.RouterThrottleStats;
 import com.linkedin.venice.router.stats.SecurityStats;
 import com.linkedin.venice.router.stats.StaleVersionStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.router.throttle.NoopRouterThrottler;
 import com.linkedin.venice.router.throttle.ReadRequestThrottler;
 import com.linkedin.venice.router.throttle.RouterThrottler;
@@ -77,6 +81,7 @@ import com.linkedin.venice.stats.ZkClientStatusStats;
 import com.linkedin.venice.throttle.EventThrottler;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.SslUtils;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import io.netty.channel.AbstractChannel;
@@ -86,8 +91,10 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultithreadEventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.net.InetSocketAddress;
@@ -410,6 +417,14 @@ public class RouterServer extends AbstractVeniceService {
         LOGGER.info("Router will use HTTP CLIENT5");
         storageNodeClient = new HttpClient5StorageNodeClient(sslFactoryForRequests, config);
         break;
+      case NETTY_4_CLIENT:
+        LOGGER.info("Router will use NETTY_4_CLIENT");
+        storageNodeClient = new NettyStorageNodeClient(
+            config,
+            sslFactoryForRequests,
+            workerEventLoopGroup,
+            useEpoll ? EpollSocketChannel.class : NioSocketChannel.class);
+        break;
       default:
         throw new VeniceException(
             "Router client type " + config.getStorageNodeClientType().toString() + " is not supported!");
@@ -429,6 +444,12 @@ public class RouterServer extends AbstractVeniceService {
         aggHostHealthStats,
         routerStats);
     scatterGatherMode = new VeniceDelegateMode(config, routerStats, routeHttpRequestStats);
+    if (config.getMultiKeyRoutingStrategy().equals(VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING)) {
+      ReplicaScoreTracker replicaScoreTracker =
+          new ReplicaScoreTracker(metricsRepository, routeHttpRequestStats, new SystemTime());
+      dispatcher.initReplicaScoreTracker(replicaScoreTracker);
+      scatterGatherMode.initReplicaScoreTracker(replicaScoreTracker);
+    }
 
     if (config.isRouterHeartBeatEnabled()) {
       heartbeat =
@@ -467,6 +488,12 @@ public class RouterServer extends AbstractVeniceService {
         config.getKafkaBootstrapServers());
 
     VeniceHostFinder hostFinder = new VeniceHostFinder(routingDataRepository, routerStats, healthMonitor);
+    if (config.isAdaptiveConcurrencyLimitEnabled()) {
+      AdaptiveConcurrencyLimiter concurrencyLimiter =
+          new AdaptiveConcurrencyLimiter(metricsRepository, routeHttpRequestStats, config);
+      dispatcher.initConcurrencyLimiter(concurrencyLimiter);
+      hostFinder.initConcurrencyLimiter(concurrencyLimiter);
+    }
 
     VeniceVersionFinder versionFinder = new VeniceVersionFinder(
         metadataRepository,
@@ -484,6 +511,16 @@ public class RouterServer extends AbstractVeniceService {
         config,
         compressorFactory);
 
+    if (config.isRouterCacheEnabled()) {
+      // The invalidations of the cache entries are shut down along with the registry
+      ExecutorService invalidationExecutor = registry.factory(ShutdownableExecutors.class)
+          .newSingleThreadExecutor(new DefaultThreadFactory("RouterCacheInvalidation", true));
+      RouterCache routerCache = new RouterCache(config, metadataRepository, new SystemTime(), invalidationExecutor);
+      metadataRepository.registerStoreDataChangedListener(routerCache);
+      dispatcher.initRouterCache(routerCache);
+      versionFinder.initRouterCache(routerCache);
+    }
+
     // Setup stat tracking for exceptional case
     RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
 
@@ -878,7 +915,7 @@ public class RouterServer extends AbstractVeniceService {
       // Setup read requests throttler.
       setReadRequestThrottling(config.isReadThrottlingEnabled());
 
-      if (config.getMultiKeyRoutingStrategy().equals(VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING)) {
+      if (config.getMultiKeyRoutingStrategy().isHelixGroupAware()) {
         /**
          * This statement should be invoked after {@link #manager} is connected.
          */
@@ -15,7 +15,16 @@ import static com.linkedin.venice.ConfigKeys.LISTENER_SSL_PORT;
 import static com.linkedin.venice.ConfigKeys.MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_INITIAL_LIMIT;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_MAX_LIMIT;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_MIN_LIMIT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ASYNC_START_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_ADMISSION_FREQUENCY_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_SIZE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_STORE_ALLOWLIST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_CACHE_TTL_MILLIS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_DECOMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_ATTEMPTS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_BACKOFF_MS;
@@ -102,6 +111,7 @@ import com.linkedin.venice.router.httpclient.StorageNodeClientType;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -206,6 +216,15 @@ public class VeniceRouterConfig {
   private boolean metaStoreShadowReadEnabled;
   private boolean unregisterMetricForDeletedStoreEnabled;
   private int routerIOWorkerCount;
+  private boolean routerCacheEnabled;
+  private long routerCacheSizeInBytes;
+  private int routerCacheAdmissionFrequencyThreshold;
+  private List<String> routerCacheStoreAllowlist;
+  private long routerCacheTtlMs;
+  private boolean adaptiveConcurrencyLimitEnabled;
+  private int adaptiveConcurrencyInitialLimit;
+  private int adaptiveConcurrencyMinLimit;
+  private int adaptiveConcurrencyMaxLimit;
 
   public VeniceRouterConfig(VeniceProperties props) {
     try {
@@ -383,6 +402,16 @@ public class VeniceRouterConfig {
      * should consider to use some number, which is proportional to the available cores.
      */
     routerIOWorkerCount = props.getInt(ROUTER_IO_WORKER_COUNT, 24);
+    routerCacheEnabled = props.getBoolean(ROUTER_CACHE_ENABLED, false);
+    routerCacheSizeInBytes = props.getSizeInBytes(ROUTER_CACHE_SIZE_IN_BYTES, 256 * 1024 * 1024L);
+    routerCacheAdmissionFrequencyThreshold = props.getInt(ROUTER_CACHE_ADMISSION_FREQUENCY_THRESHOLD, 8);
+    routerCacheStoreAllowlist = props.getList(ROUTER_CACHE_STORE_ALLOWLIST, Collections.emptyList());
+    routerCacheTtlMs = props.getLong(ROUTER_CACHE_TTL_MILLIS, 0);
+    adaptiveConcurrencyLimitEnabled = props.getBoolean(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, false);
+    adaptiveConcurrencyInitialLimit = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_INITIAL_LIMIT, 100);
+    adaptiveConcurrencyMinLimit = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_MIN_LIMIT, 20);
+    adaptiveConcurrencyMaxLimit =
+        props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_MAX_LIMIT, routerUnhealthyPendingConnThresholdPerRoute);
   }
 
   public String getClusterName() {
@@ -828,4 +857,40 @@ public class VeniceRouterConfig {
   public int getRouterIOWorkerCount() {
     return routerIOWorkerCount;
   }
+
+  public boolean isRouterCacheEnabled() {
+    return routerCacheEnabled;
+  }
+
+  public long getRouterCacheSizeInBytes() {
+    return routerCacheSizeInBytes;
+  }
+
+  public int getRouterCacheAdmissionFrequencyThreshold() {
+    return routerCacheAdmissionFrequencyThreshold;
+  }
+
+  public List<String> getRouterCacheStoreAllowlist() {
+    return routerCacheStoreAllowlist;
+  }
+
+  public long getRouterCacheTtlMs() {
+    return routerCacheTtlMs;
+  }
+
+  public boolean isAdaptiveConcurrencyLimitEnabled() {
+    return adaptiveConcurrencyLimitEnabled;
+  }
+
+  public int getAdaptiveConcurrencyInitialLimit() {
+    return adaptiveConcurrencyInitialLimit;
+  }
+
+  public int getAdaptiveConcurrencyMinLimit() {
+    return adaptiveConcurrencyMinLimit;
+  }
+
+  public int getAdaptiveConcurrencyMaxLimit() {
+    return adaptiveConcurrencyMaxLimit;
+  }
 }
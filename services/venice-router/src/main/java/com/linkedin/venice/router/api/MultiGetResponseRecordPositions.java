@@ -0,0 +1,172 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import java.util.Arrays;
+
+
+/**
+ * The positions of the fields of each {@link MultiGetResponseRecordV1} in a serialized multi-get response, which is
+ * a concatenation of records in Avro binary format:
+ *    keyIndex: int (zig-zag varint) | value: bytes (zig-zag varint length + bytes) | schemaId: int (zig-zag varint)
+ *
+ * The response gets walked in place without deserializing the records, so that {@link VeniceResponseDecompressor}
+ * could rewrite the value bytes only, while copying the key index and schema id bytes as-is.
+ */
+class MultiGetResponseRecordPositions {
+  private static final int MAX_VAR_INT_BYTES = 5;
+  private static final int MAX_VAR_LONG_BYTES = 10;
+
+  private int recordCount = 0;
+  private int[] recordOffsets;
+  private int[] keyIndexLengths;
+  private int[] valueOffsets;
+  private int[] valueLengths;
+  private int[] schemaIdLengths;
+
+  private MultiGetResponseRecordPositions(int initialCapacity) {
+    recordOffsets = new int[initialCapacity];
+    keyIndexLengths = new int[initialCapacity];
+    valueOffsets = new int[initialCapacity];
+    valueLengths = new int[initialCapacity];
+    schemaIdLengths = new int[initialCapacity];
+  }
+
+  /**
+   * @throws IllegalArgumentException if the data is not a valid concatenation of {@link MultiGetResponseRecordV1}.
+   */
+  static MultiGetResponseRecordPositions parse(byte[] data, int offset, int length) {
+    MultiGetResponseRecordPositions positions = new MultiGetResponseRecordPositions(16);
+    int limit = offset + length;
+    int position = offset;
+    while (position < limit) {
+      int recordOffset = position;
+      int valueLengthOffset = skipVarInt(data, position, limit, MAX_VAR_INT_BYTES);
+      long valueLength = readVarLong(data, valueLengthOffset, limit);
+      int valueOffset = skipVarInt(data, valueLengthOffset, limit, MAX_VAR_LONG_BYTES);
+      if (valueLength < 0 || valueLength > limit - valueOffset) {
+        throw new IllegalArgumentException("Invalid value length: " + valueLength + " at offset: " + recordOffset);
+      }
+      int schemaIdOffset = valueOffset + (int) valueLength;
+      position = skipVarInt(data, schemaIdOffset, limit, MAX_VAR_INT_BYTES);
+      positions.add(
+          recordOffset,
+          valueLengthOffset - recordOffset,
+          valueOffset,
+          (int) valueLength,
+          position - schemaIdOffset);
+    }
+    return positions;
+  }
+
+  private void add(int recordOffset, int keyIndexLength, int valueOffset, int valueLength, int schemaIdLength) {
+    if (recordCount == recordOffsets.length) {
+      int newCapacity = recordCount * 2;
+      recordOffsets = Arrays.copyOf(recordOffsets, newCapacity);
+      keyIndexLengths = Arrays.copyOf(keyIndexLengths, newCapacity);
+      valueOffsets = Arrays.copyOf(valueOffsets, newCapacity);
+      valueLengths = Arrays.copyOf(valueLengths, newCapacity);
+      schemaIdLengths = Arrays.copyOf(schemaIdLengths, newCapacity);
+    }
+    recordOffsets[recordCount] = recordOffset;
+    keyIndexLengths[recordCount] = keyIndexLength;
+    valueOffsets[recordCount] = valueOffset;
+    valueLengths[recordCount] = valueLength;
+    schemaIdLengths[recordCount] = schemaIdLength;
+    recordCount++;
+  }
+
+  int getRecordCount() {
+    return recordCount;
+  }
+
+  int getValueOffset(int recordIndex) {
+    return valueOffsets[recordIndex];
+  }
+
+  int getValueLength(int recordIndex) {
+    return valueLengths[recordIndex];
+  }
+
+  /**
+   * @return the size of the response once the values are replaced by values of the given sizes.
+   */
+  int getOutputSize(int[] newValueLengths) {
+    long size = 0;
+    for (int i = 0; i < recordCount; i++) {
+      size += keyIndexLengths[i] + getVarLongSize(newValueLengths[i]) + newValueLengths[i] + schemaIdLengths[i];
+    }
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The size of the response: " + size + " is too large");
+    }
+    return (int) size;
+  }
+
+  /**
+   * Writes the records into the output with the values of the given sizes, except for the value bytes themselves.
+   * The output needs to be sized with {@link #getOutputSize(int[])}.
+   *
+   * @return the offsets in the output where the value bytes of each record should be written.
+   */
+  int[] writeEnvelopes(byte[] data, byte[] output, int outputOffset, int[] newValueLengths) {
+    int[] outputValueOffsets = new int[recordCount];
+    int position = outputOffset;
+    for (int i = 0; i < recordCount; i++) {
+      System.arraycopy(data, recordOffsets[i], output, position, keyIndexLengths[i]);
+      position = writeVarLong(newValueLengths[i], output, position + keyIndexLengths[i]);
+      outputValueOffsets[i] = position;
+      position += newValueLengths[i];
+      System.arraycopy(data, valueOffsets[i] + valueLengths[i], output, position, schemaIdLengths[i]);
+      position += schemaIdLengths[i];
+    }
+    return outputValueOffsets;
+  }
+
+  /**
+   * @return the position right after the varint starting at the given position.
+   */
+  private static int skipVarInt(byte[] data, int position, int limit, int maxBytes) {
+    int maxPosition = Math.min(limit, position + maxBytes);
+    while (position < maxPosition) {
+      if ((data[position++] & 0x80) == 0) {
+        return position;
+      }
+    }
+    throw new IllegalArgumentException("Invalid varint encoding at offset: " + position);
+  }
+
+  private static long readVarLong(byte[] data, int position, int limit) {
+    int maxPosition = Math.min(limit, position + MAX_VAR_LONG_BYTES);
+    long value = 0;
+    int shift = 0;
+    while (position < maxPosition) {
+      byte b = data[position++];
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        // zig-zag decoding
+        return (value >>> 1) ^ -(value & 1);
+      }
+      shift += 7;
+    }
+    throw new IllegalArgumentException("Invalid long encoding at offset: " + position);
+  }
+
+  private static int getVarLongSize(long value) {
+    long n = (value << 1) ^ (value >> 63);
+    int size = 1;
+    while ((n & ~0x7FL) != 0) {
+      n >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  private static int writeVarLong(long value, byte[] output, int position) {
+    long n = (value << 1) ^ (value >> 63);
+    while ((n & ~0x7FL) != 0) {
+      output[position++] = (byte) ((n & 0x7F) | 0x80);
+      n >>>= 7;
+    }
+    output[position++] = (byte) n;
+    return position;
+  }
+}
@@ -20,6 +20,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReplicaScoreTracker;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
@@ -88,10 +89,16 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST = new HelixAssistedScatterGatherMode();
 
+  /**
+   * Latency-aware routing to avoid the slow/overloaded replicas based on their response time history.
+   */
+  private final ScatterGatherMode LATENCY_AWARE_MODE_FOR_MULTI_KEY_REQUEST = new LatencyAwareScatterGatherMode();
+
   private RouterThrottler readRequestThrottler;
   private RouteHttpRequestStats routeHttpRequestStats;
 
   private HelixGroupSelector helixGroupSelector;
+  private ReplicaScoreTracker replicaScoreTracker;
 
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
@@ -118,6 +125,9 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       case HELIX_ASSISTED_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST;
         break;
+      case LATENCY_AWARE_ROUTING:
+        this.scatterGatherModeForMultiKeyRequest = LATENCY_AWARE_MODE_FOR_MULTI_KEY_REQUEST;
+        break;
       default:
         throw new VeniceException("Unknown multi-key routing strategy: " + this.multiKeyRoutingStrategy);
     }
@@ -138,6 +148,10 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     this.helixGroupSelector = helixGroupSelector;
   }
 
+  public void initReplicaScoreTracker(ReplicaScoreTracker replicaScoreTracker) {
+    this.replicaScoreTracker = replicaScoreTracker;
+  }
+
   @Nonnull
   @Override
   public <H, P extends ResourcePath<K>, K, R> Scatter<H, P, K> scatter(
@@ -156,14 +170,21 @@ public class VeniceDelegateMode extends ScatterGatherMode {
           INTERNAL_SERVER_ERROR,
           "Read request throttler has not been setup yet");
     }
-    if (multiKeyRoutingStrategy.equals(VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING)
-        && helixGroupSelector == null) {
+    if (multiKeyRoutingStrategy.isHelixGroupAware() && helixGroupSelector == null) {
       throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
           Optional.empty(),
           Optional.empty(),
           INTERNAL_SERVER_ERROR,
           "HelixGroupSelector has not been setup yet");
     }
+    if (multiKeyRoutingStrategy.equals(VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING)
+        && replicaScoreTracker == null) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.empty(),
+          Optional.empty(),
+          INTERNAL_SERVER_ERROR,
+          "ReplicaScoreTracker has not been setup yet");
+    }
     P path = scatter.getPath();
     if (!(path instanceof VenicePath)) {
       throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
@@ -600,7 +621,11 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   class HelixAssistedScatterGatherMode extends ScatterGatherModeForMultiKeyRequest {
     HelixAssistedScatterGatherMode() {
-      super("HELIX_ASSISTED_SCATTER_GATHER_MODE");
+      this("HELIX_ASSISTED_SCATTER_GATHER_MODE");
+    }
+
+    protected HelixAssistedScatterGatherMode(@Nonnull String name) {
+      super(name);
     }
 
     @Override
@@ -635,15 +660,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       int groupNum = helixGroupNum.get();
 
       for (H host: partitionReplicas) {
-        if (!(host instanceof Instance)) {
-          throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
-              Optional.of(venicePath.getStoreName()),
-              Optional.of(venicePath.getRequestType()),
-              INTERNAL_SERVER_ERROR,
-              "The chosen host is not an 'Instance'");
-        }
-        Instance instance = (Instance) host;
-        String nodeId = instance.getNodeId();
+        String nodeId = getInstance(host, venicePath).getNodeId();
         if (!venicePath.canRequestStorageNode(nodeId)) {
           // Skip the slow host
           continue;
@@ -653,14 +670,40 @@ public class VeniceDelegateMode extends ScatterGatherMode {
           selectedHost = host;
           break;
         }
-        int currentDistance = currentGroupId > assignedGroupId
-            ? (currentGroupId - assignedGroupId)
-            : (currentGroupId + groupNum - assignedGroupId);
+        int currentDistance = getGroupDistance(currentGroupId, assignedGroupId, groupNum);
         if (currentDistance < groupDistance) {
           groupDistance = currentDistance;
           selectedHost = host;
         }
       }
+      addSelectedHost(selectedHost, partitionName, partitionKeys, venicePath, hostMap);
+    }
+
+    /**
+     * @return the distance from the assigned group to the given group in one direction, which is 0 for the assigned
+     *         group itself.
+     */
+    protected int getGroupDistance(int groupId, int assignedGroupId, int groupNum) {
+      return groupId >= assignedGroupId ? (groupId - assignedGroupId) : (groupId + groupNum - assignedGroupId);
+    }
+
+    protected Instance getInstance(Object host, VenicePath venicePath) throws RouterException {
+      if (!(host instanceof Instance)) {
+        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+            Optional.of(venicePath.getStoreName()),
+            Optional.of(venicePath.getRequestType()),
+            INTERNAL_SERVER_ERROR,
+            "The chosen host is not an 'Instance'");
+      }
+      return (Instance) host;
+    }
+
+    protected <H, K> void addSelectedHost(
+        H selectedHost,
+        String partitionName,
+        List<K> partitionKeys,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap) throws RouterException {
       if (selectedHost == null) {
         if (venicePath.isRetryRequest()) {
           throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
@@ -685,4 +728,54 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       keyPartitionSet.addKeyPartitions(partitionKeys, partitionName);
     }
   }
+
+  /**
+   * This mode routes the keys of each partition to the replica with the best score from {@link ReplicaScoreTracker},
+   * which combines the response time history, the in-flight requests and the queue feedback of the storage nodes,
+   * so that the slow/overloaded replicas are avoided before the long-tail retry kicks in.
+   *
+   * The replicas are still picked inside the assigned helix group like {@link HelixAssistedScatterGatherMode} to
+   * keep the fanout bounded, and the score is used to pick among the replicas of the nearest group with healthy
+   * replicas. Without helix groups, all the storage nodes belong to the same group, and the score alone decides.
+   */
+  class LatencyAwareScatterGatherMode extends HelixAssistedScatterGatherMode {
+    LatencyAwareScatterGatherMode() {
+      super("LATENCY_AWARE_SCATTER_GATHER_MODE");
+    }
+
+    @Override
+    protected <H, K> void selectHostForPartition(
+        String partitionName,
+        List<H> partitionReplicas,
+        List<K> partitionKeys,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        Optional<Integer> helixGroupNum,
+        Optional<Integer> assignedHelixGroupId) throws RouterException {
+      H selectedHost = null;
+      int selectedGroupDistance = Integer.MAX_VALUE;
+      double selectedScore = Double.MAX_VALUE;
+      int assignedGroupId = assignedHelixGroupId.get();
+      int groupNum = helixGroupNum.get();
+
+      for (H host: partitionReplicas) {
+        String nodeId = getInstance(host, venicePath).getNodeId();
+        if (!venicePath.canRequestStorageNode(nodeId)) {
+          // Skip the slow host
+          continue;
+        }
+        int groupDistance = getGroupDistance(helixGroupSelector.getInstanceGroupId(nodeId), assignedGroupId, groupNum);
+        if (groupDistance > selectedGroupDistance) {
+          continue;
+        }
+        double score = replicaScoreTracker.getScore(nodeId);
+        if (groupDistance < selectedGroupDistance || score < selectedScore) {
+          selectedHost = host;
+          selectedGroupDistance = groupDistance;
+          selectedScore = score;
+        }
+      }
+      addSelectedHost(selectedHost, partitionName, partitionKeys, venicePath, hostMap);
+    }
+  }
 }
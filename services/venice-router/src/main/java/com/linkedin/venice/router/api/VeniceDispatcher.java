@@ -2,6 +2,8 @@ package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
 import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
+import static com.linkedin.venice.HttpConstants.VENICE_STORAGE_QUEUE_LENGTH;
+import static com.linkedin.venice.HttpConstants.VENICE_STORAGE_QUEUE_TIME;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
@@ -20,8 +22,12 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReplicaScoreTracker;
+import com.linkedin.venice.router.cache.RouterCache;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
@@ -30,7 +36,11 @@ import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.Utils;
@@ -43,14 +53,20 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
@@ -60,6 +76,8 @@ import org.apache.logging.log4j.Logger;
 
 public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, VenicePath, RouterKey> {
   private static final Logger LOGGER = LogManager.getLogger(VeniceDispatcher.class);
+  private static final RecordSerializer<MultiGetResponseRecordV1> MULTI_GET_RESPONSE_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
   /**
    * This map is used to capture all the {@link CompletableFuture} returned by {@link #storageNodeClient},
    * and it is used to clean up the leaked futures in {@link LeakedCompletableFutureCleanupService}.
@@ -92,6 +110,19 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Optional, only set if the router cache is enabled.
+   */
+  private RouterCache routerCache;
+  /**
+   * Optional, only set if the adaptive concurrency limit is enabled.
+   */
+  private AdaptiveConcurrencyLimiter concurrencyLimiter;
+  /**
+   * Optional, only set if the latency-aware routing is enabled.
+   */
+  private ReplicaScoreTracker replicaScoreTracker;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -154,11 +185,24 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    CacheLookupResult cacheLookupResult = lookupRouterCache(path);
+    if (cacheLookupResult != null && cacheLookupResult.isComplete) {
+      // All the keys are served by the router cache, so there is no need to query the storage node.
+      responseFuture.setSuccess(Collections.singletonList(buildCachedResponse(path, cacheLookupResult)));
+      return;
+    }
+
+    // Only the keys missed by the router cache are sent to the storage node
+    VenicePath requestPath =
+        cacheLookupResult != null && cacheLookupResult.missPath != null ? cacheLookupResult.missPath : path;
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    sendRequest(storageNode, path, requestPath, retryFuture).whenComplete((response, throwable) -> {
       try {
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+          if (response != null) {
+            response.release();
+          }
           retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
           return;
         }
@@ -171,16 +215,30 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        VeniceFullHttpResponse fullHttpResponse = buildResponse(path, response, cacheLookupResult);
+        if (!responseFuture.setSuccess(Collections.singletonList(fullHttpResponse))) {
+          // The request has already been completed, e.g. by a retry
+          fullHttpResponse.release();
+        }
       } catch (Throwable e) {
+        if (response != null) {
+          // No-op if the content has already been taken over by buildResponse
+          response.release();
+        }
         responseFuture.setFailure(e);
       }
     });
   }
 
+  /**
+   * @param path the path of the request, which tracks the storage nodes queried by all its attempts.
+   * @param requestPath the path sent to the storage node, which only differs from {@code path} when some of the keys
+   *                    are served by the router cache.
+   */
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
+      VenicePath requestPath,
       AsyncPromise<HttpResponseStatus> retryFuture) throws RouterException {
 
     String storeName = path.getStoreName();
@@ -232,6 +290,27 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
               "Too many pending request to storage node : " + hostName);
         }
       }
+      if (concurrencyLimiter != null) {
+        int concurrencyLimit = concurrencyLimiter.getLimit(storageNode.getNodeId());
+        if (pendingRequestCount >= concurrencyLimit) {
+          isRequestThrottled = true;
+          // Shed the request right away instead of queueing it up on the saturated storage node.
+          String errorMessage = "concurrency limit: " + concurrencyLimit + " reached for storage node: " + hostName;
+          if (!retryFuture.isCancelled()) {
+            retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
+            responseFuture.completeExceptionally(new VeniceException("Triggering error retry, " + errorMessage));
+            perStoreStatsByType.getStatsByType(path.getRequestType())
+                .recordErrorRetryAttemptTriggeredByConcurrencyLimit(storeName);
+            return responseFuture;
+          } else {
+            throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+                Optional.of(storeName),
+                Optional.of(requestType),
+                SERVICE_UNAVAILABLE,
+                "The " + errorMessage);
+          }
+        }
+      }
       routeHttpRequestStats.recordPendingRequest(storageNode.getNodeId());
 
       long requestId = uniqueRequestId.getAndIncrement();
@@ -242,10 +321,16 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
          * to decide whether a storage node is suitable for retry request.
          */
         path.requestStorageNode(storageNode.getNodeId());
+        Consumer<PortableHttpResponse> completedCallBack = response -> {
+          if (!responseFuture.complete(response)) {
+            // The future has already been completed, e.g. cancelled as leaked, so the response won't be consumed
+            response.release();
+          }
+        };
         storageNodeClient.query(
             storageNode,
-            path,
-            responseFuture::complete,
+            requestPath,
+            completedCallBack,
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false),
             startTime);
@@ -255,6 +340,13 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
       return responseFuture.whenComplete((response, throwable) -> {
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
         perRouteStats.recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getLatencyInMS(startTime));
+        if (concurrencyLimiter != null && !(throwable instanceof CancellationException)) {
+          boolean isFailed = throwable != null || RETRIABLE_ERROR_CODES.contains(response.getStatusCode());
+          concurrencyLimiter.recordResponse(storageNode.getNodeId(), System.nanoTime() - startTime, isFailed);
+        }
+        if (replicaScoreTracker != null && !(throwable instanceof CancellationException)) {
+          recordReplicaScore(storageNode.getNodeId(), System.nanoTime() - startTime, response);
+        }
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -267,63 +359,79 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
     }
   }
 
-  protected VeniceFullHttpResponse buildResponse(VenicePath path, PortableHttpResponse serverResponse)
-      throws IOException {
+  protected VeniceFullHttpResponse buildResponse(
+      VenicePath path,
+      PortableHttpResponse serverResponse,
+      CacheLookupResult cacheLookupResult) throws IOException {
     int statusCode = serverResponse.getStatusCode();
+    // The content is owned by this method until it is handed over to the response, so it is released on failure
     ByteBuf content = serverResponse.getContentInByteBuf();
 
     if (PASS_THROUGH_ERROR_CODES.contains(statusCode)) {
       return buildPlainTextResponse(HttpResponseStatus.valueOf(statusCode), content);
     }
 
-    CompressionStrategy contentCompression =
-        VeniceResponseDecompressor.getCompressionStrategy(serverResponse.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
-
+    CompressionStrategy contentCompression;
     long decompressionTimeInNs = 0;
+    try {
+      contentCompression = VeniceResponseDecompressor
+          .getCompressionStrategy(serverResponse.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
 
-    if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_NOT_FOUND) {
-      statusCode = HttpStatus.SC_BAD_GATEWAY;
-    }
+      if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_NOT_FOUND) {
+        statusCode = HttpStatus.SC_BAD_GATEWAY;
+      }
 
-    if (statusCode == HttpStatus.SC_OK) {
-      VeniceResponseDecompressor responseDecompressor = path.getResponseDecompressor();
-      if (path.isStreamingRequest()) {
-        VeniceChunkedResponse chunkedResponse = path.getChunkedResponse().get();
-        if (path.getRequestType().equals(RequestType.MULTI_GET_STREAMING)) {
-          Pair<ByteBuf, CompressionStrategy> chunk =
-              responseDecompressor.processMultiGetResponseForStreaming(contentCompression, content);
-          chunkedResponse.write(chunk.getFirst(), chunk.getSecond());
+      if (statusCode == HttpStatus.SC_OK) {
+        VeniceResponseDecompressor responseDecompressor = path.getResponseDecompressor();
+        if (path.isStreamingRequest()) {
+          VeniceChunkedResponse chunkedResponse = path.getChunkedResponse().get();
+          if (path.getRequestType().equals(RequestType.MULTI_GET_STREAMING)) {
+            Pair<ByteBuf, CompressionStrategy> chunk =
+                responseDecompressor.processMultiGetResponseForStreaming(contentCompression, content);
+            content = Unpooled.EMPTY_BUFFER;
+            chunkedResponse.write(chunk.getFirst(), chunk.getSecond());
+          } else {
+            ByteBuf chunk = content;
+            content = Unpooled.EMPTY_BUFFER;
+            chunkedResponse.write(chunk);
+          }
         } else {
-          chunkedResponse.write(content);
+          if (cacheLookupResult != null && cacheLookupResult.hasAdmissibleMiss) {
+            populateRouterCache(path, serverResponse, contentCompression, content, cacheLookupResult);
+          }
+          ContentDecompressResult contentDecompressResult;
+          switch (path.getRequestType()) {
+            case SINGLE_GET:
+              contentDecompressResult = responseDecompressor.decompressSingleGetContent(contentCompression, content);
+              content = contentDecompressResult.getContent();
+              break;
+            case MULTI_GET:
+              contentDecompressResult = responseDecompressor.decompressMultiGetContent(contentCompression, content);
+              content = contentDecompressResult.getContent();
+              contentDecompressResult = appendCachedRecords(path, contentDecompressResult, cacheLookupResult);
+              break;
+            case COMPUTE:
+              // Compute requests are decompressed on the SN
+              contentDecompressResult = new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
+              break;
+            default:
+              throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+                  Optional.empty(),
+                  Optional.empty(),
+                  INTERNAL_SERVER_ERROR,
+                  "Unknown request type: " + path.getRequestType());
+          }
+
+          content = contentDecompressResult.getContent();
+          contentCompression = contentDecompressResult.getCompressionStrategy();
+          decompressionTimeInNs = contentDecompressResult.getDecompressionTimeInNs();
         }
-        content = Unpooled.EMPTY_BUFFER;
       } else {
-        final ContentDecompressResult contentDecompressResult;
-        switch (path.getRequestType()) {
-          case SINGLE_GET:
-            contentDecompressResult = responseDecompressor.decompressSingleGetContent(contentCompression, content);
-            break;
-          case MULTI_GET:
-            contentDecompressResult = responseDecompressor.decompressMultiGetContent(contentCompression, content);
-            break;
-          case COMPUTE:
-            // Compute requests are decompressed on the SN
-            contentDecompressResult = new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
-            break;
-          default:
-            throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-                Optional.empty(),
-                Optional.empty(),
-                INTERNAL_SERVER_ERROR,
-                "Unknown request type: " + path.getRequestType());
-        }
-
-        content = contentDecompressResult.getContent();
-        contentCompression = contentDecompressResult.getCompressionStrategy();
-        decompressionTimeInNs = contentDecompressResult.getDecompressionTimeInNs();
+        contentCompression = CompressionStrategy.NO_OP;
       }
-    } else {
-      contentCompression = CompressionStrategy.NO_OP;
+    } catch (Throwable e) {
+      content.release();
+      throw e;
     }
 
     VeniceFullHttpResponse response = new VeniceFullHttpResponse(
@@ -342,6 +450,223 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
     return response;
   }
 
+  public void initRouterCache(RouterCache routerCache) {
+    this.routerCache = routerCache;
+  }
+
+  public void initConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  public void initReplicaScoreTracker(ReplicaScoreTracker replicaScoreTracker) {
+    this.replicaScoreTracker = replicaScoreTracker;
+  }
+
+  /**
+   * Feeds the response time and the queue feedback piggybacked by the storage node to {@link #replicaScoreTracker}.
+   * Failed requests are recorded with their latency only, so that timing out storage nodes get a worse score.
+   */
+  private void recordReplicaScore(String hostName, long latencyInNs, PortableHttpResponse response) {
+    int queueLength = -1;
+    double queueTimeInMs = -1;
+    if (response != null && response.containsHeader(VENICE_STORAGE_QUEUE_LENGTH)
+        && response.containsHeader(VENICE_STORAGE_QUEUE_TIME)) {
+      try {
+        queueLength = Integer.parseInt(response.getFirstHeader(VENICE_STORAGE_QUEUE_LENGTH));
+        queueTimeInMs = Double.parseDouble(response.getFirstHeader(VENICE_STORAGE_QUEUE_TIME));
+      } catch (NumberFormatException e) {
+        // The feedback is best-effort, the response time is still recorded
+        queueLength = -1;
+        queueTimeInMs = -1;
+      }
+    }
+    replicaScoreTracker.recordResponse(hostName, latencyInNs, queueLength, queueTimeInMs);
+  }
+
+  /**
+   * Looks up the keys of a single-get or multi-get request in the router cache. Only the keys missed by the cache are
+   * sent to the storage node, through a sub-path of the multi-get request, unless all the keys are served by the
+   * cache, in which case the storage node is not queried at all. The path itself is left as is, so that each retry of
+   * the request looks up all its keys again.
+   *
+   * @return null if the request can't be served by the router cache.
+   */
+  private CacheLookupResult lookupRouterCache(VenicePath path) {
+    if (routerCache == null || path.isStreamingRequest()) {
+      return null;
+    }
+    RequestType requestType = path.getRequestType();
+    if (requestType != RequestType.SINGLE_GET && requestType != RequestType.MULTI_GET) {
+      return null;
+    }
+    String storeName = path.getStoreName();
+    if (!routerCache.isCacheEnabled(storeName)) {
+      return null;
+    }
+
+    int version = path.getVersionNumber();
+    CacheLookupResult result = new CacheLookupResult();
+    int lookupCount = 0;
+    int hitCount = 0;
+    if (requestType == RequestType.SINGLE_GET) {
+      RouterKey key = path.getPartitionKey();
+      lookupCount = 1;
+      result.singleGetHit = routerCache.get(storeName, version, key);
+      if (result.singleGetHit != null) {
+        hitCount = 1;
+        result.isComplete = true;
+      } else {
+        result.hasAdmissibleMiss = routerCache.shouldAdmit(storeName, version, key);
+      }
+    } else {
+      VeniceMultiGetPath multiGetPath = (VeniceMultiGetPath) path;
+      List<RouterKey> missedKeys = new ArrayList<>();
+      for (Map.Entry<Integer, RouterKey> entry: multiGetPath.getKeyIdxToRouterKeySet()) {
+        RouterKey key = entry.getValue();
+        lookupCount++;
+        RouterCache.CachedValue value = routerCache.get(storeName, version, key);
+        if (value == null) {
+          missedKeys.add(key);
+          if (routerCache.shouldAdmit(storeName, version, key)) {
+            result.admissibleMisses.put(entry.getKey(), key);
+          }
+          continue;
+        }
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = entry.getKey();
+        record.value = ByteBuffer.wrap(value.getValue());
+        record.schemaId = value.getSchemaId();
+        result.hitRecords.add(record);
+        // All the values of a version share the same compression strategy
+        result.hitCompressionStrategy = value.getCompressionStrategy();
+      }
+      hitCount = result.hitRecords.size();
+      result.isComplete = missedKeys.isEmpty();
+      result.hasAdmissibleMiss = !result.admissibleMisses.isEmpty();
+      if (hitCount > 0 && !result.isComplete) {
+        result.missPath = multiGetPath.substitutePartitionKey(missedKeys);
+      }
+    }
+
+    AggRouterHttpRequestStats stats = perStoreStatsByType.getStatsByType(requestType);
+    stats.recordCacheLookup(storeName, lookupCount);
+    stats.recordCacheHit(storeName, hitCount);
+    return result;
+  }
+
+  /**
+   * Builds the response of a request whose keys are all served by the router cache.
+   */
+  private VeniceFullHttpResponse buildCachedResponse(VenicePath path, CacheLookupResult cacheLookupResult) {
+    ContentDecompressResult contentDecompressResult;
+    int schemaId;
+    int requestRcu;
+    if (path.getRequestType() == RequestType.SINGLE_GET) {
+      RouterCache.CachedValue value = cacheLookupResult.singleGetHit;
+      contentDecompressResult = path.getResponseDecompressor()
+          .decompressSingleGetContent(value.getCompressionStrategy(), Unpooled.wrappedBuffer(value.getValue()));
+      schemaId = value.getSchemaId();
+      requestRcu = 1;
+    } else {
+      contentDecompressResult = decompressCachedRecords(path, cacheLookupResult);
+      schemaId = ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
+      requestRcu = cacheLookupResult.hitRecords.size();
+    }
+
+    ByteBuf content = contentDecompressResult.getContent();
+    VeniceFullHttpResponse response = new VeniceFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        HttpResponseStatus.OK,
+        content,
+        contentDecompressResult.getDecompressionTimeInNs());
+    response.headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, HttpConstants.AVRO_BINARY)
+        .set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes())
+        .set(HttpConstants.VENICE_SCHEMA_ID, schemaId)
+        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, contentDecompressResult.getCompressionStrategy().getValue())
+        .set(VENICE_REQUEST_RCU, requestRcu);
+    return response;
+  }
+
+  private ContentDecompressResult decompressCachedRecords(VenicePath path, CacheLookupResult cacheLookupResult) {
+    ByteBuf content =
+        Unpooled.wrappedBuffer(MULTI_GET_RESPONSE_SERIALIZER.serializeObjects(cacheLookupResult.hitRecords));
+    return path.getResponseDecompressor()
+        .decompressMultiGetContent(cacheLookupResult.hitCompressionStrategy, content);
+  }
+
+  /**
+   * Appends the records of the keys served by the router cache to the multi-get response of the storage node.
+   */
+  private ContentDecompressResult appendCachedRecords(
+      VenicePath path,
+      ContentDecompressResult serverContentDecompressResult,
+      CacheLookupResult cacheLookupResult) {
+    if (cacheLookupResult == null || cacheLookupResult.hitRecords.isEmpty()) {
+      return serverContentDecompressResult;
+    }
+    ContentDecompressResult cachedContentDecompressResult = decompressCachedRecords(path, cacheLookupResult);
+    return new ContentDecompressResult(
+        Unpooled.wrappedBuffer(serverContentDecompressResult.getContent(), cachedContentDecompressResult.getContent()),
+        serverContentDecompressResult.getCompressionStrategy(),
+        serverContentDecompressResult.getDecompressionTimeInNs()
+            + cachedContentDecompressResult.getDecompressionTimeInNs());
+  }
+
+  /**
+   * Caches the values of the hot keys in the storage node response, before they get decompressed. The records of the
+   * multi-get response are scanned in place, and only the values of the keys which are hot enough to be cached are
+   * copied, so that the responses which don't carry any such key cost a scan of their record headers at most.
+   */
+  private void populateRouterCache(
+      VenicePath path,
+      PortableHttpResponse serverResponse,
+      CompressionStrategy compressionStrategy,
+      ByteBuf content,
+      CacheLookupResult cacheLookupResult) {
+    String storeName = path.getStoreName();
+    int version = path.getVersionNumber();
+    if (path.getRequestType() == RequestType.SINGLE_GET) {
+      RouterKey key = path.getPartitionKey();
+      int schemaId = Integer.parseInt(serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID));
+      routerCache.putIfAdmitted(storeName, version, key, schemaId, compressionStrategy, content.nioBuffer());
+      return;
+    }
+
+    // Each record of MultiGetResponseRecordV1 is made of the key index, the value bytes and the schema id
+    Map<Integer, RouterKey> admissibleMisses = cacheLookupResult.admissibleMisses;
+    ByteBuf records = content.duplicate();
+    while (records.isReadable() && !admissibleMisses.isEmpty()) {
+      int keyIndex = readAvroInt(records);
+      int valueLength = readAvroInt(records);
+      RouterKey key = admissibleMisses.remove(keyIndex);
+      if (key == null) {
+        records.skipBytes(valueLength);
+        readAvroInt(records);
+        continue;
+      }
+      ByteBuffer value = records.nioBuffer(records.readerIndex(), valueLength);
+      records.skipBytes(valueLength);
+      int schemaId = readAvroInt(records);
+      routerCache.putIfAdmitted(storeName, version, key, schemaId, compressionStrategy, value);
+    }
+  }
+
+  /**
+   * Reads a zig-zag varint encoded Avro int, or an Avro long which fits in an int, such as the length of a bytes field.
+   */
+  private static int readAvroInt(ByteBuf buf) {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = buf.readByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while (b < 0);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
   /**
    * For TEST ONLY
    */
@@ -368,6 +693,28 @@ public class VeniceDispatcher implements PartitionDispatchHandler4<Instance, Ven
     this.leakedCompletableFutureCleanupService.interrupt();
   }
 
+  private static class CacheLookupResult {
+    /**
+     * Whether all the keys are served by the router cache.
+     */
+    private boolean isComplete = false;
+    /**
+     * Whether any missed key is hot enough to be cached once the storage node returns its value.
+     */
+    private boolean hasAdmissibleMiss = false;
+    private RouterCache.CachedValue singleGetHit;
+    private final List<MultiGetResponseRecordV1> hitRecords = new ArrayList<>();
+    private CompressionStrategy hitCompressionStrategy = CompressionStrategy.NO_OP;
+    /**
+     * The multi-get keys missed by the router cache which are hot enough to be cached, by key index.
+     */
+    private final Map<Integer, RouterKey> admissibleMisses = new HashMap<>();
+    /**
+     * The sub-path of the multi-get request which only contains the keys missed by the router cache, if some keys hit.
+     */
+    private VenicePath missPath;
+  }
+
   /**
    * This implementation of {@link CompletableFuture} has the capability to track the start time.
    * @param <T>
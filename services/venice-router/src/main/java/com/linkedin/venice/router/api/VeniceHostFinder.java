@@ -11,6 +11,7 @@ import com.linkedin.venice.meta.OnlineInstanceFinder;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.router.utils.VeniceRouterUtils;
 import com.linkedin.venice.utils.HelixUtils;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -31,6 +32,10 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
   private final OnlineInstanceFinder onlineInstanceFinder;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
   private final HostHealthMonitor<Instance> instanceHealthMonitor;
+  /**
+   * Optional, only set if the adaptive concurrency limit is enabled.
+   */
+  private AdaptiveConcurrencyLimiter concurrencyLimiter;
 
   public VeniceHostFinder(
       OnlineInstanceFinder onlineInstanceFinder,
@@ -42,6 +47,10 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
     this.instanceHealthMonitor = instanceHealthMonitor;
   }
 
+  public void initConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
   /***
    * This parameter list is based on the router API.
    * The Venice router currently ignores all but the resourceName and partitionName
@@ -123,9 +132,36 @@ public class VeniceHostFinder implements HostFinder<Instance, VeniceRole> {
 
     Collections.shuffle(newHosts); // Randomize order so that multiget using ScatterGatherMode.GROUP_BY_PRIMARY_HOST or
                                    // LEAST_LOADED_ROUTING results in an even distribution of partitions to hosts.
+    if (concurrencyLimiter != null) {
+      return deprioritizeSaturatedHosts(newHosts);
+    }
     return newHosts;
   }
 
+  /**
+   * Moves the hosts which have reached their concurrency limit to the end of the list, so they are only chosen when
+   * all the other replicas are saturated as well; the order among the unsaturated hosts is kept.
+   */
+  private List<Instance> deprioritizeSaturatedHosts(List<Instance> hosts) {
+    List<Instance> saturatedHosts = null;
+    List<Instance> sortedHosts = new ArrayList<>(hosts.size());
+    for (Instance host: hosts) {
+      if (concurrencyLimiter.isSaturated(host.getNodeId())) {
+        if (saturatedHosts == null) {
+          saturatedHosts = new ArrayList<>(hosts.size());
+        }
+        saturatedHosts.add(host);
+      } else {
+        sortedHosts.add(host);
+      }
+    }
+    if (saturatedHosts == null) {
+      return hosts;
+    }
+    sortedHosts.addAll(saturatedHosts);
+    return sortedHosts;
+  }
+
   @Override
   public Collection<Instance> findAllHosts(VeniceRole roles) throws RouterException {
     throw new RouterException(
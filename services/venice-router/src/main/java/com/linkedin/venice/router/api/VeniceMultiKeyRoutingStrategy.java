@@ -11,5 +11,14 @@ public enum VeniceMultiKeyRoutingStrategy {
   // This mode will send the request to the least loaded host of all the available replicas.
   LEAST_LOADED_ROUTING,
   // This mode will try to limit the fanout inside one helix group/zone.
-  HELIX_ASSISTED_ROUTING
+  HELIX_ASSISTED_ROUTING,
+  // This mode will send the request to the replica with the best latency and load score inside one helix group/zone.
+  LATENCY_AWARE_ROUTING;
+
+  /**
+   * @return whether the routing strategy relies on the helix group/zone of the storage nodes.
+   */
+  public boolean isHelixGroupAware() {
+    return this == HELIX_ASSISTED_ROUTING || this == LATENCY_AWARE_ROUTING;
+  }
 }
@@ -14,14 +14,11 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
-import com.linkedin.venice.serializer.AvroSerializer;
-import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
@@ -30,9 +27,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
-import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 
 /**
@@ -40,12 +38,6 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
  * {@link VeniceResponseAggregator} for regular requests and {@link VeniceDispatcher} for streaming requests.
  */
 public class VeniceResponseDecompressor {
-  private static final RecordSerializer<MultiGetResponseRecordV1> recordSerializer =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
-  private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
-      FastSerializerDeserializerFactory
-          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class);
-
   private final CompressionStrategy clientCompression;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
   private final String storeName;
@@ -117,24 +109,18 @@ public class VeniceResponseDecompressor {
   }
 
   /**
-   * Decompressing multi-get response in router side is a bit of overhead.
-   * Since records could be concatenated within one response, we need to
-   * deserialize the records; decompress the records and then serialize
-   * them back.
+   * Decompressing multi-get response in router side is a bit of overhead, see {@link #decompressMultiGetRecords}.
    */
   public ContentDecompressResult decompressMultiGetContent(CompressionStrategy compressionStrategy, ByteBuf content) {
     if (canPassThroughResponse(compressionStrategy)) {
       return new ContentDecompressResult(content, compressionStrategy, 0L);
     } else {
-      CompositeByteBuf decompressedData = Unpooled.compositeBuffer();
       long startTimeInNs = System.nanoTime();
-      if (content instanceof CompositeByteBuf) {
-        for (ByteBuf buffer: (CompositeByteBuf) content) {
-          decompressedData.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer));
-        }
-      } else {
-        decompressedData.addComponent(true, decompressMultiGetRecords(compressionStrategy, content));
-      }
+      /**
+       * The concatenation of multiple responses is still a valid stream of records, so a {@link CompositeByteBuf}
+       * gets decompressed as a whole, which also handles the records spanning over multiple components.
+       */
+      ByteBuf decompressedData = decompressMultiGetRecords(compressionStrategy, content);
       final long decompressionTimeInNs = System.nanoTime() - startTimeInNs;
       /**
        * When using compression, the data in response is already copied during decompression, so we can explicitly
@@ -160,97 +146,230 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(RequestType.MULTI_GET_STREAMING);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
-    ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, copy);
+    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, content);
     stats.recordDecompressionTime(storeName, LatencyUtils.getLatencyInMS(startTimeInNs));
     content.release();
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
   }
 
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+      if (compressor == null) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            SERVICE_UNAVAILABLE,
+            "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+      }
+      return compressor;
+    }
+    return compressorFactory.getCompressor(compressionStrategy);
+  }
+
+  private VeniceException getDecompressionException(RequestType requestType, String message) {
+    String errorMsg =
+        String.format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, message);
+    return RouterExceptionAndTrackingUtils
+        .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+  }
+
   private ByteBuffer decompressRecord(
       CompressionStrategy compressionStrategy,
       ByteBuffer compressedData,
       RequestType requestType) {
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      ByteBuffer decompressed = compressor.decompress(compressedData);
-      return decompressed;
+      return getCompressor(compressionStrategy, requestType).decompress(compressedData);
     } catch (IOException e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils
-          .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+      throw getDecompressionException(requestType, e.getMessage());
     }
   }
 
+  /**
+   * Since records are concatenated within one response, the values can't be decompressed without walking through
+   * the {@link MultiGetResponseRecordV1} envelopes. Instead of deserializing and re-serializing the records, the
+   * envelopes are walked in place, and only the value bytes together with their length prefix get rewritten:
+   * 1. The positions of the fields of each record are located by {@link MultiGetResponseRecordPositions};
+   * 2. If the decompressed size of every value is recorded in the compressed data, such as the content size in the
+   *    zstd frame header, the output buffer is allocated from the pool with the exact size, the key index and schema
+   *    id bytes are copied as-is, and the values are decompressed straight into their slot in the output;
+   * 3. Otherwise, the values are decompressed into temporary buffers first, and then copied into the output.
+   * The values are decompressed in batches of {@link #multiGetDecompressionBatchSize} records across
+   * {@link #decompressionExecutor}, and the last batch is decompressed by the current thread.
+   */
   private ByteBuf decompressMultiGetRecords(CompressionStrategy compressionStrategy, ByteBuf data) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
-
-    List<CompletableFuture<Void>> decompressRecordsFutures = new ArrayList<>();
-    List<MultiGetResponseRecordV1> decompressionBatch = null;
-    for (MultiGetResponseRecordV1 record: records) {
-      if (decompressionBatch == null) {
-        decompressionBatch = new ArrayList<>(multiGetDecompressionBatchSize);
-      }
-      decompressionBatch.add(record);
-      if (decompressionBatch.size() == multiGetDecompressionBatchSize) {
-        decompressRecordsFutures.add(decompressRecords(decompressionBatch, compressionStrategy, decompressionExecutor));
-        decompressionBatch = null;
+    int dataLength = data.readableBytes();
+    if (dataLength == 0) {
+      return Unpooled.EMPTY_BUFFER;
+    }
+    byte[] input;
+    int inputOffset;
+    if (data.hasArray()) {
+      input = data.array();
+      inputOffset = data.arrayOffset() + data.readerIndex();
+    } else {
+      input = new byte[dataLength];
+      data.getBytes(data.readerIndex(), input);
+      inputOffset = 0;
+    }
+    MultiGetResponseRecordPositions records;
+    try {
+      records = MultiGetResponseRecordPositions.parse(input, inputOffset, dataLength);
+    } catch (IllegalArgumentException e) {
+      throw getDecompressionException(RequestType.MULTI_GET, e.getMessage());
+    }
+    VeniceCompressor compressor = getCompressor(compressionStrategy, RequestType.MULTI_GET);
+    int recordCount = records.getRecordCount();
+
+    int[] decompressedSizes = new int[recordCount];
+    boolean isDecompressedSizeKnown = true;
+    for (int i = 0; i < recordCount && isDecompressedSizeKnown; i++) {
+      decompressedSizes[i] =
+          compressor.getDecompressedSize(input, records.getValueOffset(i), records.getValueLength(i));
+      isDecompressedSizeKnown = decompressedSizes[i] >= 0;
+    }
+
+    if (isDecompressedSizeKnown) {
+      ByteBuf output = allocateOutput(records, decompressedSizes);
+      try {
+        byte[] outputArray = output.array();
+        int[] outputValueOffsets = records.writeEnvelopes(input, outputArray, output.arrayOffset(), decompressedSizes);
+        decompressInBatches(recordCount, i -> {
+          int size = compressor.decompress(
+              input,
+              records.getValueOffset(i),
+              records.getValueLength(i),
+              outputArray,
+              outputValueOffsets[i],
+              decompressedSizes[i]);
+          if (size != decompressedSizes[i]) {
+            throw new IOException(
+                "The decompressed size: " + size + " doesn't match the size in frame header: " + decompressedSizes[i]);
+          }
+        });
+        return output;
+      } catch (RuntimeException e) {
+        output.release();
+        throw e;
       }
     }
 
-    if (decompressionBatch != null) {
-      decompressRecordsFutures.add(decompressRecords(decompressionBatch, compressionStrategy, decompressionExecutor));
+    ByteBuffer[] decompressedValues = new ByteBuffer[recordCount];
+    decompressInBatches(recordCount, i -> {
+      decompressedValues[i] = compressor.decompress(input, records.getValueOffset(i), records.getValueLength(i));
+    });
+    for (int i = 0; i < recordCount; i++) {
+      decompressedSizes[i] = decompressedValues[i].remaining();
+    }
+    ByteBuf output = allocateOutput(records, decompressedSizes);
+    int[] outputValueOffsets =
+        records.writeEnvelopes(input, output.array(), output.arrayOffset(), decompressedSizes);
+    for (int i = 0; i < recordCount; i++) {
+      decompressedValues[i].get(output.array(), outputValueOffsets[i], decompressedSizes[i]);
     }
+    return output;
+  }
 
+  private static ByteBuf allocateOutput(MultiGetResponseRecordPositions records, int[] decompressedSizes) {
+    int outputSize = records.getOutputSize(decompressedSizes);
+    ByteBuf output = PooledByteBufAllocator.DEFAULT.heapBuffer(outputSize, outputSize);
+    output.writerIndex(outputSize);
+    return output;
+  }
+
+  private void decompressInBatches(int recordCount, RecordDecompressor recordDecompressor) {
+    if (recordCount == 0) {
+      return;
+    }
+    DecompressionBatches batches =
+        new DecompressionBatches(recordDecompressor, recordCount, multiGetDecompressionBatchSize);
+    int lastBatch = batches.getBatchCount() - 1;
+    List<CompletableFuture<Void>> decompressRecordsFutures = new ArrayList<>(lastBatch);
     try {
+      for (int batch = 0; batch < lastBatch; batch++) {
+        int batchIndex = batch;
+        decompressRecordsFutures.add(CompletableFuture.runAsync(() -> batches.run(batchIndex), decompressionExecutor));
+      }
+      // Decompress the last batch in the current thread instead of idling while waiting for the other batches
+      batches.run(lastBatch);
+
       // Wait for all decompression futures to complete
       CompletableFuture.allOf(decompressRecordsFutures.toArray(new CompletableFuture[decompressRecordsFutures.size()]))
-          .handle((none, e) -> {
-            if (e != null) {
-              throw new VeniceException(e);
-            }
-
-            return null;
-          })
           .get(1L, TimeUnit.SECONDS);
     } catch (Exception e) {
-      String errorMsg = String
-          .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
-      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-          Optional.of(storeName),
-          Optional.of(RequestType.MULTI_GET),
-          BAD_GATEWAY,
-          errorMsg);
+      batches.abort();
+      throw getDecompressionException(RequestType.MULTI_GET, e.getMessage());
     }
+  }
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records, AvroSerializer.REUSE.get()));
+  private interface RecordDecompressor {
+    void decompress(int recordIndex) throws IOException;
   }
 
-  private CompletableFuture<Void> decompressRecords(
-      List<MultiGetResponseRecordV1> records,
-      CompressionStrategy compressionStrategy,
-      ExecutorService executor) {
-    return CompletableFuture.supplyAsync(() -> {
-      for (MultiGetResponseRecordV1 record: records) {
-        record.value = decompressRecord(compressionStrategy, record.value, RequestType.MULTI_GET);
+  /**
+   * The batches of records of a multi-get response being decompressed across {@link #decompressionExecutor}.
+   * Each batch is claimed either by the thread running it or by {@link #abort()}, so that once {@link #abort()}
+   * returns, no batch is writing into the output buffer anymore, and the buffer can be safely released.
+   */
+  private static class DecompressionBatches {
+    private final RecordDecompressor recordDecompressor;
+    private final int recordCount;
+    private final int batchSize;
+    private final AtomicIntegerArray claimedBatches;
+    private final CountDownLatch finishedBatches;
+    private volatile boolean aborted = false;
+
+    DecompressionBatches(RecordDecompressor recordDecompressor, int recordCount, int batchSize) {
+      this.recordDecompressor = recordDecompressor;
+      this.recordCount = recordCount;
+      this.batchSize = Math.max(1, batchSize);
+      int batchCount = (recordCount + this.batchSize - 1) / this.batchSize;
+      this.claimedBatches = new AtomicIntegerArray(batchCount);
+      this.finishedBatches = new CountDownLatch(batchCount);
+    }
+
+    int getBatchCount() {
+      return claimedBatches.length();
+    }
+
+    void run(int batch) {
+      if (!claimedBatches.compareAndSet(batch, 0, 1)) {
+        return;
+      }
+      try {
+        int end = Math.min(recordCount, (batch + 1) * batchSize);
+        for (int i = batch * batchSize; i < end && !aborted; i++) {
+          recordDecompressor.decompress(i);
+        }
+      } catch (IOException e) {
+        throw new VeniceException(e.getMessage(), e);
+      } finally {
+        finishedBatches.countDown();
       }
-      return null;
-    }, executor);
+    }
+
+    /**
+     * Skips the batches which haven't started yet, and waits for the running ones to stop.
+     */
+    void abort() {
+      aborted = true;
+      for (int batch = 0; batch < getBatchCount(); batch++) {
+        if (claimedBatches.compareAndSet(batch, 0, 1)) {
+          finishedBatches.countDown();
+        }
+      }
+      boolean interrupted = false;
+      while (true) {
+        try {
+          finishedBatches.await();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
   }
 }
@@ -16,6 +16,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreConfig;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.meta.VersionStatus;
+import com.linkedin.venice.router.cache.RouterCache;
 import com.linkedin.venice.router.stats.StaleVersionReason;
 import com.linkedin.venice.router.stats.StaleVersionStats;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
@@ -44,6 +45,10 @@ public class VeniceVersionFinder {
   private final ConcurrentMap<String, Integer> lastCurrentVersionMap = new ConcurrentHashMap<>();
   private final HelixBaseRoutingRepository routingDataRepository;
   private final CompressorFactory compressorFactory;
+  /**
+   * Optional, only set if the router cache is enabled.
+   */
+  private RouterCache routerCache;
 
   public VeniceVersionFinder(
       ReadOnlyStoreRepository metadataRepository,
@@ -62,6 +67,10 @@ public class VeniceVersionFinder {
     this.compressorFactory = compressorFactory;
   }
 
+  public void initRouterCache(RouterCache routerCache) {
+    this.routerCache = routerCache;
+  }
+
   public int getVersion(String storeName, BasicFullHttpRequest request) throws VeniceException {
     /**
      * TODO: clone a store object is too expensive, and we could choose to expose the necessary methods
@@ -111,7 +120,7 @@ public class VeniceVersionFinder {
     boolean currentVersionPartitionResourcesReady = isPartitionResourcesReady(kafkaTopic);
     if (currentVersionPartitionResourcesReady && currentVersionDecompressorReady) {
       // all partitions are online and decompressor is initialized with dictionary
-      lastCurrentVersionMap.put(storeName, newCurrentVersion);
+      switchToNewCurrentVersion(storeName, lastCurrentVersion, newCurrentVersion);
       stats.recordNotStale();
       return newCurrentVersion;
     }
@@ -157,12 +166,20 @@ public class VeniceVersionFinder {
       if (!EXCEPTION_FILTER.isRedundantException(message)) {
         LOGGER.warn(message);
       }
-      lastCurrentVersionMap.put(storeName, newCurrentVersion);
+      switchToNewCurrentVersion(storeName, lastCurrentVersion, newCurrentVersion);
       stats.recordNotStale();
       return newCurrentVersion;
     }
   }
 
+  private void switchToNewCurrentVersion(String storeName, int lastCurrentVersion, int newCurrentVersion) {
+    lastCurrentVersionMap.put(storeName, newCurrentVersion);
+    if (routerCache != null) {
+      // The cached values of the previous version won't be served anymore
+      routerCache.invalidate(storeName, lastCurrentVersion);
+    }
+  }
+
   private boolean isPartitionResourcesReady(String kafkaTopic) {
     if (!routingDataRepository.containsKafkaTopic(kafkaTopic)) {
       return false;
@@ -0,0 +1,139 @@
+package com.linkedin.venice.router.api.path;
+
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * The router request records of all the keys of a multi-key request, serialized once into a single buffer while the
+ * request is being parsed, so that the bodies of the scattered sub-requests and of their retries are assembled from
+ * slices of this buffer instead of being serialized with Avro again for every storage node.
+ *
+ * The records follow the binary layout shared by {@link MultiGetRouterRequestKeyV1} and
+ * {@link ComputeRouterRequestKeyV1}: keyIndex (int), keyBytes (bytes) and partitionId (int), and the record of the key
+ * with index i is stored at [offsets[i], offsets[i + 1]) in {@link #records}.
+ *
+ * Keys are appended while the request is parsed, and this class is read-only afterwards, so it can be shared by all
+ * the sub-paths of the request.
+ */
+public class SerializedRouterKeys {
+  /**
+   * Max size of a zig-zag encoded int.
+   */
+  private static final int MAX_VARINT_SIZE = 5;
+
+  private byte[] records;
+  private int[] offsets;
+  private int keyCount = 0;
+
+  public SerializedRouterKeys(int expectedSizeInBytes) {
+    this.records = new byte[Math.max(expectedSizeInBytes, 16)];
+    this.offsets = new int[16];
+  }
+
+  /**
+   * Serializes the router request record of the next key; the keys need to be appended in the order of their index.
+   */
+  public void append(int keyIndex, ByteBuffer keyBytes, int partitionId) {
+    if (keyIndex != keyCount) {
+      throw new VeniceException(
+          "Keys must be appended in order, expected key index: " + keyCount + ", but got: " + keyIndex);
+    }
+    int keyLength = keyBytes.remaining();
+    int end = offsets[keyCount];
+    ensureCapacity(end + keyLength + 3 * MAX_VARINT_SIZE);
+    end = writeInt(keyIndex, records, end);
+    end = writeInt(keyLength, records, end);
+    keyBytes.duplicate().get(records, end, keyLength);
+    end = writeInt(partitionId, records, end + keyLength);
+
+    keyCount++;
+    if (keyCount == offsets.length) {
+      offsets = Arrays.copyOf(offsets, offsets.length * 2);
+    }
+    offsets[keyCount] = end;
+  }
+
+  public int getKeyCount() {
+    return keyCount;
+  }
+
+  /**
+   * @return the body of a router request containing the given keys, preceded by {@param prefix}, as a byte array.
+   */
+  public byte[] serialize(ByteBuffer prefix, int[] keyIndexes) {
+    int size = prefix.remaining();
+    for (int keyIndex: keyIndexes) {
+      size += getRecordLength(keyIndex);
+    }
+    byte[] body = new byte[size];
+    prefix.duplicate().get(body, 0, prefix.remaining());
+    int position = prefix.remaining();
+    for (int keyIndex: keyIndexes) {
+      int length = getRecordLength(keyIndex);
+      System.arraycopy(records, offsets[keyIndex], body, position, length);
+      position += length;
+    }
+    return body;
+  }
+
+  /**
+   * @return the body of a router request containing the given keys, preceded by {@param prefix}, without copying
+   *         any of the records. The records of consecutive keys are merged into a single slice, so it is
+   *         recommended to pass the key indexes in ascending order.
+   */
+  public ByteBuf slice(ByteBuffer prefix, int[] keyIndexes) {
+    CompositeByteBuf body = Unpooled.compositeBuffer(keyIndexes.length + 1);
+    if (prefix.hasRemaining()) {
+      body.addComponent(true, Unpooled.wrappedBuffer(prefix));
+    }
+    int runStart = -1;
+    int runEnd = -1;
+    for (int keyIndex: keyIndexes) {
+      getRecordLength(keyIndex);
+      if (offsets[keyIndex] != runEnd) {
+        if (runStart >= 0) {
+          body.addComponent(true, Unpooled.wrappedBuffer(records, runStart, runEnd - runStart));
+        }
+        runStart = offsets[keyIndex];
+      }
+      runEnd = offsets[keyIndex + 1];
+    }
+    if (runStart >= 0) {
+      body.addComponent(true, Unpooled.wrappedBuffer(records, runStart, runEnd - runStart));
+    }
+    return body;
+  }
+
+  private int getRecordLength(int keyIndex) {
+    if (keyIndex < 0 || keyIndex >= keyCount) {
+      throw new VeniceException("Unknown key index: " + keyIndex + ", key count: " + keyCount);
+    }
+    return offsets[keyIndex + 1] - offsets[keyIndex];
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > records.length) {
+      records = Arrays.copyOf(records, Math.max(capacity, records.length * 2));
+    }
+  }
+
+  /**
+   * Writes an int with the zig-zag variable-length encoding of Avro, and returns the position right after it.
+   */
+  private static int writeInt(int value, byte[] buffer, int position) {
+    int n = (value << 1) ^ (value >> 31);
+    while ((n & ~0x7F) != 0) {
+      buffer[position++] = (byte) ((n & 0x7F) | 0x80);
+      n >>>= 7;
+    }
+    buffer[position++] = (byte) n;
+    return position;
+  }
+}
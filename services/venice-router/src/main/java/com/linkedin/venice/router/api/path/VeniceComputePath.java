@@ -17,9 +17,7 @@ import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.api.VenicePathParser;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
-import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -97,7 +95,13 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
         .getAvroGenericDeserializer(ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
     keys = keyDeserializer.deserializeObjects(decoder);
 
-    initialize(resourceName, keys, partitionFinder, maxKeyCount, Optional.empty());
+    initialize(
+        resourceName,
+        keys,
+        requestContent.length - computeRequestLengthInBytes,
+        partitionFinder,
+        maxKeyCount,
+        Optional.empty());
   }
 
   private VeniceComputePath(
@@ -180,15 +184,12 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     return routerRequestKey.keyIndex;
   }
 
+  /**
+   * The serialized compute request of the client is forwarded as is, ahead of the keys.
+   */
   @Override
-  protected byte[] serializeRouterRequest() {
-    RecordSerializer<ComputeRouterRequestKeyV1> serializer =
-        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
-
-    return serializer.serializeObjects(
-        routerKeyMap.values(),
-        ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes),
-        AvroSerializer.REUSE.get());
+  protected ByteBuffer getRouterRequestPrefix() {
+    return ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes);
   }
 
   @Override
@@ -17,9 +17,7 @@ import com.linkedin.venice.router.api.VenicePathParser;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
-import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import java.nio.ByteBuffer;
 import java.util.Map;
@@ -91,7 +89,7 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     }
 
     keys = deserialize(content);
-    initialize(resourceName, keys, partitionFinder, maxKeyCount, stats);
+    initialize(resourceName, keys, content.length, partitionFinder, maxKeyCount, stats);
   }
 
   private VeniceMultiGetPath(
@@ -190,14 +188,6 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     return routerRequestKey.keyIndex;
   }
 
-  @Override
-  protected byte[] serializeRouterRequest() {
-    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
-        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
-
-    return serializer.serializeObjects(routerKeyMap.values(), AvroSerializer.REUSE.get());
-  }
-
   @Override
   public void setRestRequestEntity(RestRequestBuilder builder) {
     builder.setEntity(serializeRouterRequest());
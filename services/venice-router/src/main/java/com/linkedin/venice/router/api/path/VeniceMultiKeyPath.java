@@ -15,9 +15,9 @@ import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,11 +30,17 @@ import org.apache.http.entity.ByteArrayEntity;
 
 
 public abstract class VeniceMultiKeyPath<K> extends VenicePath {
+  private static final ByteBuffer EMPTY_PREFIX = ByteBuffer.allocate(0);
+
   protected int keyNum;
   protected final Map<RouterKey, K> routerKeyMap;
   protected final Map<Integer, RouterKey> keyIdxToRouterKey;
   private final int longTailRetryMaxRouteForMultiKeyReq;
   private AtomicInteger currentAllowedRetryRouteCnt = new AtomicInteger(0);
+  /**
+   * The router request records of all the keys of the original request, shared by all its sub-paths.
+   */
+  private SerializedRouterKeys serializedRouterKeys;
 
   public VeniceMultiKeyPath(
       String resourceName,
@@ -70,6 +76,8 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    *
    * @param resourceName
    * @param keys Multiple keys from client request; keys have been deserialized to ByteBuffer
+   * @param requestSizeInBytes the size of the serialized keys in the client request, used to size the buffer of
+   *                           the router request records.
    * @param partitionFinder
    * @param maxKeyCount
    * @throws RouterException
@@ -77,6 +85,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   public void initialize(
       String resourceName,
       Iterable<ByteBuffer> keys,
+      int requestSizeInBytes,
       VenicePartitionFinder partitionFinder,
       int maxKeyCount,
       Optional<RouterStats<AggRouterHttpRequestStats>> stats) throws RouterException {
@@ -84,6 +93,11 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     int keyIdx = 0;
     int partitionNum = -1;
     String storeName = Version.parseStoreFromKafkaTopicName(resourceName);
+    /**
+     * Each router request record only adds the key index and the partition id to the serialized key of the client
+     * request, so a few more bytes per key are reserved on top of the size of the client request.
+     */
+    serializedRouterKeys = new SerializedRouterKeys(requestSizeInBytes + requestSizeInBytes / 4);
 
     try {
       partitionNum = partitionFinder.getNumPartitions(resourceName);
@@ -119,6 +133,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       }
       K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
       this.routerKeyMap.put(routerKey, routerRequestKey);
+      serializedRouterKeys.append(keyIdx, key, partitionId);
       ++keyIdx;
     }
     setPartitionKeys(this.routerKeyMap.keySet());
@@ -231,9 +246,12 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     return HttpMethod.POST;
   }
 
+  /**
+   * The records of the keys are sliced out of {@link #serializedRouterKeys} instead of being copied.
+   */
   @Override
   public ByteBuf getRequestBody() {
-    return Unpooled.wrappedBuffer(serializeRouterRequest());
+    return serializedRouterKeys.slice(getRouterRequestPrefix(), getSortedKeyIndexes());
   }
 
   @Override
@@ -267,6 +285,7 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
      * We need to share the {@link #currentAllowedRetryRouteCnt} across all the sub paths.
      */
     this.currentAllowedRetryRouteCnt = ((VeniceMultiKeyPath) originalPath).currentAllowedRetryRouteCnt;
+    this.serializedRouterKeys = ((VeniceMultiKeyPath) originalPath).serializedRouterKeys;
   }
 
   /**
@@ -297,9 +316,33 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
       Map<Integer, RouterKey> keyIdxToRouterKey);
 
   /**
-   * For multi-get requests, simply serialize the set of RouterKey to bytes;
-   * for read compute requests, concatenate the compute request and the serialized keys
+   * @return the part of the router request preceding the keys, which is empty for multi-get requests, and the
+   *         serialized compute request for read compute requests.
+   */
+  protected ByteBuffer getRouterRequestPrefix() {
+    return EMPTY_PREFIX;
+  }
+
+  /**
+   * Concatenate the router request prefix and the pre-serialized records of the keys of this path, in the order of
+   * their key index, without any Avro serialization.
    * @return
    */
-  protected abstract byte[] serializeRouterRequest();
+  protected byte[] serializeRouterRequest() {
+    return serializedRouterKeys.serialize(getRouterRequestPrefix(), getSortedKeyIndexes());
+  }
+
+  /**
+   * Sorting the key indexes keeps the records of consecutive keys adjacent, so they end up in a single slice; the
+   * order of the keys doesn't matter to the storage nodes since the responses carry the key index.
+   */
+  private int[] getSortedKeyIndexes() {
+    int[] keyIndexes = new int[routerKeyMap.size()];
+    int i = 0;
+    for (K routerRequestKey: routerKeyMap.values()) {
+      keyIndexes[i++] = getKeyIndex(routerRequestKey);
+    }
+    Arrays.sort(keyIndexes);
+    return keyIndexes;
+  }
 }
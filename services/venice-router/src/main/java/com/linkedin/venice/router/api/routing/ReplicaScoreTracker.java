@@ -0,0 +1,130 @@
+package com.linkedin.venice.router.api.routing;
+
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.stats.StatsUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This class keeps track of the recent performance of each storage node, and ranks the replicas with a score
+ * following the replica ranking of C3, so that the requests are routed away from the slow or overloaded replicas.
+ *
+ * For each storage node, it maintains exponentially-decayed averages of:
+ * 1. The response time R observed by router;
+ * 2. The queue length q and the queue time W of the storage execution, which are piggybacked in the response
+ *    headers by the storage node;
+ * And the score is defined as:
+ *    score = R - T + (1 + os + q)^3 * T
+ * where os is the number of in-flight requests to the storage node from {@link RouteHttpRequestStats}, and T is the
+ * service time, which is the part of the response time not spent waiting in the storage execution queue (R - W).
+ * The cubic term penalizes the replicas with a long queue much more than the ones with a slightly higher latency,
+ * which prevents all the routers from herding onto the replica which used to be the fastest one.
+ *
+ * The lower the score, the better the replica. The storage nodes without any recent response get the lowest score,
+ * so that they get probed again.
+ */
+public class ReplicaScoreTracker {
+  /**
+   * The weight of a new sample in the exponentially-decayed averages.
+   */
+  private static final double ALPHA = 0.1;
+  /**
+   * The lower bound of the service time, so that the in-flight requests of the storage nodes without any history are
+   * still taken into account.
+   */
+  private static final double MIN_SERVICE_TIME_NS = TimeUnit.MICROSECONDS.toNanos(100);
+  /**
+   * The stats of a storage node are dropped if it hasn't served any request for this long, so that a storage node,
+   * which used to be slow, gets probed again instead of being avoided forever.
+   */
+  private static final long STALE_STATS_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private final MetricsRepository metricsRepository;
+  private final RouteHttpRequestStats routeHttpRequestStats;
+  private final Time time;
+  private final Map<String, HostScore> hostScoreMap = new VeniceConcurrentHashMap<>();
+
+  public ReplicaScoreTracker(
+      MetricsRepository metricsRepository,
+      RouteHttpRequestStats routeHttpRequestStats,
+      Time time) {
+    this.metricsRepository = metricsRepository;
+    this.routeHttpRequestStats = routeHttpRequestStats;
+    this.time = time;
+  }
+
+  /**
+   * Records the outcome of a request to the given storage node.
+   *
+   * @param latencyInNs the response time observed by router.
+   * @param queueLength the length of the storage execution queue reported by the storage node, or -1 if unknown.
+   * @param queueTimeInMs the time the request waited in the storage execution queue, or -1 if unknown.
+   */
+  public void recordResponse(String hostName, long latencyInNs, int queueLength, double queueTimeInMs) {
+    HostScore hostScore = hostScoreMap.computeIfAbsent(hostName, h -> new HostScore(metricsRepository, h, this));
+    hostScore.update(latencyInNs, queueLength, queueTimeInMs, time.getMilliseconds());
+  }
+
+  /**
+   * @return the score of the given storage node; the lower, the better.
+   */
+  public double getScore(String hostName) {
+    HostScore hostScore = hostScoreMap.get(hostName);
+    long inFlightRequestCount = routeHttpRequestStats.getPendingRequestCount(hostName);
+    if (hostScore == null) {
+      return computeScore(0, 0, MIN_SERVICE_TIME_NS, inFlightRequestCount);
+    }
+    return hostScore.getScore(inFlightRequestCount, time.getMilliseconds());
+  }
+
+  private static double computeScore(
+      double responseTime,
+      double queueLength,
+      double serviceTime,
+      long inFlightRequestCount) {
+    double queueSize = 1 + inFlightRequestCount + queueLength;
+    return responseTime - serviceTime + queueSize * queueSize * queueSize * serviceTime;
+  }
+
+  static class HostScore extends AbstractVeniceStats {
+    private double responseTime = 0;
+    private double serviceTime = 0;
+    private double queueLength = 0;
+    private long lastUpdateTimeMs = -1;
+
+    HostScore(MetricsRepository metricsRepository, String hostName, ReplicaScoreTracker tracker) {
+      super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
+      registerSensor("replica_score", new Gauge(() -> tracker.getScore(hostName)));
+    }
+
+    synchronized void update(long latencyInNs, int newQueueLength, double queueTimeInMs, long currentTimeMs) {
+      double queueTimeInNs = queueTimeInMs >= 0 ? queueTimeInMs * TimeUnit.MILLISECONDS.toNanos(1) : 0;
+      double newServiceTime = Math.max(MIN_SERVICE_TIME_NS, latencyInNs - queueTimeInNs);
+      if (lastUpdateTimeMs < 0 || currentTimeMs - lastUpdateTimeMs > STALE_STATS_TIMEOUT_MS) {
+        responseTime = latencyInNs;
+        serviceTime = newServiceTime;
+        queueLength = Math.max(0, newQueueLength);
+      } else {
+        responseTime += ALPHA * (latencyInNs - responseTime);
+        serviceTime += ALPHA * (newServiceTime - serviceTime);
+        if (newQueueLength >= 0) {
+          queueLength += ALPHA * (newQueueLength - queueLength);
+        }
+      }
+      lastUpdateTimeMs = currentTimeMs;
+    }
+
+    synchronized double getScore(long inFlightRequestCount, long currentTimeMs) {
+      if (currentTimeMs - lastUpdateTimeMs > STALE_STATS_TIMEOUT_MS) {
+        return computeScore(0, 0, MIN_SERVICE_TIME_NS, inFlightRequestCount);
+      }
+      return computeScore(responseTime, queueLength, serviceTime, inFlightRequestCount);
+    }
+  }
+}
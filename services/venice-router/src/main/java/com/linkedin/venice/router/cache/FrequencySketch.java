@@ -0,0 +1,85 @@
+package com.linkedin.venice.router.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A count-min sketch estimating the recent access frequency of keys from their hash codes in constant memory, which
+ * is used to only admit the frequently accessed keys into the {@link RouterCache}.
+ *
+ * All the counters get halved once the number of recorded accesses reaches 10 times the width of the sketch, so
+ * that the estimation reflects the recent accesses, and keys which used to be hot age out.
+ *
+ * The counters are updated without any synchronization since the estimation is approximate anyway, so concurrent
+ * updates might get lost once in a while, which is fine for an admission policy.
+ */
+public class FrequencySketch {
+  private static final int DEPTH = 4;
+  private static final int[] SEEDS = { 0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f };
+
+  private final int[] counters;
+  private final int widthMask;
+  private final int sampleSize;
+  private final AtomicInteger accessCount = new AtomicInteger();
+
+  /**
+   * @param width the number of counters of each row, rounded up to a power of 2; it should be in the order of the
+   *              number of distinct keys to track to keep the estimation accurate.
+   */
+  public FrequencySketch(int width) {
+    int roundedWidth = Math.max(16, Integer.highestOneBit(width - 1) << 1);
+    this.counters = new int[DEPTH * roundedWidth];
+    this.widthMask = roundedWidth - 1;
+    this.sampleSize = 10 * roundedWidth;
+  }
+
+  /**
+   * Records an access of the key with the given hash code.
+   */
+  public void increment(int hash) {
+    int width = widthMask + 1;
+    for (int row = 0; row < DEPTH; row++) {
+      int index = row * width + indexOf(hash, row);
+      if (counters[index] < Integer.MAX_VALUE) {
+        counters[index]++;
+      }
+    }
+    if (accessCount.incrementAndGet() >= sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * @return the estimated number of recent accesses of the key with the given hash code.
+   */
+  public int frequency(int hash) {
+    int width = widthMask + 1;
+    int frequency = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      frequency = Math.min(frequency, counters[row * width + indexOf(hash, row)]);
+    }
+    return frequency;
+  }
+
+  private int indexOf(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+    h ^= h >>> 16;
+    return h & widthMask;
+  }
+
+  /**
+   * Halves all the counters, which is only done by the thread which reaches the sample size.
+   */
+  private void reset() {
+    synchronized (counters) {
+      if (accessCount.get() < sampleSize) {
+        // Another thread has just reset the sketch
+        return;
+      }
+      for (int i = 0; i < counters.length; i++) {
+        counters[i] >>>= 1;
+      }
+      accessCount.set(0);
+    }
+  }
+}
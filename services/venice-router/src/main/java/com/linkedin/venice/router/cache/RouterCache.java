@@ -0,0 +1,327 @@
+package com.linkedin.venice.router.cache;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreDataChangedListener;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A cache of the values of frequently accessed keys in router, which serves the single-get and multi-get lookups of
+ * hot keys without going to the storage nodes.
+ *
+ * The cache is keyed by (store, version, key bytes), and the values are kept off-heap in a {@link ByteBufHashMap},
+ * which evicts the oldest blocks of entries once the configured memory budget is exceeded. Only the keys whose
+ * recent access frequency estimated by a {@link FrequencySketch} reaches the admission threshold are cached, so that
+ * the one-off lookups don't churn the hot keys out of the cache.
+ *
+ * The values of a version never change for batch-only stores, and the entries of a version are dropped once the
+ * router switches to a new current version, see {@link #invalidate(String, int)}. The values of hybrid stores keep
+ * changing with the nearline writes though, so their entries expire after
+ * {@link VeniceRouterConfig#getRouterCacheTtlMs()}, and hybrid stores are not cached at all if the TTL is not set.
+ *
+ * Dropping the entries of a version or a store takes a scan of the whole cache, so it runs on the given invalidation
+ * executor rather than on the request threads which notice the version swaps.
+ */
+public class RouterCache implements StoreDataChangedListener {
+  private static final Logger LOGGER = LogManager.getLogger(RouterCache.class);
+
+  private static final int MIN_SKETCH_WIDTH = 1 << 12;
+  private static final int MAX_SKETCH_WIDTH = 1 << 22;
+  /**
+   * A rough guess of the average size of a cached entry, which is used to size the {@link FrequencySketch}.
+   */
+  private static final int ESTIMATED_ENTRY_SIZE_IN_BYTES = 1024;
+
+  private final ByteBufHashMap<CacheKey, CachedValue> cache;
+  private final FrequencySketch frequencySketch;
+  private final int admissionFrequencyThreshold;
+  private final Set<String> storeAllowlist;
+  private final long hybridStoreTtlMs;
+  private final ReadOnlyStoreRepository storeRepository;
+  private final Time time;
+  private final Executor invalidationExecutor;
+  /**
+   * Whether each store, which has been looked up, is a hybrid store.
+   */
+  private final Map<String, Boolean> hybridStoreMap = new VeniceConcurrentHashMap<>();
+
+  public RouterCache(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      Time time,
+      Executor invalidationExecutor) {
+    this(
+        config.getRouterCacheSizeInBytes(),
+        config.getRouterCacheAdmissionFrequencyThreshold(),
+        new HashSet<>(config.getRouterCacheStoreAllowlist()),
+        config.getRouterCacheTtlMs(),
+        storeRepository,
+        time,
+        invalidationExecutor);
+  }
+
+  public RouterCache(
+      long sizeInBytes,
+      int admissionFrequencyThreshold,
+      Set<String> storeAllowlist,
+      long hybridStoreTtlMs,
+      ReadOnlyStoreRepository storeRepository,
+      Time time,
+      Executor invalidationExecutor) {
+    this.cache = new ByteBufHashMap<>(new CachedValueSerDes(), PooledByteBufAllocator.DEFAULT::directBuffer);
+    this.cache.setMaxAllocatedMemory(sizeInBytes);
+    int sketchWidth = (int) Math
+        .min(MAX_SKETCH_WIDTH, Math.max(MIN_SKETCH_WIDTH, sizeInBytes / ESTIMATED_ENTRY_SIZE_IN_BYTES));
+    this.frequencySketch = new FrequencySketch(sketchWidth);
+    this.admissionFrequencyThreshold = admissionFrequencyThreshold;
+    this.storeAllowlist = storeAllowlist;
+    this.hybridStoreTtlMs = hybridStoreTtlMs;
+    this.storeRepository = storeRepository;
+    this.time = time;
+    this.invalidationExecutor = invalidationExecutor;
+  }
+
+  /**
+   * @return whether the lookups of the given store could be served by the cache.
+   */
+  public boolean isCacheEnabled(String storeName) {
+    if (!storeAllowlist.isEmpty() && !storeAllowlist.contains(storeName)) {
+      return false;
+    }
+    return hybridStoreTtlMs > 0 || !isHybridStore(storeName);
+  }
+
+  /**
+   * Records an access of the given key, and returns its cached value if there is a fresh one.
+   */
+  public CachedValue get(String storeName, int version, RouterKey key) {
+    CacheKey cacheKey = new CacheKey(storeName, version, key.getKeyBuffer());
+    frequencySketch.increment(cacheKey.hashCode());
+    CachedValue value = cache.get(cacheKey);
+    if (value == null) {
+      return null;
+    }
+    if (hybridStoreTtlMs > 0 && value.getCreationTimeMs() + hybridStoreTtlMs < time.getMilliseconds()
+        && isHybridStore(storeName)) {
+      cache.removeEntry(cacheKey);
+      return null;
+    }
+    return value;
+  }
+
+  /**
+   * @return whether the given key has been accessed frequently enough to be cached, based on the accesses recorded
+   *         by {@link #get(String, int, RouterKey)}.
+   */
+  public boolean shouldAdmit(String storeName, int version, RouterKey key) {
+    int frequency = frequencySketch.frequency(CacheKey.hashCode(storeName, version, key.getKeyBuffer()));
+    return frequency >= admissionFrequencyThreshold;
+  }
+
+  /**
+   * Caches the value of the given key if it has been accessed frequently enough.
+   *
+   * @param value the value returned by the storage node, before being decompressed.
+   */
+  public void putIfAdmitted(
+      String storeName,
+      int version,
+      RouterKey key,
+      int schemaId,
+      CompressionStrategy compressionStrategy,
+      ByteBuffer value) {
+    if (!shouldAdmit(storeName, version, key)) {
+      return;
+    }
+    byte[] valueBytes = new byte[value.remaining()];
+    value.duplicate().get(valueBytes);
+    ByteBuffer keyBuffer = key.getKeyBuffer();
+    byte[] keyBytes = new byte[keyBuffer.remaining()];
+    keyBuffer.duplicate().get(keyBytes);
+    cache.put(
+        new CacheKey(storeName, version, ByteBuffer.wrap(keyBytes)),
+        new CachedValue(schemaId, compressionStrategy, time.getMilliseconds(), valueBytes));
+  }
+
+  /**
+   * Drops all the entries of the given version asynchronously, which is called once the version is no longer the
+   * current version.
+   */
+  public void invalidate(String storeName, int version) {
+    removeEntries(key -> key.version == version && key.storeName.equals(storeName));
+  }
+
+  /**
+   * Drops all the entries of the given store asynchronously.
+   */
+  public void invalidate(String storeName) {
+    removeEntries(key -> key.storeName.equals(storeName));
+  }
+
+  private void removeEntries(Predicate<CacheKey> predicate) {
+    try {
+      invalidationExecutor.execute(() -> cache.keySet().removeIf(predicate));
+    } catch (RejectedExecutionException e) {
+      // The router is shutting down
+      LOGGER.warn("Failed to submit the invalidation of the router cache entries", e);
+    }
+  }
+
+  @Override
+  public void handleStoreChanged(Store store) {
+    String storeName = store.getName();
+    Boolean wasHybrid = hybridStoreMap.get(storeName);
+    if (wasHybrid == null) {
+      // The store hasn't been looked up yet
+      return;
+    }
+    boolean isHybrid = store.isHybrid();
+    hybridStoreMap.put(storeName, isHybrid);
+    if (isHybrid && !wasHybrid) {
+      LOGGER.info("Store: {} has been converted to a hybrid store, dropping its cached entries", storeName);
+      invalidate(storeName);
+    }
+  }
+
+  @Override
+  public void handleStoreDeleted(String storeName) {
+    hybridStoreMap.remove(storeName);
+    invalidate(storeName);
+  }
+
+  private boolean isHybridStore(String storeName) {
+    Boolean isHybrid = hybridStoreMap.get(storeName);
+    if (isHybrid == null) {
+      Store store = storeRepository.getStore(storeName);
+      isHybrid = store == null || store.isHybrid();
+      hybridStoreMap.put(storeName, isHybrid);
+    }
+    return isHybrid;
+  }
+
+  public static class CachedValue {
+    private final int schemaId;
+    private final CompressionStrategy compressionStrategy;
+    private final long creationTimeMs;
+    private final byte[] value;
+
+    public CachedValue(int schemaId, CompressionStrategy compressionStrategy, long creationTimeMs, byte[] value) {
+      this.schemaId = schemaId;
+      this.compressionStrategy = compressionStrategy;
+      this.creationTimeMs = creationTimeMs;
+      this.value = value;
+    }
+
+    public int getSchemaId() {
+      return schemaId;
+    }
+
+    public CompressionStrategy getCompressionStrategy() {
+      return compressionStrategy;
+    }
+
+    public long getCreationTimeMs() {
+      return creationTimeMs;
+    }
+
+    /**
+     * @return the value returned by the storage node, which is compressed with {@link #getCompressionStrategy()}.
+     */
+    public byte[] getValue() {
+      return value;
+    }
+  }
+
+  /**
+   * The key of the cache; the lookups wrap the key bytes of the request, while the key bytes get copied before
+   * being inserted into the cache.
+   */
+  private static class CacheKey {
+    private final String storeName;
+    private final int version;
+    private final ByteBuffer key;
+    private final int hashCode;
+
+    private CacheKey(String storeName, int version, ByteBuffer key) {
+      this.storeName = storeName;
+      this.version = version;
+      this.key = key;
+      this.hashCode = hashCode(storeName, version, key);
+    }
+
+    private static int hashCode(String storeName, int version, ByteBuffer key) {
+      return (storeName.hashCode() * 31 + version) * 31 + key.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return hashCode == other.hashCode && version == other.version && Objects.equals(storeName, other.storeName)
+          && key.equals(other.key);
+    }
+  }
+
+  private static class CachedValueSerDes implements ByteBufHashMap.SerDes<CachedValue> {
+    @Override
+    public CachedValue deserialize(@Nonnull ByteBufInputStream inputStream) {
+      try {
+        int schemaId = inputStream.readInt();
+        CompressionStrategy compressionStrategy = CompressionStrategy.valueOf(inputStream.readInt());
+        long creationTimeMs = inputStream.readLong();
+        byte[] value = new byte[inputStream.readInt()];
+        inputStream.readFully(value);
+        return new CachedValue(schemaId, compressionStrategy, creationTimeMs, value);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to deserialize the cached value", e);
+        return null;
+      }
+    }
+
+    @Override
+    public boolean serialize(@Nonnull ByteBufOutputStream outputStream, @Nonnull CachedValue value) {
+      try {
+        outputStream.writeInt(value.schemaId);
+        outputStream.writeInt(value.compressionStrategy.getValue());
+        outputStream.writeLong(value.creationTimeMs);
+        outputStream.writeInt(value.value.length);
+        outputStream.write(value.value);
+        return true;
+      } catch (IOException e) {
+        LOGGER.warn("Failed to serialize the value to cache", e);
+        return false;
+      }
+    }
+  }
+}
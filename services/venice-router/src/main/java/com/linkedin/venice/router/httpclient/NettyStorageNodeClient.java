@@ -0,0 +1,436 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.monitoring.CallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.misc.Http2Utils;
+import com.linkedin.alpini.netty4.pool.BasicDnsResolver;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} which sends the requests to the storage nodes over pooled Netty channels, running on the
+ * same event loops as the router itself, so that the responses are handled without any thread hand-off, and their
+ * content is handed over to the response aggregation as pooled {@link ByteBuf}s, without being copied.
+ *
+ * The channels are managed by a {@link ChannelPoolManagerImpl} with a {@link Http2AwareChannelPoolFactory}, which
+ * multiplexes the requests over HTTP/2 connections when HTTP/2 is negotiated with the storage node through ALPN, and
+ * falls back to a pool of HTTP/1.1 connections otherwise, which is always the case without SSL.
+ */
+public class NettyStorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyStorageNodeClient.class);
+  private static final String QUEUE_NAME = "storage_node";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+
+  private final ChannelPoolManager channelPoolManager;
+  private final boolean sslEnabled;
+  private final long requestTimeoutMs;
+  private final Map<String, String> nodeIdToHostAndPort = new VeniceConcurrentHashMap<>();
+
+  /**
+   * @param eventLoopGroup the worker event loop group of the router, which the connections are bound to.
+   * @param channelClass the socket channel class matching the type of the event loop group.
+   */
+  public NettyStorageNodeClient(
+      VeniceRouterConfig routerConfig,
+      Optional<SSLFactory> sslFactory,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends Channel> channelClass) {
+    this.sslEnabled = sslFactory.isPresent();
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+
+    Bootstrap bootstrap = new Bootstrap().channel(channelClass)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .option(ChannelOption.TCP_NODELAY, true)
+        .option(ChannelOption.SO_KEEPALIVE, true)
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new HttpClientResponseHandler());
+          }
+        });
+    if (sslEnabled) {
+      bootstrap.attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, toNettySslContext(sslFactory.get()));
+    }
+
+    int maxPendingAcquires = (int) Math.min(Integer.MAX_VALUE, routerConfig.getMaxPendingRequest());
+    Http2AwareChannelPoolFactory channelPoolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        routerConfig.getConnectionTimeout(),
+        1,
+        routerConfig.getMaxOutgoingConnPerRoute(),
+        maxPendingAcquires,
+        false,
+        HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        address -> CallTracker.nullTracker());
+    channelPoolFactory.setUseCustomH2Codec(true);
+    this.channelPoolManager =
+        new ChannelPoolManagerImpl(eventLoopGroup, channelPoolFactory, new BasicDnsResolver(), maxPendingAcquires);
+    LOGGER.info(
+        "Constructing NettyStorageNodeClient with SSL: {}, max connections per storage node: {}",
+        sslEnabled,
+        routerConfig.getMaxOutgoingConnPerRoute());
+  }
+
+  /**
+   * The JDK {@link javax.net.ssl.SSLContext} of the {@link SSLFactory} is reused as is, with ALPN advertising HTTP/2
+   * first.
+   */
+  private static SslContext toNettySslContext(SSLFactory sslFactory) {
+    ApplicationProtocolConfig applicationProtocolConfig = new ApplicationProtocolConfig(
+        ApplicationProtocolConfig.Protocol.ALPN,
+        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+        ApplicationProtocolNames.HTTP_2,
+        ApplicationProtocolNames.HTTP_1_1);
+    return new JdkSslContext(
+        sslFactory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        applicationProtocolConfig,
+        ClientAuth.NONE,
+        null,
+        false);
+  }
+
+  @Override
+  public void close() {
+    channelPoolManager.closeAll().awaitUninterruptibly();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack,
+      long queryStartTimeInNS) throws RouterException {
+    ByteBuf body = path.getRequestBody();
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, path.getHttpMethod(), "/" + path.getLocation(), body);
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    send(host, request, requestTimeoutMs, completedCallBack, failedCallBack, cancelledCallBack);
+  }
+
+  /**
+   * The content of the metadata responses is copied into an unpooled buffer, since their consumers don't release it.
+   */
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    long timeoutMs = request.hasTimeout() ? request.getTimeout() : requestTimeoutMs;
+    send(Instance.fromNodeId(request.getNodeId()), httpRequest, timeoutMs, response -> {
+      ByteBuf content = response.getContentInByteBuf();
+      try {
+        responseFuture
+            .complete(new NettyStorageNodeResponse(response.httpResponse, Unpooled.copiedBuffer(content)));
+      } finally {
+        content.release();
+      }
+    }, responseFuture::completeExceptionally, () -> responseFuture.cancel(false));
+  }
+
+  private String getHostAndPort(Instance host) {
+    return nodeIdToHostAndPort.computeIfAbsent(host.getNodeId(), nodeId -> {
+      URI uri = URI.create(host.getUrl(sslEnabled));
+      return uri.getHost() + ":" + uri.getPort();
+    });
+  }
+
+  /**
+   * The request is only sent once a channel to the storage node is acquired. If the acquisition gets cancelled, e.g.
+   * because the channel pools are being closed, the request is reported as cancelled instead of failed.
+   */
+  private void send(
+      Instance host,
+      FullHttpRequest request,
+      long timeoutMs,
+      Consumer<? super NettyStorageNodeResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) {
+    String hostAndPort = getHostAndPort(host);
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+
+    channelPoolManager.acquire(hostAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> acquireFuture) -> {
+      if (!acquireFuture.isSuccess()) {
+        request.release();
+        if (acquireFuture.isCancelled()) {
+          cancelledCallBack.getAsBoolean();
+        } else {
+          failedCallBack.accept(acquireFuture.cause());
+        }
+        return;
+      }
+      Channel channel = acquireFuture.getNow();
+      ResponseHandler responseHandler =
+          new ResponseHandler(channelPoolManager, channel, completedCallBack, failedCallBack);
+      responseHandler.scheduleTimeout(timeoutMs);
+      channel.writeAndFlush(new ResponseConsumerHttpRequest(request, responseHandler))
+          .addListener((ChannelFuture writeFuture) -> {
+            if (!writeFuture.isSuccess()) {
+              responseHandler.fail(writeFuture.cause());
+            }
+          });
+      if (Http2Utils.isHttp2ParentChannelPipeline(channel.pipeline())) {
+        // The request has been handed over to a stream of the HTTP/2 connection, which is free for other requests
+        responseHandler.releaseChannel();
+      }
+    });
+  }
+
+  /**
+   * Accumulates the response of a single request, which is only accessed from the event loop of its channel.
+   */
+  static final class ResponseHandler implements Consumer<Object> {
+    private final ChannelPoolManager channelPoolManager;
+    private final Channel channel;
+    private final Consumer<? super NettyStorageNodeResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private HttpResponse response;
+    private CompositeByteBuf content;
+    private ScheduledFuture<?> timeoutFuture;
+    private boolean channelReleased = false;
+    private boolean done = false;
+
+    ResponseHandler(
+        ChannelPoolManager channelPoolManager,
+        Channel channel,
+        Consumer<? super NettyStorageNodeResponse> completedCallBack,
+        Consumer<Throwable> failedCallBack) {
+      this.channelPoolManager = channelPoolManager;
+      this.channel = channel;
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+    }
+
+    void scheduleTimeout(long timeoutMs) {
+      if (timeoutMs > 0) {
+        timeoutFuture = channel.eventLoop()
+            .schedule(
+                () -> fail(new TimeoutException("Request to " + channel.remoteAddress() + " timed out")),
+                timeoutMs,
+                TimeUnit.MILLISECONDS);
+      }
+    }
+
+    void releaseChannel() {
+      if (!channelReleased) {
+        channelReleased = true;
+        channelPoolManager.release(channel);
+      }
+    }
+
+    /**
+     * Discards the channel, since a response might still come through it.
+     */
+    private void closeAndReleaseChannel() {
+      if (channelReleased) {
+        return;
+      }
+      channel.close().addListener(closeFuture -> releaseChannel());
+    }
+
+    private void finish() {
+      done = true;
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      if (content != null) {
+        content.release();
+        content = null;
+      }
+    }
+
+    void fail(Throwable cause) {
+      if (done) {
+        return;
+      }
+      finish();
+      closeAndReleaseChannel();
+      failedCallBack.accept(cause);
+    }
+
+    @Override
+    public void accept(Object msg) {
+      if (msg instanceof Throwable) {
+        fail((Throwable) msg);
+        return;
+      }
+      if (done) {
+        // The request has already timed out
+        return;
+      }
+      if (msg instanceof HttpResponse) {
+        response = (HttpResponse) msg;
+      }
+      if (msg instanceof HttpContent) {
+        ByteBuf chunk = ((HttpContent) msg).content();
+        if (chunk.isReadable()) {
+          if (content == null) {
+            content = channel.alloc().compositeBuffer();
+          }
+          // The message is released by HttpClientResponseHandler once consumed
+          content.addComponent(true, chunk.retain());
+        }
+      }
+      if (msg instanceof LastHttpContent) {
+        ByteBuf responseContent = takeContent();
+        boolean keepAlive = HttpUtil.isKeepAlive(response);
+        finish();
+        if (keepAlive) {
+          releaseChannel();
+        } else {
+          closeAndReleaseChannel();
+        }
+        NettyStorageNodeResponse storageNodeResponse = new NettyStorageNodeResponse(response, responseContent);
+        try {
+          completedCallBack.accept(storageNodeResponse);
+        } catch (Throwable e) {
+          // The content is released unless it was already handed over by the callback
+          storageNodeResponse.release();
+          throw e;
+        }
+      }
+    }
+
+    /**
+     * Multi-get responses are expected to come as a single buffer by
+     * {@link com.linkedin.venice.router.api.VeniceResponseDecompressor}, so the content is only consolidated when it
+     * has been received in several chunks.
+     */
+    private ByteBuf takeContent() {
+      if (content == null) {
+        return Unpooled.EMPTY_BUFFER;
+      }
+      ByteBuf responseContent;
+      if (content.numComponents() == 1) {
+        responseContent = content.component(0).retain();
+        content.release();
+      } else {
+        responseContent = content.consolidate();
+      }
+      content = null;
+      return responseContent;
+    }
+  }
+
+  private static final class ResponseConsumerHttpRequest extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final Consumer<Object> responseConsumer;
+
+    ResponseConsumerHttpRequest(FullHttpRequest request, Consumer<Object> responseConsumer) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return responseConsumer;
+    }
+  }
+
+  static final class NettyStorageNodeResponse implements PortableHttpResponse {
+    private final HttpResponse httpResponse;
+    private final HttpHeaders headers;
+    private ByteBuf content;
+
+    NettyStorageNodeResponse(HttpResponse httpResponse, ByteBuf content) {
+      this.httpResponse = httpResponse;
+      this.headers = httpResponse.headers();
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return httpResponse.status().code();
+    }
+
+    /**
+     * Hands the pooled content over to the caller, which becomes responsible for releasing it.
+     */
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      ByteBuf result = content;
+      content = Unpooled.EMPTY_BUFFER;
+      return result;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+
+    @Override
+    public void release() {
+      ReferenceCountUtil.release(content);
+      content = Unpooled.EMPTY_BUFFER;
+    }
+  }
+}
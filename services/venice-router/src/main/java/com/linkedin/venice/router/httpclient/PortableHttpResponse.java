@@ -34,4 +34,11 @@ public interface PortableHttpResponse {
    * @return the value of the first header for header name specified in the parameters
    */
   String getFirstHeader(String headerName);
+
+  /**
+   * Releases the content of the response when it won't be consumed. Only needed by the clients whose content is
+   * backed by pooled buffers.
+   */
+  default void release() {
+  }
 }
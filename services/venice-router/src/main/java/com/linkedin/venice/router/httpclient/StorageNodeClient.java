@@ -13,7 +13,8 @@ public interface StorageNodeClient extends Closeable {
   /**
    * Start the client and prepare the required resources.
    */
-  void start();
+  default void start() {
+  }
 
   /**
    * Close the client and release all resources held by the client
@@ -190,6 +190,16 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordMetaStoreShadowRead();
   }
 
+  public void recordCacheLookup(String storeName, int keyCount) {
+    totalStats.recordCacheLookup(keyCount);
+    getStoreStats(storeName).recordCacheLookup(keyCount);
+  }
+
+  public void recordCacheHit(String storeName, int keyCount) {
+    totalStats.recordCacheHit(keyCount);
+    getStoreStats(storeName).recordCacheHit(keyCount);
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -290,6 +300,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordErrorRetryAttemptTriggeredByPendingRequestCheck();
   }
 
+  public void recordErrorRetryAttemptTriggeredByConcurrencyLimit(String storeName) {
+    totalStats.recordErrorRetryAttemptTriggeredByConcurrencyLimit();
+    getStoreStats(storeName).recordErrorRetryAttemptTriggeredByConcurrencyLimit();
+  }
+
   public void recordRetryDelay(String storeName, double delay) {
     totalStats.recordRetryDelay(delay);
     getStoreStats(storeName).recordRetryDelay(delay);
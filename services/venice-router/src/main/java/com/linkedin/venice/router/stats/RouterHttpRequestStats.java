@@ -60,8 +60,12 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor allowedRetryRequestSensor;
   private final Sensor disallowedRetryRequestSensor;
   private final Sensor errorRetryAttemptTriggeredByPendingRequestCheckSensor;
+  private final Sensor errorRetryAttemptTriggeredByConcurrencyLimitSensor;
   private final Sensor retryDelaySensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor cacheLookupKeySensor;
+  private final Sensor cacheHitKeySensor;
+  private final Sensor cacheHitRatioSensor;
 
   // QPS metrics
   public RouterHttpRequestStats(
@@ -175,8 +179,17 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     disallowedRetryRequestSensor = registerSensor("disallowed_retry_request_count", new OccurrenceRate());
     errorRetryAttemptTriggeredByPendingRequestCheckSensor =
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
+    errorRetryAttemptTriggeredByConcurrencyLimitSensor =
+        registerSensor("error_retry_attempt_triggered_by_concurrency_limit", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+
+    Rate cacheLookupKeyRate = new Rate();
+    Rate cacheHitKeyRate = new Rate();
+    cacheLookupKeySensor = registerSensor("cache_lookup_key", cacheLookupKeyRate);
+    cacheHitKeySensor = registerSensor("cache_hit_key", cacheHitKeyRate);
+    cacheHitRatioSensor =
+        registerSensor("cache_hit_ratio", new TehutiUtils.SimpleRatioStat(cacheHitKeyRate, cacheLookupKeyRate));
   }
 
   /**
@@ -347,6 +360,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     errorRetryAttemptTriggeredByPendingRequestCheckSensor.record();
   }
 
+  public void recordErrorRetryAttemptTriggeredByConcurrencyLimit() {
+    errorRetryAttemptTriggeredByConcurrencyLimitSensor.record();
+  }
+
   public void recordRetryDelay(double delay) {
     retryDelaySensor.record(delay);
   }
@@ -354,4 +371,12 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   public void recordMetaStoreShadowRead() {
     metaStoreShadowReadSensor.record();
   }
+
+  public void recordCacheLookup(int keyCount) {
+    cacheLookupKeySensor.record(keyCount);
+  }
+
+  public void recordCacheHit(int keyCount) {
+    cacheHitKeySensor.record(keyCount);
+  }
 }
@@ -0,0 +1,147 @@
+package com.linkedin.venice.router.throttle;
+
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.stats.StatsUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Map;
+
+
+/**
+ * This class limits the number of concurrent requests to each storage node with a limit, which is adapted to the
+ * latency observed from the storage node, so that a degraded storage node gets less traffic before its pending
+ * request queue builds up, while a healthy storage node is not capped by a static limit.
+ *
+ * The limit of each storage node follows a gradient algorithm:
+ * 1. A short-term and a long-term average of the response latency are maintained;
+ * 2. The gradient is the ratio between the long-term and the short-term latency, bounded to [0.5, 1.0], so the limit
+ *    shrinks once the latency goes up compared to the baseline;
+ * 3. The new limit is the current limit times the gradient, plus a small allowance to probe for more capacity,
+ *    which is smoothed with the current limit;
+ * 4. Failed requests, such as timeouts and 5xx responses, multiplicatively decrease the limit.
+ *
+ * The number of in-flight requests to each storage node comes from {@link RouteHttpRequestStats}.
+ */
+public class AdaptiveConcurrencyLimiter {
+  /**
+   * Tolerated ratio between the short-term and the long-term latency before the limit starts to shrink.
+   */
+  private static final double LATENCY_TOLERANCE = 1.5;
+  private static final double SHORT_TERM_LATENCY_ALPHA = 2.0 / (10 + 1);
+  private static final double LONG_TERM_LATENCY_ALPHA = 2.0 / (600 + 1);
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final MetricsRepository metricsRepository;
+  private final RouteHttpRequestStats routeHttpRequestStats;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final Map<String, HostConcurrencyLimit> hostLimitMap = new VeniceConcurrentHashMap<>();
+
+  public AdaptiveConcurrencyLimiter(
+      MetricsRepository metricsRepository,
+      RouteHttpRequestStats routeHttpRequestStats,
+      VeniceRouterConfig config) {
+    this(
+        metricsRepository,
+        routeHttpRequestStats,
+        config.getAdaptiveConcurrencyInitialLimit(),
+        config.getAdaptiveConcurrencyMinLimit(),
+        config.getAdaptiveConcurrencyMaxLimit());
+  }
+
+  public AdaptiveConcurrencyLimiter(
+      MetricsRepository metricsRepository,
+      RouteHttpRequestStats routeHttpRequestStats,
+      int initialLimit,
+      int minLimit,
+      int maxLimit) {
+    this.metricsRepository = metricsRepository;
+    this.routeHttpRequestStats = routeHttpRequestStats;
+    this.minLimit = minLimit;
+    this.maxLimit = Math.max(minLimit, maxLimit);
+    this.initialLimit = Math.min(this.maxLimit, Math.max(minLimit, initialLimit));
+  }
+
+  /**
+   * @return whether the number of in-flight requests to the given storage node has reached its limit.
+   */
+  public boolean isSaturated(String hostName) {
+    return routeHttpRequestStats.getPendingRequestCount(hostName) >= getLimit(hostName);
+  }
+
+  public int getLimit(String hostName) {
+    HostConcurrencyLimit hostLimit = hostLimitMap.get(hostName);
+    return hostLimit == null ? initialLimit : hostLimit.limit;
+  }
+
+  /**
+   * Adapts the limit of the given storage node to the outcome of a finished request.
+   *
+   * @param latencyInNs the latency of the request.
+   * @param isFailed whether the request failed because of the storage node, such as timeouts and 5xx responses.
+   */
+  public void recordResponse(String hostName, long latencyInNs, boolean isFailed) {
+    HostConcurrencyLimit hostLimit = hostLimitMap.computeIfAbsent(
+        hostName,
+        h -> new HostConcurrencyLimit(metricsRepository, h, initialLimit, minLimit, maxLimit));
+    hostLimit.update(latencyInNs, routeHttpRequestStats.getPendingRequestCount(hostName), isFailed);
+  }
+
+  static class HostConcurrencyLimit extends AbstractVeniceStats {
+    private final int minLimit;
+    private final int maxLimit;
+    private double estimatedLimit;
+    private double shortTermLatency = 0;
+    private double longTermLatency = 0;
+    private volatile int limit;
+
+    HostConcurrencyLimit(
+        MetricsRepository metricsRepository,
+        String hostName,
+        int initialLimit,
+        int minLimit,
+        int maxLimit) {
+      super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.estimatedLimit = initialLimit;
+      this.limit = initialLimit;
+      registerSensor("adaptive_concurrency_limit", new Gauge(() -> limit));
+    }
+
+    synchronized void update(long latencyInNs, long inFlightRequestCount, boolean isFailed) {
+      if (isFailed) {
+        setEstimatedLimit(estimatedLimit * BACKOFF_RATIO);
+        return;
+      }
+      if (longTermLatency == 0) {
+        shortTermLatency = latencyInNs;
+        longTermLatency = latencyInNs;
+        return;
+      }
+      shortTermLatency += SHORT_TERM_LATENCY_ALPHA * (latencyInNs - shortTermLatency);
+      longTermLatency += LONG_TERM_LATENCY_ALPHA * (latencyInNs - longTermLatency);
+      if (longTermLatency > 2 * shortTermLatency) {
+        // Let the baseline recover faster once a latency spike is over
+        longTermLatency *= 0.95;
+      }
+      double gradient = Math.max(0.5, Math.min(1.0, LATENCY_TOLERANCE * longTermLatency / shortTermLatency));
+      if (gradient == 1.0 && inFlightRequestCount < estimatedLimit / 2) {
+        // The storage node is not loaded enough to tell whether it could take more requests
+        return;
+      }
+      double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+      setEstimatedLimit(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    private void setEstimatedLimit(double newLimit) {
+      estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+      limit = (int) estimatedLimit;
+    }
+  }
+}
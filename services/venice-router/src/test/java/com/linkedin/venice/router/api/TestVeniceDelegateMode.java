@@ -1,9 +1,11 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING;
+import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING;
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
@@ -28,20 +30,24 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.api.routing.ReplicaScoreTracker;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelectionStrategyEnum;
 import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.throttle.ReadRequestThrottler;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.HelixUtils;
+import com.linkedin.venice.utils.MockTime;
 import com.linkedin.venice.utils.Utils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.testng.Assert;
@@ -760,4 +767,99 @@ public class TestVeniceDelegateMode {
     requests = finalScatter.getOnlineRequests();
     Assert.assertEquals(requests.size(), 1);
   }
+
+  @Test
+  public void testScatterForMultiGetWithLatencyAwareRouting() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    String resourceName = storeName + "_v1";
+    List<RouterKey> keys = new ArrayList<>();
+    Map<RouterKey, String> keyPartitionMap = new HashMap<>();
+    for (int partitionId = 1; partitionId <= 3; partitionId++) {
+      RouterKey key = new RouterKey(("key_" + partitionId).getBytes());
+      key.setPartitionId(partitionId);
+      keys.add(key);
+      keyPartitionMap.put(key, HelixUtils.getPartitionName(resourceName, partitionId));
+    }
+    PartitionFinder partitionFinder = getPartitionFinder(keyPartitionMap);
+
+    // instance1 and instance2 are in the assigned group, and instance3 is in the other group
+    Instance instance1 = new Instance("host1_123", "host1", 123);
+    Instance instance2 = new Instance("host2_123", "host2", 123);
+    Instance instance3 = new Instance("host3_123", "host3", 123);
+    Map<String, List<Instance>> partitionInstanceMap = new HashMap<>();
+    partitionInstanceMap
+        .put(HelixUtils.getPartitionName(resourceName, 1), Arrays.asList(instance1, instance2, instance3));
+    partitionInstanceMap
+        .put(HelixUtils.getPartitionName(resourceName, 2), Arrays.asList(instance1, instance2, instance3));
+    partitionInstanceMap.put(HelixUtils.getPartitionName(resourceName, 3), Arrays.asList(instance1, instance3));
+
+    HostFinder<Instance, VeniceRole> hostFinder = getHostFinder(partitionInstanceMap);
+    HostHealthMonitor monitor = getHostHealthMonitor();
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(LATENCY_AWARE_ROUTING).when(config).getMultiKeyRoutingStrategy();
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    RouteHttpRequestStats routeHttpRequestStats =
+        new RouteHttpRequestStats(metricsRepository, mock(StorageNodeClient.class));
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+
+    HelixGroupSelector helixGroupSelector = mock(HelixGroupSelector.class);
+    doReturn(2).when(helixGroupSelector).getGroupCount();
+    doReturn(0).when(helixGroupSelector).selectGroup(anyLong(), anyInt());
+    doReturn(0).when(helixGroupSelector).getInstanceGroupId(instance1.getNodeId());
+    doReturn(0).when(helixGroupSelector).getInstanceGroupId(instance2.getNodeId());
+    doReturn(1).when(helixGroupSelector).getInstanceGroupId(instance3.getNodeId());
+    scatterMode.initHelixGroupSelector(helixGroupSelector);
+
+    ReplicaScoreTracker replicaScoreTracker =
+        new ReplicaScoreTracker(metricsRepository, routeHttpRequestStats, new MockTime());
+    for (int i = 0; i < 10; i++) {
+      replicaScoreTracker.recordResponse(instance1.getNodeId(), TimeUnit.MILLISECONDS.toNanos(10), 0, 0);
+      replicaScoreTracker.recordResponse(instance2.getNodeId(), TimeUnit.MILLISECONDS.toNanos(2), 0, 0);
+      replicaScoreTracker.recordResponse(instance3.getNodeId(), TimeUnit.MILLISECONDS.toNanos(1), 0, 0);
+    }
+    scatterMode.initReplicaScoreTracker(replicaScoreTracker);
+
+    VenicePath path = getVenicePath(resourceName, RequestType.MULTI_GET, keys);
+    Scatter<Instance, VenicePath, RouterKey> finalScatter = scatterMode.scatter(
+        new Scatter(path, getPathParser(), VeniceRole.REPLICA),
+        HttpMethod.POST.name(),
+        resourceName,
+        partitionFinder,
+        hostFinder,
+        monitor,
+        VeniceRole.REPLICA,
+        new Metrics());
+
+    // The faster replica inside the assigned group is preferred over the fastest one in the other group
+    Map<Instance, Integer> hostKeyCountMap = new HashMap<>();
+    for (ScatterGatherRequest<Instance, RouterKey> request: finalScatter.getOnlineRequests()) {
+      Assert.assertEquals(request.getHosts().size(), 1, "There should be only one host for each request");
+      hostKeyCountMap.put(request.getHosts().get(0), request.getPartitionKeys().size());
+    }
+    Assert.assertEquals(hostKeyCountMap.size(), 2);
+    Assert.assertEquals(hostKeyCountMap.get(instance2), Integer.valueOf(2));
+    Assert.assertEquals(hostKeyCountMap.get(instance1), Integer.valueOf(1));
+
+    // The other group is used once the replicas of the assigned group are slow
+    Set<String> slowStorageNodeSet = new HashSet<>();
+    slowStorageNodeSet.add(instance1.getNodeId());
+    slowStorageNodeSet.add(instance2.getNodeId());
+    VenicePath pathForSlowReplicas = getVenicePath(resourceName, RequestType.MULTI_GET, keys, slowStorageNodeSet);
+    finalScatter = scatterMode.scatter(
+        new Scatter(pathForSlowReplicas, getPathParser(), VeniceRole.REPLICA),
+        HttpMethod.POST.name(),
+        resourceName,
+        partitionFinder,
+        hostFinder,
+        monitor,
+        VeniceRole.REPLICA,
+        new Metrics());
+    Collection<ScatterGatherRequest<Instance, RouterKey>> requests = finalScatter.getOnlineRequests();
+    Assert.assertEquals(requests.size(), 1);
+    ScatterGatherRequest<Instance, RouterKey> request = requests.iterator().next();
+    Assert.assertEquals(request.getHosts(), Collections.singletonList(instance3));
+    Assert.assertEquals(request.getPartitionKeys().size(), 3);
+  }
 }
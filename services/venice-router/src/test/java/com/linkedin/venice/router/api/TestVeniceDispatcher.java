@@ -4,6 +4,7 @@ import static com.linkedin.venice.HttpConstants.VENICE_COMPRESSION_STRATEGY;
 import static com.linkedin.venice.HttpConstants.VENICE_REQUEST_RCU;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -27,17 +28,29 @@ import com.linkedin.venice.integration.utils.ServiceFactory;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.LiveInstanceMonitor;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
 import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.cache.RouterCache;
 import com.linkedin.venice.router.httpclient.ApacheHttpAsyncStorageNodeClient;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.MockTime;
 import com.linkedin.venice.utils.TestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
@@ -51,15 +64,20 @@ import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -314,7 +332,172 @@ public class TestVeniceDispatcher {
     }
   }
 
+  @Test
+  public void testRouterCachePartialHitWithRetry() throws Exception {
+    String storeName = "test_store";
+    String resourceName = storeName + "_v1";
+    RecordSerializer<ByteBuffer> keySerializer = SerializerDeserializerFactory
+        .getAvroGenericSerializer(ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getSchema());
+    List<ByteBuffer> keys = new ArrayList<>();
+    keys.add(ByteBuffer.wrap("key_0".getBytes()));
+    keys.add(ByteBuffer.wrap("key_1".getBytes()));
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/storage/" + resourceName,
+        Unpooled.wrappedBuffer(keySerializer.serializeObjects(keys)),
+        0,
+        0);
+    request.headers()
+        .add(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1.getProtocolVersion());
+    VenicePartitionFinder partitionFinder = mock(VenicePartitionFinder.class);
+    when(partitionFinder.findPartitionNumber(any(), anyInt(), any(), anyInt())).thenReturn(0);
+    VeniceMultiGetPath path = new VeniceMultiGetPath(resourceName, request, partitionFinder, 10, false, -1, -1);
+    path.setResponseDecompressor(
+        new VeniceResponseDecompressor(
+            true,
+            mock(RouterStats.class),
+            request,
+            storeName,
+            1,
+            mock(CompressorFactory.class),
+            mock(ExecutorService.class),
+            10));
+
+    RecordSerializer<MultiGetResponseRecordV1> responseSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
+    // The storage node returns the records of the keys it is queried with
+    List<Set<Integer>> queriedKeyIdxSets = new ArrayList<>();
+    StorageNodeClient storageNodeClient = new StorageNodeClient() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void query(
+          Instance host,
+          VenicePath requestPath,
+          Consumer<PortableHttpResponse> completedCallBack,
+          Consumer<Throwable> failedCallBack,
+          BooleanSupplier cancelledCallBack,
+          long queryStartTimeInNS) {
+        Set<Integer> queriedKeyIdxSet = new HashSet<>();
+        List<MultiGetResponseRecordV1> records = new ArrayList<>();
+        for (Map.Entry<Integer, RouterKey> entry: ((VeniceMultiGetPath) requestPath).getKeyIdxToRouterKeySet()) {
+          queriedKeyIdxSet.add(entry.getKey());
+          MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+          record.keyIndex = entry.getKey();
+          record.value = ByteBuffer.wrap(("value_" + entry.getKey()).getBytes());
+          record.schemaId = 1;
+          records.add(record);
+        }
+        queriedKeyIdxSets.add(queriedKeyIdxSet);
+        ByteBuf content = Unpooled.wrappedBuffer(responseSerializer.serializeObjects(records));
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), HttpConstants.AVRO_BINARY);
+        headers.put(
+            HttpConstants.VENICE_SCHEMA_ID,
+            String.valueOf(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+        headers.put(VENICE_COMPRESSION_STRATEGY, String.valueOf(CompressionStrategy.NO_OP.getValue()));
+        completedCallBack.accept(new PortableHttpResponse() {
+          @Override
+          public int getStatusCode() {
+            return HttpStatus.SC_OK;
+          }
+
+          @Override
+          public ByteBuf getContentInByteBuf() {
+            return content;
+          }
+
+          @Override
+          public boolean containsHeader(String headerName) {
+            return headers.containsKey(headerName);
+          }
+
+          @Override
+          public String getFirstHeader(String headerName) {
+            return headers.get(headerName);
+          }
+        });
+      }
+    };
+
+    VeniceDispatcher dispatcher = getMockDispatcher(false, false, storageNodeClient);
+    try {
+      ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+      doReturn(mock(Store.class)).when(storeRepository).getStore(storeName);
+      RouterCache routerCache =
+          new RouterCache(1024 * 1024, 3, Collections.emptySet(), 0, storeRepository, new MockTime(), Runnable::run);
+      // Only key_0 is hot enough to be cached
+      RouterKey cachedKey = path.getRouterKeyByKeyIdx(0);
+      for (int i = 0; i < 3; i++) {
+        routerCache.get(storeName, 1, cachedKey);
+      }
+      routerCache.putIfAdmitted(
+          storeName,
+          1,
+          cachedKey,
+          1,
+          CompressionStrategy.NO_OP,
+          ByteBuffer.wrap("cached_value_0".getBytes()));
+      dispatcher.initRouterCache(routerCache);
+
+      Instance storageNode = new Instance("localhost_1234", "localhost", 1234);
+      ScatterGatherRequest mockScatterGatherRequest = mock(ScatterGatherRequest.class);
+      doReturn(Collections.singletonList(storageNode)).when(mockScatterGatherRequest).getHosts();
+      RecordDeserializer<MultiGetResponseRecordV1> responseDeserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+
+      // The retry of a request re-sends the same path, which should still get the cached record back
+      for (int attempt = 0; attempt < 2; attempt++) {
+        AsyncPromise<List<FullHttpResponse>> mockResponseFuture = mock(AsyncPromise.class);
+        List<FullHttpResponse> responses = new ArrayList<>();
+        doAnswer((invocation -> {
+          responses.addAll(invocation.getArgument(0));
+          return true;
+        })).when(mockResponseFuture).setSuccess(any());
+
+        dispatcher.dispatch(
+            mock(Scatter.class),
+            mockScatterGatherRequest,
+            path,
+            request,
+            mock(AsyncPromise.class),
+            mockResponseFuture,
+            mock(AsyncPromise.class),
+            mock(AsyncPromise.class),
+            Runnable::run);
+
+        Assert.assertEquals(queriedKeyIdxSets.size(), attempt + 1);
+        Assert.assertEquals(queriedKeyIdxSets.get(attempt), Collections.singleton(1));
+        Assert.assertEquals(responses.size(), 1);
+        Assert.assertEquals(responses.get(0).status(), HttpResponseStatus.OK);
+        Map<Integer, String> values = new HashMap<>();
+        for (MultiGetResponseRecordV1 record: responseDeserializer
+            .deserializeObjects(ByteBufUtil.getBytes(responses.get(0).content()))) {
+          values.put(record.keyIndex, new String(ByteUtils.extractByteArray(record.value)));
+        }
+        Assert.assertEquals(values.size(), 2);
+        Assert.assertEquals(values.get(0), "cached_value_0");
+        Assert.assertEquals(values.get(1), "value_1");
+        responses.get(0).release();
+      }
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
   private VeniceDispatcher getMockDispatcher(boolean forcePendingCheck, boolean forceLeakPending) {
+    return getMockDispatcher(forcePendingCheck, forceLeakPending, null);
+  }
+
+  private VeniceDispatcher getMockDispatcher(
+      boolean forcePendingCheck,
+      boolean forceLeakPending,
+      StorageNodeClient mockStorageNodeClient) {
     VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
     doReturn(2).when(routerConfig).getHttpClientPoolSize();
     doReturn(10).when(routerConfig).getMaxOutgoingConn();
@@ -342,8 +525,14 @@ public class TestVeniceDispatcher {
       doReturn(10l).when(routeHttpRequestStats).getPendingRequestCount(anyString());
     }
     LiveInstanceMonitor mockLiveInstanceMonitor = mock(LiveInstanceMonitor.class);
-    StorageNodeClient storageNodeClient =
-        new ApacheHttpAsyncStorageNodeClient(routerConfig, Optional.empty(), mockMetricsRepo, mockLiveInstanceMonitor);
+    StorageNodeClient storageNodeClient = mockStorageNodeClient;
+    if (storageNodeClient == null) {
+      storageNodeClient = new ApacheHttpAsyncStorageNodeClient(
+          routerConfig,
+          Optional.empty(),
+          mockMetricsRepo,
+          mockLiveInstanceMonitor);
+    }
     VeniceDispatcher dispatcher = new VeniceDispatcher(
         routerConfig,
         mockStoreRepo,
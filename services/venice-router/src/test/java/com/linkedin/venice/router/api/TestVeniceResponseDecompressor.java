@@ -8,14 +8,28 @@ import static org.mockito.Mockito.mock;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 
@@ -147,4 +161,143 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  private static List<MultiGetResponseRecordV1> getMultiGetRecords(int recordCount) {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    for (int i = 0; i < recordCount; i++) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i * 100;
+      record.schemaId = i % 3 + 1;
+      // Values of different sizes to exercise the multi-byte length encoding
+      StringBuilder value = new StringBuilder();
+      for (int j = 0; j <= i * 20; j++) {
+        value.append("value_").append(i);
+      }
+      record.value = ByteBuffer.wrap(value.toString().getBytes(StandardCharsets.UTF_8));
+      records.add(record);
+    }
+    return records;
+  }
+
+  private static ByteBuf serializeMultiGetRecords(
+      List<MultiGetResponseRecordV1> records,
+      VeniceCompressor compressor,
+      boolean splitIntoDirectBuffers) throws IOException {
+    List<MultiGetResponseRecordV1> compressedRecords = new ArrayList<>();
+    for (MultiGetResponseRecordV1 record: records) {
+      MultiGetResponseRecordV1 compressedRecord = new MultiGetResponseRecordV1();
+      compressedRecord.keyIndex = record.keyIndex;
+      compressedRecord.schemaId = record.schemaId;
+      compressedRecord.value = ByteBuffer.wrap(compressor.compress(ByteUtils.extractByteArray(record.value)));
+      compressedRecords.add(compressedRecord);
+    }
+    byte[] serializedRecords = FastSerializerDeserializerFactory
+        .getFastAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$)
+        .serializeObjects(compressedRecords);
+    if (!splitIntoDirectBuffers) {
+      return Unpooled.wrappedBuffer(serializedRecords);
+    }
+    // Split the records across the components at an arbitrary position, like the chunks received from the network
+    int splitPosition = serializedRecords.length / 3;
+    CompositeByteBuf content = Unpooled.compositeBuffer();
+    content.addComponent(true, Unpooled.directBuffer().writeBytes(serializedRecords, 0, splitPosition));
+    content.addComponent(
+        true,
+        Unpooled.directBuffer()
+            .writeBytes(serializedRecords, splitPosition, serializedRecords.length - splitPosition));
+    return content;
+  }
+
+  @DataProvider(name = "Compression-And-Buffer-Layout")
+  public static Object[][] compressionAndBufferLayout() {
+    return new Object[][] { { CompressionStrategy.ZSTD_WITH_DICT, false },
+        { CompressionStrategy.ZSTD_WITH_DICT, true }, { CompressionStrategy.GZIP, false },
+        { CompressionStrategy.GZIP, true } };
+  }
+
+  @Test(dataProvider = "Compression-And-Buffer-Layout")
+  public void testMultiGetRecordsDecompression(CompressionStrategy compressionStrategy, boolean splitIntoDirectBuffers)
+      throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    ExecutorService decompressionExecutor = Executors.newFixedThreadPool(2);
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor;
+      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+        compressor = compressorFactory.createVersionSpecificCompressorIfNotExist(
+            CompressionStrategy.ZSTD_WITH_DICT,
+            "test-store_v1",
+            ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData());
+      } else {
+        compressor = compressorFactory.getCompressor(compressionStrategy);
+      }
+      // Multiple batches to decompress in parallel
+      VeniceResponseDecompressor responseDecompressor = new VeniceResponseDecompressor(
+          false,
+          routerStats,
+          request,
+          "test-store",
+          1,
+          compressorFactory,
+          decompressionExecutor,
+          3);
+
+      List<MultiGetResponseRecordV1> records = getMultiGetRecords(10);
+      ByteBuf content = serializeMultiGetRecords(records, compressor, splitIntoDirectBuffers);
+      ContentDecompressResult result = responseDecompressor.decompressMultiGetContent(compressionStrategy, content);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+      Assert.assertEquals(content.refCnt(), 0);
+
+      ByteBuf decompressedContent = result.getContent();
+      byte[] decompressedBytes = new byte[decompressedContent.readableBytes()];
+      decompressedContent.getBytes(decompressedContent.readerIndex(), decompressedBytes);
+      decompressedContent.release();
+      List<MultiGetResponseRecordV1> decompressedRecords = new ArrayList<>();
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.SCHEMA$, MultiGetResponseRecordV1.class)
+          .deserializeObjects(decompressedBytes)
+          .forEach(decompressedRecords::add);
+      Assert.assertEquals(decompressedRecords, records);
+    } finally {
+      decompressionExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCorruptedMultiGetResponse() {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceResponseDecompressor responseDecompressor = new VeniceResponseDecompressor(
+          false,
+          routerStats,
+          request,
+          "test-store",
+          1,
+          compressorFactory,
+          mock(ExecutorService.class),
+          10);
+      // The value length goes beyond the end of the response
+      ByteBuf content = Unpooled.wrappedBuffer(new byte[] { 2, 100, 1, 2, 3 });
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content));
+    }
+  }
 }
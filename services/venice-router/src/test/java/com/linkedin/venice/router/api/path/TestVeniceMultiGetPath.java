@@ -9,8 +9,10 @@ import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.alpini.router.api.RouterException;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -19,12 +21,14 @@ import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.testng.Assert;
@@ -145,4 +149,47 @@ public class TestVeniceMultiGetPath {
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRoute());
   }
+
+  @Test
+  public void testSubPathRequestBody() throws RouterException {
+    String resourceName = Utils.getUniqueString("test_store") + "_v1";
+    int partitionId = 3;
+
+    String keyPrefix = "key_";
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 200; ++i) {
+      keys.add(ByteBuffer.wrap((keyPrefix + i).getBytes()));
+    }
+    BasicFullHttpRequest request = getMultiGetHttpRequest(resourceName, keys, Optional.empty());
+    VeniceMultiGetPath path =
+        new VeniceMultiGetPath(resourceName, request, getVenicePartitionFinder(partitionId), 200, false, -1, 1);
+
+    List<RouterKey> subPathKeys = new ArrayList<>();
+    List<MultiGetRouterRequestKeyV1> expectedRouterRequestKeys = new ArrayList<>();
+    for (int keyIdx: new int[] { 1, 2, 3, 7, 150, 199 }) {
+      subPathKeys.add(path.getRouterKeyByKeyIdx(keyIdx));
+      MultiGetRouterRequestKeyV1 routerRequestKey = new MultiGetRouterRequestKeyV1();
+      routerRequestKey.keyIndex = keyIdx;
+      routerRequestKey.keyBytes = keys.get(keyIdx);
+      routerRequestKey.partitionId = partitionId;
+      expectedRouterRequestKeys.add(routerRequestKey);
+    }
+    // Shuffle the keys, the records are expected in the order of their key index regardless
+    Collections.reverse(subPathKeys);
+    RecordSerializer<MultiGetRouterRequestKeyV1> routerRequestSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    byte[] expectedBody = routerRequestSerializer.serializeObjects(expectedRouterRequestKeys);
+
+    VenicePath subPath = path.substitutePartitionKey(subPathKeys);
+    Assert.assertEquals(subPath.getBody().get(), expectedBody);
+    Assert.assertEquals(ByteBufUtil.getBytes(subPath.getRequestBody()), expectedBody);
+    // Retries share the records of the original request
+    VenicePath retryPath = subPath.substitutePartitionKey(subPathKeys);
+    Assert.assertEquals(ByteBufUtil.getBytes(retryPath.getRequestBody()), expectedBody);
+
+    VenicePath singleKeyPath = path.substitutePartitionKey(path.getRouterKeyByKeyIdx(150));
+    Assert.assertEquals(
+        singleKeyPath.getBody().get(),
+        routerRequestSerializer.serializeObjects(Collections.singletonList(expectedRouterRequestKeys.get(4))));
+  }
 }
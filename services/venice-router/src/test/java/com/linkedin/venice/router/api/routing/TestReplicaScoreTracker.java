@@ -0,0 +1,78 @@
+package com.linkedin.venice.router.api.routing;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.tehuti.MockTehutiReporter;
+import com.linkedin.venice.utils.MockTime;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestReplicaScoreTracker {
+  private static final String FAST_HOST = "fast_host";
+  private static final String SLOW_HOST = "slow_host";
+  private static final String BUSY_HOST = "busy_host";
+
+  private MockTehutiReporter reporter;
+  private MockTime time;
+  private RouteHttpRequestStats routeHttpRequestStats;
+  private ReplicaScoreTracker tracker;
+
+  @BeforeMethod
+  public void setUp() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    reporter = new MockTehutiReporter();
+    metricsRepository.addReporter(reporter);
+    time = new MockTime();
+    routeHttpRequestStats = new RouteHttpRequestStats(metricsRepository, mock(StorageNodeClient.class));
+    tracker = new ReplicaScoreTracker(metricsRepository, routeHttpRequestStats, time);
+  }
+
+  private void recordResponses(String hostName, long latencyInMs, int queueLength, double queueTimeInMs) {
+    for (int i = 0; i < 100; i++) {
+      tracker.recordResponse(hostName, TimeUnit.MILLISECONDS.toNanos(latencyInMs), queueLength, queueTimeInMs);
+    }
+  }
+
+  @Test
+  public void testScoreReflectsLatencyAndQueueFeedback() {
+    recordResponses(FAST_HOST, 1, 0, 0);
+    recordResponses(SLOW_HOST, 5, 0, 0);
+    // Same response time as the fast host, but the requests are queueing up on the storage node
+    recordResponses(BUSY_HOST, 1, 2, 0.5);
+
+    double fastHostScore = tracker.getScore(FAST_HOST);
+    Assert.assertTrue(fastHostScore < tracker.getScore(SLOW_HOST));
+    Assert.assertTrue(tracker.getScore(SLOW_HOST) < tracker.getScore(BUSY_HOST));
+    Assert.assertEquals(reporter.query("." + FAST_HOST + "--replica_score.Gauge").value(), fastHostScore);
+
+    // The in-flight requests to the fast host make it less attractive
+    routeHttpRequestStats.recordPendingRequest(FAST_HOST);
+    routeHttpRequestStats.recordPendingRequest(FAST_HOST);
+    Assert.assertTrue(tracker.getScore(FAST_HOST) > tracker.getScore(SLOW_HOST));
+  }
+
+  @Test
+  public void testStaleStatsAreDropped() {
+    recordResponses(FAST_HOST, 1, 0, 0);
+    recordResponses(SLOW_HOST, 50, 0, 0);
+    Assert.assertTrue(tracker.getScore(FAST_HOST) < tracker.getScore(SLOW_HOST));
+
+    // The slow host doesn't get any request for a while, so it should be probed again
+    time.addMilliseconds(TimeUnit.SECONDS.toMillis(5));
+    recordResponses(FAST_HOST, 1, 0, 0);
+    time.addMilliseconds(TimeUnit.SECONDS.toMillis(6));
+    Assert.assertEquals(tracker.getScore(SLOW_HOST), 0d);
+    Assert.assertTrue(tracker.getScore(FAST_HOST) > 0);
+
+    // A host without any history is ranked by its in-flight requests only
+    Assert.assertEquals(tracker.getScore(BUSY_HOST), 0d);
+    routeHttpRequestStats.recordPendingRequest(BUSY_HOST);
+    Assert.assertTrue(tracker.getScore(BUSY_HOST) > 0);
+  }
+}
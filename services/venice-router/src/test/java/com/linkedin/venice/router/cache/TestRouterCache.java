@@ -0,0 +1,142 @@
+package com.linkedin.venice.router.cache;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.utils.MockTime;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestRouterCache {
+  private static final int ADMISSION_THRESHOLD = 3;
+  private static final String BATCH_STORE = "batch_store";
+  private static final String HYBRID_STORE = "hybrid_store";
+
+  private static ReadOnlyStoreRepository getStoreRepository() {
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    Store batchStore = mock(Store.class);
+    doReturn(BATCH_STORE).when(batchStore).getName();
+    doReturn(false).when(batchStore).isHybrid();
+    doReturn(batchStore).when(storeRepository).getStore(BATCH_STORE);
+    Store hybridStore = mock(Store.class);
+    doReturn(HYBRID_STORE).when(hybridStore).getName();
+    doReturn(true).when(hybridStore).isHybrid();
+    doReturn(hybridStore).when(storeRepository).getStore(HYBRID_STORE);
+    return storeRepository;
+  }
+
+  private static RouterCache getRouterCache(long hybridStoreTtlMs, MockTime time) {
+    return new RouterCache(
+        1024 * 1024,
+        ADMISSION_THRESHOLD,
+        Collections.emptySet(),
+        hybridStoreTtlMs,
+        getStoreRepository(),
+        time,
+        Runnable::run);
+  }
+
+  private static ByteBuffer getValue(String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String getValue(RouterCache.CachedValue cachedValue) {
+    return new String(cachedValue.getValue(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Looks up the key until it becomes hot enough to be cached.
+   */
+  private static void warmUp(RouterCache routerCache, String storeName, int version, RouterKey key) {
+    for (int i = 0; i < ADMISSION_THRESHOLD; i++) {
+      Assert.assertNull(routerCache.get(storeName, version, key));
+    }
+    Assert.assertTrue(routerCache.shouldAdmit(storeName, version, key));
+  }
+
+  @Test
+  public void testOnlyHotKeysAreAdmitted() {
+    RouterCache routerCache = getRouterCache(0, new MockTime());
+    RouterKey coldKey = RouterKey.fromString("cold_key");
+    RouterKey hotKey = RouterKey.fromString("hot_key");
+
+    Assert.assertNull(routerCache.get(BATCH_STORE, 1, coldKey));
+    Assert.assertFalse(routerCache.shouldAdmit(BATCH_STORE, 1, coldKey));
+    routerCache.putIfAdmitted(BATCH_STORE, 1, coldKey, 1, CompressionStrategy.NO_OP, getValue("cold_value"));
+    Assert.assertNull(routerCache.get(BATCH_STORE, 1, coldKey));
+
+    warmUp(routerCache, BATCH_STORE, 1, hotKey);
+    routerCache.putIfAdmitted(BATCH_STORE, 1, hotKey, 2, CompressionStrategy.GZIP, getValue("hot_value"));
+    RouterCache.CachedValue cachedValue = routerCache.get(BATCH_STORE, 1, RouterKey.fromString("hot_key"));
+    Assert.assertNotNull(cachedValue);
+    Assert.assertEquals(getValue(cachedValue), "hot_value");
+    Assert.assertEquals(cachedValue.getSchemaId(), 2);
+    Assert.assertEquals(cachedValue.getCompressionStrategy(), CompressionStrategy.GZIP);
+
+    // The cache is keyed by version
+    Assert.assertNull(routerCache.get(BATCH_STORE, 2, hotKey));
+  }
+
+  @Test
+  public void testInvalidation() {
+    RouterCache routerCache = getRouterCache(0, new MockTime());
+    RouterKey key = RouterKey.fromString("key");
+    for (int version = 1; version <= 2; version++) {
+      warmUp(routerCache, BATCH_STORE, version, key);
+      routerCache.putIfAdmitted(BATCH_STORE, version, key, 1, CompressionStrategy.NO_OP, getValue("v" + version));
+    }
+
+    routerCache.invalidate(BATCH_STORE, 1);
+    Assert.assertNull(routerCache.get(BATCH_STORE, 1, key));
+    Assert.assertEquals(getValue(routerCache.get(BATCH_STORE, 2, key)), "v2");
+
+    routerCache.handleStoreDeleted(BATCH_STORE);
+    Assert.assertNull(routerCache.get(BATCH_STORE, 2, key));
+  }
+
+  @Test
+  public void testHybridStoreTtl() {
+    RouterKey key = RouterKey.fromString("key");
+    Assert.assertFalse(getRouterCache(0, new MockTime()).isCacheEnabled(HYBRID_STORE));
+
+    MockTime time = new MockTime();
+    long ttlMs = TimeUnit.SECONDS.toMillis(10);
+    RouterCache routerCache = getRouterCache(ttlMs, time);
+    Assert.assertTrue(routerCache.isCacheEnabled(HYBRID_STORE));
+    Assert.assertTrue(routerCache.isCacheEnabled(BATCH_STORE));
+    warmUp(routerCache, HYBRID_STORE, 1, key);
+    routerCache.putIfAdmitted(HYBRID_STORE, 1, key, 1, CompressionStrategy.NO_OP, getValue("hybrid_value"));
+    warmUp(routerCache, BATCH_STORE, 1, key);
+    routerCache.putIfAdmitted(BATCH_STORE, 1, key, 1, CompressionStrategy.NO_OP, getValue("batch_value"));
+
+    time.addMilliseconds(ttlMs / 2);
+    Assert.assertEquals(getValue(routerCache.get(HYBRID_STORE, 1, key)), "hybrid_value");
+    time.addMilliseconds(ttlMs);
+    Assert.assertNull(routerCache.get(HYBRID_STORE, 1, key));
+    // The TTL doesn't apply to batch-only stores
+    Assert.assertEquals(getValue(routerCache.get(BATCH_STORE, 1, key)), "batch_value");
+  }
+
+  @Test
+  public void testStoreAllowlist() {
+    RouterCache routerCache = new RouterCache(
+        1024 * 1024,
+        ADMISSION_THRESHOLD,
+        Collections.singleton(BATCH_STORE),
+        TimeUnit.SECONDS.toMillis(10),
+        getStoreRepository(),
+        new MockTime(),
+        Runnable::run);
+    Assert.assertTrue(routerCache.isCacheEnabled(BATCH_STORE));
+    Assert.assertFalse(routerCache.isCacheEnabled(HYBRID_STORE));
+  }
+}
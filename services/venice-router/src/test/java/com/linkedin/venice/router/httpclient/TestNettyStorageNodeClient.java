@@ -0,0 +1,145 @@
+package com.linkedin.venice.router.httpclient;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.TestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * The messages are released by the tests right after being consumed, as {@link
+ * com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler} does, so a response content which is neither handed
+ * off nor released shows up as a non-zero reference count.
+ */
+public class TestNettyStorageNodeClient {
+  @Test
+  public void testResponseContentIsHandedOff() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    List<ByteBuf> handedOffContents = new ArrayList<>();
+    NettyStorageNodeClient.ResponseHandler responseHandler = new NettyStorageNodeClient.ResponseHandler(
+        channelPoolManager,
+        channel,
+        response -> handedOffContents.add(response.getContentInByteBuf()),
+        e -> Assert.fail("Unexpected failure", e));
+
+    ByteBuf content = Unpooled.copiedBuffer("response", StandardCharsets.UTF_8);
+    responseHandler.accept(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+    LastHttpContent lastContent = new DefaultLastHttpContent(content);
+    responseHandler.accept(lastContent);
+    lastContent.release();
+
+    Assert.assertEquals(handedOffContents.size(), 1);
+    Assert.assertEquals(handedOffContents.get(0).toString(StandardCharsets.UTF_8), "response");
+    // The content is now owned by the consumer of the response
+    Assert.assertEquals(content.refCnt(), 1);
+    handedOffContents.get(0).release();
+    Assert.assertEquals(content.refCnt(), 0);
+    verify(channelPoolManager).release(channel);
+  }
+
+  @Test
+  public void testResponseContentIsReleasedWhenNotHandedOff() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    List<PortableHttpResponse> responses = new ArrayList<>();
+    NettyStorageNodeClient.ResponseHandler responseHandler =
+        new NettyStorageNodeClient.ResponseHandler(channelPoolManager, channel, response -> {
+          responses.add(response);
+          throw new VeniceException("Failed to consume the response");
+        }, e -> Assert.fail("Unexpected failure", e));
+
+    ByteBuf content = Unpooled.copiedBuffer("response", StandardCharsets.UTF_8);
+    responseHandler.accept(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+    LastHttpContent lastContent = new DefaultLastHttpContent(content);
+    Assert.assertThrows(VeniceException.class, () -> responseHandler.accept(lastContent));
+    lastContent.release();
+
+    Assert.assertEquals(responses.size(), 1);
+    Assert.assertEquals(content.refCnt(), 0);
+    verify(channelPoolManager).release(channel);
+  }
+
+  @Test
+  public void testResponseContentIsReleasedOnError() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    List<Throwable> failures = new ArrayList<>();
+    NettyStorageNodeClient.ResponseHandler responseHandler = new NettyStorageNodeClient.ResponseHandler(
+        channelPoolManager,
+        channel,
+        response -> Assert.fail("Unexpected response"),
+        failures::add);
+
+    ByteBuf content = Unpooled.copiedBuffer("partial response", StandardCharsets.UTF_8);
+    responseHandler.accept(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+    HttpContent partialContent = new DefaultHttpContent(content);
+    responseHandler.accept(partialContent);
+    partialContent.release();
+    VeniceException error = new VeniceException("Connection reset");
+    responseHandler.accept(error);
+    // Anything received after the failure is ignored
+    responseHandler.accept(LastHttpContent.EMPTY_LAST_CONTENT);
+
+    Assert.assertEquals(failures.size(), 1);
+    Assert.assertSame(failures.get(0), error);
+    Assert.assertEquals(content.refCnt(), 0);
+    // The channel is discarded, since the rest of the response might still come through it
+    Assert.assertFalse(channel.isOpen());
+    verify(channelPoolManager).release(channel);
+  }
+
+  @Test
+  public void testResponseContentIsReleasedOnTimeout() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    ChannelPoolManager channelPoolManager = mock(ChannelPoolManager.class);
+    List<Throwable> failures = new ArrayList<>();
+    NettyStorageNodeClient.ResponseHandler responseHandler = new NettyStorageNodeClient.ResponseHandler(
+        channelPoolManager,
+        channel,
+        response -> Assert.fail("Unexpected response"),
+        failures::add);
+    responseHandler.scheduleTimeout(1);
+
+    ByteBuf content = Unpooled.copiedBuffer("partial response", StandardCharsets.UTF_8);
+    responseHandler.accept(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+    HttpContent partialContent = new DefaultHttpContent(content);
+    responseHandler.accept(partialContent);
+    partialContent.release();
+
+    TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+      channel.runScheduledPendingTasks();
+      Assert.assertEquals(failures.size(), 1);
+    });
+    Assert.assertTrue(failures.get(0) instanceof TimeoutException);
+    Assert.assertEquals(content.refCnt(), 0);
+
+    // A late response is ignored
+    ByteBuf lateContent = Unpooled.copiedBuffer("late response", StandardCharsets.UTF_8);
+    LastHttpContent lastContent = new DefaultLastHttpContent(lateContent);
+    responseHandler.accept(lastContent);
+    lastContent.release();
+    Assert.assertEquals(lateContent.refCnt(), 0);
+    Assert.assertFalse(channel.isOpen());
+    verify(channelPoolManager).release(channel);
+  }
+}
@@ -0,0 +1,86 @@
+package com.linkedin.venice.router.throttle;
+
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.tehuti.MockTehutiReporter;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveConcurrencyLimiterTest {
+  private static final String HOST = "my_host";
+  private static final int INITIAL_LIMIT = 100;
+  private static final int MIN_LIMIT = 10;
+  private static final int MAX_LIMIT = 1000;
+
+  private MockTehutiReporter reporter;
+  private RouteHttpRequestStats routeHttpRequestStats;
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeMethod
+  public void setUp() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    reporter = new MockTehutiReporter();
+    metricsRepository.addReporter(reporter);
+    routeHttpRequestStats = new RouteHttpRequestStats(metricsRepository, mock(StorageNodeClient.class));
+    limiter = new AdaptiveConcurrencyLimiter(
+        metricsRepository,
+        routeHttpRequestStats,
+        INITIAL_LIMIT,
+        MIN_LIMIT,
+        MAX_LIMIT);
+  }
+
+  private void setPendingRequestCount(int count) {
+    for (int i = 0; i < count; i++) {
+      routeHttpRequestStats.recordPendingRequest(HOST);
+    }
+  }
+
+  private void recordResponses(int count, long latencyInMs) {
+    for (int i = 0; i < count; i++) {
+      limiter.recordResponse(HOST, TimeUnit.MILLISECONDS.toNanos(latencyInMs), false);
+    }
+  }
+
+  @Test
+  public void testLimitGrowsWithStableLatency() {
+    Assert.assertEquals(limiter.getLimit(HOST), INITIAL_LIMIT);
+    setPendingRequestCount(INITIAL_LIMIT / 2);
+    Assert.assertFalse(limiter.isSaturated(HOST));
+
+    recordResponses(1000, 1);
+    Assert.assertTrue(limiter.getLimit(HOST) > INITIAL_LIMIT);
+    // The limit doesn't keep growing once the storage node isn't loaded enough to tell about its capacity
+    Assert.assertTrue(limiter.getLimit(HOST) <= INITIAL_LIMIT + 20);
+  }
+
+  @Test
+  public void testLimitShrinksWithLatencySpike() {
+    setPendingRequestCount(INITIAL_LIMIT);
+    recordResponses(100, 1);
+    int limitBeforeSpike = limiter.getLimit(HOST);
+
+    recordResponses(10, 20);
+    Assert.assertTrue(limiter.getLimit(HOST) < limitBeforeSpike);
+    recordResponses(100, 20);
+    Assert.assertEquals(limiter.getLimit(HOST), MIN_LIMIT);
+    Assert.assertTrue(limiter.isSaturated(HOST));
+  }
+
+  @Test
+  public void testLimitBacksOffOnFailures() {
+    limiter.recordResponse(HOST, TimeUnit.MILLISECONDS.toNanos(1), true);
+    Assert.assertEquals(limiter.getLimit(HOST), (int) (INITIAL_LIMIT * 0.9));
+    for (int i = 0; i < 100; i++) {
+      limiter.recordResponse(HOST, TimeUnit.MILLISECONDS.toNanos(1), true);
+    }
+    Assert.assertEquals(limiter.getLimit(HOST), MIN_LIMIT);
+    Assert.assertEquals(reporter.query("." + HOST + "--adaptive_concurrency_limit.Gauge").value(), (double) MIN_LIMIT);
+  }
+}
@@ -26,7 +26,9 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -161,19 +163,40 @@ public class ListenerService extends AbstractVeniceService {
   }
 
   protected ThreadPoolExecutor createThreadPool(int threadCount, String threadNamePrefix, int capacity) {
+    boolean storeAwareSchedulingEnabled = serverConfig.isStoreAwareRequestSchedulingEnabled();
+    BlockingQueue<Runnable> queue = storeAwareSchedulingEnabled
+        ? new StoreAwareRequestQueue(
+            capacity,
+            serverConfig.getRequestSchedulingMaxQueueLengthPerStore(),
+            serverConfig.getRequestSchedulingFairRatio(),
+            serverConfig.getRequestSchedulingLargeBatchGetKeyCountThreshold())
+        : serverConfig.getExecutionQueue(capacity);
     ThreadPoolExecutor executor = new ThreadPoolExecutor(
         threadCount,
         threadCount,
         0,
         TimeUnit.MILLISECONDS,
-        serverConfig.getExecutionQueue(capacity),
+        queue,
         new DaemonThreadFactory(threadNamePrefix));
     /**
      * When the capacity is fully saturated, the scheduled task will be executed in the caller thread.
      * We will leverage this policy to propagate the back pressure to the caller, so that no more tasks will be
      * scheduled.
+     *
+     * With store aware scheduling, the requests rejected on purpose by {@link StoreAwareRequestQueue}, such as the
+     * ones from a store exceeding its queue length, get a response right away instead, since running them in the
+     * caller thread would defeat the isolation between stores.
      */
-    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    RejectedExecutionHandler callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+    if (storeAwareSchedulingEnabled) {
+      executor.setRejectedExecutionHandler((runnable, e) -> {
+        if (!(runnable instanceof StorageReadRequestTask) || !((StorageReadRequestTask) runnable).reject()) {
+          callerRunsPolicy.rejectedExecution(runnable, e);
+        }
+      });
+    } else {
+      executor.setRejectedExecutionHandler(callerRunsPolicy);
+    }
 
     return executor;
   }
@@ -13,6 +13,7 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.ReadResponseChunk;
 import com.linkedin.venice.utils.ExceptionUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -20,8 +21,13 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import java.nio.charset.StandardCharsets;
 
 
@@ -31,6 +37,10 @@ import java.nio.charset.StandardCharsets;
 
 public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
   private final StatsHandler statsHandler;
+  /**
+   * Whether the chunks of a {@link ReadResponseChunk} response have been written, but not the last one yet.
+   */
+  private boolean chunkedResponseInProgress = false;
 
   public OutboundHttpWrapperHandler(StatsHandler handler) {
     super();
@@ -39,6 +49,20 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
 
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+    if (msg instanceof ReadResponseChunk) {
+      writeChunk(ctx, (ReadResponseChunk) msg, promise);
+      return;
+    }
+    if (chunkedResponseInProgress) {
+      chunkedResponseInProgress = false;
+      if (msg instanceof ReadResponse) {
+        writeLastChunk(ctx, (ReadResponse) msg);
+      } else {
+        // An error happened after the status and part of the records have been sent
+        statsHandler.abortChunkedResponse(ctx);
+      }
+      return;
+    }
     ByteBuf body;
     String contentType = HttpConstants.AVRO_BINARY;
     HttpResponseStatus responseStatus = OK;
@@ -46,23 +70,12 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    int storageQueueLength = -1;
+    double storageQueueTime = -1;
     try {
       if (msg instanceof ReadResponse) {
         ReadResponse obj = (ReadResponse) msg;
-        statsHandler.setDatabaseLookupLatency(obj.getDatabaseLookupLatency());
-        statsHandler.setStorageExecutionHandlerSubmissionWaitTime(obj.getStorageExecutionHandlerSubmissionWaitTime());
-        statsHandler.setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
-        statsHandler.setSuccessRequestKeyCount(obj.getRecordCount());
-        statsHandler.setMultiChunkLargeValueCount(obj.getMultiChunkLargeValueCount());
-        statsHandler.setReadComputeLatency(obj.getReadComputeLatency());
-        statsHandler.setReadComputeDeserializationLatency(obj.getReadComputeDeserializationLatency());
-        statsHandler.setReadComputeSerializationLatency(obj.getReadComputeSerializationLatency());
-        statsHandler.setDotProductCount(obj.getDotProductCount());
-        statsHandler.setCosineSimilarityCount(obj.getCosineSimilarityCount());
-        statsHandler.setHadamardProductCount(obj.getHadamardProductCount());
-        statsHandler.setCountOperatorCount(obj.getCountOperatorCount());
-        statsHandler.setOptionalKeySizeList(obj.getOptionalKeySizeList());
-        statsHandler.setOptionalValueSizeList(obj.getOptionalValueSizeList());
+        setReadResponseStats(obj);
         compressionStrategy = obj.getCompressionStrategy();
         if (obj.isFound()) {
           body = obj.getResponseBody();
@@ -73,6 +86,8 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         }
         isStreamingResponse = obj.isStreamingResponse();
         responseRcu = obj.getRCU();
+        storageQueueLength = obj.getStorageExecutionQueueLen();
+        storageQueueTime = obj.getStorageExecutionHandlerSubmissionWaitTime();
       } else if (msg instanceof HttpShortcutResponse) {
         // For Early terminated requests
         HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) msg;
@@ -137,6 +152,11 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     if (isStreamingResponse) {
       response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
     }
+    if (storageQueueLength >= 0) {
+      // Load feedback for the latency-aware replica selection in router
+      response.headers().set(HttpConstants.VENICE_STORAGE_QUEUE_LENGTH, storageQueueLength);
+      response.headers().set(HttpConstants.VENICE_STORAGE_QUEUE_TIME, storageQueueTime);
+    }
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
@@ -145,4 +165,63 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
      */
     ctx.writeAndFlush(response);
   }
+
+  private void setReadResponseStats(ReadResponse obj) {
+    statsHandler.setDatabaseLookupLatency(obj.getDatabaseLookupLatency());
+    statsHandler.setStorageExecutionHandlerSubmissionWaitTime(obj.getStorageExecutionHandlerSubmissionWaitTime());
+    statsHandler.setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
+    statsHandler.setSuccessRequestKeyCount(obj.getRecordCount());
+    statsHandler.setMultiChunkLargeValueCount(obj.getMultiChunkLargeValueCount());
+    statsHandler.setReadComputeLatency(obj.getReadComputeLatency());
+    statsHandler.setReadComputeDeserializationLatency(obj.getReadComputeDeserializationLatency());
+    statsHandler.setReadComputeSerializationLatency(obj.getReadComputeSerializationLatency());
+    statsHandler.setDotProductCount(obj.getDotProductCount());
+    statsHandler.setCosineSimilarityCount(obj.getCosineSimilarityCount());
+    statsHandler.setHadamardProductCount(obj.getHadamardProductCount());
+    statsHandler.setCountOperatorCount(obj.getCountOperatorCount());
+    statsHandler.setOptionalKeySizeList(obj.getOptionalKeySizeList());
+    statsHandler.setOptionalValueSizeList(obj.getOptionalValueSizeList());
+  }
+
+  /**
+   * Writes a chunk of a multi-key response, which is sent with chunked transfer encoding, since the size of the
+   * response is unknown until all the records are looked up. The stats are recorded once the last chunk is written.
+   */
+  private void writeChunk(ChannelHandlerContext ctx, ReadResponseChunk chunk, ChannelPromise promise) {
+    statsHandler.setChunkedResponseInProgress(true);
+    if (chunk.isFirstChunk()) {
+      ReadResponse obj = chunk.getResponse();
+      HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+      response.headers().set(CONTENT_TYPE, HttpConstants.AVRO_BINARY);
+      response.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, obj.getCompressionStrategy().getValue());
+      response.headers().set(HttpConstants.VENICE_SCHEMA_ID, obj.getResponseSchemaIdHeader());
+      response.headers().set(HttpConstants.VENICE_REQUEST_RCU, obj.getRCU());
+      if (obj.isStreamingResponse()) {
+        response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
+      }
+      if (obj.getStorageExecutionQueueLen() >= 0) {
+        response.headers().set(HttpConstants.VENICE_STORAGE_QUEUE_LENGTH, obj.getStorageExecutionQueueLen());
+        response.headers()
+            .set(HttpConstants.VENICE_STORAGE_QUEUE_TIME, obj.getStorageExecutionHandlerSubmissionWaitTime());
+      }
+      HttpUtil.setTransferEncodingChunked(response, true);
+      ctx.write(response);
+      chunkedResponseInProgress = true;
+    }
+    ctx.writeAndFlush(new DefaultHttpContent(chunk.getBody()), promise);
+  }
+
+  private void writeLastChunk(ChannelHandlerContext ctx, ReadResponse obj) {
+    ByteBuf body;
+    try {
+      setReadResponseStats(obj);
+      body = obj.getResponseBody();
+    } catch (Exception e) {
+      statsHandler.abortChunkedResponse(ctx);
+      return;
+    }
+    statsHandler.setResponseStatus(OK);
+    statsHandler.setChunkedResponseInProgress(false);
+    ctx.writeAndFlush(new DefaultLastHttpContent(body));
+  }
 }
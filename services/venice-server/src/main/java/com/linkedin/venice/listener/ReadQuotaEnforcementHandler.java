@@ -19,6 +19,7 @@ import com.linkedin.venice.meta.VersionStatus;
 import com.linkedin.venice.pushmonitor.ReadOnlyPartitionStatus;
 import com.linkedin.venice.stats.AbstractVeniceAggStats;
 import com.linkedin.venice.stats.AggServerQuotaUsageStats;
+import com.linkedin.venice.throttle.StripedTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.utils.ExpiringSet;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -43,6 +44,10 @@ import org.apache.logging.log4j.Logger;
 public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<RouterRequest>
     implements RoutingDataRepository.RoutingDataChangedListener, StoreDataChangedListener {
   private static final Logger LOGGER = LogManager.getLogger(ReadQuotaEnforcementHandler.class);
+  /**
+   * The buckets are consumed by all the Netty workers, whose default count is twice the number of cores.
+   */
+  private static final int TOKEN_BUCKET_STRIPE_COUNT = Runtime.getRuntime().availableProcessors() * 2;
   private final ConcurrentMap<String, TokenBucket> storeVersionBuckets = new VeniceConcurrentHashMap<>();
   private final TokenBucket storageNodeBucket;
   private final ReadOnlyStoreRepository storeRepository;
@@ -131,18 +136,19 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       return;
     }
     int rcu = getRcu(request); // read capacity units
-    String storeName = Version.parseStoreFromKafkaTopicName(request.getResourceName());
+    String storeName = request.getStoreName();
+    TokenBucket storeVersionBucket = storeVersionBuckets.get(request.getResourceName());
 
     /**
      * First check store bucket for capacity; don't throttle retried request at store version level
      */
-    if (storeVersionBuckets.containsKey(request.getResourceName()) && !request.isRetryRequest()) {
-      if (!storeVersionBuckets.get(request.getResourceName()).tryConsume(rcu)) {
+    if (storeVersionBucket != null && !request.isRetryRequest()) {
+      if (!storeVersionBucket.tryConsume(rcu)) {
         // TODO: check if extra node capacity and can still process this request out of quota
         stats.recordRejected(storeName, rcu);
         if (enforcing) {
           long storeQuota = storeRepository.getStore(storeName).getReadQuotaInCU();
-          float thisNodeRcuPerSecond = storeVersionBuckets.get(request.getResourceName()).getAmortizedRefillPerSecond();
+          float thisNodeRcuPerSecond = storeVersionBucket.getAmortizedRefillPerSecond();
           String errorMessage =
               "Total quota for store " + storeName + " is " + storeQuota + " RCU per second. Storage Node " + thisNodeId
                   + " is allocated " + thisNodeRcuPerSecond + " RCU per second which has been exceeded.";
@@ -150,7 +156,7 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
           return;
         }
       }
-    } else if (enforcing && !noBucketStores.contains(request.getResourceName())) {
+    } else if (storeVersionBucket == null && enforcing && !noBucketStores.contains(request.getResourceName())) {
       // If this happens it is probably due to a short-lived race condition
       // of the resource being allocated before the bucket is allocated.
       LOGGER.warn(
@@ -213,6 +219,8 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
    * method can multiply by the enforcement interval first before shrinking by the proportion, allowing the Bucket to
    * be configured with the correct 1 refill every 10 seconds.
    *
+   * The buckets are striped, so that the Netty workers don't all contend on the same counter for the hot stores.
+   *
    * @param totalRcuPerSecond  Number of units per second to allow
    * @param thisBucketProportionOfTotalRcu For maximum fidelity of calculations. If you need a smaller portion of the
    *                                       RCU to be applied then set this to an appropriate multiplier.  Otherwise set
@@ -224,7 +232,13 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
     long totalCapacity = totalRefillAmount * enforcementCapacityMultiple;
     long thisRefillAmount = (long) Math.ceil(totalRefillAmount * thisBucketProportionOfTotalRcu);
     long thisCapacity = (long) Math.ceil(totalCapacity * thisBucketProportionOfTotalRcu);
-    return new TokenBucket(thisCapacity, thisRefillAmount, enforcementIntervalSeconds, SECONDS, clock);
+    return new StripedTokenBucket(
+        thisCapacity,
+        thisRefillAmount,
+        enforcementIntervalSeconds,
+        SECONDS,
+        TOKEN_BUCKET_STRIPE_COUNT,
+        clock);
   }
 
   @Override
@@ -54,6 +54,11 @@ public class StatsHandler extends ChannelDuplexHandler {
    * This is mostly to bypass the issue that stat callback could be triggered multiple times for one single request.
    */
   private boolean statCallbackExecuted = false;
+  /**
+   * Whether the chunks of a response are being written, in which case the stats are only recorded once the last chunk
+   * has been written.
+   */
+  private boolean chunkedResponseInProgress = false;
   private double storageExecutionSubmissionWaitTime;
   private int storageExecutionQueueLen;
 
@@ -84,6 +89,10 @@ public class StatsHandler extends ChannelDuplexHandler {
   private double partsInvokeDelayLatency = -1;
   private int requestPartCount = -1;
 
+  public void setChunkedResponseInProgress(boolean chunkedResponseInProgress) {
+    this.chunkedResponseInProgress = chunkedResponseInProgress;
+  }
+
   public void setResponseStatus(HttpResponseStatus status) {
     this.responseStatus = status;
   }
@@ -251,45 +260,61 @@ public class StatsHandler extends ChannelDuplexHandler {
 
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws VeniceException {
+    if (chunkedResponseInProgress) {
+      ctx.writeAndFlush(msg, promise);
+      return;
+    }
     ChannelFuture future = ctx.writeAndFlush(msg);
-    future.addListener((result) -> {
-      // reset the StatsHandler for the new request. This is necessary since instances are channel-based
-      // and channels are ready for the future requests as soon as the current has been handled.
-      newRequest = true;
+    future.addListener(result -> recordStats(result.isSuccess()));
+  }
 
-      if (responseStatus == null) {
-        throw new VeniceException("request status could not be null");
-      }
+  /**
+   * Closes the connection in the middle of a chunked response, which can't be completed or turned into an error
+   * response anymore, so that the receiver would see it as failed.
+   */
+  public void abortChunkedResponse(ChannelHandlerContext ctx) {
+    chunkedResponseInProgress = false;
+    responseStatus = HttpResponseStatus.INTERNAL_SERVER_ERROR;
+    ctx.close().addListener(result -> recordStats(false));
+  }
 
-      // we don't record if it is a health check request
-      if (isHealthCheck) {
-        return;
-      }
+  private void recordStats(boolean isWriteSuccessful) {
+    // reset the StatsHandler for the new request. This is necessary since instances are channel-based
+    // and channels are ready for the future requests as soon as the current has been handled.
+    newRequest = true;
 
-      /**
-       * TODO: Need to do more investigation to figure out why this callback could be triggered
-       * multiple times for a single request
-       */
-      if (!statCallbackExecuted) {
-        recordBasicMetrics();
-
-        optionalKeySizeList.ifPresent(
-            keySizeList -> keySizeList.forEach(keySize -> currentStats.recordKeySizeInByte(storeName, keySize)));
-        optionalValueSizeList.ifPresent(
-            valueSizeList -> valueSizeList
-                .forEach(valueSize -> currentStats.recordValueSizeInByte(storeName, valueSize)));
-
-        double elapsedTime = LatencyUtils.getLatencyInMS(startTimeInNS);
-        // if ResponseStatus is either OK or NOT_FOUND and the channel write is succeed,
-        // records a successRequest in stats. Otherwise, records a errorRequest in stats;
-        if (result.isSuccess() && (responseStatus.equals(OK) || responseStatus.equals(NOT_FOUND))) {
-          successRequest(elapsedTime);
-        } else {
-          errorRequest(elapsedTime);
-        }
-        statCallbackExecuted = true;
+    if (responseStatus == null) {
+      throw new VeniceException("request status could not be null");
+    }
+
+    // we don't record if it is a health check request
+    if (isHealthCheck) {
+      return;
+    }
+
+    /**
+     * TODO: Need to do more investigation to figure out why this callback could be triggered
+     * multiple times for a single request
+     */
+    if (!statCallbackExecuted) {
+      recordBasicMetrics();
+
+      optionalKeySizeList.ifPresent(
+          keySizeList -> keySizeList.forEach(keySize -> currentStats.recordKeySizeInByte(storeName, keySize)));
+      optionalValueSizeList.ifPresent(
+          valueSizeList -> valueSizeList
+              .forEach(valueSize -> currentStats.recordValueSizeInByte(storeName, valueSize)));
+
+      double elapsedTime = LatencyUtils.getLatencyInMS(startTimeInNS);
+      // if ResponseStatus is either OK or NOT_FOUND and the channel write is succeed,
+      // records a successRequest in stats. Otherwise, records a errorRequest in stats;
+      if (isWriteSuccessful && (responseStatus.equals(OK) || responseStatus.equals(NOT_FOUND))) {
+        successRequest(elapsedTime);
+      } else {
+        errorRequest(elapsedTime);
       }
-    });
+      statCallbackExecuted = true;
+    }
   }
 
   private void recordBasicMetrics() {
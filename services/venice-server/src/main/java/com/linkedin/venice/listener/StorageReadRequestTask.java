@@ -0,0 +1,54 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import io.netty.channel.ChannelHandlerContext;
+
+
+/**
+ * A read request to be executed by the storage execution thread pool, which carries the request, so that
+ * {@link StoreAwareRequestQueue} could schedule it based on the store and the request type.
+ */
+class StorageReadRequestTask implements Runnable {
+  private final RouterRequest request;
+  private final ChannelHandlerContext context;
+  private final Runnable command;
+  private volatile HttpShortcutResponse rejectionResponse;
+
+  StorageReadRequestTask(RouterRequest request, ChannelHandlerContext context, Runnable command) {
+    this.request = request;
+    this.context = context;
+    this.command = command;
+  }
+
+  RouterRequest getRequest() {
+    return request;
+  }
+
+  @Override
+  public void run() {
+    command.run();
+  }
+
+  /**
+   * Sets the response to send back if the task gets rejected by the thread pool.
+   */
+  void setRejectionResponse(HttpShortcutResponse rejectionResponse) {
+    this.rejectionResponse = rejectionResponse;
+  }
+
+  /**
+   * Sends back the rejection response set by {@link StoreAwareRequestQueue}.
+   *
+   * @return false if the queue didn't reject the task on purpose, e.g. the whole queue is full, in which case the
+   *         caller should apply its default rejection policy.
+   */
+  boolean reject() {
+    HttpShortcutResponse response = rejectionResponse;
+    if (response == null) {
+      return false;
+    }
+    context.writeAndFlush(response);
+    return true;
+  }
+}
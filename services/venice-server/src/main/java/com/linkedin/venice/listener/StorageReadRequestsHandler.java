@@ -9,6 +9,7 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.FloatVectorFieldsChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
@@ -20,6 +21,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeOperationUtils;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.FloatVectorComputeEngine;
 import com.linkedin.venice.compute.ReadComputeOperator;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
@@ -35,6 +37,7 @@ import com.linkedin.venice.listener.request.HealthCheckRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.listener.response.BinaryResponse;
+import com.linkedin.venice.listener.response.ChunkedReadResponseWriter;
 import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
@@ -49,6 +52,7 @@ import com.linkedin.venice.partitioner.VenicePartitioner;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
@@ -59,6 +63,7 @@ import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ComputeUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
@@ -107,6 +112,11 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
    */
   private static final byte[] BINARY_DECODER_PARAM = new byte[16];
 
+  /**
+   * Number of keys looked up and computed together by {@link #handleComputeRequestWithFloatVectorEngine}.
+   */
+  private static final int FLOAT_VECTOR_COMPUTE_BATCH_SIZE = 128;
+
   private final DiskHealthCheckService diskHealthCheckService;
   private final ThreadPoolExecutor executor;
   private final ThreadPoolExecutor computeExecutor;
@@ -118,7 +128,16 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
+  private final boolean batchGetMultiKeyLookupEnabled;
+  private final boolean computeFloatVectorEngineEnabled;
+  /**
+   * Store name -> (value schema id, decoded fields) -> adapter. The adapters are kept per store since they resolve the
+   * writer schemas of the store.
+   */
+  private final Map<String, Map<Pair<Integer, List<String>>, FloatVectorFieldsChunkingAdapter>> floatVectorAdapters =
+      new VeniceConcurrentHashMap<>();
   private final boolean keyValueProfilingEnabled;
+  private final boolean chunkedResponseEnabled;
   private final RocksDBComputeAccessMode rocksDBComputeAccessMode;
   private final VeniceServerConfig serverConfig;
   private final Map<String, VenicePartitioner> resourceToPartitionerMap = new VeniceConcurrentHashMap<>();
@@ -177,7 +196,10 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
+    this.batchGetMultiKeyLookupEnabled = serverConfig.isBatchGetMultiKeyLookupEnabled();
+    this.computeFloatVectorEngineEnabled = serverConfig.isComputeFloatVectorEngineEnabled();
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
+    this.chunkedResponseEnabled = serverConfig.isChunkedResponseEnabled();
     this.rocksDBComputeAccessMode = serverConfig.getRocksDBServerConfig().getServerStorageOperation();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
@@ -255,23 +277,34 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       }
 
       final ThreadPoolExecutor executor = getExecutor(request.getRequestType());
-      executor.submit(() -> {
+      executor.execute(new StorageReadRequestTask(request, context, () -> {
         try {
           if (request.shouldRequestBeTerminatedEarly()) {
             throw new VeniceRequestEarlyTerminationException(request.getStoreName());
           }
           double submissionWaitTime = LatencyUtils.getLatencyInMS(preSubmissionTimeNs);
           int queueLen = executor.getQueue().size();
+          ChunkedReadResponseWriter chunkWriter = null;
+          if (chunkedResponseEnabled && !request.getRequestType().equals(RequestType.SINGLE_GET)) {
+            chunkWriter = new ChunkedReadResponseWriter(
+                context,
+                serverConfig.getChunkedResponseChunkSizeInBytes(),
+                serverConfig.getChunkedResponseWriteTimeoutMs(),
+                submissionWaitTime,
+                queueLen,
+                ReadQuotaEnforcementHandler.getRcu(request),
+                request.isStreamingRequest());
+          }
           ReadResponse response;
           switch (request.getRequestType()) {
             case SINGLE_GET:
               response = handleSingleGetRequest((GetRouterRequest) request);
               break;
             case MULTI_GET:
-              response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
+              response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request, chunkWriter);
               break;
             case COMPUTE:
-              response = handleComputeRequest((ComputeRouterRequestWrapper) message);
+              response = handleComputeRequest((ComputeRouterRequestWrapper) message, chunkWriter);
               break;
             default:
               throw new VeniceException("Unknown request type: " + request.getRequestType());
@@ -292,7 +325,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           LOGGER.error("Exception thrown for {}", request.getResourceName(), e);
           context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
         }
-      });
+      }));
 
     } else if (message instanceof HealthCheckRequest) {
       if (diskHealthCheckService.isDiskHealthy()) {
@@ -445,21 +478,10 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           final MultiGetRouterRequestKeyV1 key = keyList.get(subChunkCur);
           optionalKeyList.ifPresent(list -> list.add(key.keyBytes.remaining()));
           int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
-          MultiGetResponseRecordV1 record =
-              BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-          if (record == null) {
-            if (request.isStreamingRequest()) {
-              // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-              // non-existing keys in the response if the response is partial.
-              record = new MultiGetResponseRecordV1();
-              // Negative key index to indicate the non-existing keys
-              record.keyIndex = Math.negateExact(key.keyIndex);
-              record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-              record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-            }
-          } else {
-            record.keyIndex = key.keyIndex;
-          }
+          MultiGetResponseRecordV1 record = toResponseRecord(
+              request,
+              key,
+              BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper));
 
           if (record != null) {
             // TODO: streaming support in storage node
@@ -489,7 +511,13 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
-  private ReadResponse handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
+  /**
+   * @param chunkWriter sends the records in chunks as they are looked up if not null, see
+   *                    {@link MultiGetResponseWrapper#setChunkWriter(ChunkedReadResponseWriter)}.
+   */
+  private ReadResponse handleMultiGetRequest(
+      MultiGetRouterRequestWrapper request,
+      ChunkedReadResponseWriter chunkWriter) {
     String topic = request.getResourceName();
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     PartitionerConfig partitionerConfig = getPartitionerConfig(request.getResourceName());
@@ -498,27 +526,26 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
+    responseWrapper.setChunkWriter(chunkWriter);
     boolean isChunked = storageEngine.isChunked();
+    if (batchGetMultiKeyLookupEnabled) {
+      handleMultiGetRequestWithMultiKeyLookup(
+          request,
+          topic,
+          partitionerConfig,
+          storageEngine,
+          isChunked,
+          responseWrapper);
+      return responseWrapper;
+    }
     for (MultiGetRouterRequestKeyV1 key: keys) {
       int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
-      MultiGetResponseRecordV1 record =
-          BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-      if (record == null) {
-        if (request.isStreamingRequest()) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-        }
-      } else {
-        record.keyIndex = key.keyIndex;
-      }
+      MultiGetResponseRecordV1 record = toResponseRecord(
+          request,
+          key,
+          BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper));
 
       if (record != null) {
-        // TODO: streaming support in storage node
         responseWrapper.addRecord(record);
       }
     }
@@ -526,19 +553,84 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return responseWrapper;
   }
 
-  private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
+  /**
+   * Groups the keys by sub-partition, and looks up each group with a single multi-key lookup. The keys are not sorted
+   * here since RocksDB MultiGet already sorts its batch internally.
+   */
+  private void handleMultiGetRequestWithMultiKeyLookup(
+      MultiGetRouterRequestWrapper request,
+      String topic,
+      PartitionerConfig partitionerConfig,
+      AbstractStorageEngine storageEngine,
+      boolean isChunked,
+      MultiGetResponseWrapper responseWrapper) {
+    Map<Integer, List<MultiGetRouterRequestKeyV1>> subPartitionToKeys = new HashMap<>();
+    for (MultiGetRouterRequestKeyV1 key: request.getKeys()) {
+      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
+      subPartitionToKeys.computeIfAbsent(subPartitionId, k -> new ArrayList<>()).add(key);
+    }
+
+    for (Map.Entry<Integer, List<MultiGetRouterRequestKeyV1>> entry: subPartitionToKeys.entrySet()) {
+      List<MultiGetRouterRequestKeyV1> partitionKeys = entry.getValue();
+      List<ByteBuffer> keyBuffers = new ArrayList<>(partitionKeys.size());
+      for (MultiGetRouterRequestKeyV1 key: partitionKeys) {
+        keyBuffers.add(key.keyBytes);
+      }
+      List<MultiGetResponseRecordV1> records =
+          BatchGetChunkingAdapter.batchGet(storageEngine, entry.getKey(), keyBuffers, isChunked, responseWrapper);
+      for (int i = 0; i < partitionKeys.size(); i++) {
+        MultiGetRouterRequestKeyV1 key = partitionKeys.get(i);
+        MultiGetResponseRecordV1 record = toResponseRecord(request, key, records.get(i));
+
+        if (record != null) {
+          responseWrapper.addRecord(record);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param record the looked up record of the key, or null if the key does not exist
+   * @return the record with the key index set, or, if the key does not exist, a non-existing key record for the
+   *         streaming requests and null for the others.
+   */
+  private static MultiGetResponseRecordV1 toResponseRecord(
+      MultiGetRouterRequestWrapper request,
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record) {
+    if (record != null) {
+      record.keyIndex = key.keyIndex;
+      return record;
+    }
+    if (!request.isStreamingRequest()) {
+      return null;
+    }
+    // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+    // non-existing keys in the response if the response is partial.
+    record = new MultiGetResponseRecordV1();
+    // Negative key index to indicate the non-existing keys
+    record.keyIndex = Math.negateExact(key.keyIndex);
+    record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+    record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    return record;
+  }
+
+  private ReadResponse handleComputeRequest(
+      ComputeRouterRequestWrapper request,
+      ChunkedReadResponseWriter chunkWriter) {
     String topic = request.getResourceName();
     String storeName = request.getStoreName();
     Iterable<ComputeRouterRequestKeyV1> keys = request.getKeys();
     AbstractStorageEngine storageEngine = getStorageEngine(topic);
     PartitionerConfig partitionerConfig = getPartitionerConfig(request.getResourceName());
 
-    Schema valueSchema;
+    SchemaEntry valueSchemaEntry;
     if (request.getValueSchemaId() != -1) {
-      valueSchema = this.schemaRepo.getValueSchema(storeName, request.getValueSchemaId()).getSchema();
+      valueSchemaEntry = this.schemaRepo.getValueSchema(storeName, request.getValueSchemaId());
     } else {
-      valueSchema = this.schemaRepo.getSupersetOrLatestValueSchema(storeName).getSchema();
+      valueSchemaEntry = this.schemaRepo.getSupersetOrLatestValueSchema(storeName);
     }
+    Schema valueSchema = valueSchemaEntry.getSchema();
     ComputeRequestWrapper computeRequestWrapper = request.getComputeRequest();
 
     // try to get the result schema from the cache
@@ -566,9 +658,23 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     responseWrapper.setReadComputeLatency(0.0);
 
     responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
+    responseWrapper.setChunkWriter(chunkWriter);
 
     StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
 
+    if (computeFloatVectorEngineEnabled && FloatVectorComputeEngine
+        .isSupported(computeRequestWrapper.getOperations(), valueSchema, computeResultSchema)) {
+      handleComputeRequestWithFloatVectorEngine(
+          request,
+          valueSchemaEntry,
+          computeResultSchema,
+          partitionerConfig,
+          storageEngine,
+          reusableObjects,
+          responseWrapper);
+      return responseWrapper;
+    }
+
     GenericRecord reuseValueRecord =
         reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
     Schema finalComputeResultSchema1 = computeResultSchema;
@@ -614,7 +720,6 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           reusedRawValue,
           compressor);
       if (record != null) {
-        // TODO: streaming support in storage node
         responseWrapper.addRecord(record);
       }
     }
@@ -622,6 +727,106 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return responseWrapper;
   }
 
+  /**
+   * Executes a compute request consisting only of float vector operations with {@link FloatVectorComputeEngine}: the
+   * keys are grouped by sub-partition and looked up in batches, only the referenced fields are decoded, and each
+   * operation runs over the whole batch at once.
+   */
+  private void handleComputeRequestWithFloatVectorEngine(
+      ComputeRouterRequestWrapper request,
+      SchemaEntry valueSchemaEntry,
+      Schema computeResultSchema,
+      PartitionerConfig partitionerConfig,
+      AbstractStorageEngine storageEngine,
+      StorageExecReusableObjects reusableObjects,
+      ComputeResponseWrapper responseWrapper) {
+    String topic = request.getResourceName();
+    String storeName = request.getStoreName();
+    List<ComputeOperation> operations = request.getComputeRequest().getOperations();
+    FloatVectorComputeEngine engine = new FloatVectorComputeEngine(operations, computeResultSchema);
+    List<String> fieldNames = engine.getFieldNames();
+    FloatVectorFieldsChunkingAdapter adapter = floatVectorAdapters
+        .computeIfAbsent(storeName, k -> new VeniceConcurrentHashMap<>())
+        .computeIfAbsent(
+            new Pair<>(valueSchemaEntry.getId(), fieldNames),
+            k -> new FloatVectorFieldsChunkingAdapter(valueSchemaEntry.getSchema(), fieldNames));
+
+    CompressionStrategy compressionStrategy = storageEngine.getCompressionStrategy();
+    VeniceCompressor compressor = compressorFactory.getCompressor(compressionStrategy, topic);
+    boolean isChunked = storageEngine.isChunked();
+    RecordSerializer<GenericRecord> resultSerializer;
+    if (fastAvroEnabled) {
+      resultSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(computeResultSchema);
+    } else {
+      resultSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(computeResultSchema);
+    }
+    GenericRecord reuseResultRecord = reusableObjects.reuseResultRecordMap
+        .computeIfAbsent(computeResultSchema, k -> new GenericData.Record(computeResultSchema));
+
+    Map<Integer, List<ComputeRouterRequestKeyV1>> subPartitionToKeys = new HashMap<>();
+    for (ComputeRouterRequestKeyV1 key: request.getKeys()) {
+      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes.array());
+      subPartitionToKeys.computeIfAbsent(subPartitionId, k -> new ArrayList<>()).add(key);
+    }
+
+    for (Map.Entry<Integer, List<ComputeRouterRequestKeyV1>> entry: subPartitionToKeys.entrySet()) {
+      List<ComputeRouterRequestKeyV1> partitionKeys = entry.getValue();
+      for (int start = 0; start < partitionKeys.size(); start += FLOAT_VECTOR_COMPUTE_BATCH_SIZE) {
+        List<ComputeRouterRequestKeyV1> batchKeys =
+            partitionKeys.subList(start, Math.min(start + FLOAT_VECTOR_COMPUTE_BATCH_SIZE, partitionKeys.size()));
+        List<byte[]> keyBytes = new ArrayList<>(batchKeys.size());
+        for (ComputeRouterRequestKeyV1 key: batchKeys) {
+          keyBytes.add(ByteUtils.extractByteArray(key.keyBytes));
+        }
+        List<float[][]> values = adapter.batchGet(
+            storageEngine,
+            entry.getKey(),
+            keyBytes,
+            isChunked,
+            reusableObjects.binaryDecoder,
+            responseWrapper,
+            compressionStrategy,
+            fastAvroEnabled,
+            this.schemaRepo,
+            storeName,
+            compressor);
+
+        long computeStartTimeInNS = System.nanoTime();
+        Object[][] results = new Object[batchKeys.size()][engine.getOperationCount()];
+        List<Map<String, String>> computationErrorMaps = new ArrayList<>(batchKeys.size());
+        for (int i = 0; i < batchKeys.size(); i++) {
+          computationErrorMaps.add(new HashMap<>());
+        }
+        engine.compute(values, results, computationErrorMaps);
+        responseWrapper.addReadComputeLatency(LatencyUtils.getLatencyInMS(computeStartTimeInNS));
+
+        for (int i = 0; i < batchKeys.size(); i++) {
+          ComputeRouterRequestKeyV1 key = batchKeys.get(i);
+          ComputeResponseRecordV1 responseRecord = new ComputeResponseRecordV1();
+          if (values.get(i) == null) {
+            if (request.isStreamingRequest()) {
+              // Negative key index to indicate non-existing key
+              responseRecord.keyIndex = Math.negateExact(key.keyIndex);
+              responseRecord.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+              responseWrapper.addRecord(responseRecord);
+            }
+            continue;
+          }
+          for (ComputeOperation operation: operations) {
+            incrementOperatorCount(responseWrapper, operation);
+          }
+          engine.putResults(results[i], computationErrorMaps.get(i), reuseResultRecord);
+          responseRecord.keyIndex = key.keyIndex;
+
+          long serializeStartTimeInNS = System.nanoTime();
+          responseRecord.value = ByteBuffer.wrap(resultSerializer.serialize(reuseResultRecord, reusableObjects));
+          responseWrapper.addReadComputeSerializationLatency(LatencyUtils.getLatencyInMS(serializeStartTimeInNS));
+          responseWrapper.addRecord(responseRecord);
+        }
+      }
+    }
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     String topic = request.getResourceName();
     ByteBuffer dictionary = metadataRetriever.getStoreVersionCompressionDictionary(topic);
@@ -0,0 +1,247 @@
+package com.linkedin.venice.listener;
+
+import com.linkedin.alpini.base.queuing.QOSBasedMultiQueue;
+import com.linkedin.alpini.base.queuing.QOSBasedRequestRunnable;
+import com.linkedin.alpini.base.queuing.QOSPolicy;
+import com.linkedin.alpini.base.queuing.SimpleQueue;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+
+/**
+ * The queue of the storage execution thread pool, which schedules the read requests with per-store fair queuing and
+ * request type based priorities on top of {@link QOSBasedMultiQueue}, instead of a single FIFO queue:
+ * 1. Each store has its own queue, and the queues are served in a round-robin way, so that a store sending a burst
+ *    of expensive requests can't starve the requests of the other stores;
+ * 2. Within a store, single-get and small batch-get requests are {@link QOS#HIGH}, large batch-get requests are
+ *    {@link QOS#NORMAL} and compute requests are {@link QOS#LOW}, and the dequeue order follows the fair ratio,
+ *    so the lower priority requests can't be starved either;
+ * 3. For the stores with an early termination threshold configured by
+ *    {@link com.linkedin.venice.ConfigKeys#SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP}, a request is rejected
+ *    right away when the recent queue time of the same kind of requests of the store suggests that it would time out
+ *    before being executed, instead of taking a slot in the queue only to be terminated later.
+ *
+ * The tasks other than {@link StorageReadRequestTask}, such as the chunks of parallel batch-get, share a default
+ * queue with {@link QOS#NORMAL} priority.
+ *
+ * This queue is meant to be used by {@link ThreadPoolExecutor} only, which never blocks on insertion, so the
+ * blocking insertions, the iteration and the removal of a specific task are not supported.
+ */
+public class StoreAwareRequestQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+  private static final String DEFAULT_QUEUE_NAME = "";
+  private static final double QUEUE_TIME_ALPHA = 0.1;
+
+  private final SimpleQueue<QueuedTask> queue;
+  /**
+   * Tracks the number of tasks which could be polled from {@link #queue}, so that the consumers could block on it.
+   */
+  private final Semaphore available = new Semaphore(0);
+  private final int capacity;
+  private final int largeBatchGetKeyCountThreshold;
+  private final Map<String, StoreQueueStats> storeQueueStatsMap = new VeniceConcurrentHashMap<>();
+
+  public StoreAwareRequestQueue(
+      int capacity,
+      int maxQueueLengthPerStore,
+      String fairRatio,
+      int largeBatchGetKeyCountThreshold) {
+    this.queue = QOSPolicy.getQOSPolicy(
+        new QOSPolicy.StaticConfig(
+            QOSPolicy.HIGHEST_PRIORITY_W_FAIR_ALLOCATION_MULTI_QUEUE.name(),
+            fairRatio,
+            maxQueueLengthPerStore));
+    this.capacity = capacity;
+    this.largeBatchGetKeyCountThreshold = largeBatchGetKeyCountThreshold;
+  }
+
+  QOS getQOS(RouterRequest request) {
+    switch (request.getRequestType()) {
+      case SINGLE_GET:
+        return QOS.HIGH;
+      case MULTI_GET:
+        return request.getKeyCount() > largeBatchGetKeyCountThreshold ? QOS.NORMAL : QOS.HIGH;
+      default:
+        return QOS.LOW;
+    }
+  }
+
+  @Override
+  public boolean offer(Runnable runnable) {
+    if (size() >= capacity) {
+      return false;
+    }
+    if (!(runnable instanceof StorageReadRequestTask)) {
+      return enqueue(new QueuedTask(DEFAULT_QUEUE_NAME, QOS.NORMAL, runnable, null));
+    }
+
+    StorageReadRequestTask task = (StorageReadRequestTask) runnable;
+    RouterRequest request = task.getRequest();
+    String storeName = request.getStoreName();
+    QOS qos = getQOS(request);
+    StoreQueueStats stats = storeQueueStatsMap.computeIfAbsent(storeName, k -> new StoreQueueStats());
+    if (stats.isExpectedToTimeOut(qos, request.getRequestTimeoutInNS())) {
+      VeniceRequestEarlyTerminationException e = new VeniceRequestEarlyTerminationException(storeName);
+      task.setRejectionResponse(
+          new HttpShortcutResponse(e.getMessage(), VeniceRequestEarlyTerminationException.getHttpResponseStatus()));
+      return false;
+    }
+    if (!enqueue(new QueuedTask(storeName, qos, task, stats))) {
+      task.setRejectionResponse(
+          new HttpShortcutResponse(
+              "Too many pending requests for store: " + storeName,
+              HttpResponseStatus.SERVICE_UNAVAILABLE));
+      return false;
+    }
+    return true;
+  }
+
+  private boolean enqueue(QueuedTask task) {
+    if (task.stats != null) {
+      task.stats.pendingCounts.incrementAndGet(task.getQOS().ordinal());
+    }
+    if (!queue.add(task)) {
+      if (task.stats != null) {
+        task.stats.pendingCounts.decrementAndGet(task.getQOS().ordinal());
+      }
+      return false;
+    }
+    available.release();
+    return true;
+  }
+
+  /**
+   * Must be called only after acquiring a permit from {@link #available}, which guarantees that {@link #queue} is not
+   * empty.
+   */
+  private Runnable dequeue() {
+    QueuedTask task = queue.poll();
+    if (task.stats != null) {
+      task.stats.recordDequeue(task.getQOS(), System.nanoTime() - task.enqueueTimeNs);
+    }
+    return task.getCommand();
+  }
+
+  @Override
+  public Runnable poll() {
+    return available.tryAcquire() ? dequeue() : null;
+  }
+
+  @Override
+  public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return available.tryAcquire(timeout, unit) ? dequeue() : null;
+  }
+
+  @Override
+  public Runnable take() throws InterruptedException {
+    available.acquire();
+    return dequeue();
+  }
+
+  /**
+   * Same as {@link #offer(Runnable)}, since the insertion never blocks.
+   */
+  @Override
+  public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+    return offer(runnable);
+  }
+
+  @Override
+  public void put(Runnable runnable) {
+    throw new UnsupportedOperationException("Blocking insertion is not supported");
+  }
+
+  @Override
+  public Runnable peek() {
+    throw new UnsupportedOperationException("Peek is not supported");
+  }
+
+  /**
+   * The queued tasks can't be removed individually, and {@link ThreadPoolExecutor} would run or drain them instead.
+   */
+  @Override
+  public boolean remove(Object o) {
+    return false;
+  }
+
+  @Override
+  public Iterator<Runnable> iterator() {
+    throw new UnsupportedOperationException("Iteration is not supported");
+  }
+
+  @Override
+  public int size() {
+    return queue.size();
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return capacity == Integer.MAX_VALUE ? Integer.MAX_VALUE : Math.max(0, capacity - size());
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super Runnable> c, int maxElements) {
+    int count = 0;
+    Runnable runnable;
+    while (count < maxElements && (runnable = poll()) != null) {
+      c.add(runnable);
+      count++;
+    }
+    return count;
+  }
+
+  private static class QueuedTask extends QOSBasedRequestRunnable {
+    final long enqueueTimeNs = System.nanoTime();
+    final StoreQueueStats stats;
+
+    QueuedTask(String queueName, QOS qos, Runnable command, StoreQueueStats stats) {
+      super(queueName, qos, command);
+      this.stats = stats;
+    }
+  }
+
+  /**
+   * The number of queued requests and the recent queue time of each {@link QOS} level of a store.
+   */
+  private static class StoreQueueStats {
+    final AtomicIntegerArray pendingCounts = new AtomicIntegerArray(QOS.values().length);
+    final double[] queueTimesInNs = new double[QOS.values().length];
+
+    synchronized void recordDequeue(QOS qos, long queueTimeInNs) {
+      int index = qos.ordinal();
+      pendingCounts.decrementAndGet(index);
+      if (queueTimesInNs[index] == 0) {
+        queueTimesInNs[index] = queueTimeInNs;
+      } else {
+        queueTimesInNs[index] += QUEUE_TIME_ALPHA * (queueTimeInNs - queueTimesInNs[index]);
+      }
+    }
+
+    /**
+     * The recent queue time is only trusted while there are requests of the same kind queued, otherwise the new
+     * request is admitted, and the queue time gets refreshed once it is executed.
+     */
+    synchronized boolean isExpectedToTimeOut(QOS qos, long requestTimeoutInNS) {
+      if (requestTimeoutInNS == RouterRequest.NO_REQUEST_TIMEOUT || pendingCounts.get(qos.ordinal()) == 0) {
+        return false;
+      }
+      return System.nanoTime() + queueTimesInNs[qos.ordinal()] > requestTimeoutInNS;
+    }
+  }
+}
@@ -33,6 +33,10 @@ public abstract class RouterRequest {
     this.requestTimeoutInNS = requestTimeoutInNS;
   }
 
+  public long getRequestTimeoutInNS() {
+    return requestTimeoutInNS;
+  }
+
   public String getResourceName() {
     return resourceName;
   }
@@ -0,0 +1,76 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+
+
+/**
+ * Writes the chunks of a multi-key response to the channel from the storage execution thread.
+ *
+ * The writer applies back pressure to the storage execution thread: once the outbound buffer of the channel is above
+ * its high water mark, the thread waits for the chunk to be written before looking up more records, so that a slow
+ * receiver can't make the server buffer the whole response anyway. The wait is bounded, and the response is aborted
+ * if the channel doesn't drain in time.
+ */
+public class ChunkedReadResponseWriter {
+  private final ChannelHandlerContext context;
+  private final int chunkSizeInBytes;
+  private final long writeTimeoutMs;
+  private final double storageExecutionSubmissionWaitTime;
+  private final int storageExecutionQueueLen;
+  private final int rcu;
+  private final boolean isStreamingResponse;
+  private boolean started = false;
+
+  public ChunkedReadResponseWriter(
+      ChannelHandlerContext context,
+      int chunkSizeInBytes,
+      long writeTimeoutMs,
+      double storageExecutionSubmissionWaitTime,
+      int storageExecutionQueueLen,
+      int rcu,
+      boolean isStreamingResponse) {
+    this.context = context;
+    this.chunkSizeInBytes = chunkSizeInBytes;
+    this.writeTimeoutMs = writeTimeoutMs;
+    this.storageExecutionSubmissionWaitTime = storageExecutionSubmissionWaitTime;
+    this.storageExecutionQueueLen = storageExecutionQueueLen;
+    this.rcu = rcu;
+    this.isStreamingResponse = isStreamingResponse;
+  }
+
+  public int getChunkSizeInBytes() {
+    return chunkSizeInBytes;
+  }
+
+  /**
+   * @return whether any chunk has been sent, after which the response can't be replaced by an error response anymore.
+   */
+  public boolean isStarted() {
+    return started;
+  }
+
+  public void write(ReadResponse response, ByteBuf chunk) {
+    if (!started) {
+      // The headers are sent along with the first chunk
+      response.setStorageExecutionSubmissionWaitTime(storageExecutionSubmissionWaitTime);
+      response.setStorageExecutionQueueLen(storageExecutionQueueLen);
+      response.setRCU(rcu);
+      if (isStreamingResponse) {
+        response.setStreamingResponse();
+      }
+    }
+    ChannelFuture future = context.writeAndFlush(new ReadResponseChunk(response, chunk, !started));
+    started = true;
+    if (!context.channel().isWritable() && !future.awaitUninterruptibly(writeTimeoutMs)) {
+      throw new VeniceException(
+          "Timed out after " + writeTimeoutMs + " ms waiting for the response chunk to be written");
+    }
+    if (future.isDone() && !future.isSuccess()) {
+      throw new VeniceException("Failed to write the response chunk", future.cause());
+    }
+  }
+}
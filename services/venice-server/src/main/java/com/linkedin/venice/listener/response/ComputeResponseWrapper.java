@@ -20,6 +20,11 @@ public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeRespo
     return serializer.serializeObjects(records, AvroSerializer.REUSE.get());
   }
 
+  @Override
+  protected int getRecordSize(ComputeResponseRecordV1 record) {
+    return record.value.remaining();
+  }
+
   @Override
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion();
@@ -20,6 +20,11 @@ public class MultiGetResponseWrapper extends MultiKeyResponseWrapper<MultiGetRes
     return serializer.serializeObjects(records, AvroSerializer.REUSE.get());
   }
 
+  @Override
+  protected int getRecordSize(MultiGetResponseRecordV1 record) {
+    return record.value.remaining();
+  }
+
   @Override
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
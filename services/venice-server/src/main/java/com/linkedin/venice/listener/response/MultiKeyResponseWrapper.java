@@ -9,21 +9,52 @@ import java.util.List;
 
 public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
   protected final List<K> records;
+  private ChunkedReadResponseWriter chunkWriter = null;
+  private int recordCount = 0;
+  private int bufferedRecordSize = 0;
 
   public MultiKeyResponseWrapper(int maxKeyCount) {
     this.records = new ArrayList<>(maxKeyCount);
   }
 
+  /**
+   * Makes the records get sent in chunks by the given writer as they are added, instead of being held until the whole
+   * response is ready. The records added after the last chunk are sent by {@link #getResponseBody()} as usual.
+   * A null writer disables the chunked response.
+   */
+  public void setChunkWriter(ChunkedReadResponseWriter chunkWriter) {
+    this.chunkWriter = chunkWriter;
+  }
+
+  public boolean isChunkedResponseStarted() {
+    return chunkWriter != null && chunkWriter.isStarted();
+  }
+
   public void addRecord(K record) {
     records.add(record);
+    recordCount++;
+    if (chunkWriter != null) {
+      bufferedRecordSize += getRecordSize(record);
+      if (bufferedRecordSize >= chunkWriter.getChunkSizeInBytes()) {
+        ByteBuf chunk = Unpooled.wrappedBuffer(serializedResponse());
+        records.clear();
+        bufferedRecordSize = 0;
+        chunkWriter.write(this, chunk);
+      }
+    }
   }
 
   protected abstract byte[] serializedResponse();
 
+  /**
+   * @return the approximate serialized size of the record, which decides when to send a chunk.
+   */
+  protected abstract int getRecordSize(K record);
+
   public abstract int getResponseSchemaIdHeader();
 
   public int getRecordCount() {
-    return records.size();
+    return recordCount;
   }
 
   @Override
@@ -0,0 +1,34 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.davinci.listener.response.ReadResponse;
+import io.netty.buffer.ByteBuf;
+
+
+/**
+ * A chunk of the serialized records of a multi-key response, which is sent before the response is complete.
+ * The headers of the response are sent along with the first chunk, and the response itself is sent as the last chunk
+ * once all the records have been looked up.
+ */
+public class ReadResponseChunk {
+  private final ReadResponse response;
+  private final ByteBuf body;
+  private final boolean isFirstChunk;
+
+  public ReadResponseChunk(ReadResponse response, ByteBuf body, boolean isFirstChunk) {
+    this.response = response;
+    this.body = body;
+    this.isFirstChunk = isFirstChunk;
+  }
+
+  public ReadResponse getResponse() {
+    return response;
+  }
+
+  public ByteBuf getBody() {
+    return body;
+  }
+
+  public boolean isFirstChunk() {
+    return isFirstChunk;
+  }
+}
@@ -0,0 +1,138 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.listener.response.ChunkedReadResponseWriter;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ChunkedReadResponseTest {
+  private static final int VALUE_SIZE = 60;
+
+  private static MultiGetResponseRecordV1 createRecord(int keyIndex) {
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.schemaId = 1;
+    byte[] value = new byte[VALUE_SIZE];
+    value[0] = (byte) keyIndex;
+    record.value = ByteBuffer.wrap(value);
+    return record;
+  }
+
+  @Test
+  public void testChunkedMultiGetResponse() {
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    EmbeddedChannel channel =
+        new EmbeddedChannel(new OutboundHttpWrapperHandler(statsHandler), new ChannelInboundHandlerAdapter());
+    // Write from the context of the last handler like the storage execution handler does
+    ChannelHandlerContext context = channel.pipeline().lastContext();
+
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(5);
+    responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
+    // Two records per chunk
+    responseWrapper.setChunkWriter(new ChunkedReadResponseWriter(context, 2 * VALUE_SIZE, 1000, 1.0, 3, 5, true));
+    for (int i = 0; i < 5; i++) {
+      responseWrapper.addRecord(createRecord(i));
+    }
+    Assert.assertTrue(responseWrapper.isChunkedResponseStarted());
+    Assert.assertEquals(responseWrapper.getRecordCount(), 5);
+    context.writeAndFlush(responseWrapper);
+
+    HttpResponse response = channel.readOutbound();
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertTrue(HttpUtil.isTransferEncodingChunked(response));
+    Assert.assertFalse(HttpUtil.isContentLengthSet(response));
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_REQUEST_RCU), "5");
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_STORAGE_QUEUE_LENGTH), "3");
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_STREAMING_RESPONSE), "1");
+
+    ByteBuf body = Unpooled.buffer();
+    int chunkCount = 0;
+    HttpContent content;
+    do {
+      content = channel.readOutbound();
+      body.writeBytes(content.content());
+      chunkCount++;
+    } while (!(content instanceof LastHttpContent));
+    Assert.assertEquals(chunkCount, 3);
+    Assert.assertNull(channel.readOutbound());
+
+    byte[] bytes = new byte[body.readableBytes()];
+    body.readBytes(bytes);
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    deserializer.deserializeObjects(bytes).forEach(records::add);
+    Assert.assertEquals(records.size(), 5);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(records.get(i).keyIndex, i);
+      Assert.assertEquals(records.get(i).value.get(0), (byte) i);
+    }
+
+    verify(statsHandler).setChunkedResponseInProgress(true);
+    verify(statsHandler).setChunkedResponseInProgress(false);
+    verify(statsHandler).setSuccessRequestKeyCount(5);
+    verify(statsHandler).setResponseStatus(HttpResponseStatus.OK);
+  }
+
+  @Test
+  public void testErrorAfterFirstChunkAbortsResponse() {
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    EmbeddedChannel channel =
+        new EmbeddedChannel(new OutboundHttpWrapperHandler(statsHandler), new ChannelInboundHandlerAdapter());
+    ChannelHandlerContext context = channel.pipeline().lastContext();
+
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(5);
+    responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
+    responseWrapper.setChunkWriter(new ChunkedReadResponseWriter(context, VALUE_SIZE, 1000, 1.0, 3, 5, false));
+    responseWrapper.addRecord(createRecord(0));
+    Assert.assertTrue(responseWrapper.isChunkedResponseStarted());
+
+    // The status has been sent already, so the error response can't be sent anymore
+    context.writeAndFlush(new HttpShortcutResponse("error", HttpResponseStatus.INTERNAL_SERVER_ERROR));
+    verify(statsHandler).abortChunkedResponse(any());
+  }
+
+  @Test
+  public void testResponseWithoutChunkWriter() {
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(5);
+    for (int i = 0; i < 5; i++) {
+      responseWrapper.addRecord(createRecord(i));
+    }
+    Assert.assertFalse(responseWrapper.isChunkedResponseStarted());
+    Assert.assertEquals(responseWrapper.getRecordCount(), 5);
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    ByteBuf body = responseWrapper.getResponseBody();
+    byte[] bytes = new byte[body.readableBytes()];
+    body.readBytes(bytes);
+    int count = 0;
+    for (MultiGetResponseRecordV1 record: deserializer.deserializeObjects(bytes)) {
+      Assert.assertEquals(record.keyIndex, count++);
+    }
+    Assert.assertEquals(count, 5);
+  }
+}
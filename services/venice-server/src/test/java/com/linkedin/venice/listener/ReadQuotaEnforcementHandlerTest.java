@@ -153,6 +153,7 @@ public class ReadQuotaEnforcementHandlerTest {
 
     RouterRequest request = mock(RouterRequest.class);
     doReturn(resourceName).when(request).getResourceName();
+    doReturn(Version.parseStoreFromKafkaTopicName(resourceName)).when(request).getStoreName();
     doReturn(RequestType.SINGLE_GET).when(request).getRequestType();
     ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
     doAnswer((a) -> {
@@ -0,0 +1,172 @@
+package com.linkedin.venice.listener;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.listener.request.RouterRequest;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.TestUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StoreAwareRequestQueueTest {
+  private static final String STORE_A = "store_a";
+  private static final String STORE_B = "store_b";
+  // Always prefer the higher priority requests to make the dequeue order deterministic
+  private static final String HIGH_FIRST_FAIR_RATIO = "0:0:1";
+
+  private static StorageReadRequestTask createTask(
+      String storeName,
+      RequestType requestType,
+      int keyCount,
+      long requestTimeoutInNS,
+      ChannelHandlerContext context) {
+    RouterRequest request = mock(RouterRequest.class);
+    doReturn(storeName).when(request).getStoreName();
+    doReturn(requestType).when(request).getRequestType();
+    doReturn(keyCount).when(request).getKeyCount();
+    doReturn(requestTimeoutInNS).when(request).getRequestTimeoutInNS();
+    return new StorageReadRequestTask(request, context, () -> {});
+  }
+
+  private static StorageReadRequestTask createTask(String storeName, RequestType requestType, int keyCount) {
+    return createTask(
+        storeName,
+        requestType,
+        keyCount,
+        RouterRequest.NO_REQUEST_TIMEOUT,
+        mock(ChannelHandlerContext.class));
+  }
+
+  @Test
+  public void testRequestTypePriorities() {
+    StoreAwareRequestQueue queue = new StoreAwareRequestQueue(Integer.MAX_VALUE, 0, HIGH_FIRST_FAIR_RATIO, 10);
+    StorageReadRequestTask compute = createTask(STORE_A, RequestType.COMPUTE, 5);
+    StorageReadRequestTask largeBatchGet = createTask(STORE_A, RequestType.MULTI_GET, 100);
+    StorageReadRequestTask smallBatchGet = createTask(STORE_A, RequestType.MULTI_GET, 5);
+    StorageReadRequestTask singleGet = createTask(STORE_A, RequestType.SINGLE_GET, 1);
+    Assert.assertTrue(queue.offer(compute));
+    Assert.assertTrue(queue.offer(largeBatchGet));
+    Assert.assertTrue(queue.offer(smallBatchGet));
+    Assert.assertTrue(queue.offer(singleGet));
+    Assert.assertEquals(queue.size(), 4);
+
+    Assert.assertSame(queue.poll(), smallBatchGet);
+    Assert.assertSame(queue.poll(), singleGet);
+    Assert.assertSame(queue.poll(), largeBatchGet);
+    Assert.assertSame(queue.poll(), compute);
+    Assert.assertNull(queue.poll());
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testFairQueuingAcrossStores() {
+    StoreAwareRequestQueue queue = new StoreAwareRequestQueue(Integer.MAX_VALUE, 0, HIGH_FIRST_FAIR_RATIO, 10);
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.SINGLE_GET, 1)));
+    }
+    StorageReadRequestTask otherStoreTask = createTask(STORE_B, RequestType.SINGLE_GET, 1);
+    Assert.assertTrue(queue.offer(otherStoreTask));
+
+    // The request of the other store doesn't wait behind all the queued requests of the noisy store
+    List<Runnable> polled = new ArrayList<>();
+    polled.add(queue.poll());
+    polled.add(queue.poll());
+    Assert.assertTrue(polled.contains(otherStoreTask));
+  }
+
+  @Test
+  public void testPerStoreQueueLength() {
+    StoreAwareRequestQueue queue = new StoreAwareRequestQueue(Integer.MAX_VALUE, 2, HIGH_FIRST_FAIR_RATIO, 10);
+    ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.COMPUTE, 1)));
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.COMPUTE, 1)));
+    StorageReadRequestTask rejectedTask =
+        createTask(STORE_A, RequestType.COMPUTE, 1, RouterRequest.NO_REQUEST_TIMEOUT, context);
+    Assert.assertFalse(queue.offer(rejectedTask));
+    // The other stores are not affected
+    Assert.assertTrue(queue.offer(createTask(STORE_B, RequestType.COMPUTE, 1)));
+
+    Assert.assertTrue(rejectedTask.reject());
+    ArgumentCaptor<HttpShortcutResponse> captor = ArgumentCaptor.forClass(HttpShortcutResponse.class);
+    verify(context).writeAndFlush(captor.capture());
+    Assert.assertEquals(captor.getValue().getStatus(), HttpResponseStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  public void testTotalCapacityFallsBackToDefaultPolicy() {
+    StoreAwareRequestQueue queue = new StoreAwareRequestQueue(1, 0, HIGH_FIRST_FAIR_RATIO, 10);
+    ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.SINGLE_GET, 1)));
+    StorageReadRequestTask task =
+        createTask(STORE_B, RequestType.SINGLE_GET, 1, RouterRequest.NO_REQUEST_TIMEOUT, context);
+    Assert.assertFalse(queue.offer(task));
+    Assert.assertEquals(queue.remainingCapacity(), 0);
+    Assert.assertFalse(task.reject());
+    verify(context, never()).writeAndFlush(any());
+  }
+
+  @Test
+  public void testQueueTimeBasedEarlyRejection() throws InterruptedException {
+    StoreAwareRequestQueue queue = new StoreAwareRequestQueue(Integer.MAX_VALUE, 0, HIGH_FIRST_FAIR_RATIO, 10);
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.SINGLE_GET, 1)));
+    Thread.sleep(50);
+    Assert.assertNotNull(queue.poll());
+
+    // No request is queued, so the request is admitted regardless of the previous queue time
+    long shortTimeout = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(5);
+    ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.SINGLE_GET, 1, shortTimeout, context)));
+
+    // With requests queued, the request which can't wait for the recent queue time is rejected right away
+    StorageReadRequestTask rejectedTask = createTask(STORE_A, RequestType.SINGLE_GET, 1, shortTimeout, context);
+    Assert.assertFalse(queue.offer(rejectedTask));
+    Assert.assertTrue(rejectedTask.reject());
+    ArgumentCaptor<HttpShortcutResponse> captor = ArgumentCaptor.forClass(HttpShortcutResponse.class);
+    verify(context).writeAndFlush(captor.capture());
+    Assert.assertEquals(captor.getValue().getStatus(), VeniceRequestEarlyTerminationException.getHttpResponseStatus());
+
+    long longTimeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.SINGLE_GET, 1, longTimeout, context)));
+    // The queue time of the other request types is tracked separately
+    Assert.assertTrue(queue.offer(createTask(STORE_A, RequestType.COMPUTE, 1, shortTimeout, context)));
+    // So is the queue time of the other stores
+    Assert.assertTrue(queue.offer(createTask(STORE_B, RequestType.SINGLE_GET, 1, shortTimeout, context)));
+  }
+
+  @Test
+  public void testWithThreadPoolExecutor() throws InterruptedException {
+    StoreAwareRequestQueue queue = new StoreAwareRequestQueue(Integer.MAX_VALUE, 0, "5:15:80", 10);
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, queue);
+    try {
+      int taskCount = 100;
+      CountDownLatch latch = new CountDownLatch(taskCount);
+      RequestType[] requestTypes = RequestType.values();
+      for (int i = 0; i < taskCount; i++) {
+        RouterRequest request = mock(RouterRequest.class);
+        doReturn(i % 2 == 0 ? STORE_A : STORE_B).when(request).getStoreName();
+        doReturn(requestTypes[i % requestTypes.length]).when(request).getRequestType();
+        doReturn(RouterRequest.NO_REQUEST_TIMEOUT).when(request).getRequestTimeoutInNS();
+        executor.execute(new StorageReadRequestTask(request, mock(ChannelHandlerContext.class), latch::countDown));
+        // The tasks which are not read requests are scheduled too
+        executor.execute(() -> {});
+      }
+      Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } finally {
+      TestUtils.shutdownExecutor(executor);
+    }
+  }
+}